@@ -0,0 +1,87 @@
+package com.example.demo.activeactor;
+
+import com.example.demo.graphics.SpriteAtlas;
+import javafx.application.Platform;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmarks for the cost of constructing actors, with the sprite either decoded on the spot
+ * or already packed into the {@link SpriteAtlas}. Requires a display for the JavaFX toolkit.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ActorConstructionBenchmark {
+
+    /**
+     * Empties the sprite atlas before every call, so each construction decodes and packs its image.
+     */
+    @State(Scope.Thread)
+    public static class Cold {
+
+        @Setup(Level.Trial)
+        public void startToolkit() {
+            ActorConstructionBenchmark.startToolkit();
+        }
+
+        @Setup(Level.Invocation)
+        public void clearCache() {
+            SpriteAtlas.getInstance().clear();
+        }
+    }
+
+    /**
+     * Preloads the sprites once, so each construction only reads the cache.
+     */
+    @State(Scope.Thread)
+    public static class Warm {
+
+        @Setup(Level.Trial)
+        public void preload() {
+            ActorConstructionBenchmark.startToolkit();
+            EnemyAircraft.preloadSprites();
+            Boss.preloadSprites();
+        }
+    }
+
+    @Benchmark
+    public Object enemyWithImageLoad(Cold cold) {
+        return new EnemyAircraft(null, 1300, 300);
+    }
+
+    @Benchmark
+    public Object missileWithImageLoad(Cold cold) {
+        return new UserMissile(0, 300);
+    }
+
+    @Benchmark
+    public Object bossWithImageLoad(Cold cold) {
+        return new Boss(null);
+    }
+
+    @Benchmark
+    public Object enemyCached(Warm warm) {
+        return new EnemyAircraft(null, 1300, 300);
+    }
+
+    @Benchmark
+    public Object bossCached(Warm warm) {
+        return new Boss(null);
+    }
+
+    /**
+     * Starts the JavaFX toolkit, which image decoding needs, unless it is already running.
+     */
+    static void startToolkit() {
+        try {
+            Platform.startup(() -> {
+            });
+        } catch (IllegalStateException alreadyStarted) {
+            // The toolkit is already running.
+        }
+    }
+}
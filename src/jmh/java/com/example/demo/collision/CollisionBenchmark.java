@@ -0,0 +1,96 @@
+package com.example.demo.collision;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmarks for the collision pass between projectiles and aircraft, comparing the
+ * {@link SpatialHashGrid} broad phase with testing every pair at increasing projectile densities.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CollisionBenchmark {
+
+    private static final double SCREEN_WIDTH = 1300;
+    private static final double SCREEN_HEIGHT = 750;
+    private static final double PROJECTILE_WIDTH = 43;
+    private static final double PROJECTILE_HEIGHT = 15;
+    private static final double AIRCRAFT_WIDTH = 140;
+    private static final double AIRCRAFT_HEIGHT = 50;
+    private static final int AIRCRAFT = 10;
+
+    /** Number of projectiles on screen. */
+    @Param({"10", "100", "1000", "5000"})
+    private int projectiles;
+
+    private double[] projectileX;
+    private double[] projectileY;
+    private double[] aircraftX;
+    private double[] aircraftY;
+    private SpatialHashGrid grid;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(1);
+        projectileX = new double[projectiles];
+        projectileY = new double[projectiles];
+        for (int i = 0; i < projectiles; i++) {
+            projectileX[i] = random.nextDouble() * SCREEN_WIDTH;
+            projectileY[i] = random.nextDouble() * SCREEN_HEIGHT;
+        }
+        aircraftX = new double[AIRCRAFT];
+        aircraftY = new double[AIRCRAFT];
+        for (int i = 0; i < AIRCRAFT; i++) {
+            aircraftX[i] = random.nextDouble() * SCREEN_WIDTH;
+            aircraftY[i] = random.nextDouble() * SCREEN_HEIGHT;
+        }
+        grid = new SpatialHashGrid(128);
+    }
+
+    @Benchmark
+    public int grid() {
+        grid.clear();
+        for (int j = 0; j < AIRCRAFT; j++) {
+            grid.insert(j, aircraftX[j], aircraftY[j], aircraftX[j] + AIRCRAFT_WIDTH, aircraftY[j] + AIRCRAFT_HEIGHT);
+        }
+        int hits = 0;
+        for (int i = 0; i < projectiles; i++) {
+            double maxX = projectileX[i] + PROJECTILE_WIDTH;
+            double maxY = projectileY[i] + PROJECTILE_HEIGHT;
+            int candidates = grid.query(projectileX[i], projectileY[i], maxX, maxY);
+            for (int c = 0; c < candidates; c++) {
+                int j = grid.getCandidate(c);
+                if (overlaps(i, maxX, maxY, j)) {
+                    hits++;
+                }
+            }
+        }
+        return hits;
+    }
+
+    @Benchmark
+    public int bruteForce() {
+        int hits = 0;
+        for (int i = 0; i < projectiles; i++) {
+            double maxX = projectileX[i] + PROJECTILE_WIDTH;
+            double maxY = projectileY[i] + PROJECTILE_HEIGHT;
+            for (int j = 0; j < AIRCRAFT; j++) {
+                if (overlaps(i, maxX, maxY, j)) {
+                    hits++;
+                }
+            }
+        }
+        return hits;
+    }
+
+    private boolean overlaps(int projectile, double maxX, double maxY, int aircraft) {
+        return projectileX[projectile] <= aircraftX[aircraft] + AIRCRAFT_WIDTH && maxX >= aircraftX[aircraft]
+                && projectileY[projectile] <= aircraftY[aircraft] + AIRCRAFT_HEIGHT && maxY >= aircraftY[aircraft];
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.demo.simulation;
+
+import com.example.demo.headless.BulletStorm;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmarks for {@link BulletField}: one bulk update of a field holding a fixed number of
+ * bullets, and one tick of the {@link BulletStorm} scenario once it has filled. At 60 Hz a tick
+ * has 16.7 ms, so both should stay far below a millisecond.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BulletFieldBenchmark {
+
+    /** Bounds so far away that no bullet leaves them during a run. */
+    private static final double FAR = 1e12;
+
+    /** Number of live bullets. */
+    @Param({"1000", "5000", "10000"})
+    private int bullets;
+
+    private BulletField field;
+
+    /**
+     * The storm scenario, kept apart so it does not run once per field size.
+     */
+    @State(Scope.Thread)
+    public static class Storm {
+
+        private BulletStorm storm;
+
+        /**
+         * Runs the storm until it has filled.
+         */
+        @Setup(Level.Trial)
+        public void setUp() {
+            storm = new BulletStorm();
+            for (int i = 0; i < BulletStorm.WARM_UP_TICKS; i++) {
+                storm.step();
+            }
+        }
+    }
+
+    /**
+     * Fills a field with slow bullets that never expire.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(1);
+        field = new BulletField(6, bullets, bullets);
+        for (int i = 0; i < bullets; i++) {
+            field.spawn(random.nextDouble(1300), random.nextDouble(750),
+                    random.nextDouble(-1, 1), random.nextDouble(-1, 1), 0, 0, Integer.MAX_VALUE);
+        }
+    }
+
+    @Benchmark
+    public int update() {
+        field.update(-FAR, -FAR, FAR, FAR);
+        return field.size();
+    }
+
+    @Benchmark
+    public int collide() {
+        return field.collide(600, 300, 650, 350);
+    }
+
+    @Benchmark
+    public int stormTick(Storm state) {
+        state.storm.step();
+        return state.storm.getBullets().size();
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.demo.simulation;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * JMH benchmarks for removing destroyed actors, comparing the in-place compaction of
+ * {@link ActorGroup} and of {@code LevelParent.removeDestroyedActors} with the stream and
+ * {@code removeAll} approach the level used to take.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RemovalBenchmark {
+
+    /** Number of actors in the list. */
+    @Param({"100", "1000", "10000"})
+    private int actors;
+
+    /** Every n-th actor is destroyed. */
+    @Param({"2", "10"})
+    private int destroyEvery;
+
+    private ActorStore store;
+    private ActorGroup group;
+    private List<int[]> objects;
+
+    @Setup(Level.Invocation)
+    public void setUp() {
+        store = new ActorStore(actors);
+        group = new ActorGroup();
+        objects = new ArrayList<>(actors);
+        for (int i = 0; i < actors; i++) {
+            int slot = store.allocate(ActorType.USER_MISSILE, i, i, 1);
+            group.add(slot);
+            boolean destroyed = i % destroyEvery == 0;
+            if (destroyed) {
+                store.destroy(slot);
+            }
+            objects.add(new int[] {destroyed ? 1 : 0});
+        }
+    }
+
+    @Benchmark
+    public int compactGroup() {
+        return group.removeDestroyed(store);
+    }
+
+    @Benchmark
+    public int compactList() {
+        int size = objects.size();
+        int kept = 0;
+        for (int i = 0; i < size; i++) {
+            int[] actor = objects.get(i);
+            if (actor[0] == 0) {
+                objects.set(kept++, actor);
+            }
+        }
+        for (int i = size - 1; i >= kept; i--) {
+            objects.remove(i);
+        }
+        return size - kept;
+    }
+
+    @Benchmark
+    public int streamAndRemoveAll() {
+        List<int[]> destroyed = objects.stream().filter(actor -> actor[0] == 1).collect(Collectors.toList());
+        objects.removeAll(destroyed);
+        return destroyed.size();
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.demo.simulation;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmarks for the per-tick work of {@link World}, the headless equivalent of
+ * {@code LevelParent.updateScene}, and for the boss movement pattern. The world keeps its actors
+ * in an {@link ActorStore}, which the JavaFX game does not use, so these numbers describe the
+ * headless simulation only.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class WorldBenchmark {
+
+    private static final double SCREEN_WIDTH = 1300;
+    private static final double SCREEN_HEIGHT = 750;
+    private static final int TICKS_PER_INVOCATION = 100;
+
+    /** Maximum number of enemies alive at once. */
+    @Param({"10", "100", "1000"})
+    private int enemies;
+
+    private World world;
+    private SimBoss boss;
+    private Random random;
+
+    /**
+     * Builds a level that keeps {@link #enemies} aircraft on screen and never ends, then runs it
+     * until the enemy count and projectile traffic have settled.
+     */
+    @Setup(Level.Invocation)
+    public void setUpWorld() {
+        LevelRules rules = new LevelRules("Benchmark", ActorType.ENEMY, enemies, Integer.MAX_VALUE,
+                1, Integer.MAX_VALUE, null);
+        world = new World(rules, SCREEN_WIDTH, SCREEN_HEIGHT, 1);
+        world.step(TICKS_PER_INVOCATION);
+    }
+
+    /**
+     * Builds a boss on its own so its movement can be measured in isolation.
+     */
+    @Setup(Level.Iteration)
+    public void setUpBoss() {
+        random = new Random(1);
+        ActorStore store = new ActorStore();
+        boss = new SimBoss(store, store.allocate(ActorType.BOSS, 800, 400, ActorType.BOSS.getHealth()), random);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(TICKS_PER_INVOCATION)
+    public long step() {
+        world.step(TICKS_PER_INVOCATION);
+        return world.getTick();
+    }
+
+    @Benchmark
+    public void bossMove(Blackhole blackhole) {
+        boss.update();
+        blackhole.consume(boss.isShielded());
+    }
+}
@@ -1,6 +1,8 @@
 package com.example.demo;
 
 import com.example.demo.activeactor.PlayerAircraft;
+import com.example.demo.replay.InputAction;
+import com.example.demo.replay.InputRecorder;
 import javafx.scene.Node;
 import javafx.scene.input.KeyCode;
 import javafx.scene.input.KeyEvent;
@@ -8,7 +10,8 @@ import javafx.scene.input.KeyEvent;
 /**
  * The {@link InputManager} class is a singleton responsible for handling keyboard inputs
  * to control the {@link PlayerAircraft} and trigger game-related actions. It maps specific
- * key presses and releases to {@link PlayerAircraft} movements and other functionality.
+ * key presses and releases to {@link InputAction}s, which are recorded when an {@link InputRecorder}
+ * is attached and then applied to the {@link PlayerAircraft}.
  */
 public class InputManager {
 
@@ -21,6 +24,9 @@ public class InputManager {
     /** A {@link Runnable} representing an action to be triggered (e.g., shooting). */
     private Runnable runnable;
 
+    /** Records the actions issued, or null if recording is off. */
+    private InputRecorder recorder;
+
     /**
      * Retrieves the singleton instance of the {@link InputManager}.
      *
@@ -40,10 +46,12 @@ public class InputManager {
      * @param background the {@link Node} receiving key events (e.g., the game background).
      * @param user the {@link PlayerAircraft} controlled by the user.
      * @param runnable a {@link Runnable} for executing an action (e.g., shooting).
+     * @param recorder the {@link InputRecorder} receiving every action, or null to record nothing.
      */
-    public void initialize(Node background, PlayerAircraft user, Runnable runnable) {
+    public void initialize(Node background, PlayerAircraft user, Runnable runnable, InputRecorder recorder) {
         this.user = user;
         this.runnable = runnable;
+        this.recorder = recorder;
         initializeBackgroundInputs(background);
     }
 
@@ -64,11 +72,11 @@ public class InputManager {
      */
     private void handleKeyPress(KeyEvent e) {
         KeyCode kc = e.getCode();
-        if (kc == KeyCode.UP) user.moveUp();
-        if (kc == KeyCode.DOWN) user.moveDown();
-        if (kc == KeyCode.LEFT) user.moveLeft();
-        if (kc == KeyCode.RIGHT) user.moveRight();
-        if (kc == KeyCode.SPACE) runnable.run();
+        if (kc == KeyCode.UP) perform(InputAction.MOVE_UP);
+        if (kc == KeyCode.DOWN) perform(InputAction.MOVE_DOWN);
+        if (kc == KeyCode.LEFT) perform(InputAction.MOVE_LEFT);
+        if (kc == KeyCode.RIGHT) perform(InputAction.MOVE_RIGHT);
+        if (kc == KeyCode.SPACE) perform(InputAction.FIRE);
     }
 
     /**
@@ -78,7 +86,27 @@ public class InputManager {
      */
     private void handleKeyRelease(KeyEvent e) {
         KeyCode kc = e.getCode();
-        if (kc == KeyCode.UP || kc == KeyCode.DOWN) user.stopVertical();
-        if (kc == KeyCode.LEFT || kc == KeyCode.RIGHT) user.stopHorizontal();
+        if (kc == KeyCode.UP || kc == KeyCode.DOWN) perform(InputAction.STOP_VERTICAL);
+        if (kc == KeyCode.LEFT || kc == KeyCode.RIGHT) perform(InputAction.STOP_HORIZONTAL);
+    }
+
+    /**
+     * Records an action, if recording, and applies it to the {@link PlayerAircraft}.
+     *
+     * @param action the action issued.
+     */
+    private void perform(InputAction action) {
+        if (recorder != null) {
+            recorder.record(action);
+        }
+        switch (action) {
+            case MOVE_UP -> user.moveUp();
+            case MOVE_DOWN -> user.moveDown();
+            case MOVE_LEFT -> user.moveLeft();
+            case MOVE_RIGHT -> user.moveRight();
+            case STOP_HORIZONTAL -> user.stopHorizontal();
+            case STOP_VERTICAL -> user.stopVertical();
+            case FIRE -> runnable.run();
+        }
     }
 }
@@ -1,33 +1,154 @@
 package com.example.demo;
 
+import com.example.demo.activeactor.PlayerAircraft;
+import com.example.demo.audio.SoundEffect;
+import com.example.demo.event.ActorDestroyed;
+import com.example.demo.event.EventBus;
+import com.example.demo.event.LevelLost;
+import com.example.demo.event.LevelWon;
+import com.example.demo.event.ProjectileFired;
 import javafx.scene.media.Media;
 import javafx.scene.media.MediaPlayer;
 import javafx.util.Duration;
 
+import java.net.URL;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * The {@link SoundManager} class manages the playback of sound effects and background music
  * for the application. It provides methods to play specific sounds, start background music,
  * and stop the background music.
+ * <p>
+ * Sound effects are decoded once into a {@link SoundEffect}, which caps how many instances of the
+ * sound play at once, and reused for every play, so firing and explosions create no media objects
+ * during a level.
  */
 public class SoundManager {
 
+    /** Directory holding the sound files. */
+    private static final String SOUND_LOCATION = "/com/example/demo/sounds/";
+
+    /** Playback volume of sound effects. */
+    private static final double EFFECT_VOLUME = 0.025;
+
+    /** Maximum number of concurrent instances of each sound effect. */
+    private static final int MAX_VOICES_PER_EFFECT = 4;
+
+    /** The sound effects used during levels, decoded up front by {@link #preloadSounds()}. */
+    private static final String[] GAME_EFFECTS = {"P1942_00003.wav", "P1942_00004.wav", "P1942_00014.wav"};
+
+    /** Decoded sound effects by file name. */
+    private static final Map<String, SoundEffect> soundEffects = new HashMap<>();
+
     /** The {@link MediaPlayer} instance used for playing the background music. */
     private static final MediaPlayer backgroundSound = new MediaPlayer(
             new Media(SoundManager.class.getResource("/com/example/demo/sounds/P1942_00000.wav").toExternalForm())
     );
 
     /**
-     * Plays a specified sound effect.
+     * Plays a specified sound effect, decoding it first if it has not been preloaded.
      *
      * @param soundName the name of the sound file (e.g., "sound.wav") to be played.
      *                  The file should be located in the {/com/example/demo/sounds/} directory.
      */
     public static void playSound(String soundName) {
-        MediaPlayer sound = new MediaPlayer(
-                new Media(SoundManager.class.getResource("/com/example/demo/sounds/" + soundName).toExternalForm())
-        );
-        sound.setVolume(0.025);
-        sound.play();
+        getSoundEffect(soundName).play();
+    }
+
+    /**
+     * Subscribes the level's sound effects to its events: the player firing, an aircraft being
+     * shot down, and the game being won or lost, which also stops the background music.
+     *
+     * @param eventBus the level's {@link EventBus}.
+     */
+    public static void subscribe(EventBus eventBus) {
+        eventBus.subscribe(ProjectileFired.class, event -> {
+            if (event.getShooter() instanceof PlayerAircraft) {
+                playSound("P1942_00004.wav");
+            }
+        });
+        eventBus.subscribe(ActorDestroyed.class, event -> {
+            if (event.getCause() == ActorDestroyed.Cause.SHOT_DOWN) {
+                playSound("P1942_00003.wav");
+            }
+        });
+        eventBus.subscribe(LevelWon.class, event -> {
+            if (event.isGameWon()) {
+                playSound("P1942_00014.wav");
+                stopBackgroundSound();
+            }
+        });
+        eventBus.subscribe(LevelLost.class, event -> {
+            playSound("P1942_00014.wav");
+            stopBackgroundSound();
+        });
+    }
+
+    /**
+     * Decodes the sound effects used during levels, so the first play of each has no loading delay.
+     */
+    public static void preloadSounds() {
+        for (String soundName : GAME_EFFECTS) {
+            getSoundEffect(soundName);
+        }
+    }
+
+    /**
+     * Retrieves the decoded sound effect for a sound file, decoding it on first use.
+     *
+     * @param soundName the name of the sound file.
+     * @return the {@link SoundEffect}.
+     * @throws IllegalArgumentException if the sound file does not exist.
+     */
+    public static SoundEffect getSoundEffect(String soundName) {
+        SoundEffect effect = soundEffects.get(soundName);
+        if (effect == null) {
+            URL url = SoundManager.class.getResource(SOUND_LOCATION + soundName);
+            if (url == null) {
+                throw new IllegalArgumentException("Missing sound resource: " + SOUND_LOCATION + soundName);
+            }
+            effect = new SoundEffect(url.toExternalForm(), MAX_VOICES_PER_EFFECT, EFFECT_VOLUME);
+            soundEffects.put(soundName, effect);
+        }
+        return effect;
+    }
+
+    /**
+     * Retrieves every sound effect decoded so far, for reporting playback metrics.
+     *
+     * @return an unmodifiable view of the sound effects.
+     */
+    public static Collection<SoundEffect> getSoundEffects() {
+        return Collections.unmodifiableCollection(soundEffects.values());
+    }
+
+    /**
+     * Retrieves the number of sound effect voices currently playing.
+     *
+     * @return the active voice count across all sound effects.
+     */
+    public static int getActiveVoices() {
+        int active = 0;
+        for (SoundEffect effect : soundEffects.values()) {
+            active += effect.getActiveVoices();
+        }
+        return active;
+    }
+
+    /**
+     * Retrieves the longest time spent starting any sound effect.
+     *
+     * @return the latency in nanoseconds.
+     */
+    public static long getMaxPlayNanos() {
+        long max = 0;
+        for (SoundEffect effect : soundEffects.values()) {
+            max = Math.max(max, effect.getMaxPlayNanos());
+        }
+        return max;
     }
 
     /**
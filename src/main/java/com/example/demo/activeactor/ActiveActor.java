@@ -1,5 +1,7 @@
 package com.example.demo.activeactor;
 
+import com.example.demo.collision.CollisionMask;
+import com.example.demo.graphics.SpriteAtlas;
 import javafx.scene.image.*;
 
 /**
@@ -14,6 +16,21 @@ public abstract class ActiveActor extends ImageView {
 	/** Base directory path for loading images */
 	private static final String IMAGE_LOCATION = "/com/example/demo/images/";
 
+	/** Solid pixels of the sprite at its display size, or null if unknown */
+	private final CollisionMask collisionMask;
+
+	/** Horizontal translation before the most recent simulation tick */
+	private double previousTranslateX;
+
+	/** Vertical translation before the most recent simulation tick */
+	private double previousTranslateY;
+
+	/** Horizontal translation after the most recent simulation tick */
+	private double currentTranslateX;
+
+	/** Vertical translation after the most recent simulation tick */
+	private double currentTranslateY;
+
 	/**
 	 * Constructs an {@link ActiveActor} with a specified image and initial position.
 	 *
@@ -24,13 +41,34 @@ public abstract class ActiveActor extends ImageView {
 	 */
 	public ActiveActor(String imageName, int imageHeight, double initialXPos, double initialYPos) {
 		//this.setImage(new Image(IMAGE_LOCATION + imageName));
-		this.setImage(new Image(getClass().getResource(IMAGE_LOCATION + imageName).toExternalForm()));
+		SpriteAtlas.Region region = SpriteAtlas.getInstance().getRegion(IMAGE_LOCATION + imageName, imageHeight);
+		SpriteAtlas.apply(this, region);
+		this.collisionMask = region.getMask();
 		this.setLayoutX(initialXPos);
 		this.setLayoutY(initialYPos);
 		this.setFitHeight(imageHeight);
 		this.setPreserveRatio(true);
 	}
 
+	/**
+	 * Packs an actor image into the shared {@link SpriteAtlas} ahead of its first use.
+	 *
+	 * @param imageName The filename of the image to be loaded
+	 * @param imageHeight The height the image will be displayed at
+	 */
+	protected static void preloadImage(String imageName, int imageHeight) {
+		SpriteAtlas.getInstance().preload(IMAGE_LOCATION + imageName, imageHeight);
+	}
+
+	/**
+	 * Gets the mask of the sprite's solid pixels, which lines up with the actor's bounds.
+	 *
+	 * @return The {@link CollisionMask}, or null if the sprite's pixels could not be read
+	 */
+	public CollisionMask getCollisionMask() {
+		return collisionMask;
+	}
+
 	/**
 	 * Abstract method to update the position.
 	 *
@@ -38,6 +76,44 @@ public abstract class ActiveActor extends ImageView {
 	 */
 	public abstract void updatePosition();
 
+	/**
+	 * Prepares for a simulation tick by undoing any interpolated display position and
+	 * remembering the current position as the previous state.
+	 */
+	public void beginTick() {
+		setTranslateX(currentTranslateX);
+		setTranslateY(currentTranslateY);
+		previousTranslateX = currentTranslateX;
+		previousTranslateY = currentTranslateY;
+	}
+
+	/**
+	 * Records the position reached at the end of a simulation tick.
+	 */
+	public void endTick() {
+		currentTranslateX = getTranslateX();
+		currentTranslateY = getTranslateY();
+	}
+
+	/**
+	 * Displays the actor between its previous and current tick positions.
+	 *
+	 * @param alpha The fraction of a tick elapsed since the most recent tick, from 0 to 1
+	 */
+	public void interpolate(double alpha) {
+		setTranslateX(previousTranslateX + (currentTranslateX - previousTranslateX) * alpha);
+		setTranslateY(previousTranslateY + (currentTranslateY - previousTranslateY) * alpha);
+	}
+
+	/**
+	 * Treats the actor's current position as both the previous and current tick state,
+	 * so it is displayed there without interpolating from an old position.
+	 */
+	protected void snapInterpolationState() {
+		previousTranslateX = currentTranslateX = getTranslateX();
+		previousTranslateY = currentTranslateY = getTranslateY();
+	}
+
 	/**
 	 * Moves horizontally by a specified distance.
 	 *
@@ -2,6 +2,9 @@ package com.example.demo.activeactor;
 
 import com.example.demo.Destructible;
 import com.example.demo.SoundManager;
+import com.example.demo.event.EventBus;
+import com.example.demo.event.GameEvent;
+import com.example.demo.pool.ActorPool;
 import com.example.demo.userinterface.HeartDisplay;
 
 /**
@@ -15,6 +18,18 @@ public abstract class ActiveActorDestructible extends ActiveActor implements Des
 	/** Tracks whether the destruction occurs */
 	private boolean isDestroyed;
 
+	/** The {@link ActorPool} this actor returns to once removed, or null if it is not pooled */
+	private ActorPool<?> pool;
+
+	/** Whether the actor has been returned to its pool and not handed out again */
+	private boolean released;
+
+	/** Number of ticks the actor has been alive since it was created or last reset */
+	private int age;
+
+	/** The {@link EventBus} of the level the actor is in, or null outside a level */
+	private EventBus eventBus;
+
 	/**
 	 * Constructs a destructible {@link ActiveActor} with initial image and position.
 	 *
@@ -70,6 +85,74 @@ public abstract class ActiveActorDestructible extends ActiveActor implements Des
 		this.isDestroyed = isDestroyed;
 	}
 
+	/**
+	 * Returns the actor to its initial state at a new position so it can be reused.
+	 *
+	 * @param initialXPos The new initial x-coordinate position
+	 * @param initialYPos The new initial y-coordinate position
+	 */
+	public void reset(double initialXPos, double initialYPos) {
+		setLayoutX(initialXPos);
+		setLayoutY(initialYPos);
+		setTranslateX(0);
+		setTranslateY(0);
+		snapInterpolationState();
+		setDestroyed(false);
+		released = false;
+		age = 0;
+		resetState();
+	}
+
+	/**
+	 * Hook for subclasses to restore their own fields when the actor is reused.
+	 *
+	 * The default implementation does nothing.
+	 */
+	protected void resetState() {
+	}
+
+	/**
+	 * Sets the {@link ActorPool} this actor is returned to once it has been removed from the level.
+	 *
+	 * @param pool The owning pool
+	 */
+	public void setPool(ActorPool<?> pool) {
+		this.pool = pool;
+	}
+
+	/**
+	 * Sets the {@link EventBus} the actor publishes its {@link GameEvent}s on. Called by the level
+	 * when the actor enters it.
+	 *
+	 * @param eventBus The level's event bus
+	 */
+	public void setEventBus(EventBus eventBus) {
+		this.eventBus = eventBus;
+	}
+
+	/**
+	 * Publishes an event on the level's {@link EventBus}, if the actor is in a level.
+	 *
+	 * @param event The event to publish
+	 */
+	protected void publish(GameEvent event) {
+		if (eventBus != null) {
+			eventBus.publish(event);
+		}
+	}
+
+	/**
+	 * Returns this actor to its owning {@link ActorPool}, if it has one. Does nothing if the actor
+	 * is already back in its pool, so an actor is never handed out twice.
+	 * Must only be called once the actor has been removed from the scene.
+	 */
+	public void releaseToPool() {
+		if (pool != null && !released) {
+			released = true;
+			pool.release(this);
+		}
+	}
+
 	/**
 	 * Checks if the actor has been destroyed.
 	 *
@@ -78,4 +161,22 @@ public abstract class ActiveActorDestructible extends ActiveActor implements Des
 	public boolean isDestroyed() {
 		return isDestroyed;
 	}
+
+	/**
+	 * Prepares for a simulation tick and counts the tick towards the actor's age.
+	 */
+	@Override
+	public void beginTick() {
+		super.beginTick();
+		age++;
+	}
+
+	/**
+	 * Retrieves the number of ticks the actor has been alive.
+	 *
+	 * @return The age in ticks
+	 */
+	public int getAge() {
+		return age;
+	}
 }
\ No newline at end of file
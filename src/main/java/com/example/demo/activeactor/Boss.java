@@ -1,79 +1,71 @@
 package com.example.demo.activeactor;
 
 import com.example.demo.level.LevelParent;
-import com.example.demo.userinterface.HeartDisplay;
+import com.example.demo.simulation.BossBrain;
+import com.example.demo.simulation.BossPatternCatalog;
+import com.example.demo.simulation.BossPhase;
+import com.example.demo.simulation.GameRules;
 import com.example.demo.userinterface.ShieldImage;
 
-import java.util.*;
-
 /**
  * Represents a {@link Boss} enemy aircraft in the game that implements advanced combat mechanics.
  * The {@link Boss} features a dynamic shield system, pattern-based movement, and {@link BossMissile} attacks.
+ * Its movement, firing and shield follow the phases of its pattern in the boss catalogue, played by a
+ * {@link BossBrain} that moves to harder phases as the {@link Boss} loses health.
  */
 public class Boss extends FighterAircraft {
 
+	/** Name of the {@link Boss}'s pattern in the boss catalogue */
+	private static final String PATTERN_NAME = "LevelTwoBoss";
 	/** The filename of image resource */
 	private static final String IMAGE_NAME = "bossplane.png";
 	/** Initial X-coordinate position for spawning */
-	private static final double INITIAL_X_POSITION = 800;
+	private static final double INITIAL_X_POSITION = GameRules.BOSS_INITIAL_X;
 	/** Initial Y-coordinate position for spawning */
-	private static final double INITIAL_Y_POSITION = 400;
-	/** Vertical offset for {@link BossMissile} spawn position relative to {@link Boss} position */
-	private static final double PROJECTILE_Y_POSITION_OFFSET = 75.0;
-	/** Probability of {@link Boss} firing a {@link BossMissile} per frame */
-	private static final double BOSS_FIRE_RATE = .04;
-	/** Probability of {@link Boss} activating its shield per frame */
-	private static final double BOSS_SHIELD_PROBABILITY = 0.0005;
+	private static final double INITIAL_Y_POSITION = GameRules.BOSS_INITIAL_Y;
+	/** Horizontal offset of the origin of the {@link Boss}'s bullet patterns */
+	private static final double PATTERN_ORIGIN_X_OFFSET = GameRules.BOSS_PATTERN_X_OFFSET;
+	/** Vertical offset of the origin of the {@link Boss}'s bullet patterns */
+	private static final double PATTERN_ORIGIN_Y_OFFSET = GameRules.BOSS_PATTERN_Y_OFFSET;
 	/** Height of the {@link Boss} sprite in pixels */
 	private static final int IMAGE_HEIGHT = 100;
-	/** Speed of vertical movement */
-	private static final int VERTICAL_VELOCITY = 8;
 	/** Initial health points of the {@link Boss} */
 	private static final int HEALTH = 20;
-	/** Number of movement patterns in a single cycle */
-	private static final int MOVE_FREQUENCY_PER_CYCLE = 5;
-	/** Constant representing no movement */
-	private static final int ZERO = 0;
-	/** Maximum number of frames the {@link Boss} can move in the same direction */
-	private static final int MAX_FRAMES_WITH_SAME_MOVE = 10;
 	/** Upper boundary for {@link Boss}'s vertical movement */
-	private static final int Y_POSITION_UPPER_BOUND = -100;
+	private static final double Y_POSITION_UPPER_BOUND = GameRules.BOSS_MIN_Y;
 	/** Lower boundary for {@link Boss}'s vertical movement */
-	private static final int Y_POSITION_LOWER_BOUND = 475;
-	/** Maximum duration the {@link ShieldImage} can remain active */
-	private static final int MAX_FRAMES_WITH_SHIELD = 500;
+	private static final double Y_POSITION_LOWER_BOUND = GameRules.BOSS_MAX_Y;
 
 	/** Reference to the parent level controlling this {@link Boss} instance */
 	private final LevelParent levelParent;
-	/** List storing the {@link Boss}'s movement pattern sequence */
-	private final List<Integer> movePattern;
+	/** Plays the {@link Boss}'s pattern, deciding its movement, firing and shield each frame */
+	private final BossBrain brain;
 	/** Current shield status */
 	private boolean isShielded;
-	/** Counter for consecutive moves in the same direction */
-	private int consecutiveMovesInSameDirection;
-	/** Current index in the movement pattern */
-	private int indexOfCurrentMove;
-	/** Duration counter for active shield */
-	private int framesWithShieldActivated;
 	/** Visual representation of the {@link Boss}'s shield */
 	private final ShieldImage shieldImage;
 
 	/**
 	 * Constructs a new {@link Boss} instance with initialized position and attributes.
-	 * Sets up the movement pattern, shield system, and connects to the {@link LevelParent}.
+	 * Loads the {@link Boss}'s pattern, sets up the shield system, and connects to the {@link LevelParent}.
 	 *
 	 * @param levelParent The parent level managing this {@link Boss} instance
 	 */
 	public Boss(LevelParent levelParent) {
 		super(IMAGE_NAME, IMAGE_HEIGHT, INITIAL_X_POSITION, INITIAL_Y_POSITION, HEALTH);
 		this.levelParent = levelParent;
-		movePattern = new ArrayList<>();
-		consecutiveMovesInSameDirection = 0;
-		indexOfCurrentMove = 0;
-		framesWithShieldActivated = 0;
+		this.brain = new BossBrain(BossPatternCatalog.getInstance().get(PATTERN_NAME), randomFor(levelParent));
 		isShielded = false;
 		shieldImage = new ShieldImage(INITIAL_X_POSITION-75, INITIAL_Y_POSITION );
-		initializeMovePattern();
+	}
+
+	/**
+	 * Packs the {@link Boss}, {@link BossMissile} and {@link ShieldImage} images into the shared {@link com.example.demo.graphics.SpriteAtlas}.
+	 */
+	public static void preloadSprites() {
+		preloadImage(IMAGE_NAME, IMAGE_HEIGHT);
+		BossMissile.preloadSprites();
+		ShieldImage.preloadSprites();
 	}
 
 	/**
@@ -83,7 +75,7 @@ public class Boss extends FighterAircraft {
 	@Override
 	public void updatePosition() {
 		double initialTranslateY = getTranslateY();
-		moveVertically(getNextMove());
+		moveVertically(brain.getVelocity());
 		double currentPosition = getLayoutY() + getTranslateY();
 		shieldImage.setLayoutY(currentPosition);
 		if (currentPosition < Y_POSITION_UPPER_BOUND || currentPosition > Y_POSITION_LOWER_BOUND) {
@@ -92,24 +84,47 @@ public class Boss extends FighterAircraft {
 	}
 
 	/**
-	 * Performs per-frame updates for the {@link Boss} including position, shield status,
-	 * and {@link BossMissile} spawning.
+	 * Displays the {@link Boss} at its interpolated position and moves the {@link ShieldImage} with it.
+	 *
+	 * @param alpha The fraction of a tick elapsed since the most recent tick, from 0 to 1
+	 */
+	@Override
+	public void interpolate(double alpha) {
+		super.interpolate(alpha);
+		shieldImage.setLayoutY(getLayoutY() + getTranslateY());
+	}
+
+	/**
+	 * Performs per-frame updates for the {@link Boss}: advances its pattern, then updates its position,
+	 * shield status, and fires a {@link BossMissile} from each emitter of the current phase when the pattern fires,
+	 * and a volley of the phase's bullet pattern when it is due.
 	 */
 	@Override
 	public void updateActor() {
+		brain.tick(getHealth(), getInitialHealth());
 		updatePosition();
 		updateShield();
-		levelParent.spawnEnemyProjectile(fireProjectile());
+		if (brain.isFiring()) {
+			BossPhase phase = brain.getPhase();
+			for (int emitter = 0; emitter < phase.getEmitterCount(); emitter++) {
+				levelParent.spawnEnemyProjectile(fireFrom(phase.getEmitterOffset(emitter)));
+			}
+		}
+		long volley = brain.getPatternVolley();
+		if (volley >= 0) {
+			levelParent.fireBullets(brain.getPhase().getPattern(), getLayoutX() + getTranslateX() + PATTERN_ORIGIN_X_OFFSET,
+					getLayoutY() + getTranslateY() + PATTERN_ORIGIN_Y_OFFSET, volley);
+		}
 	}
 
 	/**
-	 * Attempts to create a new {@link BossMissile} based on the {@link Boss}'s fire rate.
+	 * Creates a {@link BossMissile} from the current phase's first emitter if the pattern fires this frame.
 	 *
 	 * @return A new {@link BossMissile} if firing conditions are met, null otherwise
 	 */
 	@Override
 	public ActiveActorDestructible fireProjectile() {
-		return bossFiresInCurrentFrame() ? new BossMissile(getProjectileInitialPosition()) : null;
+		return brain.isFiring() ? fireFrom(brain.getPhase().getEmitterOffset(0)) : null;
 	}
 
 	/**
@@ -124,102 +139,27 @@ public class Boss extends FighterAircraft {
 	}
 
 	/**
-	 * Initializes the {@link Boss}'s movement pattern with alternating vertical movements.
-	 * Creates a sequence of upward, downward, and stationary movements that are randomly shuffled.
-	 */
-	private void initializeMovePattern() {
-		for (int i = 0; i < MOVE_FREQUENCY_PER_CYCLE; i++) {
-			movePattern.add(VERTICAL_VELOCITY);
-			movePattern.add(-VERTICAL_VELOCITY);
-			movePattern.add(ZERO);
-		}
-		Collections.shuffle(movePattern);
-	}
-
-	/**
-	 * Updates the {@link Boss}'s shield status including activation, duration tracking,
-	 * and deactivation when duration is exceeded.
+	 * Raises or lowers the shield to match the pattern, showing or hiding the {@link ShieldImage} only when it changes.
 	 */
 	private void updateShield() {
-		if (isShielded){
-			framesWithShieldActivated++;
-			shieldImage.showShield();
-		}
-		else if (shieldShouldBeActivated()) activateShield();
-		if (shieldExhausted()) deactivateShield();
-	}
-
-	/**
-	 * Determines the next movement value from the pattern.
-	 * Reshuffles the pattern when maximum consecutive moves are reached.
-	 *
-	 * @return The next movement value to be applied
-	 */
-	private int getNextMove() {
-		int currentMove = movePattern.get(indexOfCurrentMove);
-		consecutiveMovesInSameDirection++;
-		if (consecutiveMovesInSameDirection == MAX_FRAMES_WITH_SAME_MOVE) {
-			Collections.shuffle(movePattern);
-			consecutiveMovesInSameDirection = 0;
-			indexOfCurrentMove++;
-		}
-		if (indexOfCurrentMove == movePattern.size()) {
-			indexOfCurrentMove = 0;
+		if (brain.isShielded() != isShielded) {
+			isShielded = brain.isShielded();
+			if (isShielded) {
+				shieldImage.showShield();
+			} else {
+				shieldImage.hideShield();
+			}
 		}
-		return currentMove;
 	}
 
 	/**
-	 * Determines if the {@link Boss} should fire a {@link BossMissile} in the current frame.
+	 * Creates a {@link BossMissile} from one emitter.
 	 *
-	 * @return true if firing conditions are met, false otherwise
+	 * @param offset The emitter's vertical offset from the {@link Boss}'s top edge
+	 * @return The fired {@link BossMissile}
 	 */
-	private boolean bossFiresInCurrentFrame() {
-		return Math.random() < BOSS_FIRE_RATE;
-	}
-
-	/**
-	 * Calculates the initial Y-position for spawned {@link BossMissile}.
-	 *
-	 * @return The Y-coordinate where new {@link BossMissile} should spawn
-	 */
-	private double getProjectileInitialPosition() {
-		return getLayoutY() + getTranslateY() + PROJECTILE_Y_POSITION_OFFSET;
-	}
-
-	/**
-	 * Checks if the {@link ShieldImage} should be activated based on random probability.
-	 *
-	 * @return true if {@link ShieldImage} should activate, false otherwise
-	 */
-	private boolean shieldShouldBeActivated() {
-		return Math.random() < BOSS_SHIELD_PROBABILITY;
-	}
-
-	/**
-	 * Checks if the {@link ShieldImage} has been active for its maximum duration.
-	 *
-	 * @return true if {@link ShieldImage} duration has been exhausted, false otherwise
-	 */
-	private boolean shieldExhausted() {
-		return framesWithShieldActivated == MAX_FRAMES_WITH_SHIELD;
-	}
-
-	/**
-	 * Activates the {@link Boss}'s shield and updates the shield visual effect.
-	 */
-	private void activateShield() {
-		isShielded = true;
-		shieldImage.showShield();
-	}
-
-	/**
-	 * Deactivates the {@link Boss}'s shield and resets the shield duration counter.
-	 */
-	private void deactivateShield() {
-		isShielded = false;
-		framesWithShieldActivated = 0;
-		shieldImage.showShield();
+	private ActiveActorDestructible fireFrom(double offset) {
+		return fired(BossMissile.obtain(getLayoutY() + getTranslateY() + offset));
 	}
 
 	/**
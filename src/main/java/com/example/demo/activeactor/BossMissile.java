@@ -1,5 +1,9 @@
 package com.example.demo.activeactor;
 
+import com.example.demo.pool.ActorPool;
+import com.example.demo.pool.ActorPools;
+import com.example.demo.simulation.GameRules;
+
 /**
  * Represents a {@link Missile} fired by the {@link Boss} in the game.
  * This class extends the {@link Missile} class with specific characteristics
@@ -14,10 +18,14 @@ public class BossMissile extends Missile {
 	private static final int IMAGE_HEIGHT = 25;
 
 	/** Horizontal velocity of the {@link Missile} moving left */
-	private static final int HORIZONTAL_VELOCITY = -15;
+	private static final double HORIZONTAL_VELOCITY = GameRules.BOSS_MISSILE_VELOCITY;
 
 	/** Initial x-coordinate position for the {@link BossMissile} */
-	private static final int INITIAL_X_POSITION = 950;
+	private static final double INITIAL_X_POSITION = GameRules.BOSS_MISSILE_X;
+
+	/** Shared pool of reusable {@link BossMissile} instances */
+	private static final ActorPool<BossMissile> POOL = ActorPools.getInstance().register(ActorPools.SHARED,
+			new ActorPool<>(BossMissile.class, (initialXPos, initialYPos) -> new BossMissile(initialYPos)));
 
 	/**
 	 * Constructs a {@link BossMissile} with a specified vertical position.
@@ -28,6 +36,23 @@ public class BossMissile extends Missile {
 		super(IMAGE_NAME, IMAGE_HEIGHT, INITIAL_X_POSITION, initialYPos);
 	}
 
+	/**
+	 * Obtains a {@link BossMissile} from the shared pool, creating one only if none is free.
+	 *
+	 * @param initialYPos The initial y-coordinate position of the {@link Missile}
+	 * @return A {@link BossMissile} in its initial state
+	 */
+	public static BossMissile obtain(double initialYPos) {
+		return POOL.acquire(INITIAL_X_POSITION, initialYPos);
+	}
+
+	/**
+	 * Packs the {@link BossMissile} image into the shared {@link com.example.demo.graphics.SpriteAtlas}.
+	 */
+	public static void preloadSprites() {
+		preloadImage(IMAGE_NAME, IMAGE_HEIGHT);
+	}
+
 	/**
 	 * Updates the {@link BossMissile}'s position by moving horizontally.
 	 *
@@ -1,6 +1,9 @@
 package com.example.demo.activeactor;
 
 import com.example.demo.level.LevelParent;
+import com.example.demo.simulation.GameRules;
+
+import java.util.random.RandomGenerator;
 
 /**
  * Represents an {@link EnemyAircraft} in the game.
@@ -18,23 +21,26 @@ public class EnemyAircraft extends FighterAircraft {
 	private static final int IMAGE_HEIGHT = 50;
 
 	/** Horizontal velocity of the {@link EnemyAircraft} moving left */
-	private static final int HORIZONTAL_VELOCITY = -6;
+	private static final double HORIZONTAL_VELOCITY = GameRules.ENEMY_VELOCITY;
 
 	/** X-axis offset for {@link Missile} spawn position */
-	private static final double PROJECTILE_X_POSITION_OFFSET = -100.0;
+	private static final double PROJECTILE_X_POSITION_OFFSET = GameRules.ENEMY_MISSILE_X_OFFSET;
 
 	/** Y-axis offset for {@link Missile} spawn position */
-	private static final double PROJECTILE_Y_POSITION_OFFSET = 50.0;
+	private static final double PROJECTILE_Y_POSITION_OFFSET = GameRules.ENEMY_MISSILE_Y_OFFSET;
 
 	/** Initial health points for the {@link EnemyAircraft} */
 	private static final int INITIAL_HEALTH = 1;
 
 	/** Probability of firing a {@link Missile} in each update cycle */
-	private static final double FIRE_RATE = .01;
+	private static final double FIRE_RATE = GameRules.ENEMY_FIRE_RATE;
 
 	/** Reference to the current game level */
 	private final LevelParent levelParent;
 
+	/** Generator for firing decisions, split off the level's generator */
+	private final RandomGenerator random;
+
 	/**
 	 * Constructs an {@link EnemyAircraft} with specified position and level context.
 	 *
@@ -46,6 +52,15 @@ public class EnemyAircraft extends FighterAircraft {
 		super(IMAGE_NAME, IMAGE_HEIGHT, initialXPos, initialYPos, INITIAL_HEALTH);
 
 		this.levelParent = levelParent;
+		this.random = randomFor(levelParent);
+	}
+
+	/**
+	 * Packs the {@link EnemyAircraft} and {@link EnemyMissile} images into the shared {@link com.example.demo.graphics.SpriteAtlas}.
+	 */
+	public static void preloadSprites() {
+		preloadImage(IMAGE_NAME, IMAGE_HEIGHT);
+		EnemyMissile.preloadSprites();
 	}
 
 	/**
@@ -65,10 +80,10 @@ public class EnemyAircraft extends FighterAircraft {
 	 */
 	@Override
 	public ActiveActorDestructible fireProjectile() {
-		if (Math.random() < FIRE_RATE) {
+		if (random.nextDouble() < FIRE_RATE) {
 			double projectileXPosition = getProjectileXPosition(PROJECTILE_X_POSITION_OFFSET);
 			double projectileYPostion = getProjectileYPosition(PROJECTILE_Y_POSITION_OFFSET);
-			return new EnemyMissile(projectileXPosition, projectileYPostion);
+			return fired(EnemyMissile.obtain(projectileXPosition, projectileYPostion));
 		}
 		return null;
 	}
@@ -1,5 +1,9 @@
 package com.example.demo.activeactor;
 
+import com.example.demo.pool.ActorPool;
+import com.example.demo.pool.ActorPools;
+import com.example.demo.simulation.GameRules;
+
 /**
  * Represents a {@link Missile} fired by {@link EnemyAircraft} in the game.
  * This class extends the {@link Missile} class with specific characteristics
@@ -14,7 +18,11 @@ public class EnemyMissile extends Missile {
 	private static final int IMAGE_HEIGHT = 15;
 
 	/** Horizontal velocity of the {@link EnemyMissile} moving left */
-	private static final int HORIZONTAL_VELOCITY = -10;
+	private static final double HORIZONTAL_VELOCITY = GameRules.ENEMY_MISSILE_VELOCITY;
+
+	/** Shared pool of reusable {@link EnemyMissile} instances */
+	private static final ActorPool<EnemyMissile> POOL = ActorPools.getInstance().register(ActorPools.SHARED,
+			new ActorPool<>(EnemyMissile.class, EnemyMissile::new));
 
 	/**
 	 * Constructs an {@link EnemyMissile} with specified initial position.
@@ -26,6 +34,24 @@ public class EnemyMissile extends Missile {
 		super(IMAGE_NAME, IMAGE_HEIGHT, initialXPos, initialYPos);
 	}
 
+	/**
+	 * Obtains a {@link EnemyMissile} from the shared pool, creating one only if none is free.
+	 *
+	 * @param initialXPos The initial x-coordinate position
+	 * @param initialYPos The initial y-coordinate position
+	 * @return A {@link EnemyMissile} in its initial state
+	 */
+	public static EnemyMissile obtain(double initialXPos, double initialYPos) {
+		return POOL.acquire(initialXPos, initialYPos);
+	}
+
+	/**
+	 * Packs the {@link EnemyMissile} image into the shared {@link com.example.demo.graphics.SpriteAtlas}.
+	 */
+	public static void preloadSprites() {
+		preloadImage(IMAGE_NAME, IMAGE_HEIGHT);
+	}
+
 	/**
 	 * Updates the position by moving horizontally.
 	 *
@@ -1,6 +1,12 @@
 package com.example.demo.activeactor;
 
-import com.example.demo.SoundManager;
+import com.example.demo.engine.RandomService;
+import com.example.demo.event.ActorDestroyed;
+import com.example.demo.event.DamageTaken;
+import com.example.demo.event.ProjectileFired;
+import com.example.demo.level.LevelParent;
+
+import java.util.random.RandomGenerator;
 
 /**
  * Abstract base class for all {@link FighterAircraft} in the game.
@@ -10,6 +16,9 @@ import com.example.demo.SoundManager;
  */
 public abstract class FighterAircraft extends ActiveActorDestructible {
 
+	/** Health points restored when the aircraft is reused */
+	private final int initialHealth;
+
 	/** Current health points */
 	private int health;
 
@@ -24,9 +33,29 @@ public abstract class FighterAircraft extends ActiveActorDestructible {
 	 */
 	public FighterAircraft(String imageName, int imageHeight, double initialXPos, double initialYPos, int health) {
 		super(imageName, imageHeight, initialXPos, initialYPos);
+		this.initialHealth = health;
 		this.health = health;
 	}
 
+	/**
+	 * Splits a generator for an aircraft off its level's generator, so the aircraft's random
+	 * decisions are reproducible from the level seed.
+	 *
+	 * @param levelParent the level the aircraft belongs to, or null outside a level
+	 * @return the aircraft's generator; unseeded if there is no level
+	 */
+	protected static RandomGenerator randomFor(LevelParent levelParent) {
+		return levelParent != null ? levelParent.splitRandom() : RandomService.unseeded();
+	}
+
+	/**
+	 * Restores full health when the {@link FighterAircraft} is reused from a pool.
+	 */
+	@Override
+	protected void resetState() {
+		health = initialHealth;
+	}
+
 	/**
 	 * Creates and returns a {@link Missile} fired by this {@link FighterAircraft}.
 	 * Implementation varies based on the specific type of {@link FighterAircraft}.
@@ -37,17 +66,32 @@ public abstract class FighterAircraft extends ActiveActorDestructible {
 
 	/**
 	 * Handles damage taken by the {@link FighterAircraft}. Decrements health and
-	 * destroys the {@link FighterAircraft} if health reaches zero, playing a destruction sound effect.
+	 * destroys the {@link FighterAircraft} if health reaches zero, publishing a {@link DamageTaken}
+	 * event and, when destroyed, an {@link ActorDestroyed} event.
 	 */
 	@Override
 	public void takeDamage() {
 		health--;
+		publish(new DamageTaken(this, health));
 		if (healthAtZero()) {
 			this.destroy();
-			SoundManager.playSound("P1942_00003.wav");
+			publish(new ActorDestroyed(this, ActorDestroyed.Cause.SHOT_DOWN));
 		}
 	}
 
+	/**
+	 * Publishes a {@link ProjectileFired} event for a projectile this aircraft fired.
+	 *
+	 * @param projectile The projectile fired, or null if the aircraft did not fire
+	 * @return The projectile
+	 */
+	protected ActiveActorDestructible fired(ActiveActorDestructible projectile) {
+		if (projectile != null) {
+			publish(new ProjectileFired(this, projectile));
+		}
+		return projectile;
+	}
+
 	/**
 	 * Calculates the X-coordinate position for spawning  {@link Missile}.
 	 *
@@ -77,6 +121,15 @@ public abstract class FighterAircraft extends ActiveActorDestructible {
 		return health == 0;
 	}
 
+	/**
+	 * Gets the health points the {@link FighterAircraft} starts with.
+	 *
+	 * @return The initial health value
+	 */
+	public int getInitialHealth() {
+		return initialHealth;
+	}
+
 	/**
 	 * Gets the current health points of the {@link FighterAircraft}.
 	 *
@@ -1,6 +1,9 @@
 package com.example.demo.activeactor;
 
 import com.example.demo.level.LevelParent;
+import com.example.demo.simulation.GameRules;
+
+import java.util.random.RandomGenerator;
 
 /**
  * Represents a {@link MovingBossAircraft} enemy that travels horizontally across the screen.
@@ -16,23 +19,26 @@ public class MovingBossAircraft extends FighterAircraft {
 	private static final int IMAGE_HEIGHT = 50;
 
 	/** Speed at which the {@link Boss} moves horizontally (negative for leftward movement) */
-	private static final int HORIZONTAL_VELOCITY = -6;
+	private static final double HORIZONTAL_VELOCITY = GameRules.ENEMY_VELOCITY;
 
 	/** Horizontal offset for projectile spawn position */
-	private static final double PROJECTILE_X_POSITION_OFFSET = -100.0;
+	private static final double PROJECTILE_X_POSITION_OFFSET = GameRules.ENEMY_MISSILE_X_OFFSET;
 
 	/** Vertical offset for projectile spawn position */
-	private static final double PROJECTILE_Y_POSITION_OFFSET = 50.0;
+	private static final double PROJECTILE_Y_POSITION_OFFSET = GameRules.ENEMY_MISSILE_Y_OFFSET;
 
 	/** Starting health points */
 	private static final int INITIAL_HEALTH = 10;
 
 	/** Probability of firing a {@link EnemyMissile} per frame */
-	private static final double FIRE_RATE = .01;
+	private static final double FIRE_RATE = GameRules.ENEMY_FIRE_RATE;
 
 	/** Reference to the {@link LevelParent} controlling this {@link Boss} instance */
 	private final LevelParent levelParent;
 
+	/** Generator for firing decisions, split off the level's generator */
+	private final RandomGenerator random;
+
 	/**
 	 * Constructs a new {@link MovingBossAircraft} at the specified position.
 	 *
@@ -43,6 +49,15 @@ public class MovingBossAircraft extends FighterAircraft {
 	public MovingBossAircraft(LevelParent levelParent, double initialXPos, double initialYPos) {
 		super(IMAGE_NAME, IMAGE_HEIGHT, initialXPos, initialYPos, INITIAL_HEALTH);
 		this.levelParent = levelParent;
+		this.random = randomFor(levelParent);
+	}
+
+	/**
+	 * Packs the {@link MovingBossAircraft} and {@link EnemyMissile} images into the shared {@link com.example.demo.graphics.SpriteAtlas}.
+	 */
+	public static void preloadSprites() {
+		preloadImage(IMAGE_NAME, IMAGE_HEIGHT);
+		EnemyMissile.preloadSprites();
 	}
 
 	/**
@@ -61,10 +76,10 @@ public class MovingBossAircraft extends FighterAircraft {
 	 */
 	@Override
 	public ActiveActorDestructible fireProjectile() {
-		if (Math.random() < FIRE_RATE) {
+		if (random.nextDouble() < FIRE_RATE) {
 			double projectileXPosition = getProjectileXPosition(PROJECTILE_X_POSITION_OFFSET);
 			double projectileYPostion = getProjectileYPosition(PROJECTILE_Y_POSITION_OFFSET);
-			return new EnemyMissile(projectileXPosition, projectileYPostion);
+			return fired(EnemyMissile.obtain(projectileXPosition, projectileYPostion));
 		}
 		return null;
 	}
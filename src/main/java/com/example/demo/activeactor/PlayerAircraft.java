@@ -1,10 +1,10 @@
 package com.example.demo.activeactor;
 
-import com.example.demo.SoundManager;
+import com.example.demo.simulation.GameRules;
 
 /**
  * Represents the {@link PlayerAircraft} in the game.
- * Handles {@link PlayerAircraft} movement, boundary checking, projectile firing, and kill counting.
+ * Handles {@link PlayerAircraft} movement, boundary checking and projectile firing.
  * Extends {@link FighterAircraft} to inherit basic aircraft functionality.
  */
 public class PlayerAircraft extends FighterAircraft {
@@ -12,34 +12,32 @@ public class PlayerAircraft extends FighterAircraft {
 	/** The filename of image */
 	private static final String IMAGE_NAME = "userplane.png";
 	/** Right boundary limit for movement */
-	private static final double X_LOWER_BOUND = 1000;
+	private static final double X_LOWER_BOUND = GameRules.PLAYER_MAX_X;
 	/** Left boundary limit for movement */
-	private static final double X_UPPER_BOUND = 0;
+	private static final double X_UPPER_BOUND = GameRules.PLAYER_MIN_X;
 	/** Upper boundary limit for movement */
-	private static final double Y_UPPER_BOUND = -40;
+	private static final double Y_UPPER_BOUND = GameRules.PLAYER_MIN_Y;
 	/** Lower boundary limit for movement */
-	private static final double Y_LOWER_BOUND = 600.0;
+	private static final double Y_LOWER_BOUND = GameRules.PLAYER_MAX_Y;
 	/** Starting X position for */
-	private static final double INITIAL_X_POSITION = 5.0;
+	private static final double INITIAL_X_POSITION = GameRules.PLAYER_INITIAL_X;
 	/** Starting Y position for */
-	private static final double INITIAL_Y_POSITION = 300.0;
+	private static final double INITIAL_Y_POSITION = GameRules.PLAYER_INITIAL_Y;
 	/** Height in pixels */
 	private static final int IMAGE_HEIGHT = 50;
 	/** Base horizontal movement speed */
-	private static final int HORIZONTAL_VELOCITY = 8;
+	private static final double HORIZONTAL_VELOCITY = GameRules.PLAYER_VELOCITY;
 	/** Base vertical movement speed */
-	private static final int VERTICAL_VELOCITY = 8;
-	/** Horizontal offset for {@link UserMissile} spawn position */
-	private static final int PROJECTILE_X_POSITION = 110;
+	private static final double VERTICAL_VELOCITY = GameRules.PLAYER_VELOCITY;
+	/** Horizontal offset for {@link UserMissile} spawn position, from the translation rather than the position */
+	private static final double PROJECTILE_X_POSITION_OFFSET = GameRules.USER_MISSILE_X_OFFSET;
 	/** Vertical offset for {@link UserMissile} spawn position */
-	private static final int PROJECTILE_Y_POSITION_OFFSET = 20;
+	private static final double PROJECTILE_Y_POSITION_OFFSET = GameRules.USER_MISSILE_Y_OFFSET;
 
 	/** Direction multiplier for horizontal movement (-1 for left, 0 for none, 1 for right) */
 	private int velocityMultiplierHorizontal;
 	/** Direction multiplier for vertical movement (-1 for up, 0 for none, 1 for down) */
 	private int velocityMultiplierVertical;
-	/** Counter for {@link EnemyAircraft} destroyed by the {@link PlayerAircraft} */
-	private int numberOfKills;
 
 	/**
 	 * Constructs a new {@link PlayerAircraft} with specified initial health.
@@ -51,6 +49,14 @@ public class PlayerAircraft extends FighterAircraft {
 		velocityMultiplierVertical = 0;
 	}
 
+	/**
+	 * Packs the {@link PlayerAircraft} and {@link UserMissile} images into the shared {@link com.example.demo.graphics.SpriteAtlas}.
+	 */
+	public static void preloadSprites() {
+		preloadImage(IMAGE_NAME, IMAGE_HEIGHT);
+		UserMissile.preloadSprites();
+	}
+
 	/**
 	 * Updates the position based on current movement multipliers.
 	 * Checks and enforces boundary limits for both horizontal and vertical movement.
@@ -86,14 +92,12 @@ public class PlayerAircraft extends FighterAircraft {
 
 	/**
 	 * Creates and returns a new {@link PlayerAircraft} {@link UserMissile}.
-	 * Plays a sound effect when firing.
 	 *
 	 * @return A new {@link UserMissile} instance positioned relative to the {@link PlayerAircraft}.
 	 */
 	@Override
 	public ActiveActorDestructible fireProjectile() {
-		SoundManager.playSound("P1942_00004.wav");
-		return new UserMissile(getTranslateX() + 128, getProjectileYPosition(PROJECTILE_Y_POSITION_OFFSET));
+		return fired(UserMissile.obtain(getTranslateX() + PROJECTILE_X_POSITION_OFFSET, getProjectileYPosition(PROJECTILE_Y_POSITION_OFFSET)));
 	}
 
 	/**
@@ -155,28 +159,4 @@ public class PlayerAircraft extends FighterAircraft {
 	public void stopVertical() {
 		velocityMultiplierVertical = 0;
 	}
-
-	/**
-	 * Gets the current number of {@link EnemyAircraft} destroyed by the {@link PlayerAircraft}.
-	 *
-	 * @return The number of kills
-	 */
-	public int getNumberOfKills() {
-		return numberOfKills;
-	}
-
-	/**
-	 * Increments the kill counter when an {@link EnemyAircraft} is destroyed.
-	 */
-	public void incrementKillCount() {
-		numberOfKills++;
-	}
-
-	/**
-	 * Decrements the kill counter.
-	 * Used when correcting kill count or implementing specific game mechanics.
-	 */
-	public void decrementKillCount() {
-		numberOfKills--;
-	}
 }
\ No newline at end of file
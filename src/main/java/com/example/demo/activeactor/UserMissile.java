@@ -1,5 +1,9 @@
 package com.example.demo.activeactor;
 
+import com.example.demo.pool.ActorPool;
+import com.example.demo.pool.ActorPools;
+import com.example.demo.simulation.GameRules;
+
 /**
  * Represents a {@link UserMissile} fired by the {@link PlayerAircraft} in the game.
  * This {@link UserMissile} moves horizontally across the screen at a constant velocity.
@@ -14,7 +18,11 @@ public class UserMissile extends Missile {
 	private static final int IMAGE_HEIGHT = 15;
 
 	/** Speed at which the {@link UserMissile} moves horizontally across the screen */
-	private static final int HORIZONTAL_VELOCITY = 15;
+	private static final double HORIZONTAL_VELOCITY = GameRules.USER_MISSILE_VELOCITY;
+
+	/** Shared pool of reusable {@link UserMissile} instances */
+	private static final ActorPool<UserMissile> POOL = ActorPools.getInstance().register(ActorPools.SHARED,
+			new ActorPool<>(UserMissile.class, UserMissile::new));
 
 	/**
 	 * Constructs a new {@link UserMissile} at the specified position.
@@ -26,6 +34,24 @@ public class UserMissile extends Missile {
 		super(IMAGE_NAME, IMAGE_HEIGHT, initialXPos, initialYPos);
 	}
 
+	/**
+	 * Obtains a {@link UserMissile} from the shared pool, creating one only if none is free.
+	 *
+	 * @param initialXPos The initial X-coordinate position
+	 * @param initialYPos The initial Y-coordinate position
+	 * @return A {@link UserMissile} in its initial state
+	 */
+	public static UserMissile obtain(double initialXPos, double initialYPos) {
+		return POOL.acquire(initialXPos, initialYPos);
+	}
+
+	/**
+	 * Packs the {@link UserMissile} image into the shared {@link com.example.demo.graphics.SpriteAtlas}.
+	 */
+	public static void preloadSprites() {
+		preloadImage(IMAGE_NAME, IMAGE_HEIGHT);
+	}
+
 	/**
 	 * Updates the {@link UserMissile}'s position by moving it horizontally across the screen
 	 * at the defined velocity.
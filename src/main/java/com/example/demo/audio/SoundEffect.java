@@ -0,0 +1,237 @@
+package com.example.demo.audio;
+
+import javafx.scene.media.AudioClip;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * The {@link SoundEffect} class is a short sound decoded once into a single {@link AudioClip}, which
+ * can play several overlapping instances of the sound. A voice counter caps the number of
+ * instances playing at once: each play takes a voice for the length of the sound, read from the
+ * WAV header, and a play made while every voice is taken is dropped. No media objects are created
+ * after construction.
+ */
+public class SoundEffect {
+
+    /** Length assumed for a sound whose WAV header cannot be read. */
+    private static final long DEFAULT_LENGTH_NANOS = 1_000_000_000;
+
+    /** The decoded sound. */
+    private final AudioClip clip;
+
+    /** The length of the sound, in nanoseconds. */
+    private final long lengthNanos;
+
+    /** The time each voice's instance ends, in nanoseconds; 0 for a voice never used. */
+    private final long[] voiceEnds;
+
+    /** Time taken to decode the sound, in nanoseconds. */
+    private final long loadNanos;
+
+    /** Number of times the sound was played. */
+    private long plays;
+
+    /** Number of plays dropped because every voice was taken. */
+    private long drops;
+
+    /** Time spent in the most recent play call, in nanoseconds. */
+    private long lastPlayNanos;
+
+    /** Longest time spent in a play call, in nanoseconds. */
+    private long maxPlayNanos;
+
+    /** Total time spent in play calls, in nanoseconds. */
+    private long totalPlayNanos;
+
+    /**
+     * Constructs a {@link SoundEffect}, decoding the sound.
+     *
+     * @param source the URL of the sound file.
+     * @param maxVoices the maximum number of concurrent instances.
+     * @param volume the playback volume, from 0 to 1.
+     */
+    public SoundEffect(String source, int maxVoices, double volume) {
+        if (maxVoices <= 0) {
+            throw new IllegalArgumentException("A sound needs at least one voice: " + maxVoices);
+        }
+        long start = System.nanoTime();
+        this.clip = new AudioClip(source);
+        clip.setVolume(volume);
+        this.loadNanos = System.nanoTime() - start;
+        this.lengthNanos = readLengthNanos(source);
+        this.voiceEnds = new long[maxVoices];
+    }
+
+    /**
+     * Plays an instance of the sound on a free voice, or drops the play if every voice is taken.
+     */
+    public void play() {
+        long now = System.nanoTime();
+        int voice = freeVoice(now);
+        if (voice < 0) {
+            drops++;
+            return;
+        }
+        clip.play();
+        voiceEnds[voice] = now + lengthNanos;
+        plays++;
+        lastPlayNanos = System.nanoTime() - now;
+        maxPlayNanos = Math.max(maxPlayNanos, lastPlayNanos);
+        totalPlayNanos += lastPlayNanos;
+    }
+
+    /**
+     * Stops every instance of the sound and frees every voice.
+     */
+    public void stop() {
+        clip.stop();
+        Arrays.fill(voiceEnds, 0);
+    }
+
+    /**
+     * Finds a voice whose instance has ended.
+     *
+     * @param now the current time in nanoseconds.
+     * @return the voice index, or -1 if every voice is taken.
+     */
+    private int freeVoice(long now) {
+        for (int i = 0; i < voiceEnds.length; i++) {
+            if (voiceEnds[i] - now <= 0) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Reads the length of a WAV file from its header.
+     *
+     * @param source the URL of the sound file.
+     * @return the length in nanoseconds, or {@link #DEFAULT_LENGTH_NANOS} if the header cannot be read.
+     */
+    private static long readLengthNanos(String source) {
+        try (InputStream stream = URI.create(source).toURL().openStream();
+             DataInputStream in = new DataInputStream(stream)) {
+            if (!"RIFF".equals(readTag(in))) {
+                return DEFAULT_LENGTH_NANOS;
+            }
+            in.readInt();
+            if (!"WAVE".equals(readTag(in))) {
+                return DEFAULT_LENGTH_NANOS;
+            }
+            long byteRate = 0;
+            while (true) {
+                String tag = readTag(in);
+                long size = Integer.toUnsignedLong(Integer.reverseBytes(in.readInt()));
+                if ("data".equals(tag)) {
+                    return byteRate > 0 ? size * 1_000_000_000L / byteRate : DEFAULT_LENGTH_NANOS;
+                }
+                if ("fmt ".equals(tag)) {
+                    in.skipNBytes(8);
+                    byteRate = Integer.toUnsignedLong(Integer.reverseBytes(in.readInt()));
+                    size -= 12;
+                }
+                in.skipNBytes(size + (size & 1));
+            }
+        } catch (IOException | IllegalArgumentException e) {
+            return DEFAULT_LENGTH_NANOS;
+        }
+    }
+
+    /**
+     * Reads a four-character RIFF chunk tag.
+     *
+     * @param in the stream positioned at the tag.
+     * @return the tag.
+     * @throws IOException if the stream ends or cannot be read.
+     */
+    private static String readTag(DataInputStream in) throws IOException {
+        byte[] tag = new byte[4];
+        in.readFully(tag);
+        return new String(tag, StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * Retrieves the number of voices currently playing.
+     *
+     * @return the active voice count.
+     */
+    public int getActiveVoices() {
+        long now = System.nanoTime();
+        int active = 0;
+        for (long end : voiceEnds) {
+            if (end - now > 0) {
+                active++;
+            }
+        }
+        return active;
+    }
+
+    /**
+     * Retrieves the maximum number of concurrent instances.
+     *
+     * @return the voice count.
+     */
+    public int getMaxVoices() {
+        return voiceEnds.length;
+    }
+
+    /**
+     * Retrieves the time taken to decode the sound.
+     *
+     * @return the load time in nanoseconds.
+     */
+    public long getLoadNanos() {
+        return loadNanos;
+    }
+
+    /**
+     * Retrieves the number of times the sound was played.
+     *
+     * @return the play count.
+     */
+    public long getPlays() {
+        return plays;
+    }
+
+    /**
+     * Retrieves the number of plays dropped because every voice was taken.
+     *
+     * @return the drop count.
+     */
+    public long getDrops() {
+        return drops;
+    }
+
+    /**
+     * Retrieves the time spent starting the most recent play.
+     *
+     * @return the latency in nanoseconds.
+     */
+    public long getLastPlayNanos() {
+        return lastPlayNanos;
+    }
+
+    /**
+     * Retrieves the longest time spent starting a play.
+     *
+     * @return the latency in nanoseconds.
+     */
+    public long getMaxPlayNanos() {
+        return maxPlayNanos;
+    }
+
+    /**
+     * Retrieves the average time spent starting a play.
+     *
+     * @return the latency in nanoseconds, or 0 before the first play.
+     */
+    public double getAveragePlayNanos() {
+        return plays == 0 ? 0 : (double) totalPlayNanos / plays;
+    }
+}
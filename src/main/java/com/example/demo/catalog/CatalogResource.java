@@ -0,0 +1,162 @@
+package com.example.demo.catalog;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * The {@link CatalogResource} class reads a text catalogue from the classpath, one
+ * {@link KeyValueLine} per line. Blank lines and lines starting with {@code #} are skipped, and
+ * only the lines asked for are parsed: a lookup compares each line's first token and stops at
+ * the first match, so the cost of a lookup does not grow with the rest of the catalogue.
+ */
+public final class CatalogResource {
+
+	/** Classpath location of the catalogue. */
+	private final String resourcePath;
+
+	/** What the catalogue holds, such as "level", for error messages. */
+	private final String kind;
+
+	/**
+	 * Constructs a {@link CatalogResource}. The resource is not read until a line is requested.
+	 *
+	 * @param resourcePath the absolute classpath location of the catalogue.
+	 * @param kind what the catalogue holds, such as "level", for error messages.
+	 */
+	public CatalogResource(String resourcePath, String kind) {
+		this.resourcePath = resourcePath;
+		this.kind = kind;
+	}
+
+	/**
+	 * Finds and parses the first line with a name.
+	 *
+	 * @param name the line's name.
+	 * @return the parsed {@link KeyValueLine}.
+	 * @throws IllegalArgumentException if no line has that name or it is malformed.
+	 * @throws UncheckedIOException if the catalogue cannot be read.
+	 */
+	public KeyValueLine find(String name) {
+		KeyValueLine line = lookup(name);
+		if (line == null) {
+			throw notFound(name);
+		}
+		return line;
+	}
+
+	/**
+	 * Finds and parses the first line with a name, if there is one.
+	 *
+	 * @param name the line's name.
+	 * @return the parsed {@link KeyValueLine}, or null if no line has that name.
+	 * @throws IllegalArgumentException if the line is malformed.
+	 * @throws UncheckedIOException if the catalogue cannot be read.
+	 */
+	public KeyValueLine lookup(String name) {
+		try (BufferedReader reader = open()) {
+			String line;
+			int lineNumber = 0;
+			while ((line = reader.readLine()) != null) {
+				lineNumber++;
+				if (name.equals(KeyValueLine.nameOf(line))) {
+					return KeyValueLine.parse(line, lineNumber);
+				}
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException("Failed to read " + kind + " catalogue " + resourcePath, e);
+		}
+		return null;
+	}
+
+	/**
+	 * Finds and parses every line with a name, in catalogue order.
+	 *
+	 * @param name the lines' name.
+	 * @return the parsed lines.
+	 * @throws IllegalArgumentException if no line has that name or one is malformed.
+	 * @throws UncheckedIOException if the catalogue cannot be read.
+	 */
+	public List<KeyValueLine> findAll(String name) {
+		List<KeyValueLine> lines = new ArrayList<>();
+		try (BufferedReader reader = open()) {
+			String line;
+			int lineNumber = 0;
+			while ((line = reader.readLine()) != null) {
+				lineNumber++;
+				if (name.equals(KeyValueLine.nameOf(line))) {
+					lines.add(KeyValueLine.parse(line, lineNumber));
+				}
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException("Failed to read " + kind + " catalogue " + resourcePath, e);
+		}
+		if (lines.isEmpty()) {
+			throw notFound(name);
+		}
+		return lines;
+	}
+
+	/**
+	 * Streams every line in catalogue order, parsing lines only as they are consumed. The stream
+	 * must be closed to release the catalogue.
+	 *
+	 * @return a lazy stream of lines.
+	 * @throws IllegalArgumentException if the catalogue resource does not exist.
+	 */
+	public Stream<KeyValueLine> stream() {
+		BufferedReader reader = open();
+		int[] lineNumber = {0};
+		return reader.lines()
+				.peek(line -> lineNumber[0]++)
+				.filter(line -> KeyValueLine.nameOf(line) != null)
+				.map(line -> KeyValueLine.parse(line, lineNumber[0]))
+				.onClose(() -> {
+					try {
+						reader.close();
+					} catch (IOException e) {
+						throw new UncheckedIOException(e);
+					}
+				});
+	}
+
+	/**
+	 * Retrieves the classpath location of the catalogue.
+	 *
+	 * @return the resource path.
+	 */
+	public String getResourcePath() {
+		return resourcePath;
+	}
+
+	/**
+	 * Opens the catalogue resource.
+	 *
+	 * @return a reader over the catalogue.
+	 * @throws IllegalArgumentException if the catalogue resource does not exist.
+	 */
+	private BufferedReader open() {
+		InputStream in = CatalogResource.class.getResourceAsStream(resourcePath);
+		if (in == null) {
+			throw new IllegalArgumentException("Missing " + kind + " catalogue: " + resourcePath);
+		}
+		return new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * Creates the error for a name the catalogue does not hold.
+	 *
+	 * @param name the missing name.
+	 * @return the exception, for the caller to throw.
+	 */
+	private IllegalArgumentException notFound(String name) {
+		return new IllegalArgumentException(Character.toUpperCase(kind.charAt(0)) + kind.substring(1)
+				+ " " + name + " is not in " + resourcePath);
+	}
+}
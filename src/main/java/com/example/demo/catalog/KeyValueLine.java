@@ -0,0 +1,220 @@
+package com.example.demo.catalog;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The {@link KeyValueLine} class is one parsed line of a text catalogue: a name followed by
+ * whitespace-separated {@code key=value} fields, for example
+ * <pre>
+ * bossSpiral shape=SPIRAL count=6 speed=6 spin=17 period=4 lifetime=160
+ * </pre>
+ * Fields are consumed as they are read, so {@link #checkConsumed()} can reject the ones nobody
+ * asked for. Every error it raises names the line, so a typo in a catalogue points at its line.
+ */
+public final class KeyValueLine {
+
+	/** The first token of the line. */
+	private final String name;
+
+	/** The line's position in its catalogue, for error messages. */
+	private final int lineNumber;
+
+	/** The fields not yet consumed, by key. */
+	private final Map<String, String> fields;
+
+	/**
+	 * Constructs a {@link KeyValueLine}. Use {@link #parse(String, int)} instead.
+	 *
+	 * @param name the first token of the line.
+	 * @param lineNumber the line's position in its catalogue.
+	 * @param fields the line's fields, by key.
+	 */
+	private KeyValueLine(String name, int lineNumber, Map<String, String> fields) {
+		this.name = name;
+		this.lineNumber = lineNumber;
+		this.fields = fields;
+	}
+
+	/**
+	 * Splits a catalogue line into its name and fields.
+	 *
+	 * @param line the catalogue line.
+	 * @param lineNumber the line's position in its catalogue, for error messages.
+	 * @return the parsed {@link KeyValueLine}.
+	 * @throws IllegalArgumentException if a field is not {@code key=value} or a key is repeated.
+	 */
+	public static KeyValueLine parse(String line, int lineNumber) {
+		String[] tokens = line.strip().split("\\s+");
+		Map<String, String> fields = new HashMap<>();
+		for (int i = 1; i < tokens.length; i++) {
+			int separator = tokens[i].indexOf('=');
+			if (separator <= 0) {
+				throw new IllegalArgumentException("Line " + lineNumber + ": expected key=value but found " + tokens[i]);
+			}
+			String key = tokens[i].substring(0, separator);
+			if (fields.put(key, tokens[i].substring(separator + 1)) != null) {
+				throw new IllegalArgumentException("Line " + lineNumber + ": duplicate field " + key);
+			}
+		}
+		return new KeyValueLine(tokens[0], lineNumber, fields);
+	}
+
+	/**
+	 * Extracts the name from a catalogue line without parsing the rest of it.
+	 *
+	 * @param line the catalogue line.
+	 * @return the name, or null for a blank or comment line.
+	 */
+	public static String nameOf(String line) {
+		String trimmed = line.strip();
+		if (trimmed.isEmpty() || trimmed.charAt(0) == '#') {
+			return null;
+		}
+		int end = 0;
+		while (end < trimmed.length() && !Character.isWhitespace(trimmed.charAt(end))) {
+			end++;
+		}
+		return trimmed.substring(0, end);
+	}
+
+	/**
+	 * Removes and returns a required field.
+	 *
+	 * @param key the field's key.
+	 * @return the field's value.
+	 * @throws IllegalArgumentException if the field is missing.
+	 */
+	public String require(String key) {
+		String value = fields.remove(key);
+		if (value == null) {
+			throw error("missing field " + key);
+		}
+		return value;
+	}
+
+	/**
+	 * Removes and returns an optional field.
+	 *
+	 * @param key the field's key.
+	 * @return the field's value, or null if it is absent.
+	 */
+	public String optional(String key) {
+		return fields.remove(key);
+	}
+
+	/**
+	 * Removes and parses a required integer field.
+	 *
+	 * @param key the field's key.
+	 * @return the field's value.
+	 * @throws IllegalArgumentException if the field is missing or not an integer.
+	 */
+	public int requireInt(String key) {
+		return toInt(require(key));
+	}
+
+	/**
+	 * Removes and parses a required decimal field.
+	 *
+	 * @param key the field's key.
+	 * @return the field's value.
+	 * @throws IllegalArgumentException if the field is missing or not a number.
+	 */
+	public double requireDouble(String key) {
+		return toDouble(require(key));
+	}
+
+	/**
+	 * Removes and parses an optional decimal field.
+	 *
+	 * @param key the field's key.
+	 * @param defaultValue the value if the field is absent.
+	 * @return the field's value, or the default.
+	 * @throws IllegalArgumentException if the field is present but not a number.
+	 */
+	public double optionalDouble(String key, double defaultValue) {
+		String value = optional(key);
+		return value == null ? defaultValue : toDouble(value);
+	}
+
+	/**
+	 * Parses an integer from a field or part of one.
+	 *
+	 * @param text the text to parse.
+	 * @return the integer.
+	 * @throws IllegalArgumentException if the text is not an integer.
+	 */
+	public int toInt(String text) {
+		try {
+			return Integer.parseInt(text);
+		} catch (NumberFormatException e) {
+			throw error(e.getMessage(), e);
+		}
+	}
+
+	/**
+	 * Parses a number from a field or part of one.
+	 *
+	 * @param text the text to parse.
+	 * @return the number.
+	 * @throws IllegalArgumentException if the text is not a number.
+	 */
+	public double toDouble(String text) {
+		try {
+			return Double.parseDouble(text);
+		} catch (NumberFormatException e) {
+			throw error(e.getMessage(), e);
+		}
+	}
+
+	/**
+	 * Checks that every field has been consumed.
+	 *
+	 * @throws IllegalArgumentException listing the fields nobody asked for.
+	 */
+	public void checkConsumed() {
+		if (!fields.isEmpty()) {
+			throw error("unknown fields " + fields.keySet());
+		}
+	}
+
+	/**
+	 * Creates an error naming this line.
+	 *
+	 * @param message what is wrong with the line.
+	 * @return the exception, for the caller to throw.
+	 */
+	public IllegalArgumentException error(String message) {
+		return new IllegalArgumentException("Line " + lineNumber + ": " + message);
+	}
+
+	/**
+	 * Creates an error naming this line, caused by another exception.
+	 *
+	 * @param message what is wrong with the line.
+	 * @param cause the exception that revealed the problem.
+	 * @return the exception, for the caller to throw.
+	 */
+	public IllegalArgumentException error(String message, Throwable cause) {
+		return new IllegalArgumentException("Line " + lineNumber + ": " + message, cause);
+	}
+
+	/**
+	 * Retrieves the first token of the line.
+	 *
+	 * @return the name.
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * Retrieves the line's position in its catalogue.
+	 *
+	 * @return the line number, counted from 1.
+	 */
+	public int getLineNumber() {
+		return lineNumber;
+	}
+}
@@ -0,0 +1,204 @@
+package com.example.demo.collision;
+
+import com.example.demo.activeactor.ActiveActorDestructible;
+import javafx.geometry.Bounds;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The {@link CollisionDetector} class finds overlapping actors between two groups using a
+ * {@link SpatialHashGrid} broad phase. Each actor's bounds are read once per pass and only
+ * pairs sharing a grid cell are tested against each other. Pairs whose bounds overlap are then
+ * checked against the actors' {@link CollisionMask}s, so transparent corners of a sprite no longer
+ * count as hits; actors without a mask, or drawn at a different size than their mask, collide on
+ * their bounds alone. Both actors of every colliding pair take damage, as before.
+ */
+public class CollisionDetector {
+
+	/** Default grid cell size, roughly the size of the largest regular sprite. */
+	private static final double DEFAULT_CELL_SIZE = 128;
+
+	/** The broad-phase grid, rebuilt for each pass. */
+	private final SpatialHashGrid grid;
+
+	/** Largest difference between an actor's bounds and its mask, in pixels, for the mask to be used. */
+	private static final double MASK_SIZE_TOLERANCE = 1;
+
+	/** Cached bounds of the second group, indexed like the list: minX, minY, maxX, maxY. */
+	private double[] bounds;
+
+	/** Cached masks of the second group, indexed like the list, or null where the bounds decide. */
+	private CollisionMask[] masks;
+
+	/** Pairs whose bounds overlapped and whose masks were compared, since the last call to {@link #beginTick()}. */
+	private int maskTests;
+
+	/** Pairs whose masks were compared during the previous tick. */
+	private int maskTestsLastTick;
+
+	/** Narrow-phase pair tests performed since the last call to {@link #beginTick()}. */
+	private int pairTests;
+
+	/** Narrow-phase pair tests performed during the previous tick. */
+	private int pairTestsLastTick;
+
+	/** Pairs a nested-loop test would have checked since the last call to {@link #beginTick()}. */
+	private int bruteForcePairs;
+
+	/** Pairs a nested-loop test would have checked during the previous tick. */
+	private int bruteForcePairsLastTick;
+
+	/** Total narrow-phase pair tests performed. */
+	private long totalPairTests;
+
+	/**
+	 * Constructs a {@link CollisionDetector} with the default cell size.
+	 */
+	public CollisionDetector() {
+		this(DEFAULT_CELL_SIZE);
+	}
+
+	/**
+	 * Constructs a {@link CollisionDetector}.
+	 *
+	 * @param cellSize the width and height of one broad-phase grid cell.
+	 */
+	public CollisionDetector(double cellSize) {
+		this.grid = new SpatialHashGrid(cellSize);
+		this.bounds = new double[64 * 4];
+		this.masks = new CollisionMask[64];
+	}
+
+	/**
+	 * Starts a new tick, moving the current pair-test counts to the previous-tick counts.
+	 */
+	public void beginTick() {
+		pairTestsLastTick = pairTests;
+		bruteForcePairsLastTick = bruteForcePairs;
+		maskTestsLastTick = maskTests;
+		pairTests = 0;
+		bruteForcePairs = 0;
+		maskTests = 0;
+	}
+
+	/**
+	 * Detects and processes collisions between two groups of actors. Every actor of a
+	 * colliding pair takes damage.
+	 *
+	 * @param actors1 the first group of actors
+	 * @param actors2 the second group of actors
+	 */
+	public void handleCollisions(List<? extends ActiveActorDestructible> actors1,
+								 List<? extends ActiveActorDestructible> actors2) {
+		int size2 = actors2.size();
+		bruteForcePairs += actors1.size() * size2;
+		if (actors1.isEmpty() || size2 == 0) {
+			return;
+		}
+		if (bounds.length < size2 * 4) {
+			bounds = Arrays.copyOf(bounds, size2 * 8);
+			masks = new CollisionMask[size2 * 2];
+		}
+		grid.clear();
+		for (int j = 0; j < size2; j++) {
+			Bounds b = actors2.get(j).getBoundsInParent();
+			int offset = j * 4;
+			bounds[offset] = b.getMinX();
+			bounds[offset + 1] = b.getMinY();
+			bounds[offset + 2] = b.getMaxX();
+			bounds[offset + 3] = b.getMaxY();
+			masks[j] = maskFor(actors2.get(j), b);
+			grid.insert(j, b.getMinX(), b.getMinY(), b.getMaxX(), b.getMaxY());
+		}
+		for (ActiveActorDestructible otherActor : actors1) {
+			Bounds a = otherActor.getBoundsInParent();
+			CollisionMask maskA = maskFor(otherActor, a);
+			int candidates = grid.query(a.getMinX(), a.getMinY(), a.getMaxX(), a.getMaxY());
+			for (int c = 0; c < candidates; c++) {
+				int j = grid.getCandidate(c);
+				int offset = j * 4;
+				pairTests++;
+				totalPairTests++;
+				if (a.getMinX() <= bounds[offset + 2] && a.getMaxX() >= bounds[offset]
+						&& a.getMinY() <= bounds[offset + 3] && a.getMaxY() >= bounds[offset + 1]
+						&& masksOverlap(maskA, a, masks[j], offset)) {
+					actors2.get(j).takeDamage();
+					otherActor.takeDamage();
+				}
+			}
+		}
+	}
+
+	/**
+	 * Retrieves an actor's mask if it lines up with the actor's current bounds.
+	 *
+	 * @param actor the actor.
+	 * @param b the actor's bounds in its parent.
+	 * @return the actor's {@link CollisionMask}, or null if its bounds alone should decide.
+	 */
+	private static CollisionMask maskFor(ActiveActorDestructible actor, Bounds b) {
+		CollisionMask mask = actor.getCollisionMask();
+		if (mask == null
+				|| Math.abs(b.getWidth() - mask.getWidth()) > MASK_SIZE_TOLERANCE
+				|| Math.abs(b.getHeight() - mask.getHeight()) > MASK_SIZE_TOLERANCE) {
+			return null;
+		}
+		return mask;
+	}
+
+	/**
+	 * Compares the masks of a pair whose bounds overlap.
+	 *
+	 * @param maskA the first actor's mask, or null.
+	 * @param a the first actor's bounds.
+	 * @param maskB the second actor's mask, or null.
+	 * @param offset the position of the second actor's cached bounds.
+	 * @return true if the pair collides: their solid pixels overlap, or either has no usable mask.
+	 */
+	private boolean masksOverlap(CollisionMask maskA, Bounds a, CollisionMask maskB, int offset) {
+		if (maskA == null || maskB == null) {
+			return true;
+		}
+		maskTests++;
+		return maskA.overlaps(maskB,
+				(int) Math.round(bounds[offset] - a.getMinX()),
+				(int) Math.round(bounds[offset + 1] - a.getMinY()));
+	}
+
+	/**
+	 * Retrieves the number of narrow-phase pair tests performed during the previous tick.
+	 *
+	 * @return the pair-test count.
+	 */
+	public int getPairTestsLastTick() {
+		return pairTestsLastTick;
+	}
+
+	/**
+	 * Retrieves the number of pairs the nested-loop approach would have tested during the previous tick.
+	 *
+	 * @return the brute-force pair count.
+	 */
+	public int getBruteForcePairsLastTick() {
+		return bruteForcePairsLastTick;
+	}
+
+	/**
+	 * Retrieves the number of pairs whose masks were compared during the previous tick.
+	 *
+	 * @return the mask-test count.
+	 */
+	public int getMaskTestsLastTick() {
+		return maskTestsLastTick;
+	}
+
+	/**
+	 * Retrieves the total number of narrow-phase pair tests performed.
+	 *
+	 * @return the total pair-test count.
+	 */
+	public long getTotalPairTests() {
+		return totalPairTests;
+	}
+}
@@ -0,0 +1,209 @@
+package com.example.demo.collision;
+
+/**
+ * The {@link CollisionMask} class marks which pixels of a sprite are solid, as one bit per pixel
+ * packed 64 to a {@code long}, row by row. Masks are built once per sprite at its display size, so
+ * a sprite's mask lines up with its on-screen bounds pixel for pixel. Two masks are compared one
+ * row of 64 pixels at a time with a shift and an AND, so a pair of aircraft that pass the
+ * bounding-box test costs at most a few hundred word operations to confirm or reject.
+ */
+public final class CollisionMask {
+
+	/** Alpha value, out of 255, at or above which a pixel counts as solid. */
+	public static final int ALPHA_THRESHOLD = 128;
+
+	/** Width of the mask in pixels. */
+	private final int width;
+
+	/** Height of the mask in pixels. */
+	private final int height;
+
+	/** Number of words holding each row. */
+	private final int wordsPerRow;
+
+	/** The bits, row by row; bit {@code i} of a row's word {@code w} is pixel {@code 64 * w + i}. */
+	private final long[] bits;
+
+	/** Number of solid pixels. */
+	private final int solidCount;
+
+	/**
+	 * Constructs a {@link CollisionMask} from packed bits.
+	 *
+	 * @param width the width in pixels.
+	 * @param height the height in pixels.
+	 * @param bits the bits, {@code (width + 63) / 64} words per row.
+	 */
+	private CollisionMask(int width, int height, long[] bits) {
+		this.width = width;
+		this.height = height;
+		this.wordsPerRow = (width + 63) >>> 6;
+		this.bits = bits;
+		int count = 0;
+		for (long word : bits) {
+			count += Long.bitCount(word);
+		}
+		this.solidCount = count;
+	}
+
+	/**
+	 * Builds a mask from a sprite's pixels.
+	 *
+	 * @param argb the pixels in ARGB order, row by row.
+	 * @param width the width in pixels.
+	 * @param height the height in pixels.
+	 * @return the {@link CollisionMask} of the pixels whose alpha is at least {@link #ALPHA_THRESHOLD}.
+	 * @throws IllegalArgumentException if the size is negative or does not match the pixels.
+	 */
+	public static CollisionMask fromArgb(int[] argb, int width, int height) {
+		if (width < 0 || height < 0 || argb.length < width * height) {
+			throw new IllegalArgumentException("Expected " + width + "x" + height + " pixels, got " + argb.length);
+		}
+		int wordsPerRow = (width + 63) >>> 6;
+		long[] bits = new long[wordsPerRow * height];
+		for (int y = 0; y < height; y++) {
+			int row = y * width;
+			int rowWord = y * wordsPerRow;
+			for (int x = 0; x < width; x++) {
+				if (argb[row + x] >>> 24 >= ALPHA_THRESHOLD) {
+					bits[rowWord + (x >>> 6)] |= 1L << x;
+				}
+			}
+		}
+		return new CollisionMask(width, height, bits);
+	}
+
+	/**
+	 * Checks if a pixel is solid.
+	 *
+	 * @param x the pixel's column.
+	 * @param y the pixel's row.
+	 * @return true if the pixel is inside the mask and solid.
+	 */
+	public boolean get(int x, int y) {
+		if (x < 0 || y < 0 || x >= width || y >= height) {
+			return false;
+		}
+		return (bits[y * wordsPerRow + (x >>> 6)] & (1L << x)) != 0;
+	}
+
+	/**
+	 * Checks if any solid pixel of this mask lies on a solid pixel of another mask.
+	 *
+	 * @param other the other mask.
+	 * @param dx the other mask's left edge, relative to this mask's left edge.
+	 * @param dy the other mask's top edge, relative to this mask's top edge.
+	 * @return true if the masks overlap.
+	 */
+	public boolean overlaps(CollisionMask other, int dx, int dy) {
+		int top = Math.max(0, dy);
+		int bottom = Math.min(height, dy + other.height);
+		int left = Math.max(0, dx);
+		int right = Math.min(width, dx + other.width);
+		if (top >= bottom || left >= right) {
+			return false;
+		}
+		int firstWord = left >>> 6;
+		int lastWord = (right - 1) >>> 6;
+		for (int y = top; y < bottom; y++) {
+			int row = y * wordsPerRow;
+			int otherRow = (y - dy) * other.wordsPerRow;
+			for (int w = firstWord; w <= lastWord; w++) {
+				long word = bits[row + w];
+				if (word != 0 && (word & other.window(otherRow, (w << 6) - dx)) != 0) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Checks if any pixel inside a box is solid.
+	 *
+	 * @param minX the box's left column, inclusive.
+	 * @param minY the box's top row, inclusive.
+	 * @param maxX the box's right column, exclusive.
+	 * @param maxY the box's bottom row, exclusive.
+	 * @return true if a solid pixel lies inside the box.
+	 */
+	public boolean intersects(int minX, int minY, int maxX, int maxY) {
+		int top = Math.max(0, minY);
+		int bottom = Math.min(height, maxY);
+		int left = Math.max(0, minX);
+		int right = Math.min(width, maxX);
+		if (top >= bottom || left >= right) {
+			return false;
+		}
+		int firstWord = left >>> 6;
+		int lastWord = (right - 1) >>> 6;
+		long firstMask = -1L << left;
+		long lastMask = -1L >>> (63 - ((right - 1) & 63));
+		for (int y = top; y < bottom; y++) {
+			int row = y * wordsPerRow;
+			for (int w = firstWord; w <= lastWord; w++) {
+				long word = bits[row + w];
+				if (w == firstWord) {
+					word &= firstMask;
+				}
+				if (w == lastWord) {
+					word &= lastMask;
+				}
+				if (word != 0) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Reads 64 consecutive pixels of a row, starting at any column. Pixels outside the row read as empty.
+	 *
+	 * @param row the index of the row's first word.
+	 * @param start the column of the first pixel, which may be negative.
+	 * @return the pixels, the first in the lowest bit.
+	 */
+	private long window(int row, int start) {
+		if (start <= -64 || start >= width) {
+			return 0;
+		}
+		if (start < 0) {
+			return bits[row] << -start;
+		}
+		int word = start >>> 6;
+		int shift = start & 63;
+		long value = bits[row + word] >>> shift;
+		if (shift != 0 && word + 1 < wordsPerRow) {
+			value |= bits[row + word + 1] << (64 - shift);
+		}
+		return value;
+	}
+
+	/**
+	 * Retrieves the width of the mask.
+	 *
+	 * @return the width in pixels.
+	 */
+	public int getWidth() {
+		return width;
+	}
+
+	/**
+	 * Retrieves the height of the mask.
+	 *
+	 * @return the height in pixels.
+	 */
+	public int getHeight() {
+		return height;
+	}
+
+	/**
+	 * Retrieves the number of solid pixels.
+	 *
+	 * @return the solid pixel count.
+	 */
+	public int getSolidCount() {
+		return solidCount;
+	}
+}
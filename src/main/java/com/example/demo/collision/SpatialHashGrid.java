@@ -0,0 +1,187 @@
+package com.example.demo.collision;
+
+import java.util.Arrays;
+
+/**
+ * The {@link SpatialHashGrid} class is a uniform-grid broad phase for collision detection.
+ * Boxes are inserted into every cell they overlap, with cells hashed into a fixed bucket table,
+ * and a query returns each id sharing at least one cell with the query box exactly once.
+ * All storage is kept in primitive arrays that only grow, so clearing and rebuilding the grid
+ * every tick does not allocate.
+ */
+public class SpatialHashGrid {
+
+	/** Number of hash buckets; must be a power of two. */
+	private static final int BUCKET_COUNT = 1024;
+
+	/** Marks the end of a bucket's entry chain. */
+	private static final int NO_ENTRY = -1;
+
+	/** Initial capacity of the entry and id arrays. */
+	private static final int INITIAL_CAPACITY = 64;
+
+	/** Width and height of one grid cell. */
+	private final double cellSize;
+
+	/** Index of the first entry in each bucket. */
+	private final int[] bucketHead;
+
+	/** Id stored in each entry. */
+	private int[] entryId;
+
+	/** Index of the next entry in the same bucket. */
+	private int[] entryNext;
+
+	/** Number of entries in use. */
+	private int entryCount;
+
+	/** Query stamp last seen for each id, used to report every id once per query. */
+	private int[] idStamp;
+
+	/** Stamp of the current query. */
+	private int queryStamp;
+
+	/** Ids found by the last query. */
+	private int[] candidates;
+
+	/**
+	 * Constructs an empty {@link SpatialHashGrid}.
+	 *
+	 * @param cellSize the width and height of one grid cell.
+	 */
+	public SpatialHashGrid(double cellSize) {
+		this.cellSize = cellSize;
+		this.bucketHead = new int[BUCKET_COUNT];
+		this.entryId = new int[INITIAL_CAPACITY];
+		this.entryNext = new int[INITIAL_CAPACITY];
+		this.idStamp = new int[INITIAL_CAPACITY];
+		this.candidates = new int[INITIAL_CAPACITY];
+		clear();
+	}
+
+	/**
+	 * Removes every entry from the grid.
+	 */
+	public void clear() {
+		Arrays.fill(bucketHead, NO_ENTRY);
+		entryCount = 0;
+	}
+
+	/**
+	 * Inserts a box into every cell it overlaps.
+	 *
+	 * @param id a non-negative id identifying the box.
+	 * @param minX the left edge of the box.
+	 * @param minY the top edge of the box.
+	 * @param maxX the right edge of the box.
+	 * @param maxY the bottom edge of the box.
+	 */
+	public void insert(int id, double minX, double minY, double maxX, double maxY) {
+		if (id >= idStamp.length) {
+			idStamp = Arrays.copyOf(idStamp, Math.max(id + 1, idStamp.length * 2));
+		}
+		int firstColumn = cell(minX);
+		int lastColumn = cell(maxX);
+		int firstRow = cell(minY);
+		int lastRow = cell(maxY);
+		for (int column = firstColumn; column <= lastColumn; column++) {
+			for (int row = firstRow; row <= lastRow; row++) {
+				addEntry(bucket(column, row), id);
+			}
+		}
+	}
+
+	/**
+	 * Finds every id sharing a cell with the given box. Results are available through
+	 * {@link #getCandidate(int)} until the next query.
+	 *
+	 * @param minX the left edge of the box.
+	 * @param minY the top edge of the box.
+	 * @param maxX the right edge of the box.
+	 * @param maxY the bottom edge of the box.
+	 * @return the number of candidate ids found.
+	 */
+	public int query(double minX, double minY, double maxX, double maxY) {
+		if (++queryStamp == 0) {
+			Arrays.fill(idStamp, 0);
+			queryStamp = 1;
+		}
+		int count = 0;
+		int firstColumn = cell(minX);
+		int lastColumn = cell(maxX);
+		int firstRow = cell(minY);
+		int lastRow = cell(maxY);
+		for (int column = firstColumn; column <= lastColumn; column++) {
+			for (int row = firstRow; row <= lastRow; row++) {
+				for (int entry = bucketHead[bucket(column, row)]; entry != NO_ENTRY; entry = entryNext[entry]) {
+					int id = entryId[entry];
+					if (idStamp[id] != queryStamp) {
+						idStamp[id] = queryStamp;
+						if (count == candidates.length) {
+							candidates = Arrays.copyOf(candidates, count * 2);
+						}
+						candidates[count++] = id;
+					}
+				}
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * Retrieves a candidate id found by the last query.
+	 *
+	 * @param index the index of the candidate, below the count returned by the query.
+	 * @return the candidate id.
+	 */
+	public int getCandidate(int index) {
+		return candidates[index];
+	}
+
+	/**
+	 * Retrieves the number of cell entries currently stored.
+	 *
+	 * @return the entry count.
+	 */
+	public int getEntryCount() {
+		return entryCount;
+	}
+
+	/**
+	 * Converts a coordinate to a cell index.
+	 *
+	 * @param coordinate the x or y coordinate.
+	 * @return the index of the cell containing it.
+	 */
+	private int cell(double coordinate) {
+		return (int) Math.floor(coordinate / cellSize);
+	}
+
+	/**
+	 * Hashes a cell into the bucket table.
+	 *
+	 * @param column the cell column.
+	 * @param row the cell row.
+	 * @return the bucket index.
+	 */
+	private static int bucket(int column, int row) {
+		return ((column * 73856093) ^ (row * 19349663)) & (BUCKET_COUNT - 1);
+	}
+
+	/**
+	 * Links a new entry at the head of a bucket, growing the entry arrays when full.
+	 *
+	 * @param bucket the bucket index.
+	 * @param id the id to store.
+	 */
+	private void addEntry(int bucket, int id) {
+		if (entryCount == entryId.length) {
+			entryId = Arrays.copyOf(entryId, entryCount * 2);
+			entryNext = Arrays.copyOf(entryNext, entryCount * 2);
+		}
+		entryId[entryCount] = id;
+		entryNext[entryCount] = bucketHead[bucket];
+		bucketHead[bucket] = entryCount;
+		entryCount++;
+	}
+}
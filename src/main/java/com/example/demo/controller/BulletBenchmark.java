@@ -0,0 +1,146 @@
+package com.example.demo.controller;
+
+import com.example.demo.engine.GameLoop;
+import com.example.demo.engine.TickProfiler;
+import com.example.demo.graphics.BulletLayer;
+import com.example.demo.headless.BulletStorm;
+import javafx.animation.PauseTransition;
+import javafx.application.Application;
+import javafx.application.Platform;
+import javafx.scene.Group;
+import javafx.scene.Scene;
+import javafx.scene.control.Label;
+import javafx.scene.paint.Color;
+import javafx.stage.Stage;
+import javafx.util.Duration;
+
+/**
+ * The {@link BulletBenchmark} class is a stand-alone scene that plays the {@link BulletStorm}
+ * scenario on screen: several thousand bullets ticked at 60 Hz by a {@link GameLoop} and drawn by a
+ * {@link BulletLayer}, with the frame rate, dropped ticks, live bullet count and tick time
+ * percentiles shown in the corner. A summary is printed when the window closes.
+ * <p>
+ * Launch it in place of {@link Main}, optionally with {@code --seconds=n} to close after a fixed time.
+ */
+public class BulletBenchmark extends Application {
+
+	/** The image every bullet is drawn with. */
+	private static final String BULLET_IMAGE = "/com/example/demo/images/fireball.png";
+
+	/** Width and height each bullet is drawn at. */
+	private static final double BULLET_SIZE = 16;
+
+	/** Time between refreshes of the statistics, in nanoseconds. */
+	private static final long REFRESH_INTERVAL_NANOS = 250_000_000L;
+
+	/** Nanoseconds per millisecond, for display. */
+	private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+	/** The scenario being drawn. */
+	private BulletStorm storm;
+
+	/** Times each tick of the scenario. */
+	private TickProfiler profiler;
+
+	/** Ticks the scenario and renders each frame. */
+	private GameLoop gameLoop;
+
+	/** Draws the bullets. */
+	private BulletLayer bulletLayer;
+
+	/** Shows the statistics. */
+	private Label label;
+
+	/** Time of the last refresh of the statistics. */
+	private long lastRefresh;
+
+	/** Time the loop started. */
+	private long startTime;
+
+	/** Fewest live bullets seen in a frame after the storm filled. */
+	private int minBullets = Integer.MAX_VALUE;
+
+	/**
+	 * Builds the scene and starts the loop.
+	 *
+	 * @param stage the primary stage for this application.
+	 */
+	@Override
+	public void start(Stage stage) {
+		storm = new BulletStorm();
+		profiler = new TickProfiler();
+		bulletLayer = new BulletLayer(BulletStorm.SCREEN_WIDTH, BulletStorm.SCREEN_HEIGHT, BULLET_IMAGE, BULLET_SIZE);
+		label = new Label();
+		label.setStyle("-fx-background-color: rgba(0, 0, 0, 0.65); -fx-text-fill: white;"
+				+ " -fx-font-family: monospace; -fx-font-size: 12px; -fx-padding: 6px;");
+		gameLoop = new GameLoop(1000.0 / BulletStorm.TICKS_PER_SECOND, () -> storm.step(profiler), this::render);
+
+		Scene scene = new Scene(new Group(bulletLayer.getCanvas(), label),
+				BulletStorm.SCREEN_WIDTH, BulletStorm.SCREEN_HEIGHT, Color.BLACK);
+		stage.setTitle("Bullet Benchmark");
+		stage.setResizable(false);
+		stage.setScene(scene);
+		stage.show();
+
+		String seconds = getParameters().getNamed().get("seconds");
+		if (seconds != null) {
+			PauseTransition timeout = new PauseTransition(Duration.seconds(Double.parseDouble(seconds)));
+			timeout.setOnFinished(event -> Platform.exit());
+			timeout.play();
+		}
+		startTime = System.nanoTime();
+		gameLoop.start();
+	}
+
+	/**
+	 * Draws a frame and refreshes the statistics a few times a second.
+	 *
+	 * @param alpha the fraction of a tick elapsed since the most recent tick.
+	 */
+	private void render(double alpha) {
+		bulletLayer.draw(storm.getBullets(), alpha);
+		if (storm.getTick() >= BulletStorm.WARM_UP_TICKS) {
+			minBullets = Math.min(minBullets, storm.getBullets().size());
+		}
+		long now = System.nanoTime();
+		if (now - lastRefresh >= REFRESH_INTERVAL_NANOS) {
+			lastRefresh = now;
+			label.setText(String.format("FPS %5.1f   frame %6.2f ms   dropped ticks %d%n"
+							+ "bullets %d   drawn %d   spawned %d%n"
+							+ "tick  p50 %6.3f  p99 %6.3f  max %6.3f ms",
+					gameLoop.getFramesPerSecond(), gameLoop.getLastFrameNanos() / NANOS_PER_MILLI, gameLoop.getDroppedTicks(),
+					storm.getBullets().size(), bulletLayer.getLastDrawCount(), storm.getBullets().getSpawnedCount(),
+					profiler.getTickPercentileNanos(50) / NANOS_PER_MILLI,
+					profiler.getTickPercentileNanos(99) / NANOS_PER_MILLI,
+					profiler.getTickPercentileNanos(100) / NANOS_PER_MILLI));
+		}
+	}
+
+	/**
+	 * Stops the loop and prints a summary of the run.
+	 */
+	@Override
+	public void stop() {
+		if (gameLoop == null) {
+			return;
+		}
+		gameLoop.stop();
+		double seconds = (System.nanoTime() - startTime) / 1e9;
+		System.out.printf("%.1f s: %d frames (%.1f FPS), %d ticks, %d dropped; bullets min %d after warm-up%n",
+				seconds, gameLoop.getFrameCount(), gameLoop.getFrameCount() / seconds,
+				gameLoop.getTickCount(), gameLoop.getDroppedTicks(), minBullets == Integer.MAX_VALUE ? 0 : minBullets);
+		System.out.printf("tick p50 %.3f ms, p99 %.3f ms, max %.3f ms%n",
+				profiler.getTickPercentileNanos(50) / NANOS_PER_MILLI,
+				profiler.getTickPercentileNanos(99) / NANOS_PER_MILLI,
+				profiler.getTickPercentileNanos(100) / NANOS_PER_MILLI);
+	}
+
+	/**
+	 * Launches the benchmark scene.
+	 *
+	 * @param args the command-line arguments, optionally {@code --seconds=n}.
+	 */
+	public static void main(String[] args) {
+		launch(args);
+	}
+}
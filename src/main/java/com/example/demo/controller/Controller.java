@@ -1,17 +1,23 @@
 package com.example.demo.controller;
 
-import java.lang.reflect.Constructor;
-import java.lang.reflect.InvocationTargetException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Observable;
 import java.util.Observer;
 
 import com.example.demo.SoundManager;
+import com.example.demo.engine.RandomService;
+import com.example.demo.event.LevelLost;
+import com.example.demo.event.LevelWon;
 import javafx.scene.Scene;
 import javafx.scene.control.Alert;
 import javafx.scene.control.Alert.AlertType;
 import javafx.scene.input.KeyCode;
 import javafx.stage.Stage;
 import com.example.demo.level.LevelParent;
+import com.example.demo.level.LevelRegistry;
+import com.example.demo.replay.InputRecorder;
 import com.example.demo.userinterface.MainMenu;
 import com.example.demo.userinterface.PauseMenu;
 import com.example.demo.userinterface.Tutorial;
@@ -23,8 +29,8 @@ import com.example.demo.userinterface.Tutorial;
  */
 public class Controller implements Observer {
 
-	/** The fully qualified class name for {@link com.example.demo.level.LevelOne}. */
-	private static final String LEVEL_ONE_CLASS_NAME = "com.example.demo.level.LevelOne";
+	/** System property naming a directory to save each level's input recording to. */
+	public static final String RECORD_DIR_PROPERTY = "game.recordDir";
 
 	/** The primary {@link Stage} for displaying game scenes. */
 	private final Stage stage;
@@ -38,50 +44,79 @@ public class Controller implements Observer {
 	/** The currently active level, extending {@link LevelParent}. */
 	private LevelParent currentLevel;
 
+	/** The levels of the game and the order they are played in. */
+	private final LevelRegistry levelRegistry;
+
+	/** Derives each level's seed from the session seed. */
+	private final RandomService randomService;
+
+	/** Loads the next level's assets in the background while the current one is played. */
+	private final LevelPreloader levelPreloader;
+
+	/** The level whose input recording was saved most recently, so it is not saved twice. */
+	private LevelParent lastSavedLevel;
+
+	/** Time taken by the most recent level transition, in nanoseconds. */
+	private long lastTransitionNanos;
+
+	/** Whether the most recent level transition used a level whose assets had finished preloading. */
+	private boolean lastTransitionPreloaded;
+
+	/** Logger for transition timings. */
+	private static final System.Logger LOGGER = System.getLogger(Controller.class.getName());
+
 	/**
 	 * Constructs a {@link Controller} for managing game flow.
 	 *
 	 * @param stage the primary {@link Stage} for displaying scenes.
+	 * @throws IllegalStateException if the level graph refers to an unregistered level.
 	 */
 	public Controller(Stage stage) {
 		this.stage = stage;
+		this.levelRegistry = LevelRegistry.createDefault();
+		this.randomService = RandomService.fromSystemProperty();
+		this.levelPreloader = new LevelPreloader((levelName, screenHeight, screenWidth) ->
+				levelRegistry.create(levelName, screenHeight, screenWidth, randomService.seedFor(levelName)),
+				levelRegistry::preload);
 	}
 
 	/**
-	 * Launches the game by starting {@link com.example.demo.level.LevelOne}.
-	 *
-	 * @throws ClassNotFoundException if the {@link LevelParent} class cannot be found.
-	 * @throws InvocationTargetException if an error occurs during {@link LevelParent} instantiation.
-	 * @throws NoSuchMethodException if the {@link LevelParent} class constructor is missing.
-	 * @throws InstantiationException if the {@link LevelParent} class cannot be instantiated.
-	 * @throws IllegalAccessException if the {@link LevelParent} class constructor is inaccessible.
+	 * Launches the game by starting the registry's start level.
 	 */
-	public void launchGame() throws ClassNotFoundException, InvocationTargetException,
-			NoSuchMethodException, InstantiationException, IllegalAccessException {
+	public void launchGame() {
 		stage.show();
-		goToLevel(LEVEL_ONE_CLASS_NAME);
+		SoundManager.preloadSounds();
+		LOGGER.log(System.Logger.Level.INFO, "Session seed {0} (replay with -D{1}={0})",
+				Long.toString(randomService.getSeed()), RandomService.SEED_PROPERTY);
+		goToLevel(levelRegistry.getStartLevel());
 	}
 
 	/**
-	 * Transitions to a specified level using reflection to dynamically load the {@link LevelParent} class.
+	 * Transitions to a level constructed through the {@link LevelRegistry}.
 	 *
-	 * @param className the fully qualified class name of the {@link LevelParent} to load.
-	 * @throws ClassNotFoundException if the {@link LevelParent} class cannot be found.
-	 * @throws NoSuchMethodException if the {@link LevelParent} class constructor is missing.
-	 * @throws InstantiationException if the {@link LevelParent} class cannot be instantiated.
-	 * @throws IllegalAccessException if the {@link LevelParent} class constructor is inaccessible.
-	 * @throws InvocationTargetException if an error occurs during {@link LevelParent} instantiation.
+	 * @param levelName the registered name of the level to load.
+	 * @throws IllegalArgumentException if no level has that name.
 	 */
-	private void goToLevel(String className) throws ClassNotFoundException, NoSuchMethodException,
-			InstantiationException, IllegalAccessException, InvocationTargetException {
+	private void goToLevel(String levelName) {
+		long transitionStart = System.nanoTime();
+		if (currentLevel != null) {
+			saveRecording(currentLevel);
+			currentLevel.tearDown();
+		}
 		SoundManager.playBackgroundSound();
 
-		Class<?> levelClass = Class.forName(className);
-		Constructor<?> constructor = levelClass.getConstructor(double.class, double.class);
-		currentLevel = (LevelParent) constructor.newInstance(stage.getHeight(), stage.getWidth());
+		boolean preloaded = levelPreloader.isReady(levelName);
+		currentLevel = levelPreloader.take(levelName, stage.getHeight(), stage.getWidth());
 		currentLevel.setStage(stage);
 
 		currentLevel.addObserver(this);
+		LevelParent level = currentLevel;
+		level.getEventBus().subscribe(LevelWon.class, event -> {
+			if (event.getNextLevelName() == null) {
+				saveRecording(level);
+			}
+		});
+		level.getEventBus().subscribe(LevelLost.class, event -> saveRecording(level));
 
 		levelScene = currentLevel.initializeScene();
 
@@ -89,6 +124,7 @@ public class Controller implements Observer {
 				levelScene,
 				currentLevel::resumeGame,
 				() -> {
+					currentLevel.tearDown();
 					MainMenu mainMenu = new MainMenu();
 					mainMenu.show(stage);
 				},
@@ -99,11 +135,77 @@ public class Controller implements Observer {
 			if (event.getCode() == KeyCode.ESCAPE) {
 				currentLevel.pauseGame();
 				pauseMenu.show();
+			} else if (event.getCode() == KeyCode.F3) {
+				currentLevel.toggleProfilerOverlay();
 			}
 		});
 
 		stage.setScene(levelScene);
 		currentLevel.startGame();
+
+		lastTransitionNanos = System.nanoTime() - transitionStart;
+		lastTransitionPreloaded = preloaded;
+		LOGGER.log(System.Logger.Level.DEBUG, "Transition to {0} took {1} ms (preloaded: {2})",
+				levelName, lastTransitionNanos / 1_000_000.0, preloaded);
+
+		String nextLevelName = currentLevel.getNextLevelName();
+		if (nextLevelName != null) {
+			levelPreloader.preload(nextLevelName, stage.getHeight(), stage.getWidth());
+		}
+	}
+
+	/**
+	 * Writes a level's input recording to the {@value #RECORD_DIR_PROPERTY} directory, if set, as
+	 * {@code <level>-<seed>-<tick>.cwir}. Called when a level is left for another, won as the last
+	 * level or lost; a level is saved at most once. A recording that cannot be written is logged
+	 * and skipped.
+	 *
+	 * @param level the level that ended.
+	 */
+	private void saveRecording(LevelParent level) {
+		String directory = System.getProperty(RECORD_DIR_PROPERTY);
+		InputRecorder recorder = level.getInputRecorder();
+		if (directory == null || recorder == null || level == lastSavedLevel) {
+			return;
+		}
+		lastSavedLevel = level;
+		Path file = Path.of(directory, level.getLevelName() + "-" + Long.toHexString(level.getSeed())
+				+ "-" + level.getGameLoop().getTickCount() + ".cwir");
+		try {
+			Files.createDirectories(file.getParent());
+			recorder.toLog().write(file);
+			LOGGER.log(System.Logger.Level.INFO, "Saved {0} inputs to {1}", recorder.getEventCount(), file);
+		} catch (IOException e) {
+			LOGGER.log(System.Logger.Level.WARNING, "Failed to save input recording to " + file, e);
+		}
+	}
+
+	/**
+	 * Retrieves the session seed every level's seed is derived from.
+	 *
+	 * @return the session seed.
+	 */
+	public long getSeed() {
+		return randomService.getSeed();
+	}
+
+	/**
+	 * Retrieves the time taken by the most recent level transition, from the request to the new
+	 * level's first frame being scheduled.
+	 *
+	 * @return the transition time in nanoseconds.
+	 */
+	public long getLastTransitionNanos() {
+		return lastTransitionNanos;
+	}
+
+	/**
+	 * Checks whether the most recent level transition used a level whose assets had finished preloading.
+	 *
+	 * @return true if the level was ready when the transition began.
+	 */
+	public boolean wasLastTransitionPreloaded() {
+		return lastTransitionPreloaded;
 	}
 
 	/**
@@ -112,7 +214,7 @@ public class Controller implements Observer {
 	private void restartCurrentLevel() {
 		try {
 			currentLevel.pauseGame();
-			goToLevel(currentLevel.getClass().getName());
+			goToLevel(currentLevel.getLevelName());
 		} catch (Exception e) {
 			throw new RuntimeException("Failed to restart the level.", e);
 		}
@@ -122,7 +224,7 @@ public class Controller implements Observer {
 	 * Handles updates from observable objects (e.g., levels) to transition to the next level.
 	 *
 	 * @param observable the observable object triggering the update.
-	 * @param arg the argument passed by the observable, typically the next level's class name.
+	 * @param arg the argument passed by the observable, the next level's registered name.
 	 */
 	@Override
 	public void update(Observable observable, Object arg) {
@@ -0,0 +1,167 @@
+package com.example.demo.controller;
+
+import com.example.demo.graphics.SpriteAtlas;
+import com.example.demo.level.LevelParent;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * The {@link LevelPreloader} class loads the next level's assets on a background thread while the
+ * current level is played: the catalogue lookup, and the decoding of the level's background and
+ * sprites, which is the slow part of a level switch. The level itself, with its scene graph, game
+ * loop and {@link com.example.demo.level.LevelView}, is constructed in {@link #take} on the JavaFX
+ * application thread, where it finds every image already decoded.
+ * <p>
+ * The running level shows the same {@link SpriteAtlas} pages the new level's sprites are packed
+ * into, so loading runs with the atlas's writes deferred, and {@link #take} copies the sprites into
+ * their pages before constructing the level.
+ */
+public class LevelPreloader {
+
+	/** Logger for failed background loads. */
+	private static final System.Logger LOGGER = System.getLogger(LevelPreloader.class.getName());
+
+	/** Runs asset loading off the JavaFX application thread. */
+	private final ExecutorService executor;
+
+	/** Constructs levels on the JavaFX application thread. */
+	private final LevelCreator creator;
+
+	/** Loads a level's assets on the background thread. */
+	private final AssetLoader loader;
+
+	/** Name of the level being prepared, or null if none. */
+	private String pendingLevelName;
+
+	/** The asset load in progress, or null if none. */
+	private Future<?> pendingLoad;
+
+	/**
+	 * Creates a level from its name and the screen size.
+	 */
+	@FunctionalInterface
+	public interface LevelCreator {
+
+		/**
+		 * Constructs a level.
+		 *
+		 * @param levelName the registered name of the level.
+		 * @param screenHeight the height of the screen.
+		 * @param screenWidth the width of the screen.
+		 * @return the new level.
+		 */
+		LevelParent create(String levelName, double screenHeight, double screenWidth);
+	}
+
+	/**
+	 * Loads a level's assets into the shared caches without constructing it.
+	 */
+	@FunctionalInterface
+	public interface AssetLoader {
+
+		/**
+		 * Loads a level's assets.
+		 *
+		 * @param levelName the registered name of the level.
+		 * @param screenHeight the height of the screen.
+		 * @param screenWidth the width of the screen.
+		 */
+		void load(String levelName, double screenHeight, double screenWidth);
+	}
+
+	/**
+	 * Constructs a {@link LevelPreloader}.
+	 *
+	 * @param creator constructs a level from its name and the screen size, on the JavaFX application thread.
+	 * @param loader loads a level's assets, on the background thread.
+	 */
+	public LevelPreloader(LevelCreator creator, AssetLoader loader) {
+		this.creator = creator;
+		this.loader = loader;
+		this.executor = Executors.newSingleThreadExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "level-preloader");
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	/**
+	 * Starts loading a level's assets in the background, replacing any level already being prepared.
+	 *
+	 * @param levelName the registered name of the level.
+	 * @param screenHeight the height of the screen.
+	 * @param screenWidth the width of the screen.
+	 */
+	public synchronized void preload(String levelName, double screenHeight, double screenWidth) {
+		if (levelName.equals(pendingLevelName)) {
+			return;
+		}
+		cancelPending();
+		pendingLevelName = levelName;
+		pendingLoad = executor.submit(() -> SpriteAtlas.getInstance().deferWrites(() -> {
+			loader.load(levelName, screenHeight, screenWidth);
+			return null;
+		}));
+	}
+
+	/**
+	 * Constructs a level on the calling thread, first waiting for its assets if they are being
+	 * loaded in the background. Called on the JavaFX application thread, which makes the atlas
+	 * writes the background load deferred. A failed background load is logged, and the level then
+	 * loads whatever is missing as it is constructed.
+	 *
+	 * @param levelName the registered name of the level.
+	 * @param screenHeight the height of the screen.
+	 * @param screenWidth the width of the screen.
+	 * @return the level.
+	 */
+	public LevelParent take(String levelName, double screenHeight, double screenWidth) {
+		Future<?> prepared;
+		synchronized (this) {
+			prepared = levelName.equals(pendingLevelName) ? pendingLoad : null;
+			if (prepared == null) {
+				cancelPending();
+			}
+			pendingLevelName = null;
+			pendingLoad = null;
+		}
+		if (prepared != null) {
+			try {
+				prepared.get();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			} catch (ExecutionException e) {
+				LOGGER.log(System.Logger.Level.WARNING, "Failed to preload " + levelName, e.getCause());
+			} catch (CancellationException e) {
+				// Load whatever is missing during construction.
+			}
+		}
+		SpriteAtlas.getInstance().flushPendingWrites();
+		return creator.create(levelName, screenHeight, screenWidth);
+	}
+
+	/**
+	 * Checks if a level's assets have finished loading in the background.
+	 *
+	 * @param levelName the registered name of the level.
+	 * @return true if that level can be taken without waiting for its assets.
+	 */
+	public synchronized boolean isReady(String levelName) {
+		return levelName.equals(pendingLevelName) && pendingLoad.isDone();
+	}
+
+	/**
+	 * Abandons the level being prepared, if any.
+	 */
+	private void cancelPending() {
+		if (pendingLoad != null) {
+			pendingLoad.cancel(false);
+		}
+		pendingLevelName = null;
+		pendingLoad = null;
+	}
+}
@@ -0,0 +1,145 @@
+package com.example.demo.engine;
+
+import com.example.demo.activeactor.ActiveActorDestructible;
+import javafx.geometry.Bounds;
+
+import java.util.List;
+
+/**
+ * The {@link ActorCuller} class retires actors that can no longer affect the game: those that
+ * have left the viewport by more than a margin, and those older than a maximum age. Retired
+ * actors are marked destroyed so the level removes them with its other destroyed actors,
+ * keeping the actor lists, the scene graph and collision work bounded over long sessions.
+ */
+public class ActorCuller {
+
+	/** Width of the viewport. */
+	private final double viewportWidth;
+
+	/** Height of the viewport. */
+	private final double viewportHeight;
+
+	/** Distance an actor may travel beyond the viewport before it is retired. */
+	private double margin;
+
+	/** Age in ticks at which an actor is retired, or 0 for no limit. */
+	private int maxAgeTicks;
+
+	/** Number of actors retired for leaving the viewport. */
+	private long offScreenRetired;
+
+	/** Number of actors retired for exceeding the maximum age. */
+	private long expiredRetired;
+
+	/**
+	 * Constructs an {@link ActorCuller}.
+	 *
+	 * @param viewportWidth the width of the viewport.
+	 * @param viewportHeight the height of the viewport.
+	 * @param margin the distance an actor may travel beyond the viewport.
+	 * @param maxAgeTicks the age in ticks at which an actor is retired, or 0 for no limit.
+	 */
+	public ActorCuller(double viewportWidth, double viewportHeight, double margin, int maxAgeTicks) {
+		this.viewportWidth = viewportWidth;
+		this.viewportHeight = viewportHeight;
+		setMargin(margin);
+		setMaxAgeTicks(maxAgeTicks);
+	}
+
+	/**
+	 * Marks every actor in a list that is outside the viewport margin or too old as destroyed.
+	 *
+	 * @param actors the actors to check.
+	 * @return the number of actors retired.
+	 */
+	public int cull(List<? extends ActiveActorDestructible> actors) {
+		int retired = 0;
+		for (int i = 0, size = actors.size(); i < size; i++) {
+			ActiveActorDestructible actor = actors.get(i);
+			if (actor.isDestroyed()) {
+				continue;
+			}
+			if (isOffScreen(actor.getBoundsInParent())) {
+				offScreenRetired++;
+			} else if (maxAgeTicks > 0 && actor.getAge() >= maxAgeTicks) {
+				expiredRetired++;
+			} else {
+				continue;
+			}
+			actor.destroy();
+			retired++;
+		}
+		return retired;
+	}
+
+	/**
+	 * Checks if bounds lie entirely outside the viewport plus the margin.
+	 *
+	 * @param bounds the bounds to check.
+	 * @return true if no part of the bounds is within the margin.
+	 */
+	private boolean isOffScreen(Bounds bounds) {
+		return bounds.getMaxX() < -margin || bounds.getMinX() > viewportWidth + margin
+				|| bounds.getMaxY() < -margin || bounds.getMinY() > viewportHeight + margin;
+	}
+
+	/**
+	 * Sets the distance an actor may travel beyond the viewport before it is retired.
+	 *
+	 * @param margin the margin in pixels.
+	 */
+	public void setMargin(double margin) {
+		if (margin < 0) {
+			throw new IllegalArgumentException("Margin must not be negative: " + margin);
+		}
+		this.margin = margin;
+	}
+
+	/**
+	 * Sets the age at which an actor is retired.
+	 *
+	 * @param maxAgeTicks the age in ticks, or 0 for no limit.
+	 */
+	public void setMaxAgeTicks(int maxAgeTicks) {
+		if (maxAgeTicks < 0) {
+			throw new IllegalArgumentException("Maximum age must not be negative: " + maxAgeTicks);
+		}
+		this.maxAgeTicks = maxAgeTicks;
+	}
+
+	/**
+	 * Retrieves the distance an actor may travel beyond the viewport.
+	 *
+	 * @return the margin in pixels.
+	 */
+	public double getMargin() {
+		return margin;
+	}
+
+	/**
+	 * Retrieves the age at which an actor is retired.
+	 *
+	 * @return the age in ticks, or 0 for no limit.
+	 */
+	public int getMaxAgeTicks() {
+		return maxAgeTicks;
+	}
+
+	/**
+	 * Retrieves the number of actors retired for leaving the viewport.
+	 *
+	 * @return the off-screen count.
+	 */
+	public long getOffScreenRetired() {
+		return offScreenRetired;
+	}
+
+	/**
+	 * Retrieves the number of actors retired for exceeding the maximum age.
+	 *
+	 * @return the expired count.
+	 */
+	public long getExpiredRetired() {
+		return expiredRetired;
+	}
+}
@@ -0,0 +1,205 @@
+package com.example.demo.engine;
+
+import javafx.animation.AnimationTimer;
+
+import java.util.function.DoubleConsumer;
+
+/**
+ * The {@link GameLoop} class drives a level from an {@link AnimationTimer}, so it runs once per
+ * display frame. Simulation ticks keep a fixed length: elapsed frame time is collected in an
+ * accumulator and as many ticks are run as fit. Each frame is then rendered with an
+ * interpolation factor between the last two tick states. A cap on ticks per frame prevents a
+ * slow tick from causing a growing backlog (the "spiral of death"); time beyond the cap is dropped.
+ */
+public class GameLoop extends AnimationTimer {
+
+	/** Maximum number of ticks run in a single frame before the backlog is dropped. */
+	private static final int MAX_TICKS_PER_FRAME = 5;
+
+	/** Weight of the newest frame in the smoothed frame time. */
+	private static final double FRAME_TIME_SMOOTHING = 0.1;
+
+	/** Nanoseconds per second. */
+	private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+
+	/** Length of one simulation tick in nanoseconds. */
+	private final long tickNanos;
+
+	/** Advances the simulation by one tick. */
+	private final Runnable tick;
+
+	/** Renders a frame given the interpolation factor between the previous and current tick. */
+	private final DoubleConsumer render;
+
+	/** Whether the loop is running; ticks stop as soon as this is cleared. */
+	private boolean running;
+
+	/** Timestamp of the previous frame, or -1 before the first frame after a start. */
+	private long lastFrameTime;
+
+	/** Simulation time not yet consumed by ticks, in nanoseconds. */
+	private long accumulatedNanos;
+
+	/** Total number of ticks run. */
+	private long tickCount;
+
+	/** Total number of frames rendered. */
+	private long frameCount;
+
+	/** Total number of ticks dropped because a frame hit the tick cap. */
+	private long droppedTicks;
+
+	/** Time between the two most recent frames, in nanoseconds. */
+	private long lastFrameNanos;
+
+	/** Time spent running the most recent tick, in nanoseconds. */
+	private long lastTickNanos;
+
+	/** Exponentially smoothed time between frames, in nanoseconds. */
+	private double smoothedFrameNanos;
+
+	/** Interpolation factor used for the most recent frame. */
+	private double alpha;
+
+	/**
+	 * Constructs a {@link GameLoop}.
+	 *
+	 * @param tickMillis the length of one simulation tick in milliseconds.
+	 * @param tick advances the simulation by one tick.
+	 * @param render renders a frame given the interpolation factor in [0, 1).
+	 */
+	public GameLoop(double tickMillis, Runnable tick, DoubleConsumer render) {
+		this.tickNanos = (long) (tickMillis * 1_000_000);
+		this.tick = tick;
+		this.render = render;
+	}
+
+	/**
+	 * Starts or resumes the loop. Time spent stopped is not simulated.
+	 */
+	@Override
+	public void start() {
+		running = true;
+		lastFrameTime = -1;
+		super.start();
+	}
+
+	/**
+	 * Stops the loop. A tick in progress completes, but no further ticks run.
+	 */
+	@Override
+	public void stop() {
+		running = false;
+		super.stop();
+	}
+
+	/**
+	 * Runs the ticks due since the previous frame and renders the interpolated state.
+	 *
+	 * @param now the timestamp of the current frame in nanoseconds.
+	 */
+	@Override
+	public void handle(long now) {
+		if (lastFrameTime < 0) {
+			lastFrameTime = now;
+			return;
+		}
+		lastFrameNanos = now - lastFrameTime;
+		lastFrameTime = now;
+		smoothedFrameNanos = smoothedFrameNanos == 0 ? lastFrameNanos
+				: smoothedFrameNanos + (lastFrameNanos - smoothedFrameNanos) * FRAME_TIME_SMOOTHING;
+		accumulatedNanos += lastFrameNanos;
+
+		int ticksThisFrame = 0;
+		while (running && accumulatedNanos >= tickNanos) {
+			if (ticksThisFrame == MAX_TICKS_PER_FRAME) {
+				droppedTicks += accumulatedNanos / tickNanos;
+				accumulatedNanos %= tickNanos;
+				break;
+			}
+			long tickStart = System.nanoTime();
+			tick.run();
+			lastTickNanos = System.nanoTime() - tickStart;
+			accumulatedNanos -= tickNanos;
+			tickCount++;
+			ticksThisFrame++;
+		}
+		if (running) {
+			alpha = (double) accumulatedNanos / tickNanos;
+			render.accept(alpha);
+			frameCount++;
+		}
+	}
+
+	/**
+	 * Retrieves the total number of simulation ticks run.
+	 *
+	 * @return the tick count.
+	 */
+	public long getTickCount() {
+		return tickCount;
+	}
+
+	/**
+	 * Retrieves the total number of frames rendered.
+	 *
+	 * @return the frame count.
+	 */
+	public long getFrameCount() {
+		return frameCount;
+	}
+
+	/**
+	 * Retrieves the number of ticks dropped because frames fell too far behind.
+	 *
+	 * @return the dropped tick count.
+	 */
+	public long getDroppedTicks() {
+		return droppedTicks;
+	}
+
+	/**
+	 * Retrieves the time between the two most recent frames.
+	 *
+	 * @return the frame time in nanoseconds.
+	 */
+	public long getLastFrameNanos() {
+		return lastFrameNanos;
+	}
+
+	/**
+	 * Retrieves the time spent running the most recent simulation tick.
+	 *
+	 * @return the tick duration in nanoseconds.
+	 */
+	public long getLastTickNanos() {
+		return lastTickNanos;
+	}
+
+	/**
+	 * Retrieves the smoothed display frame rate.
+	 *
+	 * @return frames per second, or 0 before two frames have been seen.
+	 */
+	public double getFramesPerSecond() {
+		return smoothedFrameNanos == 0 ? 0 : NANOS_PER_SECOND / smoothedFrameNanos;
+	}
+
+	/**
+	 * Retrieves the interpolation factor used for the most recent frame.
+	 *
+	 * @return a value in [0, 1) giving the fraction of a tick elapsed since the last tick.
+	 */
+	public double getInterpolationAlpha() {
+		return alpha;
+	}
+
+	/**
+	 * Checks whether the loop is running.
+	 *
+	 * @return true if started and not stopped.
+	 */
+	public boolean isRunning() {
+		return running;
+	}
+}
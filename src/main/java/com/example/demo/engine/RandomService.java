@@ -0,0 +1,97 @@
+package com.example.demo.engine;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+
+/**
+ * The {@link RandomService} class derives every random decision in a session from one seed.
+ * Each level gets its own {@link SplittableRandom} seeded from the session seed and the level's
+ * name, and splits an independent generator off it for each actor and spawn scheduler, so no
+ * generator is shared between threads and the same seed and inputs replay a session exactly.
+ * <p>
+ * The seed is read from the {@value #SEED_PROPERTY} system property, or drawn at random and
+ * logged when the property is not set, so a bug report can quote the seed that produced it.
+ */
+public final class RandomService {
+
+	/** System property holding the session seed. */
+	public static final String SEED_PROPERTY = "game.seed";
+
+	/** Multiplier used to mix a level name into the session seed. */
+	private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+	/** The session seed. */
+	private final long seed;
+
+	/**
+	 * Constructs a {@link RandomService}.
+	 *
+	 * @param seed the session seed.
+	 */
+	public RandomService(long seed) {
+		this.seed = seed;
+	}
+
+	/**
+	 * Creates a service seeded from the {@value #SEED_PROPERTY} system property, or from a random
+	 * seed if it is not set.
+	 *
+	 * @return the {@link RandomService}.
+	 * @throws IllegalArgumentException if the property is not a valid number.
+	 */
+	public static RandomService fromSystemProperty() {
+		String value = System.getProperty(SEED_PROPERTY);
+		if (value == null) {
+			return new RandomService(new SplittableRandom().nextLong());
+		}
+		try {
+			return new RandomService(Long.decode(value.trim()));
+		} catch (NumberFormatException e) {
+			throw new IllegalArgumentException("Invalid " + SEED_PROPERTY + ": " + value, e);
+		}
+	}
+
+	/**
+	 * Retrieves the session seed.
+	 *
+	 * @return the seed.
+	 */
+	public long getSeed() {
+		return seed;
+	}
+
+	/**
+	 * Derives the seed of a level. A level restarted in the same session gets the same seed.
+	 *
+	 * @param levelName the level's registered name.
+	 * @return the level's seed.
+	 */
+	public long seedFor(String levelName) {
+		return new SplittableRandom(seed ^ (levelName.hashCode() * GOLDEN_GAMMA)).nextLong();
+	}
+
+	/**
+	 * Creates a generator for actors built outside a level, such as in tests and benchmarks.
+	 *
+	 * @return an unseeded generator.
+	 */
+	public static RandomGenerator unseeded() {
+		return new SplittableRandom();
+	}
+
+	/**
+	 * Shuffles a list in place with the Fisher-Yates algorithm, drawing from the given generator
+	 * rather than the shared one {@link java.util.Collections#shuffle(List)} uses.
+	 *
+	 * @param list the list to shuffle.
+	 * @param random the generator to draw from.
+	 * @param <T> the element type.
+	 */
+	public static <T> void shuffle(List<T> list, RandomGenerator random) {
+		for (int i = list.size() - 1; i > 0; i--) {
+			int j = random.nextInt(i + 1);
+			list.set(i, list.set(j, list.get(i)));
+		}
+	}
+}
@@ -0,0 +1,97 @@
+package com.example.demo.engine;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * The {@link TickEvent} class is a JDK Flight Recorder event committed once per level tick, with
+ * the time spent in each {@link TickPhase}. Record with {@code -XX:StartFlightRecording} and open
+ * the recording in JDK Mission Control to see which phase spiked on a slow tick.
+ */
+@Name("com.example.demo.Tick")
+@Label("Game Tick")
+@Category({"Game", "Simulation"})
+@Description("One fixed-length level tick, with the time spent in each phase")
+@StackTrace(false)
+final class TickEvent extends Event {
+
+	@Label("Level")
+	String level;
+
+	@Label("Tick")
+	long tick;
+
+	@Label("Actors")
+	int actors;
+
+	@Label("Fire")
+	@Timespan(Timespan.NANOSECONDS)
+	long fire;
+
+	@Label("Spawn")
+	@Timespan(Timespan.NANOSECONDS)
+	long spawn;
+
+	@Label("Update Actors")
+	@Timespan(Timespan.NANOSECONDS)
+	long updateActors;
+
+	@Label("Bullets")
+	@Timespan(Timespan.NANOSECONDS)
+	long bullets;
+
+	@Label("Cull")
+	@Timespan(Timespan.NANOSECONDS)
+	long cull;
+
+	@Label("Penetration")
+	@Timespan(Timespan.NANOSECONDS)
+	long penetration;
+
+	@Label("User Projectile Collisions")
+	@Timespan(Timespan.NANOSECONDS)
+	long userProjectileCollisions;
+
+	@Label("Enemy Projectile Collisions")
+	@Timespan(Timespan.NANOSECONDS)
+	long enemyProjectileCollisions;
+
+	@Label("Plane Collisions")
+	@Timespan(Timespan.NANOSECONDS)
+	long planeCollisions;
+
+	@Label("Remove Destroyed")
+	@Timespan(Timespan.NANOSECONDS)
+	long removeDestroyed;
+
+	@Label("Game Over Check")
+	@Timespan(Timespan.NANOSECONDS)
+	long gameOverCheck;
+
+	/**
+	 * Sets the time spent in a phase.
+	 *
+	 * @param phase the phase.
+	 * @param nanos the time in nanoseconds.
+	 */
+	void setPhase(TickPhase phase, long nanos) {
+		switch (phase) {
+			case FIRE -> fire = nanos;
+			case SPAWN -> spawn = nanos;
+			case UPDATE_ACTORS -> updateActors = nanos;
+			case BULLETS -> bullets = nanos;
+			case CULL -> cull = nanos;
+			case PENETRATION -> penetration = nanos;
+			case USER_PROJECTILE_COLLISIONS -> userProjectileCollisions = nanos;
+			case ENEMY_PROJECTILE_COLLISIONS -> enemyProjectileCollisions = nanos;
+			case PLANE_COLLISIONS -> planeCollisions = nanos;
+			case REMOVE_DESTROYED -> removeDestroyed = nanos;
+			case GAME_OVER_CHECK -> gameOverCheck = nanos;
+		}
+	}
+}
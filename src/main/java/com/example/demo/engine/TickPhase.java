@@ -0,0 +1,31 @@
+package com.example.demo.engine;
+
+/**
+ * The {@link TickPhase} enum lists the phases of a level tick, in the order
+ * {@code LevelParent.updateScene} runs them, so the {@link TickProfiler} can time each one.
+ */
+public enum TickPhase {
+
+	/** Firing the shots queued since the last tick. */
+	FIRE,
+	/** Spawning enemies. */
+	SPAWN,
+	/** Moving actors and running their per-tick logic. */
+	UPDATE_ACTORS,
+	/** Moving enemy bullets and hitting the player with them. */
+	BULLETS,
+	/** Culling projectiles that left the screen or grew too old. */
+	CULL,
+	/** Damaging the player for enemies that got past. */
+	PENETRATION,
+	/** Collisions between the player's missiles and enemies. */
+	USER_PROJECTILE_COLLISIONS,
+	/** Collisions between enemy missiles and the player. */
+	ENEMY_PROJECTILE_COLLISIONS,
+	/** Collisions between the player and enemies. */
+	PLANE_COLLISIONS,
+	/** Removing destroyed actors from their lists and the scene graph. */
+	REMOVE_DESTROYED,
+	/** Checking for a win or a loss. */
+	GAME_OVER_CHECK
+}
@@ -0,0 +1,189 @@
+package com.example.demo.engine;
+
+import java.util.Arrays;
+
+/**
+ * The {@link TickProfiler} class times each {@link TickPhase} of a level tick with
+ * {@link System#nanoTime()}. The most recent samples of each phase and of the whole tick are kept
+ * in fixed ring buffers, from which percentiles are computed on demand, and each tick is also
+ * committed as a {@link TickEvent} when a flight recording is running.
+ * <p>
+ * A tick is timed by calling {@link #beginTick()}, then {@link #mark(TickPhase)} as each phase
+ * ends, then {@link #endTick(String, int)}. Recording a phase costs one clock read and an array
+ * store, so the profiler stays on in normal play.
+ */
+public final class TickProfiler {
+
+	/** Default number of ticks kept: about 25 seconds at 20 ticks per second. */
+	public static final int DEFAULT_WINDOW = 512;
+
+	/** Phases indexed by ordinal. */
+	private static final TickPhase[] PHASES = TickPhase.values();
+
+	/** Row of {@link #samples} holding whole-tick times. */
+	private static final int TOTAL = PHASES.length;
+
+	/** Recent durations in nanoseconds: one ring per phase, then one for the whole tick. */
+	private final long[][] samples;
+
+	/** Scratch copy of a ring, sorted to read percentiles. */
+	private final long[] sorted;
+
+	/** Number of samples in each ring. */
+	private final int window;
+
+	/** Number of ticks recorded. */
+	private long tickCount;
+
+	/** Start of the current tick. */
+	private long tickStart;
+
+	/** End of the most recently marked phase, or the start of the tick. */
+	private long phaseStart;
+
+	/** Flight recorder event for the current tick. */
+	private TickEvent event;
+
+	/**
+	 * Constructs a {@link TickProfiler} keeping the last {@value #DEFAULT_WINDOW} ticks.
+	 */
+	public TickProfiler() {
+		this(DEFAULT_WINDOW);
+	}
+
+	/**
+	 * Constructs a {@link TickProfiler}.
+	 *
+	 * @param window the number of recent ticks to compute percentiles over.
+	 * @throws IllegalArgumentException if window is not positive.
+	 */
+	public TickProfiler(int window) {
+		if (window <= 0) {
+			throw new IllegalArgumentException("window must be positive: " + window);
+		}
+		this.window = window;
+		this.samples = new long[PHASES.length + 1][window];
+		this.sorted = new long[window];
+	}
+
+	/**
+	 * Starts timing a tick.
+	 */
+	public void beginTick() {
+		event = new TickEvent();
+		event.begin();
+		tickStart = System.nanoTime();
+		phaseStart = tickStart;
+	}
+
+	/**
+	 * Records the time since the previous mark, or since the tick began, as a phase's duration.
+	 *
+	 * @param phase the phase that just ended.
+	 */
+	public void mark(TickPhase phase) {
+		long now = System.nanoTime();
+		long nanos = now - phaseStart;
+		samples[phase.ordinal()][slot()] = nanos;
+		event.setPhase(phase, nanos);
+		phaseStart = now;
+	}
+
+	/**
+	 * Records the whole tick's duration and commits its flight recorder event.
+	 *
+	 * @param levelName the level being played.
+	 * @param actorCount the number of actors alive at the end of the tick.
+	 */
+	public void endTick(String levelName, int actorCount) {
+		samples[TOTAL][slot()] = System.nanoTime() - tickStart;
+		if (event.shouldCommit()) {
+			event.level = levelName;
+			event.tick = tickCount;
+			event.actors = actorCount;
+			event.commit();
+		}
+		event = null;
+		tickCount++;
+	}
+
+	/**
+	 * Retrieves the ring position of the current tick.
+	 *
+	 * @return the slot index.
+	 */
+	private int slot() {
+		return (int) (tickCount % window);
+	}
+
+	/**
+	 * Retrieves the number of ticks recorded.
+	 *
+	 * @return the tick count.
+	 */
+	public long getTickCount() {
+		return tickCount;
+	}
+
+	/**
+	 * Retrieves the number of ticks percentiles are currently computed over.
+	 *
+	 * @return the sample count, at most the window size.
+	 */
+	public int getSampleCount() {
+		return (int) Math.min(tickCount, window);
+	}
+
+	/**
+	 * Retrieves a phase's duration in the most recent tick.
+	 *
+	 * @param phase the phase.
+	 * @return the time in nanoseconds, or 0 before the first tick.
+	 */
+	public long getLastNanos(TickPhase phase) {
+		return tickCount == 0 ? 0 : samples[phase.ordinal()][(int) ((tickCount - 1) % window)];
+	}
+
+	/**
+	 * Retrieves a percentile of a phase's duration over the recent ticks.
+	 *
+	 * @param phase the phase.
+	 * @param percentile the percentile, from 0 to 100.
+	 * @return the time in nanoseconds, or 0 before the first tick.
+	 */
+	public long getPercentileNanos(TickPhase phase, double percentile) {
+		return percentile(samples[phase.ordinal()], percentile);
+	}
+
+	/**
+	 * Retrieves a percentile of the whole tick's duration over the recent ticks.
+	 *
+	 * @param percentile the percentile, from 0 to 100.
+	 * @return the time in nanoseconds, or 0 before the first tick.
+	 */
+	public long getTickPercentileNanos(double percentile) {
+		return percentile(samples[TOTAL], percentile);
+	}
+
+	/**
+	 * Reads a percentile from a ring with the nearest-rank method.
+	 *
+	 * @param ring the ring of samples.
+	 * @param percentile the percentile, from 0 to 100.
+	 * @return the sample at that rank, or 0 if the ring is empty.
+	 * @throws IllegalArgumentException if percentile is outside 0 to 100.
+	 */
+	private long percentile(long[] ring, double percentile) {
+		if (percentile < 0 || percentile > 100) {
+			throw new IllegalArgumentException("percentile must be from 0 to 100: " + percentile);
+		}
+		int count = getSampleCount();
+		if (count == 0) {
+			return 0;
+		}
+		System.arraycopy(ring, 0, sorted, 0, count);
+		Arrays.sort(sorted, 0, count);
+		int rank = (int) Math.ceil(percentile / 100 * count);
+		return sorted[Math.max(rank, 1) - 1];
+	}
+}
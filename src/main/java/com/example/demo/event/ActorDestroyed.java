@@ -0,0 +1,55 @@
+package com.example.demo.event;
+
+import com.example.demo.activeactor.ActiveActorDestructible;
+
+/**
+ * The {@link ActorDestroyed} event is published when an aircraft leaves play, either shot down
+ * or by escaping past the player's defenses.
+ */
+public final class ActorDestroyed implements GameEvent {
+
+	/**
+	 * How an aircraft left play.
+	 */
+	public enum Cause {
+		/** Its health reached zero. */
+		SHOT_DOWN,
+		/** It flew past the player's defenses. */
+		ESCAPED
+	}
+
+	/** The aircraft destroyed. */
+	private final ActiveActorDestructible actor;
+
+	/** How it was destroyed. */
+	private final Cause cause;
+
+	/**
+	 * Constructs an {@link ActorDestroyed} event.
+	 *
+	 * @param actor the aircraft destroyed.
+	 * @param cause how it was destroyed.
+	 */
+	public ActorDestroyed(ActiveActorDestructible actor, Cause cause) {
+		this.actor = actor;
+		this.cause = cause;
+	}
+
+	/**
+	 * Retrieves the aircraft destroyed.
+	 *
+	 * @return the actor.
+	 */
+	public ActiveActorDestructible getActor() {
+		return actor;
+	}
+
+	/**
+	 * Retrieves how the aircraft was destroyed.
+	 *
+	 * @return the {@link Cause}.
+	 */
+	public Cause getCause() {
+		return cause;
+	}
+}
@@ -0,0 +1,44 @@
+package com.example.demo.event;
+
+import com.example.demo.activeactor.ActiveActorDestructible;
+
+/**
+ * The {@link DamageTaken} event is published when an aircraft loses health.
+ */
+public final class DamageTaken implements GameEvent {
+
+	/** The aircraft damaged. */
+	private final ActiveActorDestructible actor;
+
+	/** Its health after the damage. */
+	private final int remainingHealth;
+
+	/**
+	 * Constructs a {@link DamageTaken} event.
+	 *
+	 * @param actor the aircraft damaged.
+	 * @param remainingHealth its health after the damage.
+	 */
+	public DamageTaken(ActiveActorDestructible actor, int remainingHealth) {
+		this.actor = actor;
+		this.remainingHealth = remainingHealth;
+	}
+
+	/**
+	 * Retrieves the aircraft damaged.
+	 *
+	 * @return the actor.
+	 */
+	public ActiveActorDestructible getActor() {
+		return actor;
+	}
+
+	/**
+	 * Retrieves the aircraft's health after the damage.
+	 *
+	 * @return the remaining health.
+	 */
+	public int getRemainingHealth() {
+		return remainingHealth;
+	}
+}
@@ -0,0 +1,111 @@
+package com.example.demo.event;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * The {@link EventBus} class delivers {@link GameEvent}s from the actors and the level that
+ * publish them to the HUD, scoring, sound and statistics that subscribe to them. Each level owns
+ * one bus, so subscriptions end with the level.
+ * <p>
+ * Events are delivered synchronously, on the publishing thread, to the listeners subscribed to
+ * the event's exact class, in subscription order. Each class's listeners are held in an array
+ * that is replaced on every change, so publishing does not allocate and listeners may subscribe
+ * or unsubscribe while an event is being delivered.
+ */
+public final class EventBus {
+
+	/** Shared empty listener array. */
+	private static final Consumer<?>[] NO_LISTENERS = new Consumer<?>[0];
+
+	/** Listeners keyed by the event class they receive. */
+	private final Map<Class<?>, Consumer<?>[]> listeners;
+
+	/** Number of events published. */
+	private long publishedCount;
+
+	/**
+	 * Constructs an {@link EventBus} with no listeners.
+	 */
+	public EventBus() {
+		this.listeners = new HashMap<>();
+	}
+
+	/**
+	 * Subscribes a listener to a class of event.
+	 *
+	 * @param type the event class to receive.
+	 * @param listener the listener.
+	 * @param <E> the event type.
+	 * @return a {@link Runnable} that cancels the subscription.
+	 */
+	public <E extends GameEvent> Runnable subscribe(Class<E> type, Consumer<? super E> listener) {
+		Consumer<?>[] current = listeners.getOrDefault(type, NO_LISTENERS);
+		Consumer<?>[] updated = Arrays.copyOf(current, current.length + 1);
+		updated[current.length] = listener;
+		listeners.put(type, updated);
+		return () -> unsubscribe(type, listener);
+	}
+
+	/**
+	 * Cancels a subscription. Does nothing if the listener is not subscribed.
+	 *
+	 * @param type the event class the listener receives.
+	 * @param listener the listener.
+	 */
+	private void unsubscribe(Class<?> type, Consumer<?> listener) {
+		Consumer<?>[] current = listeners.getOrDefault(type, NO_LISTENERS);
+		for (int i = 0; i < current.length; i++) {
+			if (current[i] == listener) {
+				Consumer<?>[] updated = new Consumer<?>[current.length - 1];
+				System.arraycopy(current, 0, updated, 0, i);
+				System.arraycopy(current, i + 1, updated, i, current.length - i - 1);
+				if (updated.length == 0) {
+					listeners.remove(type);
+				} else {
+					listeners.put(type, updated);
+				}
+				return;
+			}
+		}
+	}
+
+	/**
+	 * Delivers an event to every listener subscribed to its class.
+	 *
+	 * @param event the event.
+	 */
+	@SuppressWarnings("unchecked")
+	public void publish(GameEvent event) {
+		publishedCount++;
+		Consumer<?>[] targets = listeners.get(event.getClass());
+		if (targets == null) {
+			return;
+		}
+		for (Consumer<?> target : targets) {
+			((Consumer<GameEvent>) target).accept(event);
+		}
+	}
+
+	/**
+	 * Checks if any listener receives a class of event, so publishers can skip building events
+	 * nobody receives.
+	 *
+	 * @param type the event class.
+	 * @return true if at least one listener is subscribed to it.
+	 */
+	public boolean hasListeners(Class<? extends GameEvent> type) {
+		return listeners.containsKey(type);
+	}
+
+	/**
+	 * Retrieves the number of events published.
+	 *
+	 * @return the event count.
+	 */
+	public long getPublishedCount() {
+		return publishedCount;
+	}
+}
@@ -0,0 +1,9 @@
+package com.example.demo.event;
+
+/**
+ * The {@link GameEvent} interface marks something that happened during a level and is published
+ * on the level's {@link EventBus}. Events are immutable and are delivered to the listeners
+ * subscribed to their exact class.
+ */
+public interface GameEvent {
+}
@@ -0,0 +1,141 @@
+package com.example.demo.event;
+
+import com.example.demo.activeactor.FighterAircraft;
+import com.example.demo.activeactor.PlayerAircraft;
+
+/**
+ * The {@link GameStats} class tallies a level's events: shots fired by each side, enemies shot
+ * down and escaped, damage taken by the player, and the score. It is updated only when something
+ * happens, never polled per tick.
+ */
+public final class GameStats {
+
+	/** Points scored per health point of an enemy shot down. */
+	public static final int POINTS_PER_HEALTH = 100;
+
+	/** Projectiles fired by the player. */
+	private int playerShots;
+
+	/** Projectiles fired by enemies. */
+	private int enemyShots;
+
+	/** Enemies shot down. */
+	private int enemiesShotDown;
+
+	/** Enemies that flew past the player's defenses. */
+	private int enemiesEscaped;
+
+	/** Hits taken by the player. */
+	private int damageTaken;
+
+	/** Points scored. */
+	private int score;
+
+	/**
+	 * Constructs a {@link GameStats} and subscribes it to a level's events.
+	 *
+	 * @param eventBus the level's {@link EventBus}.
+	 */
+	public GameStats(EventBus eventBus) {
+		eventBus.subscribe(ProjectileFired.class, this::onProjectileFired);
+		eventBus.subscribe(ActorDestroyed.class, this::onActorDestroyed);
+		eventBus.subscribe(DamageTaken.class, this::onDamageTaken);
+	}
+
+	/**
+	 * Counts a shot.
+	 *
+	 * @param event the event.
+	 */
+	private void onProjectileFired(ProjectileFired event) {
+		if (event.getShooter() instanceof PlayerAircraft) {
+			playerShots++;
+		} else {
+			enemyShots++;
+		}
+	}
+
+	/**
+	 * Counts an enemy shot down or escaped. An enemy shot down scores
+	 * {@value #POINTS_PER_HEALTH} points per health point it started with, so tougher enemies are
+	 * worth more.
+	 *
+	 * @param event the event.
+	 */
+	private void onActorDestroyed(ActorDestroyed event) {
+		if (event.getActor() instanceof PlayerAircraft) {
+			return;
+		}
+		if (event.getCause() == ActorDestroyed.Cause.SHOT_DOWN) {
+			enemiesShotDown++;
+			score += POINTS_PER_HEALTH * (event.getActor() instanceof FighterAircraft aircraft ? aircraft.getInitialHealth() : 1);
+		} else {
+			enemiesEscaped++;
+		}
+	}
+
+	/**
+	 * Counts a hit on the player.
+	 *
+	 * @param event the event.
+	 */
+	private void onDamageTaken(DamageTaken event) {
+		if (event.getActor() instanceof PlayerAircraft) {
+			damageTaken++;
+		}
+	}
+
+	/**
+	 * Retrieves the number of projectiles fired by the player.
+	 *
+	 * @return the shot count.
+	 */
+	public int getPlayerShots() {
+		return playerShots;
+	}
+
+	/**
+	 * Retrieves the number of projectiles fired by enemies.
+	 *
+	 * @return the shot count.
+	 */
+	public int getEnemyShots() {
+		return enemyShots;
+	}
+
+	/**
+	 * Retrieves the number of enemies shot down.
+	 *
+	 * @return the kill count.
+	 */
+	public int getEnemiesShotDown() {
+		return enemiesShotDown;
+	}
+
+	/**
+	 * Retrieves the number of enemies that flew past the player's defenses.
+	 *
+	 * @return the escape count.
+	 */
+	public int getEnemiesEscaped() {
+		return enemiesEscaped;
+	}
+
+	/**
+	 * Retrieves the points scored.
+	 *
+	 * @return the score.
+	 */
+	public int getScore() {
+		return score;
+	}
+
+	/**
+	 * Retrieves the number of hits the player took.
+	 *
+	 * @return the hit count.
+	 */
+	public int getDamageTaken() {
+		return damageTaken;
+	}
+}
@@ -0,0 +1,28 @@
+package com.example.demo.event;
+
+/**
+ * The {@link LevelLost} event is published when the player's aircraft is destroyed.
+ */
+public final class LevelLost implements GameEvent {
+
+	/** The level lost. */
+	private final String levelName;
+
+	/**
+	 * Constructs a {@link LevelLost} event.
+	 *
+	 * @param levelName the level lost.
+	 */
+	public LevelLost(String levelName) {
+		this.levelName = levelName;
+	}
+
+	/**
+	 * Retrieves the level lost.
+	 *
+	 * @return the level name.
+	 */
+	public String getLevelName() {
+		return levelName;
+	}
+}
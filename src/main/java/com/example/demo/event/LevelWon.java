@@ -0,0 +1,51 @@
+package com.example.demo.event;
+
+/**
+ * The {@link LevelWon} event is published when the player completes a level.
+ */
+public final class LevelWon implements GameEvent {
+
+	/** The level completed. */
+	private final String levelName;
+
+	/** The level that follows, or null if the game is won. */
+	private final String nextLevelName;
+
+	/**
+	 * Constructs a {@link LevelWon} event.
+	 *
+	 * @param levelName the level completed.
+	 * @param nextLevelName the level that follows, or null if the game is won.
+	 */
+	public LevelWon(String levelName, String nextLevelName) {
+		this.levelName = levelName;
+		this.nextLevelName = nextLevelName;
+	}
+
+	/**
+	 * Retrieves the level completed.
+	 *
+	 * @return the level name.
+	 */
+	public String getLevelName() {
+		return levelName;
+	}
+
+	/**
+	 * Retrieves the level that follows.
+	 *
+	 * @return the next level's name, or null if the game is won.
+	 */
+	public String getNextLevelName() {
+		return nextLevelName;
+	}
+
+	/**
+	 * Checks if completing the level won the game.
+	 *
+	 * @return true if no level follows.
+	 */
+	public boolean isGameWon() {
+		return nextLevelName == null;
+	}
+}
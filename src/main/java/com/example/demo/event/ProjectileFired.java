@@ -0,0 +1,44 @@
+package com.example.demo.event;
+
+import com.example.demo.activeactor.ActiveActorDestructible;
+
+/**
+ * The {@link ProjectileFired} event is published when an aircraft fires a projectile.
+ */
+public final class ProjectileFired implements GameEvent {
+
+	/** The aircraft that fired. */
+	private final ActiveActorDestructible shooter;
+
+	/** The projectile fired. */
+	private final ActiveActorDestructible projectile;
+
+	/**
+	 * Constructs a {@link ProjectileFired} event.
+	 *
+	 * @param shooter the aircraft that fired.
+	 * @param projectile the projectile fired.
+	 */
+	public ProjectileFired(ActiveActorDestructible shooter, ActiveActorDestructible projectile) {
+		this.shooter = shooter;
+		this.projectile = projectile;
+	}
+
+	/**
+	 * Retrieves the aircraft that fired.
+	 *
+	 * @return the shooter.
+	 */
+	public ActiveActorDestructible getShooter() {
+		return shooter;
+	}
+
+	/**
+	 * Retrieves the projectile fired.
+	 *
+	 * @return the projectile.
+	 */
+	public ActiveActorDestructible getProjectile() {
+		return projectile;
+	}
+}
@@ -0,0 +1,105 @@
+package com.example.demo.graphics;
+
+import com.example.demo.simulation.BulletField;
+import javafx.geometry.Rectangle2D;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+
+/**
+ * The {@link BulletLayer} class draws a {@link BulletField} onto a single {@link Canvas}, one
+ * atlas sprite per bullet at its interpolated position. Bullets never become scene graph nodes,
+ * so the cost of a frame is one draw call per bullet whatever the bullet count, and the layer
+ * is only cleared while it has something to show. The layer may be constructed on any thread; the
+ * bullet sprite is looked up in the {@link SpriteAtlas} on the first draw, on the JavaFX application
+ * thread, so levels should preload it.
+ */
+public class BulletLayer {
+
+	/** The canvas the bullets are drawn onto. */
+	private final Canvas canvas;
+
+	/** The canvas's drawing context. */
+	private final GraphicsContext graphics;
+
+	/** The absolute classpath location of the bullet image. */
+	private final String resourcePath;
+
+	/** The atlas page holding the bullet sprite, or null before the first draw. */
+	private Image image;
+
+	/** The bullet sprite's rectangle within the atlas page, or null before the first draw. */
+	private Rectangle2D viewport;
+
+	/** Width and height each bullet is drawn at. */
+	private final double size;
+
+	/** Whether the canvas holds bullets from the previous frame. */
+	private boolean dirty;
+
+	/** Number of bullets drawn in the previous frame. */
+	private int lastDrawCount;
+
+	/**
+	 * Constructs a {@link BulletLayer}.
+	 *
+	 * @param width the width of the canvas.
+	 * @param height the height of the canvas.
+	 * @param resourcePath the absolute classpath location of the bullet image.
+	 * @param size the width and height each bullet is drawn at.
+	 */
+	public BulletLayer(double width, double height, String resourcePath, double size) {
+		this.canvas = new Canvas(width, height);
+		this.canvas.setMouseTransparent(true);
+		this.graphics = canvas.getGraphicsContext2D();
+		this.resourcePath = resourcePath;
+		this.size = size;
+	}
+
+	/**
+	 * Redraws the layer with every bullet of a field between its previous and current tick positions.
+	 *
+	 * @param bullets the bullets to draw.
+	 * @param alpha the fraction of a tick elapsed since the most recent tick, from 0 to 1.
+	 */
+	public void draw(BulletField bullets, double alpha) {
+		int count = bullets.size();
+		if (dirty) {
+			graphics.clearRect(0, 0, canvas.getWidth(), canvas.getHeight());
+		}
+		if (count > 0 && image == null) {
+			SpriteAtlas.Region region = SpriteAtlas.getInstance().getRegion(resourcePath, size, size);
+			image = region.getImage();
+			viewport = region.getViewport();
+		}
+		double half = size / 2;
+		double sourceX = viewport.getMinX();
+		double sourceY = viewport.getMinY();
+		double sourceWidth = viewport.getWidth();
+		double sourceHeight = viewport.getHeight();
+		for (int i = 0; i < count; i++) {
+			graphics.drawImage(image, sourceX, sourceY, sourceWidth, sourceHeight,
+					bullets.getX(i, alpha) - half, bullets.getY(i, alpha) - half, size, size);
+		}
+		dirty = count > 0;
+		lastDrawCount = count;
+	}
+
+	/**
+	 * Retrieves the canvas the bullets are drawn onto.
+	 *
+	 * @return the {@link Canvas}.
+	 */
+	public Canvas getCanvas() {
+		return canvas;
+	}
+
+	/**
+	 * Retrieves the number of bullets drawn in the previous frame.
+	 *
+	 * @return the draw count.
+	 */
+	public int getLastDrawCount() {
+		return lastDrawCount;
+	}
+}
@@ -0,0 +1,119 @@
+package com.example.demo.graphics;
+
+import javafx.geometry.Rectangle2D;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+
+import java.util.List;
+
+/**
+ * The {@link CanvasRenderer} class draws sprites onto a single {@link Canvas} in one pass per
+ * frame. The sprites are {@link ImageView}s that are kept out of the scene graph; the renderer
+ * reads their image, viewport, position and size, so the JavaFX pulse does no CSS, layout or bounds work
+ * per sprite.
+ */
+public class CanvasRenderer {
+
+	/** The canvas the sprites are drawn onto. */
+	private final Canvas canvas;
+
+	/** The canvas's drawing context. */
+	private final GraphicsContext graphics;
+
+	/** Number of sprites drawn in the current frame. */
+	private int drawCount;
+
+	/** Number of sprites drawn in the previous frame. */
+	private int lastDrawCount;
+
+	/** Start of the current frame, in nanoseconds. */
+	private long frameStart;
+
+	/** Time taken to issue the previous frame's draw calls, in nanoseconds. */
+	private long lastFrameNanos;
+
+	/**
+	 * Constructs a {@link CanvasRenderer}.
+	 *
+	 * @param width the width of the canvas.
+	 * @param height the height of the canvas.
+	 */
+	public CanvasRenderer(double width, double height) {
+		this.canvas = new Canvas(width, height);
+		this.canvas.setMouseTransparent(true);
+		this.graphics = canvas.getGraphicsContext2D();
+	}
+
+	/**
+	 * Clears the canvas for a new frame.
+	 */
+	public void beginFrame() {
+		frameStart = System.nanoTime();
+		drawCount = 0;
+		graphics.clearRect(0, 0, canvas.getWidth(), canvas.getHeight());
+	}
+
+	/**
+	 * Draws a list of sprites at their layout position plus translation.
+	 *
+	 * @param sprites the sprites to draw, in back-to-front order.
+	 */
+	public void draw(List<? extends ImageView> sprites) {
+		for (int i = 0, size = sprites.size(); i < size; i++) {
+			ImageView sprite = sprites.get(i);
+			Image image = sprite.getImage();
+			if (image == null || !sprite.isVisible()) {
+				continue;
+			}
+			Rectangle2D viewport = sprite.getViewport();
+			double sourceX = viewport != null ? viewport.getMinX() : 0;
+			double sourceY = viewport != null ? viewport.getMinY() : 0;
+			double sourceWidth = viewport != null ? viewport.getWidth() : image.getWidth();
+			double sourceHeight = viewport != null ? viewport.getHeight() : image.getHeight();
+			double height = sprite.getFitHeight() > 0 ? sprite.getFitHeight() : sourceHeight;
+			double width = sprite.isPreserveRatio() || sprite.getFitWidth() <= 0
+					? sourceWidth * height / sourceHeight
+					: sprite.getFitWidth();
+			graphics.drawImage(image, sourceX, sourceY, sourceWidth, sourceHeight,
+					sprite.getLayoutX() + sprite.getTranslateX(), sprite.getLayoutY() + sprite.getTranslateY(), width, height);
+			drawCount++;
+		}
+	}
+
+	/**
+	 * Finishes the frame and records its statistics.
+	 */
+	public void endFrame() {
+		lastDrawCount = drawCount;
+		lastFrameNanos = System.nanoTime() - frameStart;
+	}
+
+	/**
+	 * Retrieves the canvas the sprites are drawn onto.
+	 *
+	 * @return the {@link Canvas}.
+	 */
+	public Canvas getCanvas() {
+		return canvas;
+	}
+
+	/**
+	 * Retrieves the number of sprites drawn in the previous frame.
+	 *
+	 * @return the draw count.
+	 */
+	public int getLastDrawCount() {
+		return lastDrawCount;
+	}
+
+	/**
+	 * Retrieves the time taken to issue the previous frame's draw calls.
+	 *
+	 * @return the time in nanoseconds.
+	 */
+	public long getLastFrameNanos() {
+		return lastFrameNanos;
+	}
+}
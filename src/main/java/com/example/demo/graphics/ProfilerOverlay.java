@@ -0,0 +1,132 @@
+package com.example.demo.graphics;
+
+import com.example.demo.engine.GameLoop;
+import com.example.demo.engine.TickPhase;
+import com.example.demo.engine.TickProfiler;
+import javafx.scene.Group;
+import javafx.scene.control.Label;
+
+/**
+ * The {@link ProfilerOverlay} class draws a panel over a level with its frame rate, tick time
+ * percentiles from the {@link TickProfiler}, the slowest phases, the number of actors in each
+ * list and the number of nodes in the scene graph. The text is rebuilt a few times a second, and
+ * only while the panel is shown, so the overlay does not distort the numbers it reports.
+ */
+public class ProfilerOverlay {
+
+	/** Time between refreshes of the text, in nanoseconds. */
+	private static final long REFRESH_INTERVAL_NANOS = 250_000_000L;
+
+	/** Nanoseconds per millisecond, for display. */
+	private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+	/** Distance of the panel from the top-right corner of the screen. */
+	private static final double MARGIN = 10;
+
+	/** Width reserved for the panel. */
+	private static final double PANEL_WIDTH = 460;
+
+	/** The loop whose frame rate is shown. */
+	private final GameLoop gameLoop;
+
+	/** The profiler whose tick times are shown. */
+	private final TickProfiler profiler;
+
+	/** The monitor counting the scene's nodes and timing its layout pass. */
+	private final PulseMonitor pulseMonitor;
+
+	/** The panel. */
+	private final Label label;
+
+	/** The group the panel is shown in, or null while hidden. */
+	private Group parent;
+
+	/** Time of the last refresh. */
+	private long lastRefresh;
+
+	/**
+	 * Constructs a hidden {@link ProfilerOverlay}.
+	 *
+	 * @param gameLoop the loop whose frame rate is shown.
+	 * @param profiler the profiler whose tick times are shown.
+	 * @param pulseMonitor the monitor counting the scene's nodes.
+	 * @param screenWidth the width of the screen, to place the panel in its top-right corner.
+	 */
+	public ProfilerOverlay(GameLoop gameLoop, TickProfiler profiler, PulseMonitor pulseMonitor, double screenWidth) {
+		this.gameLoop = gameLoop;
+		this.profiler = profiler;
+		this.pulseMonitor = pulseMonitor;
+		this.label = new Label();
+		label.setStyle("-fx-background-color: rgba(0, 0, 0, 0.65); -fx-text-fill: white;"
+				+ " -fx-font-family: monospace; -fx-font-size: 12px; -fx-padding: 6px;");
+		label.setMouseTransparent(true);
+		label.setFocusTraversable(false);
+		label.setTranslateX(screenWidth - PANEL_WIDTH - MARGIN);
+		label.setTranslateY(MARGIN);
+	}
+
+	/**
+	 * Shows the panel if hidden, or hides it if shown.
+	 *
+	 * @param root the group to show the panel in, on top of everything else.
+	 */
+	public void toggle(Group root) {
+		if (parent != null) {
+			parent.getChildren().remove(label);
+			parent = null;
+		} else {
+			parent = root;
+			root.getChildren().add(label);
+			lastRefresh = 0;
+		}
+	}
+
+	/**
+	 * Checks if the panel is shown.
+	 *
+	 * @return true if the panel is shown.
+	 */
+	public boolean isVisible() {
+		return parent != null;
+	}
+
+	/**
+	 * Rebuilds the text if the panel is shown and the refresh interval has passed. Called once per
+	 * rendered frame.
+	 *
+	 * @param friendlyUnits the number of friendly units.
+	 * @param enemyUnits the number of enemy units.
+	 * @param userProjectiles the number of the player's projectiles.
+	 * @param enemyProjectiles the number of enemy projectiles.
+	 * @param enemyBullets the number of enemy bullets.
+	 */
+	public void refresh(int friendlyUnits, int enemyUnits, int userProjectiles, int enemyProjectiles, int enemyBullets) {
+		long now = System.nanoTime();
+		if (parent == null || now - lastRefresh < REFRESH_INTERVAL_NANOS) {
+			return;
+		}
+		lastRefresh = now;
+		if (parent.getChildren().get(parent.getChildren().size() - 1) != label) {
+			label.toFront();
+		}
+
+		StringBuilder text = new StringBuilder(512);
+		text.append(String.format("FPS %5.1f   frame %6.2f ms   dropped ticks %d%n",
+				gameLoop.getFramesPerSecond(), gameLoop.getLastFrameNanos() / NANOS_PER_MILLI, gameLoop.getDroppedTicks()));
+		text.append(String.format("tick  p50 %6.3f  p95 %6.3f  p99 %6.3f  max %6.3f ms%n",
+				profiler.getTickPercentileNanos(50) / NANOS_PER_MILLI,
+				profiler.getTickPercentileNanos(95) / NANOS_PER_MILLI,
+				profiler.getTickPercentileNanos(99) / NANOS_PER_MILLI,
+				profiler.getTickPercentileNanos(100) / NANOS_PER_MILLI));
+		for (TickPhase phase : TickPhase.values()) {
+			text.append(String.format("  %-27s p50 %6.3f  p99 %6.3f%n", phase,
+					profiler.getPercentileNanos(phase, 50) / NANOS_PER_MILLI,
+					profiler.getPercentileNanos(phase, 99) / NANOS_PER_MILLI));
+		}
+		text.append(String.format("actors  friendly %d  enemy %d  user shots %d  enemy shots %d  bullets %d%n",
+				friendlyUnits, enemyUnits, userProjectiles, enemyProjectiles, enemyBullets));
+		text.append(String.format("nodes %d   layout %.3f ms", pulseMonitor.getNodeCount(),
+				pulseMonitor.getSmoothedPulseNanos() / NANOS_PER_MILLI));
+		label.setText(text.toString());
+	}
+}
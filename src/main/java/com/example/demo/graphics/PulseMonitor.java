@@ -0,0 +1,134 @@
+package com.example.demo.graphics;
+
+import javafx.scene.Node;
+import javafx.scene.Parent;
+import javafx.scene.Scene;
+
+/**
+ * The {@link PulseMonitor} class measures the part of each JavaFX pulse spent on a
+ * {@link Scene}'s CSS and layout pass, between the scene's pre- and post-layout pulse listeners,
+ * and counts the nodes in the scene graph. Together these show how much the pulse costs for a
+ * given number of nodes.
+ */
+public class PulseMonitor {
+
+	/** Weight of the newest pulse in the smoothed pulse time. */
+	private static final double SMOOTHING = 0.1;
+
+	/** The scene being measured. */
+	private final Scene scene;
+
+	/** Listener run before each layout pass. */
+	private final Runnable preLayout;
+
+	/** Listener run after each layout pass. */
+	private final Runnable postLayout;
+
+	/** Start of the current pulse's layout pass, in nanoseconds. */
+	private long pulseStart;
+
+	/** Duration of the most recent layout pass, in nanoseconds. */
+	private long lastPulseNanos;
+
+	/** Longest layout pass seen, in nanoseconds. */
+	private long maxPulseNanos;
+
+	/** Exponentially smoothed layout pass duration, in nanoseconds. */
+	private double smoothedPulseNanos;
+
+	/** Number of pulses measured. */
+	private long pulseCount;
+
+	/**
+	 * Constructs a {@link PulseMonitor} and starts measuring the scene's pulses.
+	 *
+	 * @param scene the scene to measure.
+	 */
+	public PulseMonitor(Scene scene) {
+		this.scene = scene;
+		this.preLayout = () -> pulseStart = System.nanoTime();
+		this.postLayout = this::recordPulse;
+		scene.addPreLayoutPulseListener(preLayout);
+		scene.addPostLayoutPulseListener(postLayout);
+	}
+
+	/**
+	 * Records the duration of the layout pass that just finished.
+	 */
+	private void recordPulse() {
+		lastPulseNanos = System.nanoTime() - pulseStart;
+		maxPulseNanos = Math.max(maxPulseNanos, lastPulseNanos);
+		smoothedPulseNanos = pulseCount == 0 ? lastPulseNanos
+				: smoothedPulseNanos + (lastPulseNanos - smoothedPulseNanos) * SMOOTHING;
+		pulseCount++;
+	}
+
+	/**
+	 * Stops measuring the scene's pulses.
+	 */
+	public void dispose() {
+		scene.removePreLayoutPulseListener(preLayout);
+		scene.removePostLayoutPulseListener(postLayout);
+	}
+
+	/**
+	 * Counts the nodes in the scene graph, including the root.
+	 *
+	 * @return the node count.
+	 */
+	public int getNodeCount() {
+		return countNodes(scene.getRoot());
+	}
+
+	/**
+	 * Counts a node and its descendants.
+	 *
+	 * @param node the node to count from.
+	 * @return the node count.
+	 */
+	private static int countNodes(Node node) {
+		int count = 1;
+		if (node instanceof Parent) {
+			for (Node child : ((Parent) node).getChildrenUnmodifiable()) {
+				count += countNodes(child);
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * Retrieves the duration of the most recent CSS and layout pass.
+	 *
+	 * @return the time in nanoseconds.
+	 */
+	public long getLastPulseNanos() {
+		return lastPulseNanos;
+	}
+
+	/**
+	 * Retrieves the longest CSS and layout pass seen.
+	 *
+	 * @return the time in nanoseconds.
+	 */
+	public long getMaxPulseNanos() {
+		return maxPulseNanos;
+	}
+
+	/**
+	 * Retrieves the smoothed duration of the CSS and layout pass.
+	 *
+	 * @return the time in nanoseconds.
+	 */
+	public double getSmoothedPulseNanos() {
+		return smoothedPulseNanos;
+	}
+
+	/**
+	 * Retrieves the number of pulses measured.
+	 *
+	 * @return the pulse count.
+	 */
+	public long getPulseCount() {
+		return pulseCount;
+	}
+}
@@ -0,0 +1,33 @@
+package com.example.demo.graphics;
+
+/**
+ * The {@link RenderMode} enum selects how a level draws its actors.
+ */
+public enum RenderMode {
+
+	/** Every actor is its own {@link javafx.scene.image.ImageView} node in the scene graph. */
+	NODES,
+
+	/** Actors stay out of the scene graph and are drawn onto one canvas by a {@link CanvasRenderer} each frame. */
+	CANVAS;
+
+	/** System property naming the default mode, e.g. {@code -Dgame.renderMode=canvas}. */
+	public static final String PROPERTY = "game.renderMode";
+
+	/**
+	 * Reads the default mode from the {@value #PROPERTY} system property.
+	 *
+	 * @return the configured mode, or {@link #NODES} if none or an unknown one is set.
+	 */
+	public static RenderMode fromSystemProperty() {
+		String value = System.getProperty(PROPERTY);
+		if (value != null) {
+			for (RenderMode mode : values()) {
+				if (mode.name().equalsIgnoreCase(value.trim())) {
+					return mode;
+				}
+			}
+		}
+		return NODES;
+	}
+}
@@ -0,0 +1,508 @@
+package com.example.demo.graphics;
+
+import com.example.demo.collision.CollisionMask;
+import javafx.geometry.Rectangle2D;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+import javafx.scene.image.PixelFormat;
+import javafx.scene.image.PixelReader;
+import javafx.scene.image.WritableImage;
+
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * The {@link SpriteAtlas} class packs the game's sprites into a few large atlas pages, so the
+ * renderer binds and uploads one texture per page rather than one per sprite. Each sprite is
+ * decoded once at its display size and copied into the current page with a simple shelf packer;
+ * the decoded source is then dropped. Views show their sprite through a viewport onto the page,
+ * which {@link #apply(ImageView, String, double)} sets up. A {@link CollisionMask} of the sprite's
+ * solid pixels is built from the same decoded pixels and kept with its region.
+ * <p>
+ * Sprites are packed when first requested, which the levels' {@code preloadSprites} hooks do
+ * before the first frame, so pages are only written, and re-uploaded, while a level loads. A level
+ * built on a background thread inside {@link #deferWrites(Supplier)} only decodes its sprites and
+ * reserves their cells; the copies into pages the running level may be showing are queued and made
+ * on the JavaFX application thread by {@link #flushPendingWrites()}, just before the level is shown.
+ */
+public final class SpriteAtlas {
+
+	/** Width and height of each atlas page in pixels. */
+	public static final int PAGE_SIZE = 1024;
+
+	/** Empty pixels kept around each sprite so filtering never samples a neighbour. */
+	private static final int PADDING = 2;
+
+	/** The single shared instance. */
+	private static SpriteAtlas instance;
+
+	/** Packed regions keyed by resource path and requested size. */
+	private final Map<String, Region> regions;
+
+	/** Copies into pages reserved by deferred packing and not yet made. */
+	private final List<PendingWrite> pendingWrites;
+
+	/** Whether the calling thread's packing is deferred. */
+	private final ThreadLocal<Boolean> deferring;
+
+	/** The atlas pages, the last of which is being filled. */
+	private final List<WritableImage> pages;
+
+	/** Left edge of the next free cell on the current shelf. */
+	private int shelfX;
+
+	/** Top edge of the current shelf. */
+	private int shelfY;
+
+	/** Height of the tallest cell on the current shelf. */
+	private int shelfHeight;
+
+	/** Number of sprites too large for a page, kept as standalone images. */
+	private int standaloneCount;
+
+	/** Pixels of page area covered by sprites. */
+	private long packedArea;
+
+	/**
+	 * Constructs an empty {@link SpriteAtlas}. Use {@link #getInstance()} instead.
+	 */
+	private SpriteAtlas() {
+		this.regions = new HashMap<>();
+		this.pages = new ArrayList<>();
+		this.pendingWrites = new ArrayList<>();
+		this.deferring = ThreadLocal.withInitial(() -> Boolean.FALSE);
+	}
+
+	/**
+	 * Retrieves the shared atlas, creating it on first use.
+	 *
+	 * @return the {@link SpriteAtlas} instance.
+	 */
+	public static synchronized SpriteAtlas getInstance() {
+		if (instance == null) {
+			instance = new SpriteAtlas();
+		}
+		return instance;
+	}
+
+	/**
+	 * Shows a sprite scaled to the given height, preserving its ratio, in a view.
+	 *
+	 * @param view the view to set up.
+	 * @param resourcePath the absolute classpath location of the image.
+	 * @param height the display height in pixels.
+	 */
+	public void apply(ImageView view, String resourcePath, double height) {
+		apply(view, getRegion(resourcePath, height));
+	}
+
+	/**
+	 * Shows a sprite stretched to the given width and height in a view.
+	 *
+	 * @param view the view to set up.
+	 * @param resourcePath the absolute classpath location of the image.
+	 * @param width the display width in pixels.
+	 * @param height the display height in pixels.
+	 */
+	public void apply(ImageView view, String resourcePath, double width, double height) {
+		apply(view, getRegion(resourcePath, width, height));
+	}
+
+	/**
+	 * Points a view at a packed region.
+	 *
+	 * @param view the view to set up.
+	 * @param region the region to show.
+	 */
+	public static void apply(ImageView view, Region region) {
+		view.setImage(region.getImage());
+		view.setViewport(region.getViewport());
+	}
+
+	/**
+	 * Packs a sprite ahead of time so the first view using it does not stall the game loop.
+	 *
+	 * @param resourcePath the absolute classpath location of the image.
+	 * @param height the display height in pixels.
+	 */
+	public void preload(String resourcePath, double height) {
+		getRegion(resourcePath, height);
+	}
+
+	/**
+	 * Packs a sprite ahead of time at a fixed width and height.
+	 *
+	 * @param resourcePath the absolute classpath location of the image.
+	 * @param width the display width in pixels.
+	 * @param height the display height in pixels.
+	 */
+	public void preload(String resourcePath, double width, double height) {
+		getRegion(resourcePath, width, height);
+	}
+
+	/**
+	 * Runs a task, such as building a level off the JavaFX application thread, with packing
+	 * deferred: sprites it requests are decoded and given their cells, but not copied into their
+	 * pages until {@link #flushPendingWrites()} runs on the JavaFX application thread.
+	 *
+	 * @param task the task to run on the calling thread.
+	 * @param <T> the type of the task's result.
+	 * @return the task's result.
+	 */
+	public <T> T deferWrites(Supplier<T> task) {
+		boolean previous = deferring.get();
+		deferring.set(Boolean.TRUE);
+		try {
+			return task.get();
+		} finally {
+			deferring.set(previous);
+		}
+	}
+
+	/**
+	 * Makes every copy queued by deferred packing. Must be called on the JavaFX application thread,
+	 * as the pages written to may be on screen.
+	 */
+	public synchronized void flushPendingWrites() {
+		for (PendingWrite write : pendingWrites) {
+			write.apply();
+		}
+		pendingWrites.clear();
+	}
+
+	/**
+	 * Retrieves the number of copies queued by deferred packing.
+	 *
+	 * @return the pending write count.
+	 */
+	public synchronized int getPendingWriteCount() {
+		return pendingWrites.size();
+	}
+
+	/**
+	 * Retrieves the region holding a sprite scaled to the given height, packing it on first use.
+	 *
+	 * @param resourcePath the absolute classpath location of the image.
+	 * @param height the display height in pixels.
+	 * @return the packed {@link Region}.
+	 */
+	public Region getRegion(String resourcePath, double height) {
+		return getRegion(resourcePath, 0, height, true);
+	}
+
+	/**
+	 * Retrieves the region holding a sprite stretched to the given size, packing it on first use.
+	 *
+	 * @param resourcePath the absolute classpath location of the image.
+	 * @param width the display width in pixels.
+	 * @param height the display height in pixels.
+	 * @return the packed {@link Region}.
+	 */
+	public Region getRegion(String resourcePath, double width, double height) {
+		return getRegion(resourcePath, width, height, false);
+	}
+
+	/**
+	 * Looks up or decodes and packs a sprite. Decoding, the slow part, runs outside the atlas lock,
+	 * so a background preload never holds up lookups on the JavaFX application thread; if two
+	 * threads decode the same new sprite, the copy packed second is dropped.
+	 *
+	 * @param resourcePath the absolute classpath location of the image.
+	 * @param width the display width in pixels, or 0 to derive it from the height.
+	 * @param height the display height in pixels.
+	 * @param preserveRatio whether the sprite keeps the source aspect ratio.
+	 * @return the packed {@link Region}.
+	 * @throws IllegalArgumentException if the image resource does not exist.
+	 */
+	private Region getRegion(String resourcePath, double width, double height, boolean preserveRatio) {
+		String key = resourcePath + '@' + width + 'x' + height;
+		Region region = lookup(key);
+		if (region != null) {
+			return region;
+		}
+		URL url = SpriteAtlas.class.getResource(resourcePath);
+		if (url == null) {
+			throw new IllegalArgumentException("Missing image resource: " + resourcePath);
+		}
+		Image source = new Image(url.toExternalForm(), width, height, preserveRatio, true);
+		PixelReader reader = source.getPixelReader();
+		CollisionMask mask = reader == null ? null
+				: buildMask(reader, (int) Math.ceil(source.getWidth()), (int) Math.ceil(source.getHeight()));
+		return store(key, source, mask);
+	}
+
+	/**
+	 * Looks up a packed sprite. Outside deferred packing, a sprite whose copy is still queued is
+	 * written first, so the caller never shows an empty cell.
+	 *
+	 * @param key the sprite's resource path and requested size.
+	 * @return the packed {@link Region}, or null if the sprite has not been packed.
+	 */
+	private synchronized Region lookup(String key) {
+		Region region = regions.get(key);
+		if (region != null && !pendingWrites.isEmpty() && !deferring.get() && isPending(region)) {
+			flushPendingWrites();
+		}
+		return region;
+	}
+
+	/**
+	 * Packs a decoded sprite under its key, unless another thread packed the same sprite while
+	 * this one was being decoded.
+	 *
+	 * @param key the sprite's resource path and requested size.
+	 * @param source the decoded sprite.
+	 * @param mask the sprite's collision mask, or null if its pixels cannot be read.
+	 * @return the packed {@link Region}.
+	 */
+	private synchronized Region store(String key, Image source, CollisionMask mask) {
+		Region region = lookup(key);
+		if (region == null) {
+			region = pack(source, mask);
+			regions.put(key, region);
+		}
+		return region;
+	}
+
+	/**
+	 * Copies a decoded sprite into the next free cell, starting a new shelf or page when the
+	 * current one is full. Sprites larger than a page, or whose pixels cannot be read, are kept
+	 * as standalone images.
+	 *
+	 * @param source the decoded sprite.
+	 * @param mask the sprite's collision mask, or null if its pixels cannot be read.
+	 * @return the region the sprite now occupies.
+	 */
+	private Region pack(Image source, CollisionMask mask) {
+		int width = (int) Math.ceil(source.getWidth());
+		int height = (int) Math.ceil(source.getHeight());
+		int cellWidth = width + 2 * PADDING;
+		int cellHeight = height + 2 * PADDING;
+		PixelReader reader = source.getPixelReader();
+		if (reader == null || cellWidth > PAGE_SIZE || cellHeight > PAGE_SIZE) {
+			standaloneCount++;
+			return new Region(source, new Rectangle2D(0, 0, width, height), mask);
+		}
+		if (shelfX + cellWidth > PAGE_SIZE) {
+			shelfY += shelfHeight;
+			shelfX = 0;
+			shelfHeight = 0;
+		}
+		if (pages.isEmpty() || shelfY + cellHeight > PAGE_SIZE) {
+			pages.add(new WritableImage(PAGE_SIZE, PAGE_SIZE));
+			shelfX = 0;
+			shelfY = 0;
+			shelfHeight = 0;
+		}
+		WritableImage page = pages.get(pages.size() - 1);
+		int x = shelfX + PADDING;
+		int y = shelfY + PADDING;
+		shelfX += cellWidth;
+		shelfHeight = Math.max(shelfHeight, cellHeight);
+		packedArea += (long) width * height;
+		Region region = new Region(page, new Rectangle2D(x, y, width, height), mask);
+		PendingWrite write = new PendingWrite(region, page, reader, x, y, width, height);
+		if (deferring.get()) {
+			pendingWrites.add(write);
+		} else {
+			write.apply();
+		}
+		return region;
+	}
+
+	/**
+	 * Checks if a region's copy is still queued.
+	 *
+	 * @param region the region.
+	 * @return true if its pixels have not been written yet.
+	 */
+	private boolean isPending(Region region) {
+		for (PendingWrite write : pendingWrites) {
+			if (write.region == region) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Builds the collision mask of a decoded sprite from its alpha channel.
+	 *
+	 * @param reader the sprite's pixels.
+	 * @param width the sprite's width in pixels.
+	 * @param height the sprite's height in pixels.
+	 * @return the sprite's {@link CollisionMask}.
+	 */
+	private static CollisionMask buildMask(PixelReader reader, int width, int height) {
+		int[] argb = new int[width * height];
+		reader.getPixels(0, 0, width, height, PixelFormat.getIntArgbInstance(), argb, 0, width);
+		return CollisionMask.fromArgb(argb, width, height);
+	}
+
+	/**
+	 * Forgets every packed sprite and page, so later requests decode and pack again. Views
+	 * already showing a page keep it.
+	 */
+	public synchronized void clear() {
+		regions.clear();
+		pages.clear();
+		pendingWrites.clear();
+		shelfX = 0;
+		shelfY = 0;
+		shelfHeight = 0;
+		standaloneCount = 0;
+		packedArea = 0;
+	}
+
+	/**
+	 * Retrieves the number of atlas pages.
+	 *
+	 * @return the page count.
+	 */
+	public synchronized int getPageCount() {
+		return pages.size();
+	}
+
+	/**
+	 * Retrieves the number of sprites packed or kept standalone.
+	 *
+	 * @return the region count.
+	 */
+	public synchronized int getRegionCount() {
+		return regions.size();
+	}
+
+	/**
+	 * Retrieves the number of sprites too large for a page.
+	 *
+	 * @return the standalone count.
+	 */
+	public synchronized int getStandaloneCount() {
+		return standaloneCount;
+	}
+
+	/**
+	 * Retrieves the fraction of the pages' area covered by sprites.
+	 *
+	 * @return a value from 0 to 1, or 0 with no pages.
+	 */
+	public synchronized double getFillRatio() {
+		return pages.isEmpty() ? 0 : (double) packedArea / ((long) pages.size() * PAGE_SIZE * PAGE_SIZE);
+	}
+
+	/**
+	 * The {@link PendingWrite} class is a copy of a decoded sprite into its reserved cell, queued
+	 * by deferred packing.
+	 */
+	private static final class PendingWrite {
+
+		/** The region the sprite was given. */
+		private final Region region;
+
+		/** The page to copy into. */
+		private final WritableImage page;
+
+		/** The decoded sprite's pixels. */
+		private final PixelReader source;
+
+		/** Left edge of the cell's sprite area. */
+		private final int x;
+
+		/** Top edge of the cell's sprite area. */
+		private final int y;
+
+		/** Width of the sprite. */
+		private final int width;
+
+		/** Height of the sprite. */
+		private final int height;
+
+		/**
+		 * Constructs a {@link PendingWrite}.
+		 *
+		 * @param region the region the sprite was given.
+		 * @param page the page to copy into.
+		 * @param source the decoded sprite's pixels.
+		 * @param x left edge of the cell's sprite area.
+		 * @param y top edge of the cell's sprite area.
+		 * @param width width of the sprite.
+		 * @param height height of the sprite.
+		 */
+		PendingWrite(Region region, WritableImage page, PixelReader source, int x, int y, int width, int height) {
+			this.region = region;
+			this.page = page;
+			this.source = source;
+			this.x = x;
+			this.y = y;
+			this.width = width;
+			this.height = height;
+		}
+
+		/**
+		 * Copies the sprite into its cell.
+		 */
+		void apply() {
+			page.getPixelWriter().setPixels(x, y, width, height, source, 0, 0);
+		}
+	}
+
+	/**
+	 * The {@link Region} class is the location of one sprite: the image holding it and the
+	 * rectangle it occupies within that image.
+	 */
+	public static final class Region {
+
+		/** The atlas page, or standalone image, holding the sprite. */
+		private final Image image;
+
+		/** The sprite's rectangle within the image. */
+		private final Rectangle2D viewport;
+
+		/** The sprite's solid pixels, or null if its pixels could not be read. */
+		private final CollisionMask mask;
+
+		/**
+		 * Constructs a {@link Region}.
+		 *
+		 * @param image the image holding the sprite.
+		 * @param viewport the sprite's rectangle within the image.
+		 * @param mask the sprite's solid pixels, or null if its pixels could not be read.
+		 */
+		Region(Image image, Rectangle2D viewport, CollisionMask mask) {
+			this.image = image;
+			this.viewport = viewport;
+			this.mask = mask;
+		}
+
+		/**
+		 * Retrieves the image holding the sprite.
+		 *
+		 * @return the atlas page or standalone image.
+		 */
+		public Image getImage() {
+			return image;
+		}
+
+		/**
+		 * Retrieves the sprite's rectangle within the image.
+		 *
+		 * @return the viewport.
+		 */
+		public Rectangle2D getViewport() {
+			return viewport;
+		}
+
+		/**
+		 * Retrieves the sprite's collision mask, at the size the sprite was packed at.
+		 *
+		 * @return the {@link CollisionMask}, or null if the sprite's pixels could not be read.
+		 */
+		public CollisionMask getMask() {
+			return mask;
+		}
+	}
+}
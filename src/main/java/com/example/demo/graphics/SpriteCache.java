@@ -0,0 +1,223 @@
+package com.example.demo.graphics;
+
+import javafx.scene.image.Image;
+
+import java.net.URL;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * The {@link SpriteCache} class is a process-wide singleton that decodes each image resource
+ * once per target size and shares the resulting {@link Image} between every node that draws it.
+ * Entries are evicted in least-recently-used order once the decoded pixel data exceeds the
+ * configured byte budget.
+ */
+public final class SpriteCache {
+
+	/** Default upper bound for decoded pixel data held by the cache (64 MiB). */
+	private static final long DEFAULT_BYTE_BUDGET = 64L * 1024 * 1024;
+
+	/** Decoded images are stored as 32-bit ARGB. */
+	private static final int BYTES_PER_PIXEL = 4;
+
+	/** The single instance of the {@link SpriteCache}. */
+	private static SpriteCache instance;
+
+	/** Cached images keyed by resource path and target size, kept in access order. */
+	private final LinkedHashMap<String, Image> images;
+
+	/** Maximum number of bytes of decoded pixel data to keep. */
+	private long byteBudget;
+
+	/** Number of bytes of decoded pixel data currently held. */
+	private long bytesHeld;
+
+	/** Number of lookups served from the cache. */
+	private long hits;
+
+	/** Number of lookups that required a decode. */
+	private long misses;
+
+	/** Number of entries dropped to stay within the byte budget. */
+	private long evictions;
+
+	/**
+	 * Constructs an empty {@link SpriteCache} with the default byte budget.
+	 */
+	private SpriteCache() {
+		this.images = new LinkedHashMap<>(32, 0.75f, true);
+		this.byteBudget = DEFAULT_BYTE_BUDGET;
+	}
+
+	/**
+	 * Retrieves the singleton instance of the {@link SpriteCache}.
+	 *
+	 * @return the {@link SpriteCache} instance.
+	 */
+	public static synchronized SpriteCache getInstance() {
+		if (instance == null) {
+			instance = new SpriteCache();
+		}
+		return instance;
+	}
+
+	/**
+	 * Returns the image at the given resource path scaled to the given height, preserving its ratio.
+	 *
+	 * @param resourcePath the absolute classpath location of the image.
+	 * @param height the target height in pixels.
+	 * @return the shared decoded {@link Image}.
+	 */
+	public Image getImage(String resourcePath, double height) {
+		return getImage(resourcePath, 0, height, true);
+	}
+
+	/**
+	 * Returns the image at the given resource path stretched to the given width and height.
+	 *
+	 * @param resourcePath the absolute classpath location of the image.
+	 * @param width the target width in pixels.
+	 * @param height the target height in pixels.
+	 * @return the shared decoded {@link Image}.
+	 */
+	public Image getImage(String resourcePath, double width, double height) {
+		return getImage(resourcePath, width, height, false);
+	}
+
+	/**
+	 * Decodes an image ahead of time so the first actor using it does not stall the game loop.
+	 *
+	 * @param resourcePath the absolute classpath location of the image.
+	 * @param height the target height in pixels.
+	 */
+	public void preload(String resourcePath, double height) {
+		getImage(resourcePath, height);
+	}
+
+	/**
+	 * Decodes an image ahead of time at a fixed width and height.
+	 *
+	 * @param resourcePath the absolute classpath location of the image.
+	 * @param width the target width in pixels.
+	 * @param height the target height in pixels.
+	 */
+	public void preload(String resourcePath, double width, double height) {
+		getImage(resourcePath, width, height);
+	}
+
+	/**
+	 * Looks up or decodes an image and updates the hit, miss and eviction counters.
+	 *
+	 * @param resourcePath the absolute classpath location of the image.
+	 * @param width the target width in pixels, or 0 to derive it from the height.
+	 * @param height the target height in pixels.
+	 * @param preserveRatio whether the decoded image keeps the source aspect ratio.
+	 * @return the shared decoded {@link Image}.
+	 */
+	private synchronized Image getImage(String resourcePath, double width, double height, boolean preserveRatio) {
+		String key = resourcePath + '@' + width + 'x' + height;
+		Image image = images.get(key);
+		if (image != null) {
+			hits++;
+			return image;
+		}
+		misses++;
+		URL url = SpriteCache.class.getResource(resourcePath);
+		if (url == null) {
+			throw new IllegalArgumentException("Missing image resource: " + resourcePath);
+		}
+		image = new Image(url.toExternalForm(), width, height, preserveRatio, true);
+		images.put(key, image);
+		bytesHeld += sizeOf(image);
+		evictToBudget();
+		return image;
+	}
+
+	/**
+	 * Drops least-recently-used entries until the decoded data fits the byte budget.
+	 * The most recently used entry is always kept.
+	 */
+	private void evictToBudget() {
+		Iterator<Map.Entry<String, Image>> iterator = images.entrySet().iterator();
+		while (bytesHeld > byteBudget && images.size() > 1 && iterator.hasNext()) {
+			Image evicted = iterator.next().getValue();
+			iterator.remove();
+			bytesHeld -= sizeOf(evicted);
+			evictions++;
+		}
+	}
+
+	/**
+	 * Estimates the memory held by a decoded image.
+	 *
+	 * @param image the decoded image.
+	 * @return the approximate size in bytes.
+	 */
+	private static long sizeOf(Image image) {
+		return (long) image.getWidth() * (long) image.getHeight() * BYTES_PER_PIXEL;
+	}
+
+	/**
+	 * Sets the maximum amount of decoded pixel data to keep, evicting entries if necessary.
+	 *
+	 * @param byteBudget the new budget in bytes.
+	 */
+	public synchronized void setByteBudget(long byteBudget) {
+		this.byteBudget = byteBudget;
+		evictToBudget();
+	}
+
+	/**
+	 * Removes every cached image and resets the byte count. Counters are kept.
+	 */
+	public synchronized void clear() {
+		images.clear();
+		bytesHeld = 0;
+	}
+
+	/**
+	 * Retrieves the number of lookups served from the cache.
+	 *
+	 * @return the hit count.
+	 */
+	public synchronized long getHits() {
+		return hits;
+	}
+
+	/**
+	 * Retrieves the number of lookups that required a decode.
+	 *
+	 * @return the miss count.
+	 */
+	public synchronized long getMisses() {
+		return misses;
+	}
+
+	/**
+	 * Retrieves the number of entries evicted to stay within the byte budget.
+	 *
+	 * @return the eviction count.
+	 */
+	public synchronized long getEvictions() {
+		return evictions;
+	}
+
+	/**
+	 * Retrieves the approximate amount of decoded pixel data currently held.
+	 *
+	 * @return the size in bytes.
+	 */
+	public synchronized long getBytesHeld() {
+		return bytesHeld;
+	}
+
+	/**
+	 * Retrieves the number of images currently cached.
+	 *
+	 * @return the entry count.
+	 */
+	public synchronized int getEntryCount() {
+		return images.size();
+	}
+}
@@ -0,0 +1,57 @@
+package com.example.demo.headless;
+
+import com.example.demo.simulation.ActorGroup;
+import com.example.demo.simulation.ActorStore;
+import com.example.demo.simulation.ActorType;
+import com.example.demo.simulation.World;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * The {@link AimBot} class plays a simple scripted strategy: it lines up with the enemy closest
+ * to the player and fires while aligned. It gives a rough upper bound on how hard a level is.
+ */
+public final class AimBot implements Bot {
+
+	/** Vertical distance between centres within which the bot counts as aligned. */
+	private static final double ALIGN_TOLERANCE = 20;
+
+	/** Number of ticks between shots while aligned. */
+	private static final int FIRE_INTERVAL_TICKS = 3;
+
+	@Override
+	public void act(World world, RandomGenerator random) {
+		ActorStore store = world.getStore();
+		int player = world.getPlayer();
+		double playerX = store.getX(player);
+		double playerCentre = store.getY(player) + ActorType.PLAYER.getHeight() / 2;
+
+		int target = ActorStore.NO_SLOT;
+		double targetDistance = Double.MAX_VALUE;
+		ActorGroup enemies = world.getEnemyUnits();
+		for (int i = 0; i < enemies.size(); i++) {
+			int enemy = enemies.get(i);
+			double distance = store.getX(enemy) - playerX;
+			if (distance > 0 && distance < targetDistance) {
+				target = enemy;
+				targetDistance = distance;
+			}
+		}
+		if (target == ActorStore.NO_SLOT) {
+			world.stopVertical();
+			return;
+		}
+
+		double offset = store.getY(target) + store.getType(target).getHeight() / 2 - playerCentre;
+		if (offset < -ALIGN_TOLERANCE) {
+			world.moveUp();
+		} else if (offset > ALIGN_TOLERANCE) {
+			world.moveDown();
+		} else {
+			world.stopVertical();
+			if (world.getTick() % FIRE_INTERVAL_TICKS == 0) {
+				world.fire();
+			}
+		}
+	}
+}
@@ -0,0 +1,171 @@
+package com.example.demo.headless;
+
+import com.example.demo.simulation.GameRules;
+import com.example.demo.simulation.GameStatus;
+
+import java.util.List;
+
+/**
+ * The {@link BatchReport} class sums up a batch of simulated sessions: how often the player won,
+ * lost or ran out of time, how many kills they made, how long winning took, and how fast the
+ * simulation ran.
+ */
+public final class BatchReport {
+
+	/** Number of sessions run. */
+	private final int sessions;
+
+	/** Number of sessions won. */
+	private final int wins;
+
+	/** Number of sessions lost. */
+	private final int losses;
+
+	/** Total kills over all sessions. */
+	private final long totalKills;
+
+	/** Total ticks over all sessions. */
+	private final long totalTicks;
+
+	/** Total ticks over the sessions that were won. */
+	private final long winningTicks;
+
+	/** Wall-clock time the batch took, in nanoseconds. */
+	private final long elapsedNanos;
+
+	/**
+	 * Constructs a {@link BatchReport} from the sessions' results.
+	 *
+	 * @param results the result of each session.
+	 * @param elapsedNanos the wall-clock time the batch took, in nanoseconds.
+	 */
+	public BatchReport(List<SessionResult> results, long elapsedNanos) {
+		int won = 0;
+		int lost = 0;
+		long kills = 0;
+		long ticks = 0;
+		long ticksToWin = 0;
+		for (SessionResult result : results) {
+			if (result.getStatus() == GameStatus.WON) {
+				won++;
+				ticksToWin += result.getTicks();
+			} else if (result.getStatus() == GameStatus.LOST) {
+				lost++;
+			}
+			kills += result.getKills();
+			ticks += result.getTicks();
+		}
+		this.sessions = results.size();
+		this.wins = won;
+		this.losses = lost;
+		this.totalKills = kills;
+		this.totalTicks = ticks;
+		this.winningTicks = ticksToWin;
+		this.elapsedNanos = elapsedNanos;
+	}
+
+	/**
+	 * Retrieves the number of sessions run.
+	 *
+	 * @return the session count.
+	 */
+	public int getSessions() {
+		return sessions;
+	}
+
+	/**
+	 * Retrieves the number of sessions won.
+	 *
+	 * @return the win count.
+	 */
+	public int getWins() {
+		return wins;
+	}
+
+	/**
+	 * Retrieves the number of sessions lost.
+	 *
+	 * @return the loss count.
+	 */
+	public int getLosses() {
+		return losses;
+	}
+
+	/**
+	 * Retrieves the number of sessions that ran out of ticks before being won or lost.
+	 *
+	 * @return the timeout count.
+	 */
+	public int getTimeouts() {
+		return sessions - wins - losses;
+	}
+
+	/**
+	 * Retrieves the share of sessions won.
+	 *
+	 * @return the win rate, from 0 to 1.
+	 */
+	public double getWinRate() {
+		return sessions == 0 ? 0 : (double) wins / sessions;
+	}
+
+	/**
+	 * Retrieves the share of sessions lost.
+	 *
+	 * @return the loss rate, from 0 to 1.
+	 */
+	public double getLossRate() {
+		return sessions == 0 ? 0 : (double) losses / sessions;
+	}
+
+	/**
+	 * Retrieves the average number of kills per session.
+	 *
+	 * @return the average kills.
+	 */
+	public double getAverageKills() {
+		return sessions == 0 ? 0 : (double) totalKills / sessions;
+	}
+
+	/**
+	 * Retrieves the average number of ticks the won sessions took to reach the kill target.
+	 *
+	 * @return the average ticks to win, or 0 if no session was won.
+	 */
+	public double getAverageTicksToWin() {
+		return wins == 0 ? 0 : (double) winningTicks / wins;
+	}
+
+	/**
+	 * Retrieves the total number of ticks simulated.
+	 *
+	 * @return the tick count.
+	 */
+	public long getTotalTicks() {
+		return totalTicks;
+	}
+
+	/**
+	 * Retrieves the simulation's throughput over the whole batch.
+	 *
+	 * @return ticks simulated per second of wall-clock time.
+	 */
+	public double getTicksPerSecond() {
+		return elapsedNanos == 0 ? 0 : totalTicks / (elapsedNanos / 1e9);
+	}
+
+	/**
+	 * Formats the report for the console.
+	 *
+	 * @return the report as several lines of text.
+	 */
+	@Override
+	public String toString() {
+		return String.format("sessions %d: %d won (%.1f%%), %d lost (%.1f%%), %d timed out%n"
+						+ "average kills %.2f, average time to win %.1f ticks (%.1f s of game time)%n"
+						+ "%d ticks in %.2f s (%.0f ticks/s)",
+				sessions, wins, getWinRate() * 100, losses, getLossRate() * 100, getTimeouts(),
+				getAverageKills(), getAverageTicksToWin(), getAverageTicksToWin() * GameRules.TICK_MILLIS / 1000,
+				totalTicks, elapsedNanos / 1e9, getTicksPerSecond());
+	}
+}
@@ -0,0 +1,196 @@
+package com.example.demo.headless;
+
+import com.example.demo.level.LevelSpecCatalog;
+import com.example.demo.replay.ReplayDriver;
+import com.example.demo.simulation.GameStatus;
+import com.example.demo.simulation.LevelRules;
+import com.example.demo.simulation.World;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+import java.util.random.RandomGenerator;
+
+/**
+ * The {@link BatchRunner} class plays many sessions of a level in headless {@link World}s, with a
+ * {@link Bot} in the player's seat, as fast as the simulation runs and spread over a pool of
+ * threads. Each session is seeded from the batch seed and its index, so a batch gives the same
+ * report however many threads run it.
+ * <p>
+ * Run from the command line with
+ * {@code BatchRunner --level <name> [--sessions n] [--threads n] [--bot random|aim] [--seed n]
+ * [--max-ticks n] [--enemies n] [--kills n] [--spawn p] [--health n]}. The last four override the
+ * level's rules, for tuning the kill target and spawn rate or for stress tests with many more actors.
+ */
+public final class BatchRunner {
+
+	/** Default number of sessions per batch. */
+	private static final int DEFAULT_SESSIONS = 100;
+
+	/** Default limit on a session's length: twenty minutes of game time. */
+	private static final long DEFAULT_MAX_TICKS = 24_000;
+
+	/** The rules of the level played. */
+	private final LevelRules rules;
+
+	/** Creates the bot for each session. */
+	private final Supplier<Bot> botFactory;
+
+	/** Seed every session's seed is drawn from. */
+	private final long seed;
+
+	/** Number of ticks after which a session counts as timed out. */
+	private final long maxTicks;
+
+	/**
+	 * Constructs a {@link BatchRunner}.
+	 *
+	 * @param rules the rules of the level to play.
+	 * @param botFactory creates the bot for each session.
+	 * @param seed the batch seed.
+	 * @param maxTicks the number of ticks after which a session counts as timed out.
+	 * @throws IllegalArgumentException if maxTicks is not positive.
+	 */
+	public BatchRunner(LevelRules rules, Supplier<Bot> botFactory, long seed, long maxTicks) {
+		if (maxTicks <= 0) {
+			throw new IllegalArgumentException("maxTicks must be positive: " + maxTicks);
+		}
+		this.rules = rules;
+		this.botFactory = botFactory;
+		this.seed = seed;
+		this.maxTicks = maxTicks;
+	}
+
+	/**
+	 * Plays one session.
+	 *
+	 * @param sessionSeed the seed for the world and the bot.
+	 * @return the session's {@link SessionResult}.
+	 */
+	public SessionResult runSession(long sessionSeed) {
+		SplittableRandom sessionRandom = new SplittableRandom(sessionSeed);
+		World world = new World(rules, ReplayDriver.SCREEN_WIDTH, ReplayDriver.SCREEN_HEIGHT, sessionRandom.nextLong());
+		RandomGenerator botRandom = sessionRandom.split();
+		Bot bot = botFactory.get();
+		while (world.getStatus() == GameStatus.RUNNING && world.getTick() < maxTicks) {
+			bot.act(world, botRandom);
+			world.step();
+		}
+		return new SessionResult(world.getStatus(), world.getKills(), world.getTick());
+	}
+
+	/**
+	 * Plays a batch of sessions.
+	 *
+	 * @param sessions the number of sessions.
+	 * @param threads the number of threads to play them on.
+	 * @return the batch's {@link BatchReport}.
+	 * @throws IllegalArgumentException if sessions is negative or threads is not positive.
+	 * @throws IllegalStateException if a session fails or the batch is interrupted.
+	 */
+	public BatchReport run(int sessions, int threads) {
+		if (sessions < 0 || threads <= 0) {
+			throw new IllegalArgumentException("Invalid batch: " + sessions + " sessions on " + threads + " threads");
+		}
+		SplittableRandom seeds = new SplittableRandom(seed);
+		long start = System.nanoTime();
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		try {
+			List<Future<SessionResult>> futures = new ArrayList<>(sessions);
+			for (int i = 0; i < sessions; i++) {
+				long sessionSeed = seeds.nextLong();
+				futures.add(executor.submit(() -> runSession(sessionSeed)));
+			}
+			List<SessionResult> results = new ArrayList<>(sessions);
+			for (Future<SessionResult> future : futures) {
+				results.add(future.get());
+			}
+			return new BatchReport(results, System.nanoTime() - start);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Batch interrupted", e);
+		} catch (ExecutionException e) {
+			throw new IllegalStateException("Session failed", e.getCause());
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	/**
+	 * Copies a level's rules, replacing any values given on the command line.
+	 *
+	 * @param rules the level's rules.
+	 * @param options the parsed command-line options.
+	 * @return the rules to play.
+	 */
+	static LevelRules applyOverrides(LevelRules rules, Map<String, String> options) {
+		return new LevelRules(rules.getName(), rules.getEnemyType(),
+				Integer.parseInt(options.getOrDefault("enemies", String.valueOf(rules.getTotalEnemies()))),
+				Integer.parseInt(options.getOrDefault("kills", String.valueOf(rules.getKillsToAdvance()))),
+				Double.parseDouble(options.getOrDefault("spawn", String.valueOf(rules.getEnemySpawnProbability()))),
+				Integer.parseInt(options.getOrDefault("health", String.valueOf(rules.getPlayerInitialHealth()))),
+				rules.getNextLevel(), rules.getWaves());
+	}
+
+	/**
+	 * Parses {@code --name value} pairs.
+	 *
+	 * @param args the command-line arguments.
+	 * @return the options by name, without the leading dashes.
+	 * @throws IllegalArgumentException if an argument is not a named option or has no value.
+	 */
+	static Map<String, String> parseOptions(String[] args) {
+		Map<String, String> options = new HashMap<>();
+		for (int i = 0; i < args.length; i += 2) {
+			if (!args[i].startsWith("--") || i + 1 == args.length) {
+				throw new IllegalArgumentException("Expected --option value, got: " + args[i]);
+			}
+			options.put(args[i].substring(2), args[i + 1]);
+		}
+		return options;
+	}
+
+	/**
+	 * Plays a batch described by the command line and prints its report.
+	 *
+	 * @param args the command-line options.
+	 */
+	public static void main(String[] args) {
+		BatchRunner runner;
+		int sessions;
+		int threads;
+		try {
+			Map<String, String> options = parseOptions(args);
+			String level = options.get("level");
+			if (level == null) {
+				throw new IllegalArgumentException("--level is required");
+			}
+			String botName = options.getOrDefault("bot", "aim");
+			Bot.forName(botName);
+			LevelRules rules = applyOverrides(LevelSpecCatalog.rulesFor(level), options);
+			sessions = Integer.parseInt(options.getOrDefault("sessions", String.valueOf(DEFAULT_SESSIONS)));
+			threads = Integer.parseInt(options.getOrDefault("threads",
+					String.valueOf(Runtime.getRuntime().availableProcessors())));
+			long seed = Long.decode(options.getOrDefault("seed", "0"));
+			long maxTicks = Long.parseLong(options.getOrDefault("max-ticks", String.valueOf(DEFAULT_MAX_TICKS)));
+			runner = new BatchRunner(rules, () -> Bot.forName(botName), seed, maxTicks);
+			System.out.printf("%s with %s bot: %d enemies, %d kills to win, spawn %.2f; %d sessions on %d threads, seed %d%n",
+					rules.getName(), botName, rules.getTotalEnemies(), rules.getKillsToAdvance(),
+					rules.getEnemySpawnProbability(), sessions, threads, seed);
+		} catch (IllegalArgumentException e) {
+			System.err.println(e.getMessage());
+			System.err.println("Usage: BatchRunner --level <name> [--sessions n] [--threads n] [--bot random|aim]"
+					+ " [--seed n] [--max-ticks n] [--enemies n] [--kills n] [--spawn p] [--health n]");
+			System.exit(2);
+			return;
+		}
+		System.out.println(runner.run(sessions, threads));
+	}
+}
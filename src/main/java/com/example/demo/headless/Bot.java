@@ -0,0 +1,37 @@
+package com.example.demo.headless;
+
+import com.example.demo.simulation.World;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * The {@link Bot} interface plays the player's side of a headless {@link World}. The
+ * {@link BatchRunner} calls it once before every tick, and it issues the same commands the
+ * keyboard does.
+ */
+@FunctionalInterface
+public interface Bot {
+
+	/**
+	 * Issues the player's commands for the next tick.
+	 *
+	 * @param world the simulation being played.
+	 * @param random the session's generator, for bots that make random choices.
+	 */
+	void act(World world, RandomGenerator random);
+
+	/**
+	 * Looks up a built-in bot by name.
+	 *
+	 * @param name "random" or "aim".
+	 * @return a new {@link Bot}.
+	 * @throws IllegalArgumentException if no bot has that name.
+	 */
+	static Bot forName(String name) {
+		return switch (name) {
+			case "random" -> new RandomBot();
+			case "aim" -> new AimBot();
+			default -> throw new IllegalArgumentException("Unknown bot: " + name);
+		};
+	}
+}
@@ -0,0 +1,202 @@
+package com.example.demo.headless;
+
+import com.example.demo.engine.TickPhase;
+import com.example.demo.engine.TickProfiler;
+import com.example.demo.simulation.BulletField;
+import com.example.demo.simulation.Emitter;
+import com.example.demo.simulation.EmitterCatalog;
+
+/**
+ * The {@link BulletStorm} class is the bullet benchmark scenario: every emitter shape in the
+ * catalogue firing at once from fixed points on a game-sized screen, with aimed patterns
+ * following a target that circles the centre, at a 60 Hz tick. Once it has filled, the storm
+ * keeps several thousand bullets alive. It has no JavaFX dependency, so the same scenario is
+ * drawn by {@code BulletBenchmark}, measured by the JMH benchmarks and timed here from the
+ * command line.
+ * <p>
+ * Run from the command line with {@code BulletStorm [ticks]}.
+ */
+public final class BulletStorm {
+
+	/** Width of the play area, matching the game window. */
+	public static final double SCREEN_WIDTH = 1300;
+
+	/** Height of the play area, matching the game window. */
+	public static final double SCREEN_HEIGHT = 750;
+
+	/** Ticks per second the scenario is designed for. */
+	public static final int TICKS_PER_SECOND = 60;
+
+	/** Ticks after which the storm has filled and measurements start. */
+	public static final int WARM_UP_TICKS = 600;
+
+	/** Distance a bullet may travel beyond the screen before it is retired. */
+	private static final double CULL_MARGIN = 50;
+
+	/** Radius of every bullet. */
+	private static final double HIT_RADIUS = 6;
+
+	/** Radius of the target's circle around the centre of the screen. */
+	private static final double TARGET_ORBIT = 200;
+
+	/** Angle the target moves round its circle per tick, in radians. */
+	private static final double TARGET_ANGULAR_VELOCITY = 0.02;
+
+	/** The emitter each source fires. */
+	private static final String[] SOURCE_EMITTERS = {
+			"benchSpiral", "benchRadial", "benchRadial",
+			"benchAimed", "benchAimed", "benchAimed", "benchAimed", "benchSpread"};
+
+	/** The x-coordinate each source fires from. */
+	private static final double[] SOURCE_X = {650, 325, 975, 100, 1200, 100, 1200, 650};
+
+	/** The y-coordinate each source fires from. */
+	private static final double[] SOURCE_Y = {375, 375, 375, 100, 100, 650, 650, 50};
+
+	/** The live bullets. */
+	private final BulletField bullets;
+
+	/** The pattern each source fires. */
+	private final Emitter[] emitters;
+
+	/** Number of ticks run. */
+	private long tick;
+
+	/** The x-coordinate aimed patterns fire at. */
+	private double targetX;
+
+	/** The y-coordinate aimed patterns fire at. */
+	private double targetY;
+
+	/**
+	 * Constructs a {@link BulletStorm} with no bullets yet, using the built-in emitter catalogue.
+	 */
+	public BulletStorm() {
+		EmitterCatalog catalog = EmitterCatalog.getInstance();
+		this.bullets = new BulletField(HIT_RADIUS, 8192, BulletField.DEFAULT_MAX_BULLETS);
+		this.emitters = new Emitter[SOURCE_EMITTERS.length];
+		for (int i = 0; i < emitters.length; i++) {
+			emitters[i] = catalog.get(SOURCE_EMITTERS[i]);
+		}
+		moveTarget();
+	}
+
+	/**
+	 * Runs one tick: moves the target, fires every source that is due and moves every bullet.
+	 */
+	public void step() {
+		moveTarget();
+		fire();
+		moveBullets();
+		tick++;
+	}
+
+	/**
+	 * Runs one tick, timing its firing and movement with a profiler.
+	 *
+	 * @param profiler the profiler to record the tick with.
+	 */
+	public void step(TickProfiler profiler) {
+		profiler.beginTick();
+		moveTarget();
+		fire();
+		profiler.mark(TickPhase.FIRE);
+		moveBullets();
+		profiler.mark(TickPhase.BULLETS);
+		tick++;
+		profiler.endTick("BulletStorm", bullets.size());
+	}
+
+	/**
+	 * Moves the target one step round its circle.
+	 */
+	private void moveTarget() {
+		double angle = tick * TARGET_ANGULAR_VELOCITY;
+		targetX = SCREEN_WIDTH / 2 + TARGET_ORBIT * Math.cos(angle);
+		targetY = SCREEN_HEIGHT / 2 + TARGET_ORBIT * Math.sin(angle);
+	}
+
+	/**
+	 * Fires a volley from every source whose emitter is due.
+	 */
+	private void fire() {
+		for (int i = 0; i < emitters.length; i++) {
+			Emitter emitter = emitters[i];
+			if (emitter.firesAt(tick)) {
+				emitter.fire(bullets, SOURCE_X[i], SOURCE_Y[i], targetX, targetY, emitter.volleyAt(tick));
+			}
+		}
+	}
+
+	/**
+	 * Moves every bullet, retiring those that expired or left the screen.
+	 */
+	private void moveBullets() {
+		bullets.update(-CULL_MARGIN, -CULL_MARGIN, SCREEN_WIDTH + CULL_MARGIN, SCREEN_HEIGHT + CULL_MARGIN);
+	}
+
+	/**
+	 * Retrieves the live bullets.
+	 *
+	 * @return the {@link BulletField}.
+	 */
+	public BulletField getBullets() {
+		return bullets;
+	}
+
+	/**
+	 * Retrieves the number of ticks run.
+	 *
+	 * @return the tick count.
+	 */
+	public long getTick() {
+		return tick;
+	}
+
+	/**
+	 * Retrieves the x-coordinate aimed patterns fire at.
+	 *
+	 * @return the target's x-coordinate.
+	 */
+	public double getTargetX() {
+		return targetX;
+	}
+
+	/**
+	 * Retrieves the y-coordinate aimed patterns fire at.
+	 *
+	 * @return the target's y-coordinate.
+	 */
+	public double getTargetY() {
+		return targetY;
+	}
+
+	/**
+	 * Runs the storm headlessly and prints the live bullet count and tick time percentiles
+	 * against the 60 Hz budget.
+	 *
+	 * @param args optionally, the number of ticks to measure after the warm-up.
+	 */
+	public static void main(String[] args) {
+		int ticks = args.length > 0 ? Integer.parseInt(args[0]) : 6000;
+		BulletStorm storm = new BulletStorm();
+		TickProfiler profiler = new TickProfiler(ticks);
+		for (int i = 0; i < WARM_UP_TICKS; i++) {
+			storm.step();
+		}
+		int minBullets = Integer.MAX_VALUE;
+		long totalBullets = 0;
+		long start = System.nanoTime();
+		for (int i = 0; i < ticks; i++) {
+			storm.step(profiler);
+			minBullets = Math.min(minBullets, storm.getBullets().size());
+			totalBullets += storm.getBullets().size();
+		}
+		double seconds = (System.nanoTime() - start) / 1e9;
+		System.out.printf("%d ticks after %d warm-up: bullets min %d, average %d; %.0f ticks/s%n",
+				ticks, WARM_UP_TICKS, minBullets, totalBullets / ticks, ticks / seconds);
+		System.out.printf("tick p50 %.3f ms, p99 %.3f ms, max %.3f ms; budget at %d Hz %.3f ms%n",
+				profiler.getTickPercentileNanos(50) / 1e6, profiler.getTickPercentileNanos(99) / 1e6,
+				profiler.getTickPercentileNanos(100) / 1e6, TICKS_PER_SECOND, 1000.0 / TICKS_PER_SECOND);
+	}
+}
@@ -0,0 +1,32 @@
+package com.example.demo.headless;
+
+import com.example.demo.simulation.World;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * The {@link RandomBot} class mashes keys: every few ticks it picks a new vertical direction at
+ * random, and it fires on a fixed share of ticks. It gives a lower bound on how hard a level is.
+ */
+public final class RandomBot implements Bot {
+
+	/** Chance of picking a new direction on each tick. */
+	private static final double TURN_PROBABILITY = .1;
+
+	/** Chance of firing on each tick. */
+	private static final double FIRE_PROBABILITY = .3;
+
+	@Override
+	public void act(World world, RandomGenerator random) {
+		if (random.nextDouble() < TURN_PROBABILITY) {
+			switch (random.nextInt(3)) {
+				case 0 -> world.moveUp();
+				case 1 -> world.moveDown();
+				default -> world.stopVertical();
+			}
+		}
+		if (random.nextDouble() < FIRE_PROBABILITY) {
+			world.fire();
+		}
+	}
+}
@@ -0,0 +1,58 @@
+package com.example.demo.headless;
+
+import com.example.demo.simulation.GameStatus;
+
+/**
+ * The {@link SessionResult} class holds the outcome of one simulated session.
+ */
+public final class SessionResult {
+
+	/** How the session ended; {@link GameStatus#RUNNING} if it ran out of ticks. */
+	private final GameStatus status;
+
+	/** Number of enemies the player destroyed. */
+	private final int kills;
+
+	/** Number of ticks the session ran. */
+	private final long ticks;
+
+	/**
+	 * Constructs a {@link SessionResult}.
+	 *
+	 * @param status how the session ended.
+	 * @param kills the number of enemies destroyed.
+	 * @param ticks the number of ticks run.
+	 */
+	public SessionResult(GameStatus status, int kills, long ticks) {
+		this.status = status;
+		this.kills = kills;
+		this.ticks = ticks;
+	}
+
+	/**
+	 * Retrieves how the session ended.
+	 *
+	 * @return the {@link GameStatus}, which is {@link GameStatus#RUNNING} for a timeout.
+	 */
+	public GameStatus getStatus() {
+		return status;
+	}
+
+	/**
+	 * Retrieves the number of enemies destroyed.
+	 *
+	 * @return the kill count.
+	 */
+	public int getKills() {
+		return kills;
+	}
+
+	/**
+	 * Retrieves the number of ticks the session ran.
+	 *
+	 * @return the tick count.
+	 */
+	public long getTicks() {
+		return ticks;
+	}
+}
@@ -1,15 +1,43 @@
 package com.example.demo.level;
 
 import java.util.*;
-import java.util.stream.Collectors;
+import java.util.function.Consumer;
 
 import com.example.demo.SoundManager;
 import com.example.demo.activeactor.ActiveActorDestructible;
+import com.example.demo.activeactor.FighterAircraft;
+import com.example.demo.collision.CollisionDetector;
+import com.example.demo.collision.CollisionMask;
+import com.example.demo.engine.ActorCuller;
+import com.example.demo.engine.GameLoop;
+import com.example.demo.engine.TickPhase;
+import com.example.demo.engine.TickProfiler;
+import com.example.demo.event.ActorDestroyed;
+import com.example.demo.event.DamageTaken;
+import com.example.demo.event.EventBus;
+import com.example.demo.event.GameStats;
+import com.example.demo.event.LevelLost;
+import com.example.demo.event.LevelWon;
 import com.example.demo.InputManager;
+import com.example.demo.graphics.BulletLayer;
+import com.example.demo.graphics.CanvasRenderer;
+import com.example.demo.graphics.ProfilerOverlay;
+import com.example.demo.graphics.PulseMonitor;
+import com.example.demo.graphics.RenderMode;
+import com.example.demo.graphics.SpriteAtlas;
+import com.example.demo.graphics.SpriteCache;
+import com.example.demo.replay.InputRecorder;
+import com.example.demo.simulation.BulletField;
+import com.example.demo.simulation.Emitter;
+import com.example.demo.simulation.GameRules;
+import com.example.demo.simulation.GameStatus;
+import com.example.demo.simulation.KillCounter;
 import com.example.demo.activeactor.PlayerAircraft;
 import com.example.demo.userinterface.MainMenu;
 import javafx.animation.*;
+import javafx.geometry.Bounds;
 import javafx.scene.Group;
+import javafx.scene.Node;
 import javafx.scene.Scene;
 import javafx.scene.control.Label;
 import javafx.scene.image.*;
@@ -22,28 +50,50 @@ import javafx.util.Duration;
  */
 public abstract class LevelParent extends Observable {
 
-	private static final double SCREEN_HEIGHT_ADJUSTMENT = 150;
-	private static final int MILLISECOND_DELAY = 50;
+	private static final String BULLET_IMAGE = "/com/example/demo/images/fireball.png";
+	private static final double BULLET_SIZE = 16;
 
 	private final double screenHeight;
 	private final double screenWidth;
 	private final double enemyMaximumYPosition;
 
 	private final Group root;
-	private final Timeline timeline;
+	private final GameLoop gameLoop;
 	private final PlayerAircraft user;
 	private final Scene scene;
 	private final ImageView background;
+	private final CollisionDetector collisionDetector;
+	private final ActorCuller projectileCuller;
+	private final CanvasRenderer canvasRenderer;
+	private final BulletField enemyBullets;
+	private final BulletLayer bulletLayer;
+	private final TickProfiler tickProfiler;
+	private final EventBus eventBus;
+	private final GameStats gameStats;
+	private final KillCounter killCounter;
+	private final SplittableRandom random;
+	private final long seed;
 
 	private final List<ActiveActorDestructible> friendlyUnits;
 	private final List<ActiveActorDestructible> enemyUnits;
 	private final List<ActiveActorDestructible> userProjectiles;
 	private final List<ActiveActorDestructible> enemyProjectiles;
+	private final Set<Node> removedNodes;
+	private final List<ActiveActorDestructible> removedActors;
 
 	private Stage stage;
-	private int currentNumberOfEnemies;
 	private LevelView levelView;
 	private boolean isPaused;
+	private int pendingShots;
+	private int nodesRemovedLastTick;
+	private long totalNodesRemoved;
+	private RenderMode renderMode;
+	private PulseMonitor pulseMonitor;
+	private ProfilerOverlay profilerOverlay;
+	private InputRecorder inputRecorder;
+	private FighterAircraft boss;
+	private String levelName;
+	private String nextLevelName;
 
 	/**
 	 * Retrieves the stage associated with the level.
@@ -70,46 +120,89 @@ public abstract class LevelParent extends Observable {
 	 * @param screenHeight        the height of the screen
 	 * @param screenWidth         the width of the screen
 	 * @param playerInitialHealth the initial health of the {@link PlayerAircraft}
+	 * @param seed                the seed for every random decision made in the level
 	 */
-	public LevelParent(String backgroundImageName, double screenHeight, double screenWidth, int playerInitialHealth) {
+	public LevelParent(String backgroundImageName, double screenHeight, double screenWidth, int playerInitialHealth, long seed) {
+		this.seed = seed;
+		this.random = new SplittableRandom(seed);
+		preloadSprites();
 		this.root = new Group();
 		this.scene = new Scene(root, screenWidth, screenHeight);
-		this.timeline = new Timeline();
+		this.gameLoop = new GameLoop(GameRules.TICK_MILLIS, this::runTick, this::renderFrame);
 		this.user = new PlayerAircraft(playerInitialHealth);
 		this.friendlyUnits = new ArrayList<>();
 		this.enemyUnits = new ArrayList<>();
 		this.userProjectiles = new ArrayList<>();
 		this.enemyProjectiles = new ArrayList<>();
+		this.removedNodes = Collections.newSetFromMap(new IdentityHashMap<>());
+		this.removedActors = new ArrayList<>();
+		this.collisionDetector = new CollisionDetector();
+		this.projectileCuller = new ActorCuller(screenWidth, screenHeight, GameRules.PROJECTILE_CULL_MARGIN, GameRules.PROJECTILE_MAX_AGE_TICKS);
+		this.canvasRenderer = new CanvasRenderer(screenWidth, screenHeight);
+		this.enemyBullets = new BulletField(GameRules.BULLET_HIT_RADIUS);
+		this.bulletLayer = new BulletLayer(screenWidth, screenHeight, BULLET_IMAGE, BULLET_SIZE);
+		this.tickProfiler = new TickProfiler();
+		this.renderMode = RenderMode.fromSystemProperty();
 
-		this.background = new ImageView(new Image(getClass().getResource(backgroundImageName).toExternalForm()));
+		this.background = new ImageView(SpriteCache.getInstance().getImage(backgroundImageName, screenWidth, screenHeight));
 		this.screenHeight = screenHeight;
 		this.screenWidth = screenWidth;
-		this.enemyMaximumYPosition = screenHeight - SCREEN_HEIGHT_ADJUSTMENT;
+		this.enemyMaximumYPosition = screenHeight - GameRules.SCREEN_HEIGHT_ADJUSTMENT;
 		this.levelView = instantiateLevelView();
-		this.currentNumberOfEnemies = 0;
 		this.isPaused = false;
-		initializeTimeline();
+		this.levelName = getClass().getSimpleName();
+		this.eventBus = new EventBus();
+		this.gameStats = new GameStats(eventBus);
+		this.killCounter = new KillCounter();
+		user.setEventBus(eventBus);
+		eventBus.subscribe(DamageTaken.class, this::onDamageTaken);
+		eventBus.subscribe(ActorDestroyed.class, this::onActorDestroyed);
 		friendlyUnits.add(user);
 	}
 
 	/**
-	 * Pauses the game by stopping the timeline.
+	 * Pauses the game by stopping the game loop.
 	 */
 	public void pauseGame() {
-		timeline.pause();
+		gameLoop.stop();
 		user.stopHorizontal();
 		user.stopVertical();
 		isPaused = true;
 	}
 
 	/**
-	 * Resumes the game by playing the timeline.
+	 * Resumes the game by restarting the game loop. Time spent paused is not simulated.
 	 */
 	public void resumeGame() {
-		timeline.play();
+		gameLoop.start();
 		isPaused = false;
 	}
 
+	/**
+	 * Packs the sprites used by this level into the shared {@link SpriteAtlas} before the
+	 * first frame, so spawning actors never stalls on image decoding. Subclasses add their
+	 * enemy sprites and must call the parent implementation.
+	 */
+	protected void preloadSprites() {
+		PlayerAircraft.preloadSprites();
+		SpriteAtlas.getInstance().preload(BULLET_IMAGE, BULLET_SIZE, BULLET_SIZE);
+	}
+
+	/**
+	 * Decodes the images every level uses, the player and bullet sprites and a background, without
+	 * constructing a level. Safe to call off the JavaFX application thread; the
+	 * {@link com.example.demo.controller.LevelPreloader} calls it through each level's asset loader.
+	 *
+	 * @param backgroundImageName the name of the background image file
+	 * @param screenHeight        the height of the screen
+	 * @param screenWidth         the width of the screen
+	 */
+	static void preloadCommonAssets(String backgroundImageName, double screenHeight, double screenWidth) {
+		PlayerAircraft.preloadSprites();
+		SpriteAtlas.getInstance().preload(BULLET_IMAGE, BULLET_SIZE, BULLET_SIZE);
+		SpriteCache.getInstance().preload(backgroundImageName, screenWidth, screenHeight);
+	}
+
 	/**
 	 * Abstract method to initialize friendly units. Must be implemented by subclasses.
 	 */
@@ -133,11 +226,15 @@ public abstract class LevelParent extends Observable {
 	protected abstract LevelView instantiateLevelView();
 
 	/**
-	 * Initializes and returns the scene for the level.
+	 * Initializes and returns the scene for the level. Like the constructor, must be called on the
+	 * JavaFX application thread.
 	 *
 	 * @return the initialized scene
 	 */
 	public Scene initializeScene() {
+		pulseMonitor = new PulseMonitor(scene);
+		SoundManager.subscribe(eventBus);
+		profilerOverlay = new ProfilerOverlay(gameLoop, tickProfiler, pulseMonitor, screenWidth);
 		initializeBackground();
 		initializeLevelText();
 		initializeFriendlyUnits();
@@ -146,49 +243,188 @@ public abstract class LevelParent extends Observable {
 	}
 
 	/**
-	 * Starts the game by requesting focus and playing the timeline.
+	 * Starts the game by requesting focus and starting the game loop.
 	 */
 	public void startGame() {
 		background.requestFocus();
-		timeline.play();
+		gameLoop.start();
+	}
+
+	/**
+	 * Records this level's place in the level graph. Called by the
+	 * {@link LevelRegistry} after constructing the level.
+	 *
+	 * @param levelName     the registered name of this level
+	 * @param nextLevelName the registered name of the following level, or null for the last level
+	 */
+	void setLevelGraph(String levelName, String nextLevelName) {
+		this.levelName = levelName;
+		this.nextLevelName = nextLevelName;
+	}
+
+	/**
+	 * Splits an independent generator off the level's generator for an actor or spawner. Splits
+	 * are taken in construction order, so the same seed gives every consumer the same sequence.
+	 *
+	 * @return a new generator seeded from the level's generator
+	 */
+	public SplittableRandom splitRandom() {
+		return random.split();
+	}
+
+	/**
+	 * Retrieves the seed the level was constructed with.
+	 *
+	 * @return the level seed
+	 */
+	public long getSeed() {
+		return seed;
+	}
+
+	/**
+	 * Retrieves the recorder holding the player's inputs since the scene was initialized.
+	 *
+	 * @return the {@link InputRecorder}, or null before {@link #initializeScene()}
+	 */
+	public InputRecorder getInputRecorder() {
+		return inputRecorder;
+	}
+
+	/**
+	 * Retrieves the registered name of this level.
+	 *
+	 * @return the level name
+	 */
+	public String getLevelName() {
+		return levelName;
+	}
+
+	/**
+	 * Retrieves the name of the level that follows this one, so it can be prepared while
+	 * this level is played.
+	 *
+	 * @return the next level's name, or null if this is the last level
+	 */
+	public String getNextLevelName() {
+		return nextLevelName;
+	}
+
+	/**
+	 * Transitions to the level that follows this one in the level graph.
+	 *
+	 * @throws IllegalStateException if this is the last level
+	 */
+	public void goToNextLevel() {
+		if (nextLevelName == null) {
+			throw new IllegalStateException(levelName + " has no next level");
+		}
+		goToNextLevel(nextLevelName);
 	}
 
 	/**
 	 * Transitions to the next level.
 	 *
-	 * @param levelName the name of the next level
+	 * @param levelName the registered name of the next level
 	 */
 	public void goToNextLevel(String levelName) {
-		timeline.stop();
+		gameLoop.stop();
+		recordOutcome(GameStatus.WON);
+		eventBus.publish(new LevelWon(this.levelName, levelName));
 		setChanged();
 		notifyObservers(levelName);
 	}
 
+	/**
+	 * Runs one fixed-length simulation tick. Actors are moved back from their interpolated
+	 * display positions before the scene is updated, and their new positions recorded afterwards.
+	 */
+	private void runTick() {
+		forEachActor(ActiveActorDestructible::beginTick);
+		updateScene();
+		forEachActor(ActiveActorDestructible::endTick);
+	}
+
+	/**
+	 * Renders a display frame by placing every actor between its previous and current tick positions.
+	 *
+	 * @param alpha the fraction of a tick elapsed since the most recent tick
+	 */
+	private void renderFrame(double alpha) {
+		interpolate(friendlyUnits, alpha);
+		interpolate(enemyUnits, alpha);
+		interpolate(userProjectiles, alpha);
+		interpolate(enemyProjectiles, alpha);
+		bulletLayer.draw(enemyBullets, alpha);
+		if (renderMode == RenderMode.CANVAS) {
+			canvasRenderer.beginFrame();
+			canvasRenderer.draw(friendlyUnits);
+			canvasRenderer.draw(enemyUnits);
+			canvasRenderer.draw(userProjectiles);
+			canvasRenderer.draw(enemyProjectiles);
+			canvasRenderer.endFrame();
+		}
+		levelView.getHud().render();
+		if (profilerOverlay != null) {
+			profilerOverlay.refresh(friendlyUnits.size(), enemyUnits.size(), userProjectiles.size(), enemyProjectiles.size(),
+					enemyBullets.size());
+		}
+	}
+
+	/**
+	 * Places each actor in a list between its previous and current tick positions.
+	 *
+	 * @param actors the actors to place
+	 * @param alpha the fraction of a tick elapsed since the most recent tick
+	 */
+	private void interpolate(List<ActiveActorDestructible> actors, double alpha) {
+		for (int i = 0, size = actors.size(); i < size; i++) {
+			actors.get(i).interpolate(alpha);
+		}
+	}
+
+	/**
+	 * Applies an action to every actor in the level.
+	 *
+	 * @param action the action to apply
+	 */
+	private void forEachActor(Consumer<ActiveActorDestructible> action) {
+		friendlyUnits.forEach(action);
+		enemyUnits.forEach(action);
+		userProjectiles.forEach(action);
+		enemyProjectiles.forEach(action);
+	}
+
 	/**
 	 * Updates the scene by handling game logic, such as spawning enemies, collision detection,
-	 * and UI updates.
+	 * and UI updates. Each phase is timed by the {@link TickProfiler}.
 	 */
 	private void updateScene() {
+		tickProfiler.beginTick();
+		collisionDetector.beginTick();
+		firePendingProjectiles();
+		tickProfiler.mark(TickPhase.FIRE);
 		spawnEnemyUnits();
+		tickProfiler.mark(TickPhase.SPAWN);
 		updateActors();
-		updateNumberOfEnemies();
+		tickProfiler.mark(TickPhase.UPDATE_ACTORS);
+		updateBullets();
+		tickProfiler.mark(TickPhase.BULLETS);
+		cullProjectiles();
+		tickProfiler.mark(TickPhase.CULL);
 		handleEnemyPenetration();
+		tickProfiler.mark(TickPhase.PENETRATION);
 		handleUserProjectileCollisions();
+		tickProfiler.mark(TickPhase.USER_PROJECTILE_COLLISIONS);
 		handleEnemyProjectileCollisions();
+		tickProfiler.mark(TickPhase.ENEMY_PROJECTILE_COLLISIONS);
 		handlePlaneCollisions();
+		tickProfiler.mark(TickPhase.PLANE_COLLISIONS);
 		removeAllDestroyedActors();
-		updateKillCount();
-		updateLevelView();
+		tickProfiler.mark(TickPhase.REMOVE_DESTROYED);
 		checkIfGameOver();
-	}
-
-	/**
-	 * Initializes the game loop timeline.
-	 */
-	private void initializeTimeline() {
-		timeline.setCycleCount(Timeline.INDEFINITE);
-		KeyFrame gameLoop = new KeyFrame(Duration.millis(MILLISECOND_DELAY), e -> updateScene());
-		timeline.getKeyFrames().add(gameLoop);
+		tickProfiler.mark(TickPhase.GAME_OVER_CHECK);
+		tickProfiler.endTick(levelName, friendlyUnits.size() + enemyUnits.size()
+				+ userProjectiles.size() + enemyProjectiles.size() + enemyBullets.size());
 	}
 
 	/**
@@ -198,20 +434,24 @@ public abstract class LevelParent extends Observable {
 		background.setFocusTraversable(true);
 		background.setFitHeight(screenHeight);
 		background.setFitWidth(screenWidth);
-		InputManager.getInstance().initialize(background, user, this::fireProjectile);
+		inputRecorder = new InputRecorder(levelName, seed, gameLoop::getTickCount);
+		InputManager.getInstance().initialize(background, user, this::fireProjectile, inputRecorder);
 		root.getChildren().add(background);
 		background.toBack();
+		root.getChildren().add(1, bulletLayer.getCanvas());
+		if (renderMode == RenderMode.CANVAS) {
+			root.getChildren().add(2, canvasRenderer.getCanvas());
+		}
 	}
 
 	/**
 	 * Initializes the level text display.
 	 */
 	private void initializeLevelText() {
-		String levelName = getClass().toString().split("\\.")[4];
-		levelName = levelName.substring(0, 5) + " " + levelName.substring(5);
+		String title = levelName.replaceAll("(?<=[a-z])(?=[A-Z0-9])", " ");
 
-		Label label = new Label(levelName);
-		label.setTranslateX(stage.getWidth() / 2);
+		Label label = new Label(title);
+		label.setTranslateX(screenWidth / 2);
 		label.setTranslateY(32);
 		label.setScaleX(4);
 		label.setScaleY(4);
@@ -219,12 +459,23 @@ public abstract class LevelParent extends Observable {
 	}
 
 	/**
-	 * Fires a {@link com.example.demo.activeactor.UserMissile} from the {@link PlayerAircraft}.
+	 * Requests a {@link com.example.demo.activeactor.UserMissile} from the {@link PlayerAircraft}.
+	 * The missile is fired at the start of the next tick, while actors are at their simulated
+	 * rather than interpolated positions.
 	 */
 	private void fireProjectile() {
 		if (!isPaused) {
+			pendingShots++;
+		}
+	}
+
+	/**
+	 * Fires the {@link com.example.demo.activeactor.UserMissile}s requested since the previous tick.
+	 */
+	private void firePendingProjectiles() {
+		for (; pendingShots > 0; pendingShots--) {
 			ActiveActorDestructible projectile = user.fireProjectile();
-			root.getChildren().add(projectile);
+			addActorToScene(projectile);
 			userProjectiles.add(projectile);
 		}
 	}
@@ -236,11 +487,44 @@ public abstract class LevelParent extends Observable {
 	 */
 	public void spawnEnemyProjectile(ActiveActorDestructible projectile) {
 		if (projectile != null) {
-			root.getChildren().add(projectile);
+			addActorToScene(projectile);
 			enemyProjectiles.add(projectile);
 		}
 	}
 
+	/**
+	 * Fires one volley of a bullet pattern into the level's enemy bullets, aimed at the player's centre.
+	 *
+	 * @param emitter the pattern to fire
+	 * @param x the x-coordinate the bullets start from
+	 * @param y the y-coordinate the bullets start from
+	 * @param volley the volley's number, for spinning patterns
+	 */
+	public void fireBullets(Emitter emitter, double x, double y, long volley) {
+		Bounds target = user.getBoundsInParent();
+		emitter.fire(enemyBullets, x, y, target.getCenterX(), target.getCenterY(), volley);
+	}
+
+	/**
+	 * Moves the enemy bullets, retiring those that left the screen by more than the cull margin,
+	 * and damages the player once for every bullet that hits it.
+	 */
+	private void updateBullets() {
+		if (enemyBullets.size() == 0) {
+			return;
+		}
+		enemyBullets.update(-GameRules.PROJECTILE_CULL_MARGIN, -GameRules.PROJECTILE_CULL_MARGIN,
+				screenWidth + GameRules.PROJECTILE_CULL_MARGIN, screenHeight + GameRules.PROJECTILE_CULL_MARGIN);
+		Bounds bounds = user.getBoundsInParent();
+		CollisionMask mask = user.getCollisionMask();
+		int hits = mask != null
+				? enemyBullets.collide(bounds.getMinX(), bounds.getMinY(), mask)
+				: enemyBullets.collide(bounds.getMinX(), bounds.getMinY(), bounds.getMaxX(), bounds.getMaxY());
+		for (int i = 0; i < hits && !user.isDestroyed(); i++) {
+			user.takeDamage();
+		}
+	}
+
 	/**
 	 * Updates all actors in the scene.
 	 */
@@ -252,26 +536,86 @@ public abstract class LevelParent extends Observable {
 	}
 
 	/**
-	 * Removes all destroyed actors from the scene.
+	 * Retires projectiles that have left the screen or outlived their maximum age, so they
+	 * take no further part in collisions and are removed with the other destroyed actors.
+	 */
+	private void cullProjectiles() {
+		projectileCuller.cull(userProjectiles);
+		projectileCuller.cull(enemyProjectiles);
+	}
+
+	/**
+	 * Removes all destroyed actors from their lists and then from the scene in a single
+	 * scene-graph change, returning pooled actors to their {@link com.example.demo.pool.ActorPool}
+	 * for reuse. Uses only reused collections, so a tick allocates nothing here.
 	 */
 	private void removeAllDestroyedActors() {
 		removeDestroyedActors(friendlyUnits);
 		removeDestroyedActors(enemyUnits);
 		removeDestroyedActors(userProjectiles);
 		removeDestroyedActors(enemyProjectiles);
+		nodesRemovedLastTick = removedActors.size();
+		totalNodesRemoved += nodesRemovedLastTick;
+		if (nodesRemovedLastTick == 0) {
+			return;
+		}
+		if (renderMode == RenderMode.NODES) {
+			root.getChildren().removeAll(removedNodes);
+		}
+		for (int i = 0; i < nodesRemovedLastTick; i++) {
+			removedActors.get(i).releaseToPool();
+		}
+		removedNodes.clear();
+		removedActors.clear();
+	}
+
+	/**
+	 * Stops the level and returns every pooled actor still in it to its
+	 * {@link com.example.demo.pool.ActorPool}, so actors alive when the level ends do not count as
+	 * in use for the rest of the session. Called once the level has been left; calling it again
+	 * does nothing.
+	 */
+	public void tearDown() {
+		gameLoop.stop();
+		releaseAll(enemyUnits);
+		releaseAll(userProjectiles);
+		releaseAll(enemyProjectiles);
+	}
+
+	/**
+	 * Removes every actor of a list from the scene and the list, and returns them to their pools.
+	 *
+	 * @param actors the list of actors to release
+	 */
+	private void releaseAll(List<ActiveActorDestructible> actors) {
+		root.getChildren().removeAll(actors);
+		for (ActiveActorDestructible actor : actors) {
+			actor.releaseToPool();
+		}
+		actors.clear();
 	}
 
 	/**
-	 * Removes destroyed actors from the specified list and the scene.
+	 * Compacts the specified list in place, keeping surviving actors in order and collecting
+	 * destroyed ones for removal from the scene.
 	 *
 	 * @param actors the list of actors to process
 	 */
 	private void removeDestroyedActors(List<ActiveActorDestructible> actors) {
-		List<ActiveActorDestructible> destroyedActors = actors.stream()
-				.filter(ActiveActorDestructible::isDestroyed)
-				.collect(Collectors.toList());
-		root.getChildren().removeAll(destroyedActors);
-		actors.removeAll(destroyedActors);
+		int size = actors.size();
+		int kept = 0;
+		for (int i = 0; i < size; i++) {
+			ActiveActorDestructible actor = actors.get(i);
+			if (actor.isDestroyed()) {
+				removedNodes.add(actor);
+				removedActors.add(actor);
+			} else {
+				actors.set(kept++, actor);
+			}
+		}
+		for (int i = size - 1; i >= kept; i--) {
+			actors.remove(i);
+		}
 	}
 
 	/**
@@ -296,51 +640,75 @@ public abstract class LevelParent extends Observable {
 	}
 
 	/**
-	 * Detects and processes collisions between two groups of actors.
+	 * Detects and processes collisions between two groups of actors using the
+	 * {@link CollisionDetector}'s grid broad phase.
 	 *
 	 * @param actors1 the first group of actors
 	 * @param actors2 the second group of actors
 	 */
 	private void handleCollisions(List<ActiveActorDestructible> actors1, List<ActiveActorDestructible> actors2) {
-		for (ActiveActorDestructible actor : actors2) {
-			for (ActiveActorDestructible otherActor : actors1) {
-				if (actor.getBoundsInParent().intersects(otherActor.getBoundsInParent())) {
-					actor.takeDamage();
-					otherActor.takeDamage();
-				}
-			}
-		}
+		collisionDetector.handleCollisions(actors1, actors2);
 	}
 
 	/**
 	 * Handles scenarios where {@link com.example.demo.activeactor.EnemyAircraft} penetrate defenses.
+	 * An enemy that gets past damages the player and is destroyed without counting as a kill.
 	 */
 	private void handleEnemyPenetration() {
 		for (ActiveActorDestructible enemy : enemyUnits) {
-			if (enemyHasPenetratedDefenses(enemy)) {
+			if (!enemy.isDestroyed() && enemyHasPenetratedDefenses(enemy)) {
 				user.takeDamage();
 				enemy.destroy();
-				user.decrementKillCount();
+				eventBus.publish(new ActorDestroyed(enemy, ActorDestroyed.Cause.ESCAPED));
 			}
 		}
 	}
 
 	/**
-	 * Updates the level view based on the {@link PlayerAircraft} current health.
+	 * Updates the heart display when the {@link PlayerAircraft} is damaged, and the boss health
+	 * bar when the boss is.
+	 *
+	 * @param event the damage event
 	 */
-	private void updateLevelView() {
-		levelView.removeHearts(user.getHealth());
+	private void onDamageTaken(DamageTaken event) {
+		if (event.getActor() == user) {
+			levelView.removeHearts(event.getRemainingHealth());
+		} else if (event.getActor() == boss) {
+			levelView.getHud().setBossHealth(event.getRemainingHealth(), boss.getInitialHealth());
+		}
 	}
 
 	/**
-	 * Updates the {@link PlayerAircraft}'s kill count based on defeated {@link com.example.demo.activeactor.EnemyAircraft}.
+	 * Records a destroyed aircraft with the level's {@link KillCounter} and, when it counts as a
+	 * kill, updates the score and kill counter.
+	 *
+	 * @param event the destruction event
 	 */
-	private void updateKillCount() {
-		for (int i = 0; i < currentNumberOfEnemies - enemyUnits.size(); i++) {
-			user.incrementKillCount();
+	private void onActorDestroyed(ActorDestroyed event) {
+		if (killCounter.recordDestroyed(event.getActor() != user, event.getCause() == ActorDestroyed.Cause.SHOT_DOWN)) {
+			levelView.getHud().setScore(gameStats.getScore(), killCounter.getKills());
 		}
 	}
 
+	/**
+	 * Shows a health bar for the level's boss, which follows the boss's health until it is destroyed.
+	 *
+	 * @param boss the boss
+	 */
+	protected void setBoss(FighterAircraft boss) {
+		this.boss = boss;
+		levelView.getHud().setBossHealth(boss.getHealth(), boss.getInitialHealth());
+	}
+
+	/**
+	 * Shows the number of kills needed to finish the level next to the kill counter.
+	 *
+	 * @param killTarget the kill target
+	 */
+	protected void setKillTarget(int killTarget) {
+		levelView.getHud().setKillTarget(killTarget);
+	}
+
 	/**
 	 * Checks if an {@link com.example.demo.activeactor.EnemyAircraft} has penetrated the {@link PlayerAircraft}'s defenses.
 	 *
@@ -352,31 +720,52 @@ public abstract class LevelParent extends Observable {
 	}
 
 	/**
-	 * Handles the winning scenario by stopping the timeline and showing the {@link com.example.demo.userinterface.WinImage}.
+	 * Handles the winning scenario by stopping the game loop, showing the {@link com.example.demo.userinterface.WinImage},
+	 * and navigating back to the {@link MainMenu} after a delay.
 	 */
 	protected void winGame() {
-		timeline.stop();
+		gameLoop.stop();
 		levelView.showWinImage();
-		SoundManager.playSound("P1942_00014.wav");
-		SoundManager.stopBackgroundSound();
+		recordOutcome(GameStatus.WON);
+		eventBus.publish(new LevelWon(levelName, null));
+		returnToMainMenu();
 	}
 
 	/**
-	 * Handles the losing scenario by stopping the timeline, showing the {@link com.example.demo.userinterface.GameOverImage},
+	 * Handles the losing scenario by stopping the game loop, showing the {@link com.example.demo.userinterface.GameOverImage},
 	 * and navigating back to the {@link MainMenu} after a delay.
 	 */
 	protected void loseGame() {
-		timeline.stop();
+		gameLoop.stop();
 		levelView.showGameOverImage();
-		SoundManager.playSound("P1942_00014.wav");
-		SoundManager.stopBackgroundSound();
+		recordOutcome(GameStatus.LOST);
+		eventBus.publish(new LevelLost(levelName));
+		returnToMainMenu();
+	}
 
+	/**
+	 * Stamps the level's input recording with how the level ended, before the end is announced
+	 * and the recording saved.
+	 *
+	 * @param outcome how the level ended
+	 */
+	private void recordOutcome(GameStatus outcome) {
+		if (inputRecorder != null) {
+			inputRecorder.recordOutcome(outcome);
+		}
+	}
+
+	/**
+	 * Pauses the level and, after a 3-second delay, tears it down and shows the {@link MainMenu}.
+	 */
+	private void returnToMainMenu() {
 		pauseGame();
 
 		Timeline timeline = new Timeline();
 		KeyFrame keyFrame = new KeyFrame(
 				Duration.seconds(3),
 				event -> {
+					tearDown();
 					MainMenu mainMenu = new MainMenu();
 					mainMenu.show(getStage());
 				}
@@ -395,6 +784,15 @@ public abstract class LevelParent extends Observable {
 		return user;
 	}
 
+	/**
+	 * Retrieves the {@link GameLoop} driving this level, which exposes tick and frame timing.
+	 *
+	 * @return the game loop
+	 */
+	public GameLoop getGameLoop() {
+		return gameLoop;
+	}
+
 	/**
 	 * Retrieves the root group of the scene.
 	 *
@@ -419,8 +817,223 @@ public abstract class LevelParent extends Observable {
 	 * @param enemy the {@link com.example.demo.activeactor.EnemyAircraft} unit to add
 	 */
 	protected void addEnemyUnit(ActiveActorDestructible enemy) {
+		enemy.setEventBus(eventBus);
 		enemyUnits.add(enemy);
-		root.getChildren().add(enemy);
+		addActorToScene(enemy);
+	}
+
+	/**
+	 * Makes an actor visible. In {@link RenderMode#NODES} the actor is added to the scene graph;
+	 * in {@link RenderMode#CANVAS} it is drawn from its list each frame and stays out of the scene graph.
+	 *
+	 * @param actor the actor to show
+	 */
+	protected void addActorToScene(ActiveActorDestructible actor) {
+		if (renderMode == RenderMode.NODES) {
+			root.getChildren().add(actor);
+		}
+	}
+
+	/**
+	 * Switches how actors are drawn. Once the scene is built, actor nodes are moved out of or
+	 * back into the scene graph in a single change.
+	 *
+	 * @param mode the {@link RenderMode} to use
+	 */
+	public void setRenderMode(RenderMode mode) {
+		if (mode == renderMode) {
+			return;
+		}
+		renderMode = mode;
+		int bulletLayerIndex = root.getChildren().indexOf(bulletLayer.getCanvas());
+		if (bulletLayerIndex < 0) {
+			return;
+		}
+		if (mode == RenderMode.CANVAS) {
+			forEachActor(removedNodes::add);
+			root.getChildren().removeAll(removedNodes);
+			removedNodes.clear();
+			root.getChildren().add(bulletLayerIndex + 1, canvasRenderer.getCanvas());
+			renderFrame(gameLoop.getInterpolationAlpha());
+		} else {
+			root.getChildren().remove(canvasRenderer.getCanvas());
+			List<ActiveActorDestructible> actors = new ArrayList<>();
+			forEachActor(actors::add);
+			root.getChildren().addAll(actors);
+		}
+	}
+
+	/**
+	 * Retrieves how actors are drawn.
+	 *
+	 * @return the current {@link RenderMode}
+	 */
+	public RenderMode getRenderMode() {
+		return renderMode;
+	}
+
+	/**
+	 * Retrieves the renderer used in {@link RenderMode#CANVAS}, which reports draw counts and times.
+	 *
+	 * @return the canvas renderer
+	 */
+	public CanvasRenderer getCanvasRenderer() {
+		return canvasRenderer;
+	}
+
+	/**
+	 * Retrieves the monitor measuring the scene's CSS and layout pass on each pulse.
+	 *
+	 * @return the pulse monitor, or null before {@link #initializeScene()}
+	 */
+	public PulseMonitor getPulseMonitor() {
+		return pulseMonitor;
+	}
+
+	/**
+	 * Retrieves the bus the level's actors publish their events on.
+	 *
+	 * @return the event bus
+	 */
+	public EventBus getEventBus() {
+		return eventBus;
+	}
+
+	/**
+	 * Retrieves the tally of the level's shots, kills, escapes and hits.
+	 *
+	 * @return the game statistics
+	 */
+	public GameStats getGameStats() {
+		return gameStats;
+	}
+
+	/**
+	 * Retrieves the level's kill tally, kept by the same rules as the headless simulation's.
+	 *
+	 * @return the {@link KillCounter}
+	 */
+	public KillCounter getKillCounter() {
+		return killCounter;
+	}
+
+	/**
+	 * Retrieves the profiler timing each phase of the level's ticks.
+	 *
+	 * @return the tick profiler
+	 */
+	public TickProfiler getTickProfiler() {
+		return tickProfiler;
+	}
+
+	/**
+	 * Shows the profiler overlay if hidden, or hides it if shown. Does nothing before
+	 * {@link #initializeScene()}.
+	 */
+	public void toggleProfilerOverlay() {
+		if (profilerOverlay != null) {
+			profilerOverlay.toggle(root);
+		}
+	}
+
+	/**
+	 * Counts the nodes currently in the level's scene graph.
+	 *
+	 * @return the node count
+	 */
+	public int getSceneNodeCount() {
+		return pulseMonitor == null ? 0 : pulseMonitor.getNodeCount();
+	}
+
+	/**
+	 * Retrieves the {@link ActorCuller} that retires off-screen and expired projectiles,
+	 * through which its margin and maximum age can be configured.
+	 *
+	 * @return the projectile culler
+	 */
+	public ActorCuller getProjectileCuller() {
+		return projectileCuller;
+	}
+
+	/**
+	 * Retrieves the number of friendly units alive.
+	 *
+	 * @return the friendly unit count
+	 */
+	public int getFriendlyUnitCount() {
+		return friendlyUnits.size();
+	}
+
+	/**
+	 * Retrieves the number of enemy units alive.
+	 *
+	 * @return the enemy unit count
+	 */
+	public int getEnemyUnitCount() {
+		return enemyUnits.size();
+	}
+
+	/**
+	 * Retrieves the number of {@link com.example.demo.activeactor.UserMissile}s in flight.
+	 *
+	 * @return the user projectile count
+	 */
+	public int getUserProjectileCount() {
+		return userProjectiles.size();
+	}
+
+	/**
+	 * Retrieves the number of enemy projectiles in flight.
+	 *
+	 * @return the enemy projectile count
+	 */
+	public int getEnemyProjectileCount() {
+		return enemyProjectiles.size();
+	}
+
+	/**
+	 * Retrieves the bullets fired by enemy bullet patterns.
+	 *
+	 * @return the enemy {@link BulletField}
+	 */
+	public BulletField getEnemyBullets() {
+		return enemyBullets;
+	}
+
+	/**
+	 * Retrieves the number of destroyed actors removed from the scene during the previous tick.
+	 *
+	 * @return the removed node count
+	 */
+	public int getNodesRemovedLastTick() {
+		return nodesRemovedLastTick;
+	}
+
+	/**
+	 * Retrieves the number of destroyed actors removed from the scene since the level started.
+	 *
+	 * @return the total removed node count
+	 */
+	public long getTotalNodesRemoved() {
+		return totalNodesRemoved;
+	}
+
+	/**
+	 * Retrieves the number of narrow-phase collision pair tests performed during the previous tick.
+	 *
+	 * @return the pair-test count
+	 */
+	public int getCollisionPairTestsLastTick() {
+		return collisionDetector.getPairTestsLastTick();
+	}
+
+	/**
+	 * Retrieves the number of pairs a nested-loop collision check would have tested during the previous tick.
+	 *
+	 * @return the brute-force pair count
+	 */
+	public int getBruteForceCollisionPairsLastTick() {
+		return collisionDetector.getBruteForcePairsLastTick();
 	}
 
 	/**
@@ -449,11 +1062,4 @@ public abstract class LevelParent extends Observable {
 	protected boolean userIsDestroyed() {
 		return user.isDestroyed();
 	}
-
-	/**
-	 * Updates the current number of  {@link com.example.demo.activeactor.EnemyAircraft} in the scene.
-	 */
-	private void updateNumberOfEnemies() {
-		currentNumberOfEnemies = enemyUnits.size();
-	}
 }
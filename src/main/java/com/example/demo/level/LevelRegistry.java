@@ -0,0 +1,320 @@
+package com.example.demo.level;
+
+import com.example.demo.simulation.LevelRules;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The {@link LevelRegistry} class maps level names to factories that construct them, replacing
+ * reflective class lookup. Each level is registered with its {@link LevelRules}, which declare the
+ * level graph: the level that follows it and how it is won.
+ * <p>
+ * A registry backed by a {@link LevelSpecCatalog} registers wave levels lazily: a name that is not
+ * registered is looked up in the catalogue the first time it is asked for, so building a registry
+ * does not read the catalogue beyond the start level. {@link #validate()} resolves and checks the
+ * whole graph reachable from the registered levels, and is run by the tests rather than at startup.
+ */
+public final class LevelRegistry {
+
+	/**
+	 * Constructs a level for a screen size and seed.
+	 */
+	@FunctionalInterface
+	public interface LevelFactory {
+
+		/**
+		 * Constructs a level.
+		 *
+		 * @param screenHeight the height of the screen.
+		 * @param screenWidth the width of the screen.
+		 * @param seed the seed for every random decision made in the level.
+		 * @return the new level.
+		 */
+		LevelParent create(double screenHeight, double screenWidth, long seed);
+	}
+
+	/**
+	 * Decodes the images a level uses, without constructing it, so it can run off the JavaFX
+	 * application thread.
+	 */
+	@FunctionalInterface
+	public interface AssetLoader {
+
+		/**
+		 * Loads a level's assets into the shared caches.
+		 *
+		 * @param screenHeight the height of the screen.
+		 * @param screenWidth the width of the screen.
+		 */
+		void load(double screenHeight, double screenWidth);
+	}
+
+	/** Registered levels by name, in registration order. */
+	private final Map<String, Entry> entries;
+
+	/** Name of the level the game starts with. */
+	private final String startLevel;
+
+	/** Catalogue that unregistered levels are looked up in, or null. */
+	private final LevelSpecCatalog catalog;
+
+	/**
+	 * Constructs an empty {@link LevelRegistry} that only knows the levels registered with it.
+	 *
+	 * @param startLevel the name of the level the game starts with.
+	 */
+	public LevelRegistry(String startLevel) {
+		this(startLevel, null);
+	}
+
+	/**
+	 * Constructs an empty {@link LevelRegistry} that registers wave levels from a catalogue on
+	 * first lookup.
+	 *
+	 * @param startLevel the name of the level the game starts with.
+	 * @param catalog the catalogue unregistered levels are looked up in, or null for none.
+	 */
+	public LevelRegistry(String startLevel, LevelSpecCatalog catalog) {
+		this.entries = new LinkedHashMap<>();
+		this.startLevel = startLevel;
+		this.catalog = catalog;
+	}
+
+	/**
+	 * Creates a registry holding the built-in levels, backed by the built-in {@link LevelSpecCatalog}.
+	 *
+	 * @return the default {@link LevelRegistry}.
+	 * @throws IllegalArgumentException if the catalogue is empty or its first line is malformed.
+	 */
+	public static LevelRegistry createDefault() {
+		return createDefault(LevelSpecCatalog.getInstance());
+	}
+
+	/**
+	 * Creates a registry holding the built-in levels. Only the catalogue's first line is read, to
+	 * name the start level; the other wave levels are read when first asked for. The boss level
+	 * keeps its own class.
+	 *
+	 * @param catalog the catalogue of wave levels.
+	 * @return a {@link LevelRegistry} backed by the catalogue.
+	 * @throws IllegalArgumentException if the catalogue is empty or its first line is malformed.
+	 */
+	public static LevelRegistry createDefault(LevelSpecCatalog catalog) {
+		return new LevelRegistry(catalog.getFirst().getName(), catalog)
+				.register(LevelRules.LEVEL_TWO, LevelTwo::new, LevelTwo::preloadAssets);
+	}
+
+	/**
+	 * Adds a level that has no assets to load ahead of construction.
+	 *
+	 * @param rules the level's rules, whose name identifies it.
+	 * @param factory constructs the level.
+	 * @return this registry, for chaining.
+	 * @throws IllegalArgumentException if a level with the same name is already registered.
+	 */
+	public LevelRegistry register(LevelRules rules, LevelFactory factory) {
+		return register(rules, factory, (screenHeight, screenWidth) -> { });
+	}
+
+	/**
+	 * Adds a level.
+	 *
+	 * @param rules the level's rules, whose name identifies it.
+	 * @param factory constructs the level.
+	 * @param assets loads the level's assets ahead of construction.
+	 * @return this registry, for chaining.
+	 * @throws IllegalArgumentException if a level with the same name is already registered.
+	 */
+	public synchronized LevelRegistry register(LevelRules rules, LevelFactory factory, AssetLoader assets) {
+		if (entries.containsKey(rules.getName())) {
+			throw new IllegalArgumentException("Level registered twice: " + rules.getName());
+		}
+		entries.put(rules.getName(), new Entry(rules, factory, assets));
+		return this;
+	}
+
+	/**
+	 * Adds a wave level played by a {@link SpecLevel}.
+	 *
+	 * @param spec the level's definition.
+	 * @return this registry, for chaining.
+	 * @throws IllegalArgumentException if a level with the same name is already registered.
+	 */
+	public LevelRegistry register(LevelSpec spec) {
+		return register(spec.getRules(), (screenHeight, screenWidth, seed) -> new SpecLevel(spec, screenHeight, screenWidth, seed),
+				(screenHeight, screenWidth) -> SpecLevel.preloadAssets(spec, screenHeight, screenWidth));
+	}
+
+	/**
+	 * Checks that the start level and every level's next level are registered or can be read from
+	 * the catalogue, resolving each of them. This reads as much of the catalogue as the level graph
+	 * reaches.
+	 *
+	 * @throws IllegalStateException listing every problem found.
+	 */
+	public synchronized void validate() {
+		List<String> problems = new ArrayList<>();
+		if (resolve(startLevel) == null) {
+			problems.add("start level " + startLevel + " is not registered");
+		}
+		List<Entry> unchecked = new ArrayList<>(entries.values());
+		for (int i = 0; i < unchecked.size(); i++) {
+			Entry entry = unchecked.get(i);
+			String next = entry.getNextLevel();
+			if (next == null || entries.containsKey(next)) {
+				continue;
+			}
+			Entry resolved = resolve(next);
+			if (resolved == null) {
+				problems.add(entry.getName() + " leads to unregistered level " + next);
+			} else {
+				unchecked.add(resolved);
+			}
+		}
+		if (!problems.isEmpty()) {
+			throw new IllegalStateException("Invalid level graph: " + String.join("; ", problems));
+		}
+	}
+
+	/**
+	 * Retrieves a level, registering it from the catalogue on first lookup if it is not registered.
+	 *
+	 * @param name the level's name.
+	 * @return the level's {@link Entry}.
+	 * @throws IllegalArgumentException if no level has that name, or its catalogue line is malformed.
+	 */
+	public synchronized Entry get(String name) {
+		Entry entry = resolve(name);
+		if (entry == null) {
+			throw new IllegalArgumentException("Unknown level: " + name);
+		}
+		return entry;
+	}
+
+	/**
+	 * Looks a level up, registering it from the catalogue if it is found there.
+	 *
+	 * @param name the level's name.
+	 * @return the level's {@link Entry}, or null if no level has that name.
+	 * @throws IllegalArgumentException if the level's catalogue line is malformed.
+	 */
+	private Entry resolve(String name) {
+		Entry entry = entries.get(name);
+		if (entry == null && catalog != null) {
+			LevelSpec spec = catalog.find(name);
+			if (spec != null) {
+				register(spec);
+				entry = entries.get(name);
+			}
+		}
+		return entry;
+	}
+
+	/**
+	 * Constructs a registered level and tells it its place in the level graph.
+	 *
+	 * @param name the level's name.
+	 * @param screenHeight the height of the screen.
+	 * @param screenWidth the width of the screen.
+	 * @param seed the seed for every random decision made in the level.
+	 * @return the new level.
+	 * @throws IllegalArgumentException if no level has that name.
+	 */
+	public LevelParent create(String name, double screenHeight, double screenWidth, long seed) {
+		Entry entry = get(name);
+		LevelParent level = entry.factory.create(screenHeight, screenWidth, seed);
+		level.setLevelGraph(entry.getName(), entry.getNextLevel());
+		return level;
+	}
+
+	/**
+	 * Looks up a level and loads its assets into the shared caches without constructing it. Safe
+	 * to call off the JavaFX application thread.
+	 *
+	 * @param name the level's name.
+	 * @param screenHeight the height of the screen.
+	 * @param screenWidth the width of the screen.
+	 * @throws IllegalArgumentException if no level has that name.
+	 */
+	public void preload(String name, double screenHeight, double screenWidth) {
+		get(name).assets.load(screenHeight, screenWidth);
+	}
+
+	/**
+	 * Retrieves the name of the level the game starts with.
+	 *
+	 * @return the start level's name.
+	 */
+	public String getStartLevel() {
+		return startLevel;
+	}
+
+	/**
+	 * Retrieves every level registered so far, including those read from the catalogue on lookup.
+	 *
+	 * @return a snapshot of the entries, in registration order.
+	 */
+	public synchronized Collection<Entry> getEntries() {
+		return Collections.unmodifiableCollection(new ArrayList<>(entries.values()));
+	}
+
+	/**
+	 * The {@link Entry} class is one registered level: its rules, its factory and its asset loader.
+	 */
+	public static final class Entry {
+
+		/** The level's rules, including its name, win condition and next level. */
+		private final LevelRules rules;
+
+		/** Constructs the level. */
+		private final LevelFactory factory;
+
+		/** Loads the level's assets ahead of construction. */
+		private final AssetLoader assets;
+
+		/**
+		 * Constructs an {@link Entry}.
+		 *
+		 * @param rules the level's rules.
+		 * @param factory constructs the level.
+		 * @param assets loads the level's assets ahead of construction.
+		 */
+		private Entry(LevelRules rules, LevelFactory factory, AssetLoader assets) {
+			this.rules = rules;
+			this.factory = factory;
+			this.assets = assets;
+		}
+
+		/**
+		 * Retrieves the level's name.
+		 *
+		 * @return the name.
+		 */
+		public String getName() {
+			return rules.getName();
+		}
+
+		/**
+		 * Retrieves the name of the level that follows this one.
+		 *
+		 * @return the next level's name, or null for the last level.
+		 */
+		public String getNextLevel() {
+			return rules.getNextLevel();
+		}
+
+		/**
+		 * Retrieves the level's rules.
+		 *
+		 * @return the {@link LevelRules}.
+		 */
+		public LevelRules getRules() {
+			return rules;
+		}
+	}
+}
@@ -0,0 +1,55 @@
+package com.example.demo.level;
+
+import com.example.demo.simulation.LevelRules;
+
+/**
+ * The {@link LevelSpec} class is the immutable definition of a wave level read from the level
+ * catalogue: its {@link LevelRules} and the background it is played over. A {@link SpecLevel}
+ * plays any spec, so adding a level means adding a catalogue line rather than a class.
+ */
+public final class LevelSpec {
+
+	/** The level's name, enemy waves, win condition and next level. */
+	private final LevelRules rules;
+
+	/** Classpath location of the background image. */
+	private final String backgroundImageName;
+
+	/**
+	 * Constructs a {@link LevelSpec}.
+	 *
+	 * @param rules the level's rules.
+	 * @param backgroundImageName the classpath location of the background image.
+	 */
+	public LevelSpec(LevelRules rules, String backgroundImageName) {
+		this.rules = rules;
+		this.backgroundImageName = backgroundImageName;
+	}
+
+	/**
+	 * Retrieves the level's name.
+	 *
+	 * @return the name.
+	 */
+	public String getName() {
+		return rules.getName();
+	}
+
+	/**
+	 * Retrieves the level's rules.
+	 *
+	 * @return the {@link LevelRules}.
+	 */
+	public LevelRules getRules() {
+		return rules;
+	}
+
+	/**
+	 * Retrieves the classpath location of the background image.
+	 *
+	 * @return the background image name.
+	 */
+	public String getBackgroundImageName() {
+		return backgroundImageName;
+	}
+}
@@ -0,0 +1,224 @@
+package com.example.demo.level;
+
+import com.example.demo.catalog.CatalogResource;
+import com.example.demo.catalog.KeyValueLine;
+import com.example.demo.simulation.ActorType;
+import com.example.demo.simulation.LevelRules;
+import com.example.demo.simulation.Wave;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * The {@link LevelSpecCatalog} class reads {@link LevelSpec}s from a level catalogue on the
+ * classpath. The catalogue is a text file with one level per line: the level's name followed by
+ * {@code key=value} fields, for example
+ * <pre>
+ * LevelOne enemy=ENEMY enemies=5 kills=10 spawn=0.20 health=5 background=/com/example/demo/images/background1.jpg next=LevelTwo
+ * </pre>
+ * Blank lines and lines starting with {@code #} are ignored, and {@code next} is omitted for the
+ * last level. An optional {@code waves} field lists scripted {@link Wave}s, separated by commas,
+ * each written as {@code start:count:burst:interval:cap}.
+ * <p>
+ * Nothing is read up front. A lookup reads the catalogue through a {@link CatalogResource} until it
+ * reaches the requested line and parses only that line, so startup cost does not grow with the
+ * size of the catalogue.
+ * Parsed specs are cached and shared between threads, including the level preloader.
+ */
+public final class LevelSpecCatalog {
+
+	/** Classpath location of the built-in level catalogue. */
+	public static final String DEFAULT_CATALOG = "/com/example/demo/levels/levels.txt";
+
+	/** The shared catalogue of built-in levels. */
+	private static LevelSpecCatalog instance;
+
+	/** The catalogue resource. */
+	private final CatalogResource catalog;
+
+	/** Specs parsed so far, by level name. */
+	private final Map<String, LevelSpec> specs;
+
+	/**
+	 * Constructs a {@link LevelSpecCatalog} over a catalogue resource. The resource is not read
+	 * until a spec is requested.
+	 *
+	 * @param resourcePath the absolute classpath location of the catalogue.
+	 */
+	public LevelSpecCatalog(String resourcePath) {
+		this.catalog = new CatalogResource(resourcePath, "level");
+		this.specs = new ConcurrentHashMap<>();
+	}
+
+	/**
+	 * Retrieves the catalogue of built-in levels, creating it on first use.
+	 *
+	 * @return the shared {@link LevelSpecCatalog}.
+	 */
+	public static synchronized LevelSpecCatalog getInstance() {
+		if (instance == null) {
+			instance = new LevelSpecCatalog(DEFAULT_CATALOG);
+		}
+		return instance;
+	}
+
+	/**
+	 * Looks up the rules of any built-in level: wave levels in the built-in catalogue, and
+	 * levels with their own class in {@link LevelRules}. Used to simulate levels headlessly.
+	 *
+	 * @param levelName the level's name.
+	 * @return the level's {@link LevelRules}.
+	 * @throws IllegalArgumentException if the level is unknown.
+	 */
+	public static LevelRules rulesFor(String levelName) {
+		try {
+			return getInstance().get(levelName).getRules();
+		} catch (IllegalArgumentException notInCatalogue) {
+			try {
+				return LevelRules.forLevel(levelName);
+			} catch (IllegalArgumentException e) {
+				e.addSuppressed(notInCatalogue);
+				throw e;
+			}
+		}
+	}
+
+	/**
+	 * Retrieves a level's spec, reading the catalogue up to its line on first request.
+	 *
+	 * @param name the level's name.
+	 * @return the parsed {@link LevelSpec}.
+	 * @throws IllegalArgumentException if the catalogue has no such level or its line is malformed.
+	 */
+	public LevelSpec get(String name) {
+		LevelSpec spec = specs.get(name);
+		return spec != null ? spec : cache(catalog.find(name));
+	}
+
+	/**
+	 * Looks up a level's spec like {@link #get(String)}, without failing if the level does not exist.
+	 *
+	 * @param name the level's name.
+	 * @return the parsed {@link LevelSpec}, or null if the catalogue has no such level.
+	 * @throws IllegalArgumentException if the level's line is malformed.
+	 */
+	public LevelSpec find(String name) {
+		LevelSpec spec = specs.get(name);
+		if (spec != null) {
+			return spec;
+		}
+		KeyValueLine line = catalog.lookup(name);
+		return line == null ? null : cache(line);
+	}
+
+	/**
+	 * Retrieves the catalogue's first spec, reading the catalogue only up to its line.
+	 *
+	 * @return the first {@link LevelSpec}.
+	 * @throws IllegalArgumentException if the catalogue holds no levels or its first line is malformed.
+	 */
+	public LevelSpec getFirst() {
+		try (Stream<LevelSpec> stream = stream()) {
+			return stream.findFirst().orElseThrow(
+					() -> new IllegalArgumentException("The level catalogue " + catalog.getResourcePath() + " is empty"));
+		}
+	}
+
+	/**
+	 * Streams every spec in catalogue order, reading and parsing lines only as they are consumed.
+	 * The stream must be closed to release the catalogue.
+	 *
+	 * @return a lazy stream of specs.
+	 */
+	public Stream<LevelSpec> stream() {
+		return catalog.stream().map(line -> specs.computeIfAbsent(line.getName(), name -> toSpec(line)));
+	}
+
+	/**
+	 * Retrieves the number of specs parsed so far.
+	 *
+	 * @return the cache size.
+	 */
+	public int getCachedCount() {
+		return specs.size();
+	}
+
+	/**
+	 * Parses a catalogue line into a spec and caches it, keeping the spec another thread cached first.
+	 *
+	 * @param line the catalogue line.
+	 * @return the cached {@link LevelSpec}.
+	 * @throws IllegalArgumentException if a field is missing, unknown or malformed.
+	 */
+	private LevelSpec cache(KeyValueLine line) {
+		LevelSpec parsed = toSpec(line);
+		LevelSpec cached = specs.putIfAbsent(line.getName(), parsed);
+		return cached != null ? cached : parsed;
+	}
+
+	/**
+	 * Parses one catalogue line into a spec.
+	 *
+	 * @param line the catalogue line.
+	 * @param lineNumber the line's position in the catalogue, for error messages.
+	 * @return the parsed {@link LevelSpec}.
+	 * @throws IllegalArgumentException if a field is missing, unknown or malformed.
+	 */
+	static LevelSpec parse(String line, int lineNumber) {
+		return toSpec(KeyValueLine.parse(line, lineNumber));
+	}
+
+	/**
+	 * Builds a spec from a catalogue line's fields.
+	 *
+	 * @param line the parsed catalogue line.
+	 * @return the {@link LevelSpec}.
+	 * @throws IllegalArgumentException if a field is missing, unknown or malformed.
+	 */
+	private static LevelSpec toSpec(KeyValueLine line) {
+		String enemy = line.require("enemy");
+		ActorType enemyType;
+		try {
+			enemyType = ActorType.valueOf(enemy);
+		} catch (IllegalArgumentException e) {
+			throw line.error("unknown enemy type " + enemy, e);
+		}
+		LevelRules rules = new LevelRules(
+				line.getName(),
+				enemyType,
+				line.requireInt("enemies"),
+				line.requireInt("kills"),
+				line.requireDouble("spawn"),
+				line.requireInt("health"),
+				line.optional("next"),
+				parseWaves(line));
+		String background = line.require("background");
+		line.checkConsumed();
+		return new LevelSpec(rules, background);
+	}
+
+	/**
+	 * Parses the optional list of scripted waves.
+	 *
+	 * @param line the parsed catalogue line.
+	 * @return the waves, in the order written.
+	 * @throws IllegalArgumentException if a wave is malformed.
+	 */
+	private static List<Wave> parseWaves(KeyValueLine line) {
+		List<Wave> waves = new ArrayList<>();
+		String text = line.optional("waves");
+		if (text != null) {
+			for (String wave : text.split(",")) {
+				try {
+					waves.add(Wave.parse(wave));
+				} catch (IllegalArgumentException e) {
+					throw line.error(e.getMessage(), e);
+				}
+			}
+		}
+		return waves;
+	}
+}
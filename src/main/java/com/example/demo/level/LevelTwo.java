@@ -5,23 +5,42 @@ import com.example.demo.activeactor.Boss;
 public class LevelTwo extends LevelParent {
 
 	private static final String BACKGROUND_IMAGE_NAME = "/com/example/demo/images/background2.jpg";
-	private static final String NEXT_LEVEL = "com.example.demo.level.LevelThree";
 	private static final int PLAYER_INITIAL_HEALTH = 5;
 	private final Boss boss;
 	private LevelViewLevelTwo levelView;
 
-	public LevelTwo(double screenHeight, double screenWidth) {
-		super(BACKGROUND_IMAGE_NAME, screenHeight, screenWidth, PLAYER_INITIAL_HEALTH);
+	public LevelTwo(double screenHeight, double screenWidth, long seed) {
+		super(BACKGROUND_IMAGE_NAME, screenHeight, screenWidth, PLAYER_INITIAL_HEALTH, seed);
 		boss = new Boss(this);
 	}
 
+	/**
+	 * Decodes this level's background and sprites without constructing it.
+	 *
+	 * @param screenHeight the height of the screen
+	 * @param screenWidth  the width of the screen
+	 */
+	static void preloadAssets(double screenHeight, double screenWidth) {
+		preloadCommonAssets(BACKGROUND_IMAGE_NAME, screenHeight, screenWidth);
+		Boss.preloadSprites();
+	}
+
+	/**
+	 * Preloads the {@link Boss} sprites spawned by this level.
+	 */
+	@Override
+	protected void preloadSprites() {
+		super.preloadSprites();
+		Boss.preloadSprites();
+	}
+
 	/**
 	 * Initializes {@link com.example.demo.activeactor.PlayerAircraft} for the current game level.
 	 * Adds the {@link com.example.demo.activeactor.PlayerAircraft} game character to the root scene or container.
 	 */
 	@Override
 	protected void initializeFriendlyUnits() {
-		getRoot().getChildren().add(getUser());
+		addActorToScene(getUser());
 	}
 
 	/**
@@ -37,7 +56,7 @@ public class LevelTwo extends LevelParent {
 			loseGame();
 		} else if (boss.isDestroyed()) {
 			// Instead of winGame(), transition to next level
-			goToNextLevel(NEXT_LEVEL);
+			goToNextLevel();
 		}
 	}
 
@@ -51,6 +70,7 @@ public class LevelTwo extends LevelParent {
 	protected void spawnEnemyUnits() {
 		if (getCurrentNumberOfEnemies() == 0) {
 			addEnemyUnit(boss);
+			setBoss(boss);
 			getRoot().getChildren().add(boss.getShieldImage());
 		}
 	}
@@ -3,6 +3,7 @@ package com.example.demo.level;
 import com.example.demo.activeactor.Boss;
 import com.example.demo.userinterface.GameOverImage;
 import com.example.demo.userinterface.HeartDisplay;
+import com.example.demo.userinterface.Hud;
 import com.example.demo.userinterface.WinImage;
 import javafx.scene.Group;
 import javafx.scene.paint.Color;
@@ -45,6 +46,9 @@ public class LevelView {
 	/** Display showing the {@link com.example.demo.activeactor.PlayerAircraft} remaining hearts/health */
 	private final HeartDisplay heartDisplay;
 
+	/** HUD showing the hearts, the score and kill counter, and the boss health bar */
+	private final Hud hud;
+
 	/**
 	 * Constructs a new {@link LevelView} with specified root and initial hearts.
 	 * @param root The JavaFX group to which game elements will be added
@@ -53,6 +57,7 @@ public class LevelView {
 	public LevelView(Group root, int heartsToDisplay) {
 		this.root = root;
 		this.heartDisplay = new HeartDisplay(HEART_DISPLAY_X_POSITION, HEART_DISPLAY_Y_POSITION, heartsToDisplay);
+		this.hud = new Hud(heartDisplay, heartsToDisplay);
 		this.winImage = new WinImage(WIN_IMAGE_X_POSITION, WIN_IMAGE_Y_POSITION);
 		this.gameOverImage = new GameOverImage(LOSS_SCREEN_X_POSITION, LOSS_SCREEN_Y_POSISITION);
 
@@ -69,11 +74,20 @@ public class LevelView {
 	}
 
 	/**
-	 * Adds the {@link HeartDisplay} to the root group.
+	 * Adds the {@link Hud}, including the {@link HeartDisplay}, to the root group.
 	 * Typically called to initialize the {@link com.example.demo.activeactor.PlayerAircraft} health visualization.
 	 */
 	public void showHeartDisplay() {
-		root.getChildren().add(heartDisplay.getContainer());
+		hud.show(root);
+	}
+
+	/**
+	 * Retrieves the {@link Hud} showing the hearts, the score and kill counter, and the boss health bar.
+	 *
+	 * @return the HUD
+	 */
+	public Hud getHud() {
+		return hud;
 	}
 
 	/**
@@ -94,14 +108,12 @@ public class LevelView {
 	}
 
 	/**
-	 * Removes hearts from the display based on the remaining health.
+	 * Removes hearts from the display based on the remaining health. The hearts are removed
+	 * when the {@link Hud} next renders.
 	 *
 	 * @param heartsRemaining The number of hearts the {@link com.example.demo.activeactor.PlayerAircraft} has left
 	 */
 	public void removeHearts(int heartsRemaining) {
-		int currentNumberOfHearts = heartDisplay.getContainer().getChildren().size();
-		for (int i = 0; i < currentNumberOfHearts - heartsRemaining; i++) {
-			heartDisplay.removeHeart();
-		}
+		hud.setHealth(heartsRemaining);
 	}
 }
\ No newline at end of file
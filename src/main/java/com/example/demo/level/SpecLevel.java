@@ -0,0 +1,155 @@
+package com.example.demo.level;
+
+import com.example.demo.activeactor.ActiveActorDestructible;
+import com.example.demo.activeactor.EnemyAircraft;
+import com.example.demo.activeactor.MovingBossAircraft;
+import com.example.demo.pool.ActorPool;
+import com.example.demo.pool.ActorPools;
+import com.example.demo.simulation.SpawnScheduler;
+
+/**
+ * The {@link SpecLevel} class plays a wave level described by a {@link LevelSpec}: enemies of one
+ * kind are spawned up to the spec's limit until the player reaches the kill target, which leads
+ * to the next level or, for the last level, wins the game.
+ */
+public class SpecLevel extends LevelParent {
+
+	/** The level's definition. */
+	private final LevelSpec spec;
+
+	/** Pool of reusable enemies spawned by this level. */
+	private final ActorPool<? extends ActiveActorDestructible> enemyPool;
+
+	/** The level's spawn timeline. */
+	private final SpawnScheduler spawnScheduler;
+
+	/**
+	 * Constructs a {@link SpecLevel}.
+	 *
+	 * @param spec         the level's definition
+	 * @param screenHeight the height of the screen
+	 * @param screenWidth  the width of the screen
+	 * @param seed         the seed for every random decision made in the level
+	 * @throws IllegalArgumentException if the spec's enemy type cannot be spawned in waves
+	 */
+	public SpecLevel(LevelSpec spec, double screenHeight, double screenWidth, long seed) {
+		super(spec.getBackgroundImageName(), screenHeight, screenWidth, spec.getRules().getPlayerInitialHealth(), seed);
+		this.spec = spec;
+		this.enemyPool = createEnemyPool();
+		this.spawnScheduler = SpawnScheduler.forRules(spec.getRules(), splitRandom());
+		setKillTarget(spec.getRules().getKillsToAdvance());
+	}
+
+	/**
+	 * Decodes a wave level's background and sprites without constructing it.
+	 *
+	 * @param spec         the level's definition
+	 * @param screenHeight the height of the screen
+	 * @param screenWidth  the width of the screen
+	 */
+	static void preloadAssets(LevelSpec spec, double screenHeight, double screenWidth) {
+		preloadCommonAssets(spec.getBackgroundImageName(), screenHeight, screenWidth);
+		switch (spec.getRules().getEnemyType()) {
+			case ENEMY -> EnemyAircraft.preloadSprites();
+			case MOVING_BOSS -> MovingBossAircraft.preloadSprites();
+			default -> {
+				// The constructor rejects the spec.
+			}
+		}
+	}
+
+	/**
+	 * Preloads the enemy sprites and registers the pool for the spec's enemy type under the
+	 * level's name.
+	 *
+	 * @return the enemy pool
+	 * @throws IllegalArgumentException if the spec's enemy type cannot be spawned in waves
+	 */
+	private ActorPool<? extends ActiveActorDestructible> createEnemyPool() {
+		switch (spec.getRules().getEnemyType()) {
+			case ENEMY:
+				EnemyAircraft.preloadSprites();
+				return ActorPools.getInstance().register(spec.getName(),
+						new ActorPool<>(EnemyAircraft.class, (xPosition, yPosition) -> new EnemyAircraft(this, xPosition, yPosition)));
+			case MOVING_BOSS:
+				MovingBossAircraft.preloadSprites();
+				return ActorPools.getInstance().register(spec.getName(),
+						new ActorPool<>(MovingBossAircraft.class, (xPosition, yPosition) -> new MovingBossAircraft(this, xPosition, yPosition)));
+			default:
+				throw new IllegalArgumentException(spec.getName() + " cannot spawn " + spec.getRules().getEnemyType() + " in waves");
+		}
+	}
+
+	/**
+	 * Releases the level's actors and removes its enemy pool from the {@link ActorPools} registry.
+	 */
+	@Override
+	public void tearDown() {
+		super.tearDown();
+		ActorPools.getInstance().unregister(spec.getName(), enemyPool);
+	}
+
+	/**
+	 * Retrieves the level's definition.
+	 *
+	 * @return the {@link LevelSpec}
+	 */
+	public LevelSpec getSpec() {
+		return spec;
+	}
+
+	/**
+	 * Retrieves the level's spawn timeline.
+	 *
+	 * @return the {@link SpawnScheduler}
+	 */
+	public SpawnScheduler getSpawnScheduler() {
+		return spawnScheduler;
+	}
+
+	/**
+	 * Ends the game with a loss if the {@link com.example.demo.activeactor.PlayerAircraft} is destroyed. Once the
+	 * kill target is reached, moves to the next level, or wins the game if this is the last level.
+	 */
+	@Override
+	protected void checkIfGameOver() {
+		if (userIsDestroyed()) {
+			loseGame();
+		} else if (getKillCounter().hasReached(spec.getRules().getKillsToAdvance())) {
+			if (getNextLevelName() != null) {
+				goToNextLevel();
+			} else {
+				winGame();
+			}
+		}
+	}
+
+	/**
+	 * Adds the {@link com.example.demo.activeactor.PlayerAircraft} to the scene.
+	 */
+	@Override
+	protected void initializeFriendlyUnits() {
+		addActorToScene(getUser());
+	}
+
+	/**
+	 * Spawns the enemies the level's {@link SpawnScheduler} has due this tick at the right edge
+	 * of the screen.
+	 */
+	@Override
+	protected void spawnEnemyUnits() {
+		spawnScheduler.tick(getCurrentNumberOfEnemies(),
+				(type, yFraction) -> addEnemyUnit(enemyPool.acquire(getScreenWidth(), yFraction * getEnemyMaximumYPosition())));
+	}
+
+	/**
+	 * Creates the {@link LevelView} for this level. Called from the {@link LevelParent} constructor
+	 * before the spec is assigned, so the heart count is taken from the player's initial health.
+	 *
+	 * @return a new {@link LevelView}
+	 */
+	@Override
+	protected LevelView instantiateLevelView() {
+		return new LevelView(getRoot(), getUser().getHealth());
+	}
+}
@@ -0,0 +1,22 @@
+package com.example.demo.pool;
+
+import com.example.demo.activeactor.ActiveActorDestructible;
+
+/**
+ * The {@link ActorFactory} interface creates a new {@link ActiveActorDestructible} at a given position.
+ * An {@link ActorPool} only calls it when no released actor is available for reuse.
+ *
+ * @param <T> the type of actor produced.
+ */
+@FunctionalInterface
+public interface ActorFactory<T extends ActiveActorDestructible> {
+
+	/**
+	 * Creates a new actor.
+	 *
+	 * @param initialXPos the initial x-coordinate position.
+	 * @param initialYPos the initial y-coordinate position.
+	 * @return the newly created actor.
+	 */
+	T create(double initialXPos, double initialYPos);
+}
@@ -0,0 +1,137 @@
+package com.example.demo.pool;
+
+import com.example.demo.activeactor.ActiveActorDestructible;
+
+import java.util.ArrayDeque;
+
+/**
+ * The {@link ActorPool} class keeps released actors of a single type so they can be reset and
+ * reused instead of allocating a new JavaFX node for every spawn. It records how many actors
+ * had to be created because the pool was empty and the highest number in use at once.
+ *
+ * @param <T> the type of actor held by the pool.
+ */
+public class ActorPool<T extends ActiveActorDestructible> {
+
+	/** The type of actor held by this pool. */
+	private final Class<T> type;
+
+	/** Creates actors when no released actor is available. */
+	private final ActorFactory<T> factory;
+
+	/** Released actors waiting to be reused. */
+	private final ArrayDeque<T> freeActors;
+
+	/** Number of actors currently handed out. */
+	private int inUse;
+
+	/** Highest value {@link #inUse} has reached. */
+	private int highWaterMark;
+
+	/** Number of acquisitions that had to create a new actor. */
+	private long misses;
+
+	/** Total number of acquisitions. */
+	private long acquisitions;
+
+	/**
+	 * Constructs an empty {@link ActorPool}.
+	 *
+	 * @param type the type of actor held by the pool.
+	 * @param factory the factory used when the pool is empty.
+	 */
+	public ActorPool(Class<T> type, ActorFactory<T> factory) {
+		this.type = type;
+		this.factory = factory;
+		this.freeActors = new ArrayDeque<>();
+	}
+
+	/**
+	 * Hands out an actor at the given position, reusing a released one when possible.
+	 *
+	 * @param initialXPos the initial x-coordinate position.
+	 * @param initialYPos the initial y-coordinate position.
+	 * @return an actor in its initial state.
+	 */
+	public T acquire(double initialXPos, double initialYPos) {
+		T actor = freeActors.poll();
+		if (actor == null) {
+			misses++;
+			actor = factory.create(initialXPos, initialYPos);
+			actor.setPool(this);
+		} else {
+			actor.reset(initialXPos, initialYPos);
+		}
+		acquisitions++;
+		inUse++;
+		if (inUse > highWaterMark) {
+			highWaterMark = inUse;
+		}
+		return actor;
+	}
+
+	/**
+	 * Returns an actor to the pool. The actor must no longer be part of the scene graph. Called by
+	 * {@link ActiveActorDestructible#releaseToPool()}, which releases each actor only once.
+	 *
+	 * @param actor the actor to release.
+	 */
+	public void release(ActiveActorDestructible actor) {
+		freeActors.push(type.cast(actor));
+		inUse--;
+	}
+
+	/**
+	 * Retrieves the type of actor held by this pool.
+	 *
+	 * @return the actor type.
+	 */
+	public Class<T> getType() {
+		return type;
+	}
+
+	/**
+	 * Retrieves the number of actors currently handed out.
+	 *
+	 * @return the number of actors in use.
+	 */
+	public int getInUse() {
+		return inUse;
+	}
+
+	/**
+	 * Retrieves the number of released actors ready for reuse.
+	 *
+	 * @return the number of free actors.
+	 */
+	public int getFreeCount() {
+		return freeActors.size();
+	}
+
+	/**
+	 * Retrieves the highest number of actors that were in use at the same time.
+	 *
+	 * @return the high-water mark.
+	 */
+	public int getHighWaterMark() {
+		return highWaterMark;
+	}
+
+	/**
+	 * Retrieves the number of acquisitions that found the pool empty and created a new actor.
+	 *
+	 * @return the miss count.
+	 */
+	public long getMisses() {
+		return misses;
+	}
+
+	/**
+	 * Retrieves the total number of acquisitions.
+	 *
+	 * @return the acquisition count.
+	 */
+	public long getAcquisitions() {
+		return acquisitions;
+	}
+}
@@ -0,0 +1,101 @@
+package com.example.demo.pool;
+
+import com.example.demo.activeactor.ActiveActorDestructible;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * The {@link ActorPools} class is a singleton registry of every {@link ActorPool} in use, keyed by
+ * owner and actor type, so pool statistics can be reported in one place. Pools that live for the
+ * whole session, such as the missile pools, belong to {@link #SHARED}; a level's own pools belong
+ * to the level's name, so tearing a level down removes its pools without touching those of any
+ * other level.
+ */
+public final class ActorPools {
+
+	/** Owner of the pools shared by every level. */
+	public static final String SHARED = "shared";
+
+	/** The single instance of the {@link ActorPools}. */
+	private static ActorPools instance;
+
+	/** Registered pools keyed by owner and actor type. */
+	private final Map<String, ActorPool<?>> pools;
+
+	/**
+	 * Constructs an empty registry.
+	 */
+	private ActorPools() {
+		this.pools = new LinkedHashMap<>();
+	}
+
+	/**
+	 * Retrieves the singleton instance of the {@link ActorPools}.
+	 *
+	 * @return the {@link ActorPools} instance.
+	 */
+	public static synchronized ActorPools getInstance() {
+		if (instance == null) {
+			instance = new ActorPools();
+		}
+		return instance;
+	}
+
+	/**
+	 * Registers a pool. A pool the same owner registered earlier for the same actor type, such as
+	 * the pool of an earlier attempt at the same level, is replaced.
+	 *
+	 * @param owner {@link #SHARED}, or the name of the level that owns the pool.
+	 * @param pool the pool to register.
+	 * @param <T> the pool's actor type.
+	 * @return the registered pool.
+	 */
+	public synchronized <T extends ActiveActorDestructible> ActorPool<T> register(String owner, ActorPool<T> pool) {
+		pools.put(key(owner, pool.getType()), pool);
+		return pool;
+	}
+
+	/**
+	 * Removes a pool when its owner is torn down. Does nothing if the pool has since been replaced.
+	 *
+	 * @param owner the name the pool was registered under.
+	 * @param pool the pool to remove.
+	 */
+	public synchronized void unregister(String owner, ActorPool<?> pool) {
+		pools.remove(key(owner, pool.getType()), pool);
+	}
+
+	/**
+	 * Retrieves the pool an owner registered for an actor type.
+	 *
+	 * @param owner {@link #SHARED}, or the name of the level that owns the pool.
+	 * @param type the actor type.
+	 * @return the registered pool, or null if none is registered.
+	 */
+	public synchronized ActorPool<?> getPool(String owner, Class<?> type) {
+		return pools.get(key(owner, type));
+	}
+
+	/**
+	 * Retrieves every registered pool.
+	 *
+	 * @return an unmodifiable view of the registered pools.
+	 */
+	public synchronized Collection<ActorPool<?>> getPools() {
+		return Collections.unmodifiableCollection(pools.values());
+	}
+
+	/**
+	 * Builds the registry key of a pool.
+	 *
+	 * @param owner the pool's owner.
+	 * @param type the pool's actor type.
+	 * @return the key.
+	 */
+	private static String key(String owner, Class<?> type) {
+		return owner + '/' + type.getName();
+	}
+}
@@ -0,0 +1,60 @@
+package com.example.demo.replay;
+
+import com.example.demo.simulation.World;
+
+/**
+ * The {@link InputAction} enum lists the player commands the keyboard can issue. Key events are
+ * translated into actions before they reach the player, so the same actions can be recorded,
+ * written to an {@link InputLog} as one byte each and replayed into a headless {@link World}.
+ */
+public enum InputAction {
+
+	/** Start moving up. */
+	MOVE_UP,
+	/** Start moving down. */
+	MOVE_DOWN,
+	/** Start moving left. */
+	MOVE_LEFT,
+	/** Start moving right. */
+	MOVE_RIGHT,
+	/** Stop moving horizontally. */
+	STOP_HORIZONTAL,
+	/** Stop moving vertically. */
+	STOP_VERTICAL,
+	/** Fire a missile. */
+	FIRE;
+
+	/** Actions indexed by ordinal, for decoding. */
+	private static final InputAction[] VALUES = values();
+
+	/**
+	 * Retrieves the action with a given code.
+	 *
+	 * @param code the action's ordinal, as written to a log.
+	 * @return the {@link InputAction}.
+	 * @throws IllegalArgumentException if no action has that code.
+	 */
+	public static InputAction fromCode(int code) {
+		if (code < 0 || code >= VALUES.length) {
+			throw new IllegalArgumentException("Unknown input action code: " + code);
+		}
+		return VALUES[code];
+	}
+
+	/**
+	 * Applies the action to a headless simulation.
+	 *
+	 * @param world the simulation.
+	 */
+	public void applyTo(World world) {
+		switch (this) {
+			case MOVE_UP -> world.moveUp();
+			case MOVE_DOWN -> world.moveDown();
+			case MOVE_LEFT -> world.moveLeft();
+			case MOVE_RIGHT -> world.moveRight();
+			case STOP_HORIZONTAL -> world.stopHorizontal();
+			case STOP_VERTICAL -> world.stopVertical();
+			case FIRE -> world.fire();
+		}
+	}
+}
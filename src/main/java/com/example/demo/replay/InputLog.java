@@ -0,0 +1,313 @@
+package com.example.demo.replay;
+
+import com.example.demo.simulation.GameStatus;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * The {@link InputLog} class is an immutable recording of the player's inputs during one level:
+ * the level, the seed it was played with, how and on which tick the level ended, and a list of
+ * tick-stamped {@link InputAction}s.
+ * <p>
+ * The binary form is a header (magic, version, level name, seed, outcome, end tick, event count)
+ * followed by one
+ * entry per event: the ticks since the previous event as a variable-length integer and the
+ * action's code as a byte. Most events are a few ticks apart, so an event usually takes two bytes.
+ * Version 1 logs, written before the outcome was recorded, are still read; their outcome is
+ * {@link GameStatus#RUNNING}.
+ */
+public final class InputLog {
+
+	/** Marks the start of a log: "CWIR". */
+	private static final int MAGIC = 0x43574952;
+
+	/** Format version written to the header. */
+	private static final int VERSION = 2;
+
+	/** Oldest format version that can still be read; it has no outcome or end tick. */
+	private static final int FIRST_VERSION = 1;
+
+	/** Fewest bytes an event takes: one for the tick delta and one for the action. */
+	private static final int MIN_EVENT_BYTES = 2;
+
+	/** Number of events the arrays are first sized for when reading, before the events are seen. */
+	private static final int INITIAL_READ_CAPACITY = 1024;
+
+	/** The level the inputs were recorded in. */
+	private final String levelName;
+
+	/** The seed the level was played with. */
+	private final long seed;
+
+	/** How the level ended, or {@link GameStatus#RUNNING} if it was left unfinished. */
+	private final GameStatus outcome;
+
+	/** Number of ticks the level ran for. */
+	private final long endTick;
+
+	/** Tick at which each event was issued, in ascending order. */
+	private final long[] ticks;
+
+	/** Code of each event's {@link InputAction}. */
+	private final byte[] actions;
+
+	/**
+	 * Constructs an {@link InputLog}, copying the event arrays.
+	 *
+	 * @param levelName the level the inputs were recorded in.
+	 * @param seed the seed the level was played with.
+	 * @param outcome how the level ended, or {@link GameStatus#RUNNING} if it was left unfinished.
+	 * @param endTick the number of ticks the level ran for.
+	 * @param ticks the tick of each event, in ascending order.
+	 * @param actions the action code of each event.
+	 * @param count the number of events to take from the arrays.
+	 * @throws IllegalArgumentException if the ticks are not in ascending order.
+	 */
+	InputLog(String levelName, long seed, GameStatus outcome, long endTick, long[] ticks, byte[] actions, int count) {
+		for (int i = 1; i < count; i++) {
+			if (ticks[i] < ticks[i - 1]) {
+				throw new IllegalArgumentException("Event " + i + " is earlier than the event before it");
+			}
+		}
+		this.levelName = levelName;
+		this.seed = seed;
+		this.outcome = outcome;
+		this.endTick = endTick;
+		this.ticks = Arrays.copyOf(ticks, count);
+		this.actions = Arrays.copyOf(actions, count);
+	}
+
+	/**
+	 * Reads a log from a file.
+	 *
+	 * @param file the file to read.
+	 * @return the {@link InputLog}.
+	 * @throws IOException if the file cannot be read or is not an input log.
+	 */
+	public static InputLog read(Path file) throws IOException {
+		try (InputStream in = new BufferedInputStream(Files.newInputStream(file))) {
+			return read(in, Files.size(file));
+		}
+	}
+
+	/**
+	 * Reads a log from a stream.
+	 *
+	 * @param in the stream to read; left open.
+	 * @return the {@link InputLog}.
+	 * @throws IOException if the stream cannot be read or does not hold an input log.
+	 */
+	public static InputLog read(InputStream in) throws IOException {
+		return read(in, Long.MAX_VALUE);
+	}
+
+	/**
+	 * Reads a log from a stream of known length. The event count is checked against the length
+	 * before anything is allocated for it, and the arrays grow with the events actually read, so
+	 * a corrupt count cannot exhaust memory.
+	 *
+	 * @param in the stream to read; left open.
+	 * @param length the number of bytes in the stream, or {@link Long#MAX_VALUE} if unknown.
+	 * @return the {@link InputLog}.
+	 * @throws IOException if the stream cannot be read or does not hold an input log.
+	 */
+	private static InputLog read(InputStream in, long length) throws IOException {
+		DataInputStream data = new DataInputStream(in);
+		if (data.readInt() != MAGIC) {
+			throw new IOException("Not an input log");
+		}
+		int version = data.readUnsignedByte();
+		if (version < FIRST_VERSION || version > VERSION) {
+			throw new IOException("Unsupported input log version " + version);
+		}
+		String levelName = data.readUTF();
+		long seed = data.readLong();
+		GameStatus outcome = GameStatus.RUNNING;
+		long endTick = 0;
+		if (version > FIRST_VERSION) {
+			int outcomeCode = data.readUnsignedByte();
+			if (outcomeCode >= GameStatus.values().length) {
+				throw new IOException("Corrupt input log: unknown outcome " + outcomeCode);
+			}
+			outcome = GameStatus.values()[outcomeCode];
+			endTick = readVarLong(data);
+		}
+		int count = data.readInt();
+		if (count < 0 || (long) count * MIN_EVENT_BYTES > length) {
+			throw new IOException("Invalid event count " + count);
+		}
+		long[] ticks = new long[Math.min(count, INITIAL_READ_CAPACITY)];
+		byte[] actions = new byte[ticks.length];
+		long tick = 0;
+		try {
+			for (int i = 0; i < count; i++) {
+				if (i == ticks.length) {
+					int capacity = (int) Math.min(count, 2L * ticks.length);
+					ticks = Arrays.copyOf(ticks, capacity);
+					actions = Arrays.copyOf(actions, capacity);
+				}
+				tick += readVarLong(data);
+				ticks[i] = tick;
+				actions[i] = data.readByte();
+				InputAction.fromCode(actions[i]);
+			}
+			return new InputLog(levelName, seed, outcome, endTick, ticks, actions, count);
+		} catch (IllegalArgumentException e) {
+			throw new IOException("Corrupt input log: " + e.getMessage(), e);
+		}
+	}
+
+	/**
+	 * Writes the log to a file, replacing any existing file.
+	 *
+	 * @param file the file to write.
+	 * @throws IOException if the file cannot be written.
+	 */
+	public void write(Path file) throws IOException {
+		try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(file))) {
+			write(out);
+		}
+	}
+
+	/**
+	 * Writes the log to a stream.
+	 *
+	 * @param out the stream to write; flushed but left open.
+	 * @throws IOException if the stream cannot be written.
+	 */
+	public void write(OutputStream out) throws IOException {
+		DataOutputStream data = new DataOutputStream(out);
+		data.writeInt(MAGIC);
+		data.writeByte(VERSION);
+		data.writeUTF(levelName);
+		data.writeLong(seed);
+		data.writeByte(outcome.ordinal());
+		writeVarLong(data, endTick);
+		data.writeInt(ticks.length);
+		long previous = 0;
+		for (int i = 0; i < ticks.length; i++) {
+			writeVarLong(data, ticks[i] - previous);
+			previous = ticks[i];
+			data.writeByte(actions[i]);
+		}
+		data.flush();
+	}
+
+	/**
+	 * Writes a non-negative value seven bits at a time, low bits first.
+	 *
+	 * @param data the stream to write.
+	 * @param value the value.
+	 * @throws IOException if the stream cannot be written.
+	 */
+	private static void writeVarLong(DataOutputStream data, long value) throws IOException {
+		while ((value & ~0x7FL) != 0) {
+			data.writeByte((int) (value & 0x7F) | 0x80);
+			value >>>= 7;
+		}
+		data.writeByte((int) value);
+	}
+
+	/**
+	 * Reads a value written by {@link #writeVarLong(DataOutputStream, long)}.
+	 *
+	 * @param data the stream to read.
+	 * @return the value.
+	 * @throws IOException if the stream cannot be read or the value is too long.
+	 */
+	private static long readVarLong(DataInputStream data) throws IOException {
+		long value = 0;
+		for (int shift = 0; shift < Long.SIZE; shift += 7) {
+			int b = data.readUnsignedByte();
+			value |= (long) (b & 0x7F) << shift;
+			if ((b & 0x80) == 0) {
+				return value;
+			}
+		}
+		throw new IOException("Malformed tick delta");
+	}
+
+	/**
+	 * Retrieves the level the inputs were recorded in.
+	 *
+	 * @return the level name.
+	 */
+	public String getLevelName() {
+		return levelName;
+	}
+
+	/**
+	 * Retrieves the seed the level was played with.
+	 *
+	 * @return the seed.
+	 */
+	public long getSeed() {
+		return seed;
+	}
+
+	/**
+	 * Retrieves how the recorded level ended.
+	 *
+	 * @return {@link GameStatus#WON} or {@link GameStatus#LOST}, or {@link GameStatus#RUNNING} if the
+	 *         level was left unfinished or the log predates recorded outcomes.
+	 */
+	public GameStatus getOutcome() {
+		return outcome;
+	}
+
+	/**
+	 * Retrieves the number of ticks the recorded level ran for.
+	 *
+	 * @return the tick the level ended on, or 0 if the log predates recorded outcomes.
+	 */
+	public long getEndTick() {
+		return endTick;
+	}
+
+	/**
+	 * Retrieves the number of events.
+	 *
+	 * @return the event count.
+	 */
+	public int size() {
+		return ticks.length;
+	}
+
+	/**
+	 * Retrieves the tick at which an event was issued.
+	 *
+	 * @param index the event's position.
+	 * @return the tick.
+	 */
+	public long getTick(int index) {
+		return ticks[index];
+	}
+
+	/**
+	 * Retrieves an event's action.
+	 *
+	 * @param index the event's position.
+	 * @return the {@link InputAction}.
+	 */
+	public InputAction getAction(int index) {
+		return InputAction.fromCode(actions[index]);
+	}
+
+	/**
+	 * Retrieves the tick of the last event.
+	 *
+	 * @return the last tick, or 0 for an empty log.
+	 */
+	public long getLastTick() {
+		return ticks.length == 0 ? 0 : ticks[ticks.length - 1];
+	}
+}
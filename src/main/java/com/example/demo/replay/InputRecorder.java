@@ -0,0 +1,110 @@
+package com.example.demo.replay;
+
+import com.example.demo.simulation.GameStatus;
+
+import java.util.Arrays;
+import java.util.function.LongSupplier;
+
+/**
+ * The {@link InputRecorder} class collects the player's {@link InputAction}s during a level,
+ * stamped with the tick they were issued before. Events are appended to two primitive arrays,
+ * so recording costs no allocation per event once the arrays have grown, and can stay on
+ * for every session. When the level ends, its outcome and length are recorded too, so a replay
+ * can be checked against the session it came from.
+ */
+public final class InputRecorder {
+
+	/** Initial number of events the arrays hold. */
+	private static final int INITIAL_CAPACITY = 256;
+
+	/** The level being recorded. */
+	private final String levelName;
+
+	/** The seed the level is played with. */
+	private final long seed;
+
+	/** Supplies the number of ticks run so far. */
+	private final LongSupplier tickSource;
+
+	/** Tick of each event. */
+	private long[] ticks;
+
+	/** Code of each event's action. */
+	private byte[] actions;
+
+	/** Number of events recorded. */
+	private int count;
+
+	/** How the level ended, or {@link GameStatus#RUNNING} while it is still being played. */
+	private GameStatus outcome;
+
+	/** Number of ticks the level ran for, once it has ended. */
+	private long endTick;
+
+	/**
+	 * Constructs an {@link InputRecorder}.
+	 *
+	 * @param levelName the level being recorded.
+	 * @param seed the seed the level is played with.
+	 * @param tickSource supplies the number of ticks run so far, which is the tick an input
+	 *                   issued now takes effect in.
+	 */
+	public InputRecorder(String levelName, long seed, LongSupplier tickSource) {
+		this.levelName = levelName;
+		this.seed = seed;
+		this.tickSource = tickSource;
+		this.ticks = new long[INITIAL_CAPACITY];
+		this.actions = new byte[INITIAL_CAPACITY];
+		this.outcome = GameStatus.RUNNING;
+	}
+
+	/**
+	 * Records an action at the current tick.
+	 *
+	 * @param action the action issued.
+	 */
+	public void record(InputAction action) {
+		if (count == ticks.length) {
+			ticks = Arrays.copyOf(ticks, count * 2);
+			actions = Arrays.copyOf(actions, count * 2);
+		}
+		ticks[count] = tickSource.getAsLong();
+		actions[count] = (byte) action.ordinal();
+		count++;
+	}
+
+	/**
+	 * Records how the level ended. Called from inside the tick that ended it, which the tick source
+	 * does not count until the tick returns, so the level ran for one more tick than it reports.
+	 *
+	 * @param outcome {@link GameStatus#WON} or {@link GameStatus#LOST}.
+	 * @throws IllegalArgumentException if the outcome is {@link GameStatus#RUNNING}.
+	 */
+	public void recordOutcome(GameStatus outcome) {
+		if (outcome == GameStatus.RUNNING) {
+			throw new IllegalArgumentException("A level cannot end while still running");
+		}
+		this.outcome = outcome;
+		this.endTick = tickSource.getAsLong() + 1;
+	}
+
+	/**
+	 * Creates a log of everything recorded so far. A level that has not ended is logged as
+	 * {@link GameStatus#RUNNING} after the ticks run so far.
+	 *
+	 * @return a new {@link InputLog}.
+	 */
+	public InputLog toLog() {
+		long end = outcome == GameStatus.RUNNING ? tickSource.getAsLong() : endTick;
+		return new InputLog(levelName, seed, outcome, end, ticks, actions, count);
+	}
+
+	/**
+	 * Retrieves the number of events recorded.
+	 *
+	 * @return the event count.
+	 */
+	public int getEventCount() {
+		return count;
+	}
+}
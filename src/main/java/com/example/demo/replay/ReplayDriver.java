@@ -0,0 +1,167 @@
+package com.example.demo.replay;
+
+import com.example.demo.level.LevelSpecCatalog;
+import com.example.demo.simulation.GameStatus;
+import com.example.demo.simulation.World;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * The {@link ReplayDriver} class plays an {@link InputLog} into a headless {@link World}, applying
+ * each recorded action just before the tick it was issued for and stepping as fast as the
+ * simulation allows. The same log and seed always produce the same run, so recorded sessions
+ * serve as repeatable load profiles for performance regression tests.
+ * <p>
+ * The headless world shares its rules, kill accounting, collision masks and random number order
+ * with the JavaFX levels. A log also records how and on which tick the level ended, and a replay
+ * that ends differently is reported as a mismatch by {@link #matchesRecording()} rather than
+ * passed off as the recorded session.
+ * <p>
+ * Run from the command line with {@code ReplayDriver <log> [repetitions]}.
+ */
+public final class ReplayDriver {
+
+	/** Width of the play area, matching the game window. */
+	public static final double SCREEN_WIDTH = 1300;
+
+	/** Height of the play area, matching the game window. */
+	public static final double SCREEN_HEIGHT = 750;
+
+	/** The inputs to replay. */
+	private final InputLog log;
+
+	/** The simulation being driven. */
+	private final World world;
+
+	/** Position of the next event to apply. */
+	private int nextEvent;
+
+	/**
+	 * Constructs a {@link ReplayDriver} for a simulation.
+	 *
+	 * @param log the inputs to replay.
+	 * @param world the simulation to drive, which should not have run any ticks.
+	 */
+	public ReplayDriver(InputLog log, World world) {
+		this.log = log;
+		this.world = world;
+	}
+
+	/**
+	 * Creates a driver over a new simulation of the log's level, seeded with the log's seed.
+	 *
+	 * @param log the inputs to replay.
+	 * @return the {@link ReplayDriver}.
+	 * @throws IllegalArgumentException if the log's level is unknown.
+	 */
+	public static ReplayDriver forLog(InputLog log) {
+		return new ReplayDriver(log, new World(LevelSpecCatalog.rulesFor(log.getLevelName()), SCREEN_WIDTH, SCREEN_HEIGHT, log.getSeed()));
+	}
+
+	/**
+	 * Applies the actions due before the next tick and runs it.
+	 *
+	 * @return true while the replay has more to do.
+	 */
+	public boolean step() {
+		long tick = world.getTick();
+		while (nextEvent < log.size() && log.getTick(nextEvent) <= tick) {
+			log.getAction(nextEvent++).applyTo(world);
+		}
+		world.step();
+		return !isFinished();
+	}
+
+	/**
+	 * Runs until every action has been applied and its tick run and, for a log that recorded how
+	 * the level ended, its recorded length has been reached, or until the level ends.
+	 *
+	 * @return the number of ticks run.
+	 */
+	public long run() {
+		long start = world.getTick();
+		while (step()) {
+			// Keep stepping.
+		}
+		return world.getTick() - start;
+	}
+
+	/**
+	 * Checks if the replay is over.
+	 *
+	 * @return true once the level has ended, or the log is exhausted and the recorded end tick reached.
+	 */
+	public boolean isFinished() {
+		return world.getStatus() != GameStatus.RUNNING
+				|| (nextEvent == log.size() && world.getTick() > log.getLastTick() && world.getTick() >= log.getEndTick());
+	}
+
+	/**
+	 * Checks whether the finished replay ended the way the recorded session did: with the same
+	 * outcome on the same tick. Logs of unfinished levels, and logs that predate recorded outcomes,
+	 * have nothing to compare and always match.
+	 *
+	 * @return true if the replay reproduced the recorded outcome.
+	 */
+	public boolean matchesRecording() {
+		return getMismatch() == null;
+	}
+
+	/**
+	 * Describes how the replay differs from the recorded session.
+	 *
+	 * @return the difference, or null if the replay matches the recording.
+	 */
+	public String getMismatch() {
+		if (log.getOutcome() == GameStatus.RUNNING
+				|| (world.getStatus() == log.getOutcome() && world.getTick() == log.getEndTick())) {
+			return null;
+		}
+		return "recorded " + log.getOutcome() + " at tick " + log.getEndTick()
+				+ ", replayed " + world.getStatus() + " at tick " + world.getTick();
+	}
+
+	/**
+	 * Retrieves the simulation being driven.
+	 *
+	 * @return the {@link World}.
+	 */
+	public World getWorld() {
+		return world;
+	}
+
+	/**
+	 * Replays a log file a number of times and prints each run's length and speed, flagging runs
+	 * that do not reproduce the recorded outcome. Exits with status 1 if any run did not.
+	 *
+	 * @param args the log file, then optionally the number of repetitions.
+	 * @throws IOException if the log cannot be read.
+	 */
+	public static void main(String[] args) throws IOException {
+		if (args.length < 1) {
+			System.err.println("Usage: ReplayDriver <log> [repetitions]");
+			System.exit(2);
+		}
+		InputLog log = InputLog.read(Path.of(args[0]));
+		int repetitions = args.length > 1 ? Integer.parseInt(args[1]) : 1;
+		System.out.printf("%s: %d events over %d ticks, seed %d, recorded %s at tick %d%n",
+				log.getLevelName(), log.size(), log.getLastTick(), log.getSeed(), log.getOutcome(), log.getEndTick());
+		boolean mismatched = false;
+		for (int i = 0; i < repetitions; i++) {
+			ReplayDriver driver = forLog(log);
+			long start = System.nanoTime();
+			long ticks = driver.run();
+			double millis = (System.nanoTime() - start) / 1_000_000.0;
+			System.out.printf("run %d: %d ticks, %s, %.2f ms (%.0f ticks/s)%n",
+					i + 1, ticks, driver.getWorld().getStatus(), millis, ticks / (millis / 1000));
+			if (!driver.matchesRecording()) {
+				System.out.printf("run %d: MISMATCH, %s%n", i + 1, driver.getMismatch());
+				mismatched = true;
+			}
+		}
+		if (mismatched) {
+			System.exit(1);
+		}
+	}
+}
@@ -0,0 +1,105 @@
+package com.example.demo.simulation;
+
+import java.util.Arrays;
+
+/**
+ * The {@link ActorGroup} class is an ordered list of {@link ActorStore} slots, such as the enemy
+ * units or the player's projectiles. It stores plain {@code int}s, so iterating a group and then
+ * reading the store's arrays involves no boxing.
+ */
+public final class ActorGroup {
+
+	/** Initial number of entries. */
+	private static final int DEFAULT_CAPACITY = 64;
+
+	/** The slots in the group, in insertion order. */
+	private int[] slots;
+	/** Number of slots in the group. */
+	private int size;
+
+	/**
+	 * Constructs an empty {@link ActorGroup}.
+	 */
+	ActorGroup() {
+		this.slots = new int[DEFAULT_CAPACITY];
+	}
+
+	/**
+	 * Appends a slot to the group.
+	 *
+	 * @param slot the slot to add.
+	 */
+	void add(int slot) {
+		if (size == slots.length) {
+			slots = Arrays.copyOf(slots, size * 2);
+		}
+		slots[size++] = slot;
+	}
+
+	/**
+	 * Removes every destroyed actor in one in-order compaction pass and releases its slot back to the store.
+	 *
+	 * @param store the store holding the actors.
+	 * @return the number of actors removed.
+	 */
+	int removeDestroyed(ActorStore store) {
+		int kept = 0;
+		for (int i = 0; i < size; i++) {
+			int slot = slots[i];
+			if (store.isDestroyed(slot)) {
+				store.release(slot);
+			} else {
+				slots[kept++] = slot;
+			}
+		}
+		int removed = size - kept;
+		size = kept;
+		return removed;
+	}
+
+	/**
+	 * Retrieves the slot at a position in the group.
+	 *
+	 * @param index the position, from 0 to {@link #size()} - 1.
+	 * @return the slot.
+	 */
+	public int get(int index) {
+		if (index >= size) {
+			throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + size);
+		}
+		return slots[index];
+	}
+
+	/**
+	 * Retrieves the number of actors in the group.
+	 *
+	 * @return the size.
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Checks if the group is empty.
+	 *
+	 * @return true if it holds no actors.
+	 */
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * Checks if the group holds a slot.
+	 *
+	 * @param slot the slot to look for.
+	 * @return true if present.
+	 */
+	public boolean contains(int slot) {
+		for (int i = 0; i < size; i++) {
+			if (slots[i] == slot) {
+				return true;
+			}
+		}
+		return false;
+	}
+}
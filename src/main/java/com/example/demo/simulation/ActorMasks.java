@@ -0,0 +1,103 @@
+package com.example.demo.simulation;
+
+import com.example.demo.collision.CollisionMask;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.net.URL;
+
+/**
+ * The {@link ActorMasks} class builds the {@link CollisionMask} of each {@link ActorType} for the
+ * headless {@link World}. The JavaFX actors take their masks from the sprite atlas; here the same
+ * sprites are decoded with {@link ImageIO}, which needs no JavaFX toolkit, and their alpha is
+ * averaged down to the type's displayed size, so the simulation collides on the same solid pixels as the game.
+ */
+final class ActorMasks {
+
+	/** Base directory path for loading images */
+	private static final String IMAGE_LOCATION = "/com/example/demo/images/";
+
+	/** Built masks, indexed by {@link ActorType} ordinal */
+	private static final CollisionMask[] MASKS = new CollisionMask[ActorType.values().length];
+
+	/** Whether the mask at each ordinal has been built, since a missing mask is stored as null */
+	private static final boolean[] LOADED = new boolean[MASKS.length];
+
+	/**
+	 * Prevents instantiation.
+	 */
+	private ActorMasks() {
+	}
+
+	/**
+	 * Retrieves the mask of an actor type, building it on first use.
+	 *
+	 * @param type the actor type.
+	 * @return the type's {@link CollisionMask}, or null if its sprite cannot be read.
+	 */
+	static synchronized CollisionMask get(ActorType type) {
+		int index = type.ordinal();
+		if (!LOADED[index]) {
+			MASKS[index] = load(type);
+			LOADED[index] = true;
+		}
+		return MASKS[index];
+	}
+
+	/**
+	 * Decodes a type's sprite and scales it to the displayed size.
+	 *
+	 * @param type the actor type.
+	 * @return the sprite's {@link CollisionMask}, or null if it cannot be read.
+	 */
+	private static CollisionMask load(ActorType type) {
+		URL url = ActorMasks.class.getResource(IMAGE_LOCATION + type.getImageName());
+		if (url == null) {
+			return null;
+		}
+		BufferedImage source;
+		try {
+			source = ImageIO.read(url);
+		} catch (IOException e) {
+			return null;
+		}
+		if (source == null) {
+			return null;
+		}
+		int width = (int) Math.round(type.getWidth());
+		int height = (int) Math.round(type.getHeight());
+		return CollisionMask.fromArgb(scaleAlpha(source, width, height), width, height);
+	}
+
+	/**
+	 * Scales a sprite's alpha channel down by averaging the source pixels under each target pixel.
+	 *
+	 * @param source the decoded sprite.
+	 * @param width the target width.
+	 * @param height the target height.
+	 * @return the scaled pixels in ARGB order, with only the alpha channel set.
+	 */
+	private static int[] scaleAlpha(BufferedImage source, int width, int height) {
+		int sourceWidth = source.getWidth();
+		int sourceHeight = source.getHeight();
+		int[] pixels = source.getRGB(0, 0, sourceWidth, sourceHeight, null, 0, sourceWidth);
+		int[] argb = new int[width * height];
+		for (int y = 0; y < height; y++) {
+			int minY = y * sourceHeight / height;
+			int maxY = Math.max(minY + 1, (y + 1) * sourceHeight / height);
+			for (int x = 0; x < width; x++) {
+				int minX = x * sourceWidth / width;
+				int maxX = Math.max(minX + 1, (x + 1) * sourceWidth / width);
+				long alpha = 0;
+				for (int sy = minY; sy < maxY; sy++) {
+					for (int sx = minX; sx < maxX; sx++) {
+						alpha += pixels[sy * sourceWidth + sx] >>> 24;
+					}
+				}
+				argb[y * width + x] = (int) (alpha / ((long) (maxX - minX) * (maxY - minY))) << 24;
+			}
+		}
+		return argb;
+	}
+}
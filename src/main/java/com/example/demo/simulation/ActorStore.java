@@ -0,0 +1,292 @@
+package com.example.demo.simulation;
+
+import java.util.Arrays;
+
+/**
+ * The {@link ActorStore} class holds the state of every actor in a {@link World} as parallel
+ * primitive arrays indexed by slot, rather than as one object per actor. Per-tick loops such as
+ * movement and collision read the fields they need from contiguous arrays, with no object headers
+ * or boxed values in between. Freed slots are kept on a compact free-list and handed out again
+ * before the arrays grow; each reuse bumps the slot's generation so observers can tell a new
+ * actor from the one that previously occupied the slot.
+ * <p>
+ * Only the headless simulation keeps its actors here. The JavaFX game's {@code LevelParent} still
+ * holds one {@code ImageView} actor object per actor in plain lists, so the store's benchmarks
+ * describe the {@link World} stepped by replays and batch runs, not the game loop players see.
+ */
+public final class ActorStore {
+
+	/** Slot value meaning "no actor". */
+	public static final int NO_SLOT = -1;
+
+	/** Flag set while a slot holds an actor. */
+	static final int FLAG_ALIVE = 1;
+	/** Flag set once an actor has been destroyed and awaits removal. */
+	static final int FLAG_DESTROYED = 2;
+
+	/** Initial number of slots. */
+	private static final int DEFAULT_CAPACITY = 256;
+
+	/** Actor types indexed by ordinal, so the type can be stored as a byte. */
+	private static final ActorType[] TYPES = ActorType.values();
+
+	/** Current x-coordinate of each slot. */
+	double[] x;
+	/** Current y-coordinate of each slot. */
+	double[] y;
+	/** Horizontal movement per tick of each slot. */
+	double[] velocityX;
+	/** Vertical movement per tick of each slot. */
+	double[] velocityY;
+	/** Collision width of each slot. */
+	double[] width;
+	/** Collision height of each slot. */
+	double[] height;
+	/** The x-coordinate each slot's actor was spawned at. */
+	double[] spawnX;
+	/** Tick at which each slot's actor was spawned. */
+	long[] spawnTick;
+	/** Current health points of each slot. */
+	int[] health;
+	/** State flags of each slot. */
+	int[] flags;
+	/** Number of times each slot has been allocated. */
+	int[] generation;
+	/** Ordinal of the {@link ActorType} of each slot. */
+	byte[] type;
+
+	/** Slots released and available for reuse, used as a stack. */
+	private int[] freeSlots;
+	/** Number of entries on the free-list. */
+	private int freeCount;
+	/** Number of slots ever handed out; slots at or above this index have never been used. */
+	private int highWaterMark;
+	/** Number of slots currently holding an actor. */
+	private int liveCount;
+
+	/**
+	 * Constructs an empty {@link ActorStore} with the default capacity.
+	 */
+	public ActorStore() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Constructs an empty {@link ActorStore}.
+	 *
+	 * @param initialCapacity the number of slots to reserve up front.
+	 */
+	public ActorStore(int initialCapacity) {
+		if (initialCapacity <= 0) {
+			throw new IllegalArgumentException("Capacity must be positive: " + initialCapacity);
+		}
+		x = new double[initialCapacity];
+		y = new double[initialCapacity];
+		velocityX = new double[initialCapacity];
+		velocityY = new double[initialCapacity];
+		width = new double[initialCapacity];
+		height = new double[initialCapacity];
+		spawnX = new double[initialCapacity];
+		spawnTick = new long[initialCapacity];
+		health = new int[initialCapacity];
+		flags = new int[initialCapacity];
+		generation = new int[initialCapacity];
+		type = new byte[initialCapacity];
+		freeSlots = new int[initialCapacity];
+	}
+
+	/**
+	 * Places a new actor in a free slot, reusing released slots before growing the arrays.
+	 *
+	 * @param actorType the kind of actor.
+	 * @param initialX the initial x-coordinate.
+	 * @param initialY the initial y-coordinate.
+	 * @param initialHealth the initial health points.
+	 * @return the slot holding the actor.
+	 */
+	public int allocate(ActorType actorType, double initialX, double initialY, int initialHealth) {
+		int slot;
+		if (freeCount > 0) {
+			slot = freeSlots[--freeCount];
+		} else {
+			if (highWaterMark == x.length) {
+				grow();
+			}
+			slot = highWaterMark++;
+		}
+		x[slot] = initialX;
+		y[slot] = initialY;
+		velocityX[slot] = 0;
+		velocityY[slot] = 0;
+		width[slot] = actorType.getWidth();
+		height[slot] = actorType.getHeight();
+		spawnX[slot] = initialX;
+		spawnTick[slot] = 0;
+		health[slot] = initialHealth;
+		flags[slot] = FLAG_ALIVE;
+		generation[slot]++;
+		type[slot] = (byte) actorType.ordinal();
+		liveCount++;
+		return slot;
+	}
+
+	/**
+	 * Returns a slot to the free-list. The slot's data is left in place until it is reused.
+	 *
+	 * @param slot the slot to release.
+	 */
+	public void release(int slot) {
+		if ((flags[slot] & FLAG_ALIVE) == 0) {
+			throw new IllegalStateException("Slot " + slot + " is not in use");
+		}
+		flags[slot] = 0;
+		freeSlots[freeCount++] = slot;
+		liveCount--;
+	}
+
+	/**
+	 * Doubles the capacity of every array.
+	 */
+	private void grow() {
+		int capacity = x.length * 2;
+		x = Arrays.copyOf(x, capacity);
+		y = Arrays.copyOf(y, capacity);
+		velocityX = Arrays.copyOf(velocityX, capacity);
+		velocityY = Arrays.copyOf(velocityY, capacity);
+		width = Arrays.copyOf(width, capacity);
+		height = Arrays.copyOf(height, capacity);
+		spawnX = Arrays.copyOf(spawnX, capacity);
+		spawnTick = Arrays.copyOf(spawnTick, capacity);
+		health = Arrays.copyOf(health, capacity);
+		flags = Arrays.copyOf(flags, capacity);
+		generation = Arrays.copyOf(generation, capacity);
+		type = Arrays.copyOf(type, capacity);
+		freeSlots = Arrays.copyOf(freeSlots, capacity);
+	}
+
+	/**
+	 * Applies one hit. Projectiles are destroyed immediately; aircraft lose a health point and are
+	 * destroyed once their health reaches zero.
+	 *
+	 * @param slot the slot of the actor hit.
+	 * @return true if this hit took an aircraft's health to zero.
+	 */
+	boolean takeDamage(int slot) {
+		if (TYPES[type[slot]].isProjectile()) {
+			flags[slot] |= FLAG_DESTROYED;
+			return false;
+		}
+		health[slot]--;
+		if (health[slot] == 0) {
+			flags[slot] |= FLAG_DESTROYED;
+			return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Marks an actor as destroyed.
+	 *
+	 * @param slot the slot of the actor.
+	 */
+	void destroy(int slot) {
+		flags[slot] |= FLAG_DESTROYED;
+	}
+
+	/**
+	 * Retrieves the kind of actor in a slot.
+	 *
+	 * @param slot the slot.
+	 * @return the {@link ActorType}.
+	 */
+	public ActorType getType(int slot) {
+		return TYPES[type[slot]];
+	}
+
+	/**
+	 * Retrieves the x-coordinate of an actor.
+	 *
+	 * @param slot the slot.
+	 * @return the x-coordinate.
+	 */
+	public double getX(int slot) {
+		return x[slot];
+	}
+
+	/**
+	 * Retrieves the y-coordinate of an actor.
+	 *
+	 * @param slot the slot.
+	 * @return the y-coordinate.
+	 */
+	public double getY(int slot) {
+		return y[slot];
+	}
+
+	/**
+	 * Retrieves the health points of an actor.
+	 *
+	 * @param slot the slot.
+	 * @return the health.
+	 */
+	public int getHealth(int slot) {
+		return health[slot];
+	}
+
+	/**
+	 * Checks if the actor in a slot has been destroyed or the slot has been released.
+	 *
+	 * @param slot the slot.
+	 * @return true if destroyed, false otherwise.
+	 */
+	public boolean isDestroyed(int slot) {
+		return flags[slot] != FLAG_ALIVE;
+	}
+
+	/**
+	 * Retrieves the number of times a slot has been allocated. A change in generation means the
+	 * slot now holds a different actor.
+	 *
+	 * @param slot the slot.
+	 * @return the generation.
+	 */
+	public int getGeneration(int slot) {
+		return generation[slot];
+	}
+
+	/**
+	 * Retrieves the number of slots the arrays can hold without growing.
+	 *
+	 * @return the capacity.
+	 */
+	public int getCapacity() {
+		return x.length;
+	}
+
+	/**
+	 * Retrieves the number of slots ever handed out. Every slot in use is below this index.
+	 *
+	 * @return the high-water mark.
+	 */
+	public int getHighWaterMark() {
+		return highWaterMark;
+	}
+
+	/**
+	 * Retrieves the number of slots currently holding an actor.
+	 *
+	 * @return the live count.
+	 */
+	public int getLiveCount() {
+		return liveCount;
+	}
+
+	/**
+	 * Retrieves the number of released slots waiting to be reused.
+	 *
+	 * @return the free-list length.
+	 */
+	public int getFreeCount() {
+		return freeCount;
+	}
+}
@@ -0,0 +1,103 @@
+package com.example.demo.simulation;
+
+/**
+ * The {@link ActorType} enum lists every kind of actor in the headless simulation, together with
+ * the sprite it is drawn with and the size of its bounding box. Sizes match the JavaFX actors,
+ * which scale their sprite to a fixed height and preserve its aspect ratio.
+ */
+public enum ActorType {
+
+	/** The player's aircraft. */
+	PLAYER("userplane.png", 656, 197, 50, 0),
+
+	/** A regular enemy aircraft. */
+	ENEMY("enemyplane.png", 670, 240, 50, 1),
+
+	/** The horizontally moving boss used in level four. */
+	MOVING_BOSS("bossplane.png", 595, 126, 50, 10),
+
+	/** The shielded boss used in level two. */
+	BOSS("bossplane.png", 595, 126, 100, 20),
+
+	/** A missile fired by the player. */
+	USER_MISSILE("userfire.png", 132, 46, 15, 1),
+
+	/** A missile fired by an enemy aircraft. */
+	ENEMY_MISSILE("enemyFire.png", 308, 116, 15, 1),
+
+	/** A fireball fired by the boss. */
+	BOSS_MISSILE("fireball.png", 800, 318, 25, 1);
+
+	/** The sprite filename, relative to the images directory. */
+	private final String imageName;
+
+	/** The displayed width in pixels. */
+	private final double width;
+
+	/** The displayed height in pixels. */
+	private final double height;
+
+	/** The initial health points; 0 for the player, whose health is set by the level. */
+	private final int health;
+
+	/**
+	 * Constructs an {@link ActorType}.
+	 *
+	 * @param imageName the sprite filename.
+	 * @param imageWidth the width of the source image in pixels.
+	 * @param imageHeight the height of the source image in pixels.
+	 * @param displayHeight the height the sprite is displayed at.
+	 * @param health the initial health points.
+	 */
+	ActorType(String imageName, int imageWidth, int imageHeight, double displayHeight, int health) {
+		this.imageName = imageName;
+		this.width = displayHeight * imageWidth / imageHeight;
+		this.height = displayHeight;
+		this.health = health;
+	}
+
+	/**
+	 * Retrieves the sprite filename.
+	 *
+	 * @return the image filename relative to the images directory.
+	 */
+	public String getImageName() {
+		return imageName;
+	}
+
+	/**
+	 * Retrieves the displayed width.
+	 *
+	 * @return the width in pixels.
+	 */
+	public double getWidth() {
+		return width;
+	}
+
+	/**
+	 * Retrieves the displayed height.
+	 *
+	 * @return the height in pixels.
+	 */
+	public double getHeight() {
+		return height;
+	}
+
+	/**
+	 * Retrieves the initial health points.
+	 *
+	 * @return the initial health.
+	 */
+	public int getHealth() {
+		return health;
+	}
+
+	/**
+	 * Checks whether this type is a projectile, which is destroyed by any hit.
+	 *
+	 * @return true for missiles, false for aircraft.
+	 */
+	public boolean isProjectile() {
+		return this == USER_MISSILE || this == ENEMY_MISSILE || this == BOSS_MISSILE;
+	}
+}
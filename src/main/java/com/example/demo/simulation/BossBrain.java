@@ -0,0 +1,179 @@
+package com.example.demo.simulation;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * The {@link BossBrain} class plays a {@link BossPattern} for one boss. Each tick it moves to a
+ * later phase if the boss's health has fallen far enough, then reads the phase's tables to decide
+ * the boss's vertical velocity, whether it fires and whether its shield is up. The only random
+ * decision is the order of the movement steps in shuffled phases, drawn once per cycle into a
+ * reused array, so a tick makes no allocations and at most one random draw per step.
+ */
+public final class BossBrain {
+
+	/** The pattern being played. */
+	private final BossPattern pattern;
+
+	/** Generator for the order of shuffled movement steps. */
+	private final RandomGenerator random;
+
+	/** Order in which the current phase's steps are played. */
+	private int[] stepOrder;
+
+	/** Position of the current phase in the pattern. */
+	private int phaseIndex;
+
+	/** The current phase. */
+	private BossPhase phase;
+
+	/** Number of ticks run in the current phase. */
+	private long phaseTick;
+
+	/** Position of the current step in {@link #stepOrder}. */
+	private int stepIndex;
+
+	/** Ticks left in the current step. */
+	private int stepTicksLeft;
+
+	/** Vertical velocity for this tick. */
+	private int velocity;
+
+	/** Whether the boss fires this tick. */
+	private boolean firing;
+
+	/** Whether the shield is up this tick. */
+	private boolean shielded;
+
+	/** Number of the bullet pattern volley fired this tick, or -1 if none. */
+	private long patternVolley;
+
+	/**
+	 * Constructs a {@link BossBrain} at the start of a pattern's first phase.
+	 *
+	 * @param pattern the pattern to play.
+	 * @param random the generator for the order of shuffled movement steps.
+	 */
+	public BossBrain(BossPattern pattern, RandomGenerator random) {
+		this.pattern = pattern;
+		this.random = random;
+		this.stepOrder = new int[0];
+		enterPhase(0);
+	}
+
+	/**
+	 * Advances one tick.
+	 *
+	 * @param health the boss's remaining health.
+	 * @param maxHealth the boss's full health.
+	 */
+	public void tick(int health, int maxHealth) {
+		while (phaseIndex + 1 < pattern.getPhaseCount()
+				&& health <= pattern.getPhase(phaseIndex + 1).getFromHealth() * maxHealth) {
+			enterPhase(phaseIndex + 1);
+		}
+		if (stepTicksLeft == 0) {
+			nextStep();
+		}
+		stepTicksLeft--;
+		velocity = phase.getStepVelocity(stepOrder[stepIndex]);
+		firing = phase.firesAt(phaseTick);
+		shielded = phase.shieldedAt(phaseTick);
+		Emitter pattern = phase.getPattern();
+		patternVolley = pattern != null && pattern.firesAt(phaseTick) ? pattern.volleyAt(phaseTick) : -1;
+		phaseTick++;
+	}
+
+	/**
+	 * Starts a phase from its first tick.
+	 *
+	 * @param index the phase's position in the pattern.
+	 */
+	private void enterPhase(int index) {
+		phaseIndex = index;
+		phase = pattern.getPhase(index);
+		phaseTick = 0;
+		if (stepOrder.length != phase.getStepCount()) {
+			stepOrder = new int[phase.getStepCount()];
+		}
+		for (int i = 0; i < stepOrder.length; i++) {
+			stepOrder[i] = i;
+		}
+		stepIndex = -1;
+		stepTicksLeft = 0;
+		patternVolley = -1;
+	}
+
+	/**
+	 * Moves to the next movement step, reordering the steps at the start of each cycle of a
+	 * shuffled phase.
+	 */
+	private void nextStep() {
+		stepIndex++;
+		if (stepIndex == stepOrder.length) {
+			stepIndex = 0;
+		}
+		if (stepIndex == 0 && phase.isShuffled()) {
+			for (int i = stepOrder.length - 1; i > 0; i--) {
+				int j = random.nextInt(i + 1);
+				int swap = stepOrder[i];
+				stepOrder[i] = stepOrder[j];
+				stepOrder[j] = swap;
+			}
+		}
+		stepTicksLeft = phase.getStepTicks(stepOrder[stepIndex]);
+	}
+
+	/**
+	 * Retrieves the vertical velocity for this tick.
+	 *
+	 * @return the velocity.
+	 */
+	public int getVelocity() {
+		return velocity;
+	}
+
+	/**
+	 * Checks if the boss fires this tick, once from each of the phase's emitters.
+	 *
+	 * @return true if the boss fires.
+	 */
+	public boolean isFiring() {
+		return firing;
+	}
+
+	/**
+	 * Checks if the shield is up this tick.
+	 *
+	 * @return true if shielded.
+	 */
+	public boolean isShielded() {
+		return shielded;
+	}
+
+	/**
+	 * Retrieves the number of the volley the phase's bullet pattern fires this tick.
+	 *
+	 * @return the volley number, or -1 if the pattern does not fire this tick or the phase has none.
+	 */
+	public long getPatternVolley() {
+		return patternVolley;
+	}
+
+	/**
+	 * Retrieves the phase being played.
+	 *
+	 * @return the current {@link BossPhase}.
+	 */
+	public BossPhase getPhase() {
+		return phase;
+	}
+
+	/**
+	 * Retrieves the position of the phase being played.
+	 *
+	 * @return the phase index, starting at 0.
+	 */
+	public int getPhaseIndex() {
+		return phaseIndex;
+	}
+}
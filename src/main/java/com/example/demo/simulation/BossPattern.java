@@ -0,0 +1,68 @@
+package com.example.demo.simulation;
+
+import java.util.List;
+
+/**
+ * The {@link BossPattern} class is a boss's behaviour: a list of {@link BossPhase}s, each taking
+ * over once the boss's health falls to its threshold. Patterns are immutable and shared by every
+ * boss that plays them; each boss keeps its own position in the pattern in a {@link BossBrain}.
+ */
+public final class BossPattern {
+
+	/** The pattern's name. */
+	private final String name;
+
+	/** The phases, in order of falling health threshold. */
+	private final BossPhase[] phases;
+
+	/**
+	 * Constructs a {@link BossPattern}.
+	 *
+	 * @param name the pattern's name.
+	 * @param phases the phases, the first starting at full health and each later one at a lower health.
+	 * @throws IllegalArgumentException if there are no phases or their thresholds are out of order.
+	 */
+	public BossPattern(String name, List<BossPhase> phases) {
+		if (phases.isEmpty()) {
+			throw new IllegalArgumentException("Boss " + name + " has no phases");
+		}
+		if (phases.get(0).getFromHealth() != 1) {
+			throw new IllegalArgumentException("Boss " + name + " must start with a phase from=1");
+		}
+		for (int i = 1; i < phases.size(); i++) {
+			if (phases.get(i).getFromHealth() >= phases.get(i - 1).getFromHealth()) {
+				throw new IllegalArgumentException("Boss " + name + " phases must be listed in order of falling health");
+			}
+		}
+		this.name = name;
+		this.phases = phases.toArray(new BossPhase[0]);
+	}
+
+	/**
+	 * Retrieves the pattern's name.
+	 *
+	 * @return the name.
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * Retrieves the number of phases.
+	 *
+	 * @return the phase count.
+	 */
+	public int getPhaseCount() {
+		return phases.length;
+	}
+
+	/**
+	 * Retrieves a phase.
+	 *
+	 * @param index the phase's position.
+	 * @return the {@link BossPhase}.
+	 */
+	public BossPhase getPhase(int index) {
+		return phases[index];
+	}
+}
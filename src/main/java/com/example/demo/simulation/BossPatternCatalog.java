@@ -0,0 +1,153 @@
+package com.example.demo.simulation;
+
+import com.example.demo.catalog.CatalogResource;
+import com.example.demo.catalog.KeyValueLine;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The {@link BossPatternCatalog} class reads {@link BossPattern}s from a boss catalogue on the
+ * classpath, so designers can add or retune a boss's phases without touching code. The catalogue
+ * is a text file with one {@link BossPhase} per line: the boss's name followed by
+ * {@code key=value} fields, for example
+ * <pre>
+ * LevelTwoBoss from=0.6 move=8:8,-8:8,0:4 shuffle=true fire=30:2:6 emitters=55,95 shield=800:550:120
+ * </pre>
+ * A boss's lines are its phases in order. An optional {@code pattern} field names a bullet pattern in
+ * the {@link EmitterCatalog}. Blank lines and lines starting with {@code #} are ignored.
+ * <p>
+ * Each phase is compiled into primitive tables when its pattern is first requested, and compiled
+ * patterns are cached and shared between threads, including the headless batch runner.
+ */
+public final class BossPatternCatalog {
+
+	/** Classpath location of the built-in boss catalogue. */
+	public static final String DEFAULT_CATALOG = "/com/example/demo/bosses/bosses.txt";
+
+	/** The shared catalogue of built-in bosses. */
+	private static BossPatternCatalog instance;
+
+	/** The catalogue resource. */
+	private final CatalogResource catalog;
+
+	/** Patterns compiled so far, by boss name. */
+	private final Map<String, BossPattern> patterns;
+
+	/**
+	 * Constructs a {@link BossPatternCatalog} over a catalogue resource. The resource is not read
+	 * until a pattern is requested.
+	 *
+	 * @param resourcePath the absolute classpath location of the catalogue.
+	 */
+	public BossPatternCatalog(String resourcePath) {
+		this.catalog = new CatalogResource(resourcePath, "boss");
+		this.patterns = new ConcurrentHashMap<>();
+	}
+
+	/**
+	 * Retrieves the catalogue of built-in bosses, creating it on first use.
+	 *
+	 * @return the shared {@link BossPatternCatalog}.
+	 */
+	public static synchronized BossPatternCatalog getInstance() {
+		if (instance == null) {
+			instance = new BossPatternCatalog(DEFAULT_CATALOG);
+		}
+		return instance;
+	}
+
+	/**
+	 * Retrieves a boss's pattern, reading and compiling its phases on first request.
+	 *
+	 * @param name the boss's name.
+	 * @return the compiled {@link BossPattern}.
+	 * @throws IllegalArgumentException if the catalogue has no such boss or one of its lines is malformed.
+	 */
+	public BossPattern get(String name) {
+		BossPattern pattern = patterns.get(name);
+		if (pattern != null) {
+			return pattern;
+		}
+		List<BossPhase> phases = new ArrayList<>();
+		for (KeyValueLine line : catalog.findAll(name)) {
+			phases.add(toPhase(line));
+		}
+		BossPattern parsed = new BossPattern(name, phases);
+		BossPattern cached = patterns.putIfAbsent(name, parsed);
+		return cached != null ? cached : parsed;
+	}
+
+	/**
+	 * Parses and compiles one catalogue line into a phase.
+	 *
+	 * @param line the catalogue line.
+	 * @param lineNumber the line's position in the catalogue, for error messages.
+	 * @return the compiled {@link BossPhase}.
+	 * @throws IllegalArgumentException if a field is missing, unknown or malformed.
+	 */
+	static BossPhase parse(String line, int lineNumber) {
+		return toPhase(KeyValueLine.parse(line, lineNumber));
+	}
+
+	/**
+	 * Compiles a phase from a catalogue line's fields.
+	 *
+	 * @param line the parsed catalogue line.
+	 * @return the compiled {@link BossPhase}.
+	 * @throws IllegalArgumentException if a field is missing, unknown or malformed.
+	 */
+	private static BossPhase toPhase(KeyValueLine line) {
+		double from = line.requireDouble("from");
+		String[] steps = line.require("move").split(",");
+		int[] velocities = new int[steps.length];
+		int[] ticks = new int[steps.length];
+		for (int i = 0; i < steps.length; i++) {
+			int[] step = ints(line, steps[i], 2);
+			velocities[i] = step[0];
+			ticks[i] = step[1];
+		}
+		int[] fire = ints(line, line.require("fire"), 3);
+		String[] emitters = line.require("emitters").split(",");
+		double[] offsets = new double[emitters.length];
+		for (int i = 0; i < emitters.length; i++) {
+			offsets[i] = line.toDouble(emitters[i]);
+		}
+		String shieldText = line.optional("shield");
+		int[] shield = shieldText == null ? null : ints(line, shieldText, 3);
+		boolean shuffle = Boolean.parseBoolean(line.optional("shuffle"));
+		String patternName = line.optional("pattern");
+		line.checkConsumed();
+		try {
+			return new BossPhase(from, velocities, ticks, shuffle,
+					BossPhase.fireTable(fire[0], fire[1], fire[2]), offsets,
+					shield == null ? null : BossPhase.shieldTable(shield[0], shield[1], shield[2]),
+					patternName == null ? null : EmitterCatalog.getInstance().get(patternName));
+		} catch (IllegalArgumentException e) {
+			throw line.error(e.getMessage(), e);
+		}
+	}
+
+	/**
+	 * Parses a colon-separated group of integers.
+	 *
+	 * @param line the catalogue line the group belongs to, for error messages.
+	 * @param text the group, for example {@code 30:2:6}.
+	 * @param count the number of integers expected.
+	 * @return the integers.
+	 * @throws IllegalArgumentException if the group has the wrong length or a value is not an integer.
+	 */
+	private static int[] ints(KeyValueLine line, String text, int count) {
+		String[] parts = text.split(":");
+		if (parts.length != count) {
+			throw line.error("expected " + count + " values in " + text);
+		}
+		int[] values = new int[count];
+		for (int i = 0; i < count; i++) {
+			values[i] = line.toInt(parts[i]);
+		}
+		return values;
+	}
+}
@@ -0,0 +1,210 @@
+package com.example.demo.simulation;
+
+import java.util.Arrays;
+
+/**
+ * The {@link BossPhase} class is one phase of a {@link BossPattern}, compiled into primitive
+ * tables: a list of movement steps, a per-tick firing table with the vertical offsets of the
+ * emitters that fire together, and a per-tick shield table. A {@link BossBrain} reads one entry
+ * of each table per tick, so a phase costs the same however elaborate its pattern. A phase may
+ * also fire a bullet pattern from an {@link Emitter} on the emitter's own period.
+ */
+public final class BossPhase {
+
+	/** Fraction of full health at or below which the phase begins. */
+	private final double fromHealth;
+
+	/** Vertical velocity of each movement step. */
+	private final int[] stepVelocities;
+
+	/** Number of ticks each movement step lasts. */
+	private final int[] stepTicks;
+
+	/** Whether the steps are played in a new random order each cycle. */
+	private final boolean shuffle;
+
+	/** Whether the boss fires on each tick of the firing cycle. */
+	private final boolean[] fireTable;
+
+	/** Vertical offsets of the missiles fired together on a firing tick. */
+	private final double[] emitterOffsets;
+
+	/** Whether the shield is up on each tick of the shield cycle, or null for no shield. */
+	private final boolean[] shieldTable;
+
+	/** Bullet pattern fired alongside the missiles, or null for none. */
+	private final Emitter pattern;
+
+	/**
+	 * Constructs a {@link BossPhase} from compiled tables.
+	 *
+	 * @param fromHealth the fraction of full health at or below which the phase begins.
+	 * @param stepVelocities the vertical velocity of each movement step.
+	 * @param stepTicks the number of ticks each movement step lasts.
+	 * @param shuffle whether the steps are played in a new random order each cycle.
+	 * @param fireTable whether the boss fires on each tick of the firing cycle.
+	 * @param emitterOffsets the vertical offsets of the missiles fired together.
+	 * @param shieldTable whether the shield is up on each tick of the shield cycle, or null for no shield.
+	 * @param pattern the bullet pattern fired alongside the missiles, or null for none.
+	 * @throws IllegalArgumentException if the tables are empty or inconsistent.
+	 */
+	public BossPhase(double fromHealth, int[] stepVelocities, int[] stepTicks, boolean shuffle,
+					 boolean[] fireTable, double[] emitterOffsets, boolean[] shieldTable, Emitter pattern) {
+		if (!(fromHealth > 0 && fromHealth <= 1)) {
+			throw new IllegalArgumentException("from must be in (0, 1]: " + fromHealth);
+		}
+		if (stepVelocities.length == 0 || stepVelocities.length != stepTicks.length) {
+			throw new IllegalArgumentException("A phase needs at least one movement step");
+		}
+		for (int ticks : stepTicks) {
+			if (ticks <= 0) {
+				throw new IllegalArgumentException("Movement steps must last at least one tick: " + ticks);
+			}
+		}
+		if (fireTable.length == 0 || (shieldTable != null && shieldTable.length == 0)) {
+			throw new IllegalArgumentException("Cycles must last at least one tick");
+		}
+		this.fromHealth = fromHealth;
+		this.stepVelocities = stepVelocities.clone();
+		this.stepTicks = stepTicks.clone();
+		this.shuffle = shuffle;
+		this.fireTable = fireTable.clone();
+		this.emitterOffsets = emitterOffsets.clone();
+		this.shieldTable = shieldTable == null ? null : shieldTable.clone();
+		this.pattern = pattern;
+	}
+
+	/**
+	 * Compiles a firing cycle: bursts of shots a fixed number of ticks apart, starting at the
+	 * beginning of every cycle.
+	 *
+	 * @param period the length of the cycle in ticks.
+	 * @param burst the number of shots at the start of each cycle.
+	 * @param gap the number of ticks between shots in a burst.
+	 * @return the firing table.
+	 * @throws IllegalArgumentException if the burst does not fit in the cycle.
+	 */
+	public static boolean[] fireTable(int period, int burst, int gap) {
+		if (period <= 0 || burst < 0 || gap < 0 || (burst > 1 && gap == 0) || (burst > 0 && (burst - 1) * gap >= period)) {
+			throw new IllegalArgumentException("Invalid firing cycle " + period + ":" + burst + ":" + gap);
+		}
+		boolean[] table = new boolean[period];
+		for (int shot = 0; shot < burst; shot++) {
+			table[shot * gap] = true;
+		}
+		return table;
+	}
+
+	/**
+	 * Compiles a shield cycle: one window in which the shield is up.
+	 *
+	 * @param period the length of the cycle in ticks.
+	 * @param start the tick of the cycle on which the shield goes up.
+	 * @param length the number of ticks the shield stays up.
+	 * @return the shield table.
+	 * @throws IllegalArgumentException if the window does not fit in the cycle.
+	 */
+	public static boolean[] shieldTable(int period, int start, int length) {
+		if (period <= 0 || start < 0 || length < 0 || start + length > period) {
+			throw new IllegalArgumentException("Invalid shield cycle " + period + ":" + start + ":" + length);
+		}
+		boolean[] table = new boolean[period];
+		Arrays.fill(table, start, start + length, true);
+		return table;
+	}
+
+	/**
+	 * Retrieves the fraction of full health at or below which the phase begins.
+	 *
+	 * @return the health fraction.
+	 */
+	public double getFromHealth() {
+		return fromHealth;
+	}
+
+	/**
+	 * Retrieves the number of movement steps.
+	 *
+	 * @return the step count.
+	 */
+	public int getStepCount() {
+		return stepVelocities.length;
+	}
+
+	/**
+	 * Retrieves a movement step's vertical velocity.
+	 *
+	 * @param step the step's position.
+	 * @return the velocity.
+	 */
+	public int getStepVelocity(int step) {
+		return stepVelocities[step];
+	}
+
+	/**
+	 * Retrieves the number of ticks a movement step lasts.
+	 *
+	 * @param step the step's position.
+	 * @return the step's length in ticks.
+	 */
+	public int getStepTicks(int step) {
+		return stepTicks[step];
+	}
+
+	/**
+	 * Checks if the steps are played in a new random order each cycle.
+	 *
+	 * @return true if the steps are shuffled.
+	 */
+	public boolean isShuffled() {
+		return shuffle;
+	}
+
+	/**
+	 * Checks if the boss fires on a tick of the phase.
+	 *
+	 * @param tick the number of ticks since the phase began.
+	 * @return true if the boss fires.
+	 */
+	public boolean firesAt(long tick) {
+		return fireTable[(int) (tick % fireTable.length)];
+	}
+
+	/**
+	 * Checks if the shield is up on a tick of the phase.
+	 *
+	 * @param tick the number of ticks since the phase began.
+	 * @return true if the shield is up.
+	 */
+	public boolean shieldedAt(long tick) {
+		return shieldTable != null && shieldTable[(int) (tick % shieldTable.length)];
+	}
+
+	/**
+	 * Retrieves the number of missiles fired together on a firing tick.
+	 *
+	 * @return the emitter count.
+	 */
+	public int getEmitterCount() {
+		return emitterOffsets.length;
+	}
+
+	/**
+	 * Retrieves the vertical offset, from the boss's top edge, of an emitter's missiles.
+	 *
+	 * @param emitter the emitter's position.
+	 * @return the offset.
+	 */
+	public double getEmitterOffset(int emitter) {
+		return emitterOffsets[emitter];
+	}
+
+	/**
+	 * Retrieves the bullet pattern fired alongside the missiles.
+	 *
+	 * @return the {@link Emitter}, or null if the phase fires none.
+	 */
+	public Emitter getPattern() {
+		return pattern;
+	}
+}
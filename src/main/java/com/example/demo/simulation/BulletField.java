@@ -0,0 +1,371 @@
+package com.example.demo.simulation;
+
+import com.example.demo.collision.CollisionMask;
+
+import java.util.Arrays;
+
+/**
+ * The {@link BulletField} class holds every live bullet of a bullet-hell pattern as parallel
+ * primitive arrays: position, previous position, velocity, acceleration, age and lifetime. The
+ * whole field is moved in one loop per tick, and bullets that expire or leave the play area are
+ * removed by moving the last bullet into their place, so the live bullets always fill the front
+ * of the arrays and a tick touches no other memory. Bullets have no identity and no object per
+ * bullet, which is what lets thousands of them live at once.
+ * <p>
+ * Every bullet in a field shares one hit radius. The arrays grow by doubling up to a fixed
+ * maximum; bullets spawned beyond it are dropped and counted.
+ */
+public final class BulletField {
+
+	/** Initial number of bullets the arrays hold. */
+	private static final int DEFAULT_CAPACITY = 1024;
+
+	/** Default maximum number of live bullets. */
+	public static final int DEFAULT_MAX_BULLETS = 16384;
+
+	/** Current x-coordinate of each bullet's centre. */
+	private double[] x;
+	/** Current y-coordinate of each bullet's centre. */
+	private double[] y;
+	/** The x-coordinate before the most recent update, for interpolation. */
+	private double[] previousX;
+	/** The y-coordinate before the most recent update, for interpolation. */
+	private double[] previousY;
+	/** Horizontal movement per tick. */
+	private double[] velocityX;
+	/** Vertical movement per tick. */
+	private double[] velocityY;
+	/** Change in horizontal velocity per tick. */
+	private double[] accelerationX;
+	/** Change in vertical velocity per tick. */
+	private double[] accelerationY;
+	/** Ticks each bullet has lived. */
+	private int[] age;
+	/** Ticks each bullet may live. */
+	private int[] lifetime;
+
+	/** Radius of every bullet, for collisions. */
+	private final double hitRadius;
+	/** Maximum number of live bullets. */
+	private final int maxBullets;
+
+	/** Number of live bullets, which occupy the first entries of the arrays. */
+	private int count;
+	/** Total number of bullets spawned. */
+	private long spawned;
+	/** Total number of bullets dropped because the field was full. */
+	private long dropped;
+
+	/**
+	 * Constructs an empty {@link BulletField} with the default capacity and maximum.
+	 *
+	 * @param hitRadius the radius of every bullet.
+	 */
+	public BulletField(double hitRadius) {
+		this(hitRadius, DEFAULT_CAPACITY, DEFAULT_MAX_BULLETS);
+	}
+
+	/**
+	 * Constructs an empty {@link BulletField}.
+	 *
+	 * @param hitRadius the radius of every bullet.
+	 * @param initialCapacity the number of bullets to reserve up front.
+	 * @param maxBullets the maximum number of live bullets.
+	 * @throws IllegalArgumentException if the radius is negative or the sizes are not positive.
+	 */
+	public BulletField(double hitRadius, int initialCapacity, int maxBullets) {
+		if (hitRadius < 0 || initialCapacity <= 0 || maxBullets < initialCapacity) {
+			throw new IllegalArgumentException("Invalid bullet field: radius " + hitRadius
+					+ ", capacity " + initialCapacity + ", maximum " + maxBullets);
+		}
+		this.hitRadius = hitRadius;
+		this.maxBullets = maxBullets;
+		x = new double[initialCapacity];
+		y = new double[initialCapacity];
+		previousX = new double[initialCapacity];
+		previousY = new double[initialCapacity];
+		velocityX = new double[initialCapacity];
+		velocityY = new double[initialCapacity];
+		accelerationX = new double[initialCapacity];
+		accelerationY = new double[initialCapacity];
+		age = new int[initialCapacity];
+		lifetime = new int[initialCapacity];
+	}
+
+	/**
+	 * Adds a bullet.
+	 *
+	 * @param startX the x-coordinate of the bullet's centre.
+	 * @param startY the y-coordinate of the bullet's centre.
+	 * @param startVelocityX the horizontal movement per tick.
+	 * @param startVelocityY the vertical movement per tick.
+	 * @param startAccelerationX the change in horizontal velocity per tick.
+	 * @param startAccelerationY the change in vertical velocity per tick.
+	 * @param ticks the number of ticks the bullet lives.
+	 * @return true if the bullet was added, false if the field is full.
+	 */
+	public boolean spawn(double startX, double startY, double startVelocityX, double startVelocityY,
+						 double startAccelerationX, double startAccelerationY, int ticks) {
+		if (count == x.length) {
+			if (count == maxBullets) {
+				dropped++;
+				return false;
+			}
+			grow(Math.min(count * 2, maxBullets));
+		}
+		int i = count++;
+		x[i] = startX;
+		y[i] = startY;
+		previousX[i] = startX;
+		previousY[i] = startY;
+		velocityX[i] = startVelocityX;
+		velocityY[i] = startVelocityY;
+		accelerationX[i] = startAccelerationX;
+		accelerationY[i] = startAccelerationY;
+		age[i] = 0;
+		lifetime[i] = ticks;
+		spawned++;
+		return true;
+	}
+
+	/**
+	 * Moves every bullet one tick and removes those that outlived their lifetime or whose centre
+	 * left the given area.
+	 *
+	 * @param minX the left edge of the area bullets may occupy.
+	 * @param minY the top edge of the area.
+	 * @param maxX the right edge of the area.
+	 * @param maxY the bottom edge of the area.
+	 */
+	public void update(double minX, double minY, double maxX, double maxY) {
+		double[] x = this.x;
+		double[] y = this.y;
+		double[] velocityX = this.velocityX;
+		double[] velocityY = this.velocityY;
+		int[] age = this.age;
+		int[] lifetime = this.lifetime;
+		int i = 0;
+		while (i < count) {
+			previousX[i] = x[i];
+			previousY[i] = y[i];
+			velocityX[i] += accelerationX[i];
+			velocityY[i] += accelerationY[i];
+			x[i] += velocityX[i];
+			y[i] += velocityY[i];
+			if (++age[i] >= lifetime[i] || x[i] < minX || x[i] > maxX || y[i] < minY || y[i] > maxY) {
+				remove(i);
+			} else {
+				i++;
+			}
+		}
+	}
+
+	/**
+	 * Removes every bullet touching a box, such as the player's bounds.
+	 *
+	 * @param minX the box's left edge.
+	 * @param minY the box's top edge.
+	 * @param maxX the box's right edge.
+	 * @param maxY the box's bottom edge.
+	 * @return the number of bullets removed.
+	 */
+	public int collide(double minX, double minY, double maxX, double maxY) {
+		double left = minX - hitRadius;
+		double top = minY - hitRadius;
+		double right = maxX + hitRadius;
+		double bottom = maxY + hitRadius;
+		int hits = 0;
+		int i = 0;
+		while (i < count) {
+			if (x[i] >= left && x[i] <= right && y[i] >= top && y[i] <= bottom) {
+				remove(i);
+				hits++;
+			} else {
+				i++;
+			}
+		}
+		return hits;
+	}
+
+	/**
+	 * Removes every bullet touching a solid pixel of a mask, such as the player's sprite. Bullets
+	 * outside the mask's box are rejected before any pixels are read.
+	 *
+	 * @param minX the mask's left edge.
+	 * @param minY the mask's top edge.
+	 * @param mask the mask, drawn at its own size from {@code (minX, minY)}.
+	 * @return the number of bullets removed.
+	 */
+	public int collide(double minX, double minY, CollisionMask mask) {
+		double left = minX - hitRadius;
+		double top = minY - hitRadius;
+		double right = minX + mask.getWidth() + hitRadius;
+		double bottom = minY + mask.getHeight() + hitRadius;
+		int hits = 0;
+		int i = 0;
+		while (i < count) {
+			if (x[i] >= left && x[i] <= right && y[i] >= top && y[i] <= bottom
+					&& mask.intersects((int) Math.floor(x[i] - minX - hitRadius), (int) Math.floor(y[i] - minY - hitRadius),
+							(int) Math.ceil(x[i] - minX + hitRadius), (int) Math.ceil(y[i] - minY + hitRadius))) {
+				remove(i);
+				hits++;
+			} else {
+				i++;
+			}
+		}
+		return hits;
+	}
+
+	/**
+	 * Removes every bullet.
+	 */
+	public void clear() {
+		count = 0;
+	}
+
+	/**
+	 * Removes a bullet by moving the last bullet into its place.
+	 *
+	 * @param i the bullet's position.
+	 */
+	private void remove(int i) {
+		int last = --count;
+		if (i != last) {
+			x[i] = x[last];
+			y[i] = y[last];
+			previousX[i] = previousX[last];
+			previousY[i] = previousY[last];
+			velocityX[i] = velocityX[last];
+			velocityY[i] = velocityY[last];
+			accelerationX[i] = accelerationX[last];
+			accelerationY[i] = accelerationY[last];
+			age[i] = age[last];
+			lifetime[i] = lifetime[last];
+		}
+	}
+
+	/**
+	 * Grows every array to a new capacity, keeping the live bullets.
+	 *
+	 * @param capacity the new capacity.
+	 */
+	private void grow(int capacity) {
+		x = Arrays.copyOf(x, capacity);
+		y = Arrays.copyOf(y, capacity);
+		previousX = Arrays.copyOf(previousX, capacity);
+		previousY = Arrays.copyOf(previousY, capacity);
+		velocityX = Arrays.copyOf(velocityX, capacity);
+		velocityY = Arrays.copyOf(velocityY, capacity);
+		accelerationX = Arrays.copyOf(accelerationX, capacity);
+		accelerationY = Arrays.copyOf(accelerationY, capacity);
+		age = Arrays.copyOf(age, capacity);
+		lifetime = Arrays.copyOf(lifetime, capacity);
+	}
+
+	/**
+	 * Retrieves the number of live bullets.
+	 *
+	 * @return the bullet count.
+	 */
+	public int size() {
+		return count;
+	}
+
+	/**
+	 * Retrieves a bullet's current x-coordinate.
+	 *
+	 * @param i the bullet's position, below {@link #size()}.
+	 * @return the x-coordinate of its centre.
+	 */
+	public double getX(int i) {
+		return x[i];
+	}
+
+	/**
+	 * Retrieves a bullet's current y-coordinate.
+	 *
+	 * @param i the bullet's position, below {@link #size()}.
+	 * @return the y-coordinate of its centre.
+	 */
+	public double getY(int i) {
+		return y[i];
+	}
+
+	/**
+	 * Retrieves a bullet's x-coordinate between its previous and current tick positions.
+	 *
+	 * @param i the bullet's position, below {@link #size()}.
+	 * @param alpha the fraction of a tick elapsed since the most recent tick, from 0 to 1.
+	 * @return the interpolated x-coordinate of its centre.
+	 */
+	public double getX(int i, double alpha) {
+		return previousX[i] + (x[i] - previousX[i]) * alpha;
+	}
+
+	/**
+	 * Retrieves a bullet's y-coordinate between its previous and current tick positions.
+	 *
+	 * @param i the bullet's position, below {@link #size()}.
+	 * @param alpha the fraction of a tick elapsed since the most recent tick, from 0 to 1.
+	 * @return the interpolated y-coordinate of its centre.
+	 */
+	public double getY(int i, double alpha) {
+		return previousY[i] + (y[i] - previousY[i]) * alpha;
+	}
+
+	/**
+	 * Retrieves a bullet's horizontal velocity.
+	 *
+	 * @param i the bullet's position, below {@link #size()}.
+	 * @return the horizontal movement per tick.
+	 */
+	public double getVelocityX(int i) {
+		return velocityX[i];
+	}
+
+	/**
+	 * Retrieves a bullet's vertical velocity.
+	 *
+	 * @param i the bullet's position, below {@link #size()}.
+	 * @return the vertical movement per tick.
+	 */
+	public double getVelocityY(int i) {
+		return velocityY[i];
+	}
+
+	/**
+	 * Retrieves the radius of every bullet.
+	 *
+	 * @return the hit radius.
+	 */
+	public double getHitRadius() {
+		return hitRadius;
+	}
+
+	/**
+	 * Retrieves the number of bullets the arrays can hold without growing.
+	 *
+	 * @return the capacity.
+	 */
+	public int getCapacity() {
+		return x.length;
+	}
+
+	/**
+	 * Retrieves the total number of bullets spawned.
+	 *
+	 * @return the spawned count.
+	 */
+	public long getSpawnedCount() {
+		return spawned;
+	}
+
+	/**
+	 * Retrieves the total number of bullets dropped because the field was full.
+	 *
+	 * @return the dropped count.
+	 */
+	public long getDroppedCount() {
+		return dropped;
+	}
+}
@@ -0,0 +1,181 @@
+package com.example.demo.simulation;
+
+/**
+ * The {@link Emitter} class is a bullet pattern: every {@code period} ticks it fires a volley of
+ * bullets into a {@link BulletField} in one of the {@link EmitterShape}s. The direction of each
+ * bullet in a volley is worked out once, when the emitter is built, as a table of unit vectors;
+ * firing a volley turns the whole table by one angle, for the target and the spin, so it costs
+ * at most one sine and cosine however many bullets it fires.
+ * <p>
+ * Emitters are immutable and shared; where and when to fire, and at what, is up to the caller,
+ * so one emitter definition can drive any number of sources. Angles are in degrees, with 0
+ * pointing right and 90 pointing down the screen.
+ */
+public final class Emitter {
+
+	/** The emitter's name in the catalogue. */
+	private final String name;
+
+	/** The shape of each volley. */
+	private final EmitterShape shape;
+
+	/** Speed of each bullet when fired, in pixels per tick. */
+	private final double speed;
+
+	/** Change in each bullet's speed per tick, along its direction of travel. */
+	private final double acceleration;
+
+	/** Angle each volley turns by relative to the previous one, in radians. */
+	private final double spin;
+
+	/** Ticks between volleys. */
+	private final int period;
+
+	/** Ticks each bullet lives. */
+	private final int lifetime;
+
+	/** Horizontal component of each bullet's direction before turning. */
+	private final double[] directionX;
+
+	/** Vertical component of each bullet's direction before turning. */
+	private final double[] directionY;
+
+	/**
+	 * Constructs an {@link Emitter}.
+	 *
+	 * @param name the emitter's name.
+	 * @param shape the shape of each volley.
+	 * @param count the number of bullets in each volley.
+	 * @param speed the speed of each bullet when fired, in pixels per tick.
+	 * @param acceleration the change in each bullet's speed per tick.
+	 * @param angle the direction of a {@link EmitterShape#SPREAD} fan, or of the first bullet of a
+	 *              ring, in degrees; ignored for {@link EmitterShape#AIMED}.
+	 * @param spread the width of an {@link EmitterShape#AIMED} or {@link EmitterShape#SPREAD} fan
+	 *               in degrees; ignored for rings.
+	 * @param spin the angle each volley turns by relative to the previous one, in degrees.
+	 * @param period the number of ticks between volleys.
+	 * @param lifetime the number of ticks each bullet lives.
+	 * @throws IllegalArgumentException if a count, period or lifetime is not positive or the speed is negative.
+	 */
+	public Emitter(String name, EmitterShape shape, int count, double speed, double acceleration,
+				   double angle, double spread, double spin, int period, int lifetime) {
+		if (count <= 0 || period <= 0 || lifetime <= 0 || speed < 0) {
+			throw new IllegalArgumentException("Emitter " + name + " needs a positive count, period and lifetime and a non-negative speed");
+		}
+		this.name = name;
+		this.shape = shape;
+		this.speed = speed;
+		this.acceleration = acceleration;
+		this.spin = Math.toRadians(spin);
+		this.period = period;
+		this.lifetime = lifetime;
+		this.directionX = new double[count];
+		this.directionY = new double[count];
+		boolean ring = shape == EmitterShape.RADIAL || shape == EmitterShape.SPIRAL;
+		double base = shape == EmitterShape.AIMED ? 0 : Math.toRadians(angle);
+		for (int i = 0; i < count; i++) {
+			double offset;
+			if (ring) {
+				offset = 2 * Math.PI * i / count;
+			} else {
+				offset = count == 1 ? 0 : Math.toRadians(spread) * ((double) i / (count - 1) - 0.5);
+			}
+			directionX[i] = Math.cos(base + offset);
+			directionY[i] = Math.sin(base + offset);
+		}
+	}
+
+	/**
+	 * Checks if the emitter fires a volley on a tick.
+	 *
+	 * @param tick the number of ticks since the emitter started.
+	 * @return true on every {@code period}th tick, starting with the first.
+	 */
+	public boolean firesAt(long tick) {
+		return tick % period == 0;
+	}
+
+	/**
+	 * Retrieves the number of the volley fired on a tick, which decides how far a spinning emitter has turned.
+	 *
+	 * @param tick the number of ticks since the emitter started.
+	 * @return the volley number.
+	 */
+	public long volleyAt(long tick) {
+		return tick / period;
+	}
+
+	/**
+	 * Fires one volley.
+	 *
+	 * @param field the field to add the bullets to.
+	 * @param originX the x-coordinate the bullets start from.
+	 * @param originY the y-coordinate the bullets start from.
+	 * @param targetX the x-coordinate an {@link EmitterShape#AIMED} fan is centred on.
+	 * @param targetY the y-coordinate an {@link EmitterShape#AIMED} fan is centred on.
+	 * @param volley the volley's number, for the spin.
+	 * @return the number of bullets added.
+	 */
+	public int fire(BulletField field, double originX, double originY, double targetX, double targetY, long volley) {
+		double turn = volley * spin;
+		if (shape == EmitterShape.AIMED) {
+			turn += Math.atan2(targetY - originY, targetX - originX);
+		}
+		double cos = turn == 0 ? 1 : Math.cos(turn);
+		double sin = turn == 0 ? 0 : Math.sin(turn);
+		int added = 0;
+		for (int i = 0; i < directionX.length; i++) {
+			double dx = directionX[i] * cos - directionY[i] * sin;
+			double dy = directionX[i] * sin + directionY[i] * cos;
+			if (field.spawn(originX, originY, dx * speed, dy * speed, dx * acceleration, dy * acceleration, lifetime)) {
+				added++;
+			}
+		}
+		return added;
+	}
+
+	/**
+	 * Retrieves the emitter's name.
+	 *
+	 * @return the name.
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * Retrieves the shape of each volley.
+	 *
+	 * @return the {@link EmitterShape}.
+	 */
+	public EmitterShape getShape() {
+		return shape;
+	}
+
+	/**
+	 * Retrieves the number of bullets in each volley.
+	 *
+	 * @return the bullet count.
+	 */
+	public int getCount() {
+		return directionX.length;
+	}
+
+	/**
+	 * Retrieves the number of ticks between volleys.
+	 *
+	 * @return the period.
+	 */
+	public int getPeriod() {
+		return period;
+	}
+
+	/**
+	 * Retrieves the number of ticks each bullet lives.
+	 *
+	 * @return the lifetime.
+	 */
+	public int getLifetime() {
+		return lifetime;
+	}
+}
@@ -0,0 +1,120 @@
+package com.example.demo.simulation;
+
+import com.example.demo.catalog.CatalogResource;
+import com.example.demo.catalog.KeyValueLine;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The {@link EmitterCatalog} class reads {@link Emitter}s from an emitter catalogue on the
+ * classpath. The catalogue is a text file with one emitter per line: the emitter's name followed
+ * by {@code key=value} fields, for example
+ * <pre>
+ * bossSpiral shape=SPIRAL count=6 speed=6 spin=17 period=4 lifetime=160
+ * </pre>
+ * {@code shape}, {@code count}, {@code speed}, {@code period} and {@code lifetime} are required;
+ * {@code accel}, {@code angle}, {@code spread} and {@code spin} default to 0. Blank lines and lines
+ * starting with {@code #} are ignored.
+ * <p>
+ * A lookup reads the catalogue only up to the requested line. Parsed emitters are cached and
+ * shared between threads.
+ */
+public final class EmitterCatalog {
+
+	/** Classpath location of the built-in emitter catalogue. */
+	public static final String DEFAULT_CATALOG = "/com/example/demo/bullets/emitters.txt";
+
+	/** The shared catalogue of built-in emitters. */
+	private static EmitterCatalog instance;
+
+	/** The catalogue resource. */
+	private final CatalogResource catalog;
+
+	/** Emitters parsed so far, by name. */
+	private final Map<String, Emitter> emitters;
+
+	/**
+	 * Constructs an {@link EmitterCatalog} over a catalogue resource. The resource is not read
+	 * until an emitter is requested.
+	 *
+	 * @param resourcePath the absolute classpath location of the catalogue.
+	 */
+	public EmitterCatalog(String resourcePath) {
+		this.catalog = new CatalogResource(resourcePath, "emitter");
+		this.emitters = new ConcurrentHashMap<>();
+	}
+
+	/**
+	 * Retrieves the catalogue of built-in emitters, creating it on first use.
+	 *
+	 * @return the shared {@link EmitterCatalog}.
+	 */
+	public static synchronized EmitterCatalog getInstance() {
+		if (instance == null) {
+			instance = new EmitterCatalog(DEFAULT_CATALOG);
+		}
+		return instance;
+	}
+
+	/**
+	 * Retrieves an emitter, reading the catalogue up to its line on first request.
+	 *
+	 * @param name the emitter's name.
+	 * @return the parsed {@link Emitter}.
+	 * @throws IllegalArgumentException if the catalogue has no such emitter or its line is malformed.
+	 */
+	public Emitter get(String name) {
+		Emitter emitter = emitters.get(name);
+		if (emitter != null) {
+			return emitter;
+		}
+		Emitter parsed = toEmitter(catalog.find(name));
+		Emitter cached = emitters.putIfAbsent(name, parsed);
+		return cached != null ? cached : parsed;
+	}
+
+	/**
+	 * Parses one catalogue line into an emitter.
+	 *
+	 * @param line the catalogue line.
+	 * @param lineNumber the line's position in the catalogue, for error messages.
+	 * @return the parsed {@link Emitter}.
+	 * @throws IllegalArgumentException if a field is missing, unknown or malformed.
+	 */
+	static Emitter parse(String line, int lineNumber) {
+		return toEmitter(KeyValueLine.parse(line, lineNumber));
+	}
+
+	/**
+	 * Builds an emitter from a catalogue line's fields.
+	 *
+	 * @param line the parsed catalogue line.
+	 * @return the {@link Emitter}.
+	 * @throws IllegalArgumentException if a field is missing, unknown or malformed.
+	 */
+	private static Emitter toEmitter(KeyValueLine line) {
+		String shapeName = line.require("shape");
+		EmitterShape shape;
+		try {
+			shape = EmitterShape.valueOf(shapeName.toUpperCase(Locale.ROOT));
+		} catch (IllegalArgumentException e) {
+			throw line.error("unknown shape " + shapeName, e);
+		}
+		int count = line.requireInt("count");
+		double speed = line.requireDouble("speed");
+		double acceleration = line.optionalDouble("accel", 0);
+		double angle = line.optionalDouble("angle", 0);
+		double spread = line.optionalDouble("spread", 0);
+		double spin = line.optionalDouble("spin", 0);
+		int period = line.requireInt("period");
+		int lifetime = line.requireInt("lifetime");
+		line.checkConsumed();
+		try {
+			return new Emitter(line.getName(), shape, count, speed, acceleration, angle, spread, spin, period, lifetime);
+		} catch (IllegalArgumentException e) {
+			throw line.error(e.getMessage(), e);
+		}
+	}
+}
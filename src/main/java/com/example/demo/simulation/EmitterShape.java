@@ -0,0 +1,16 @@
+package com.example.demo.simulation;
+
+/**
+ * The {@link EmitterShape} enum lists the volley shapes an {@link Emitter} can fire.
+ */
+public enum EmitterShape {
+
+	/** A ring of bullets evenly spaced around the emitter. */
+	RADIAL,
+	/** A ring of bullets that turns by a fixed angle with every volley. */
+	SPIRAL,
+	/** A fan of bullets centred on the target. */
+	AIMED,
+	/** A fan of bullets centred on a fixed direction. */
+	SPREAD
+}
@@ -0,0 +1,100 @@
+package com.example.demo.simulation;
+
+/**
+ * The {@link GameRules} class holds the tuning constants shared by every level: tick length,
+ * actor speeds, spawn offsets, movement limits and projectile lifetimes. {@code LevelParent}, the
+ * JavaFX actors and the headless {@link World} all read them from here, so a simulated level plays
+ * by the same numbers as the real one.
+ */
+public final class GameRules {
+
+	/** Duration of one game tick in milliseconds. */
+	public static final int TICK_MILLIS = 50;
+
+	/** Space kept free below the lowest enemy spawn position. */
+	public static final double SCREEN_HEIGHT_ADJUSTMENT = 150;
+
+	/** Distance a projectile may travel beyond the screen before it is retired. */
+	public static final double PROJECTILE_CULL_MARGIN = 200;
+
+	/** Age in ticks at which a projectile is retired. */
+	public static final int PROJECTILE_MAX_AGE_TICKS = 600;
+
+	/** Hit radius of every enemy bullet. */
+	public static final double BULLET_HIT_RADIUS = 6;
+
+	/** Player starting x-coordinate. */
+	public static final double PLAYER_INITIAL_X = 5.0;
+
+	/** Player starting y-coordinate. */
+	public static final double PLAYER_INITIAL_Y = 300.0;
+
+	/** Left limit of the player's movement. */
+	public static final double PLAYER_MIN_X = 0;
+
+	/** Right limit of the player's movement. */
+	public static final double PLAYER_MAX_X = 1000;
+
+	/** Upper limit of the player's movement. */
+	public static final double PLAYER_MIN_Y = -40;
+
+	/** Lower limit of the player's movement. */
+	public static final double PLAYER_MAX_Y = 600;
+
+	/** Distance the player moves per tick along each axis. */
+	public static final double PLAYER_VELOCITY = 8;
+
+	/** Player missile x-coordinate relative to the player's translation, not its position. */
+	public static final double USER_MISSILE_X_OFFSET = 128;
+
+	/** Player missile y-coordinate relative to the player's position. */
+	public static final double USER_MISSILE_Y_OFFSET = 20;
+
+	/** Horizontal movement per tick of a player missile. */
+	public static final double USER_MISSILE_VELOCITY = 15;
+
+	/** Horizontal movement per tick of an enemy aircraft. */
+	public static final double ENEMY_VELOCITY = -6;
+
+	/** Chance per tick that an enemy aircraft fires. */
+	public static final double ENEMY_FIRE_RATE = .01;
+
+	/** Enemy missile x-coordinate relative to the enemy's position. */
+	public static final double ENEMY_MISSILE_X_OFFSET = -100;
+
+	/** Enemy missile y-coordinate relative to the enemy's position. */
+	public static final double ENEMY_MISSILE_Y_OFFSET = 50;
+
+	/** Horizontal movement per tick of an enemy missile. */
+	public static final double ENEMY_MISSILE_VELOCITY = -10;
+
+	/** Boss starting x-coordinate. */
+	public static final double BOSS_INITIAL_X = 800;
+
+	/** Boss starting y-coordinate. */
+	public static final double BOSS_INITIAL_Y = 400;
+
+	/** Upper limit of the boss's movement. */
+	public static final double BOSS_MIN_Y = -100;
+
+	/** Lower limit of the boss's movement. */
+	public static final double BOSS_MAX_Y = 475;
+
+	/** Boss missile spawn x-coordinate. */
+	public static final double BOSS_MISSILE_X = 950;
+
+	/** Horizontal movement per tick of a boss missile. */
+	public static final double BOSS_MISSILE_VELOCITY = -15;
+
+	/** Origin of the boss's bullet patterns relative to its position. */
+	public static final double BOSS_PATTERN_X_OFFSET = 150;
+
+	/** Origin of the boss's bullet patterns relative to its position. */
+	public static final double BOSS_PATTERN_Y_OFFSET = 75;
+
+	/**
+	 * Prevents instantiation.
+	 */
+	private GameRules() {
+	}
+}
@@ -0,0 +1,16 @@
+package com.example.demo.simulation;
+
+/**
+ * The {@link GameStatus} enum describes whether a simulated level is still being played.
+ */
+public enum GameStatus {
+
+	/** The level is still in progress. */
+	RUNNING,
+
+	/** The player reached the level's win condition. */
+	WON,
+
+	/** The player's aircraft was destroyed. */
+	LOST
+}
@@ -0,0 +1,47 @@
+package com.example.demo.simulation;
+
+/**
+ * The {@link KillCounter} class keeps a level's kill tally. {@code LevelParent} feeds it from its
+ * {@code ActorDestroyed} events and the headless {@link World} from its damage and escape handling,
+ * so both credit kills by the same rule: an enemy counts once, when it is shot down, and never
+ * when it escapes past the player.
+ */
+public final class KillCounter {
+
+	/** Enemies shot down so far. */
+	private int kills;
+
+	/**
+	 * Records an aircraft leaving play.
+	 *
+	 * @param enemy true for an enemy aircraft, false for the player's.
+	 * @param shotDown true if its health ran out, false if it escaped.
+	 * @return true if the destruction counted as a kill.
+	 */
+	public boolean recordDestroyed(boolean enemy, boolean shotDown) {
+		if (!enemy || !shotDown) {
+			return false;
+		}
+		kills++;
+		return true;
+	}
+
+	/**
+	 * Retrieves the number of kills.
+	 *
+	 * @return the kill count.
+	 */
+	public int getKills() {
+		return kills;
+	}
+
+	/**
+	 * Checks whether the tally has reached a level's kill target.
+	 *
+	 * @param killTarget the number of kills needed.
+	 * @return true if at least that many enemies were shot down.
+	 */
+	public boolean hasReached(int killTarget) {
+		return kills >= killTarget;
+	}
+}
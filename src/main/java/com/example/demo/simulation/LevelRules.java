@@ -0,0 +1,173 @@
+package com.example.demo.simulation;
+
+import java.util.List;
+
+/**
+ * The {@link LevelRules} class describes how a level spawns enemies and when it is won. The rules
+ * of the wave levels are read from the level catalogue; only {@code LevelTwo}, which keeps its own
+ * class, is declared here.
+ */
+public final class LevelRules {
+
+	/** Rules of the second level: a single shielded boss. */
+	public static final LevelRules LEVEL_TWO = new LevelRules("LevelTwo", ActorType.BOSS, 1, 0, 1, 5, "LevelThree");
+
+	/** The level's name. */
+	private final String name;
+
+	/** The kind of enemy spawned. */
+	private final ActorType enemyType;
+
+	/** Maximum number of enemies alive at once. */
+	private final int totalEnemies;
+
+	/** Kills needed to win; unused by boss levels, which are won by destroying the boss. */
+	private final int killsToAdvance;
+
+	/** Probability of filling each free enemy slot per tick. */
+	private final double enemySpawnProbability;
+
+	/** The player's initial health. */
+	private final int playerInitialHealth;
+
+	/** Name of the following level, or null if this is the last level. */
+	private final String nextLevel;
+
+	/** Scripted waves spawned in addition to the continuous spawning. */
+	private final List<Wave> waves;
+
+	/**
+	 * Constructs a {@link LevelRules}.
+	 *
+	 * @param name the level's name.
+	 * @param enemyType the kind of enemy spawned.
+	 * @param totalEnemies maximum number of enemies alive at once.
+	 * @param killsToAdvance kills needed to win.
+	 * @param enemySpawnProbability probability of filling each free enemy slot per tick.
+	 * @param playerInitialHealth the player's initial health.
+	 * @param nextLevel name of the following level, or null for the last level.
+	 */
+	public LevelRules(String name, ActorType enemyType, int totalEnemies, int killsToAdvance,
+					  double enemySpawnProbability, int playerInitialHealth, String nextLevel) {
+		this(name, enemyType, totalEnemies, killsToAdvance, enemySpawnProbability, playerInitialHealth, nextLevel, List.of());
+	}
+
+	/**
+	 * Constructs a {@link LevelRules} with scripted waves.
+	 *
+	 * @param name the level's name.
+	 * @param enemyType the kind of enemy spawned.
+	 * @param totalEnemies maximum number of enemies alive at once.
+	 * @param killsToAdvance kills needed to win.
+	 * @param enemySpawnProbability probability of filling each free enemy slot per tick.
+	 * @param playerInitialHealth the player's initial health.
+	 * @param nextLevel name of the following level, or null for the last level.
+	 * @param waves scripted waves spawned in addition to the continuous spawning.
+	 */
+	public LevelRules(String name, ActorType enemyType, int totalEnemies, int killsToAdvance,
+					  double enemySpawnProbability, int playerInitialHealth, String nextLevel, List<Wave> waves) {
+		this.name = name;
+		this.enemyType = enemyType;
+		this.totalEnemies = totalEnemies;
+		this.killsToAdvance = killsToAdvance;
+		this.enemySpawnProbability = enemySpawnProbability;
+		this.playerInitialHealth = playerInitialHealth;
+		this.nextLevel = nextLevel;
+		this.waves = List.copyOf(waves);
+	}
+
+	/**
+	 * Looks up the rules of a built-in level declared here rather than in the level catalogue.
+	 *
+	 * @param name the level's name, e.g. "LevelTwo".
+	 * @return the matching {@link LevelRules}.
+	 * @throws IllegalArgumentException if no level has that name.
+	 */
+	public static LevelRules forLevel(String name) {
+		if (LEVEL_TWO.name.equals(name)) {
+			return LEVEL_TWO;
+		}
+		throw new IllegalArgumentException("Unknown level: " + name);
+	}
+
+	/**
+	 * Checks whether the level is won by destroying a boss rather than by reaching a kill count.
+	 *
+	 * @return true for boss levels.
+	 */
+	public boolean isBossLevel() {
+		return enemyType == ActorType.BOSS;
+	}
+
+	/**
+	 * Retrieves the level's name.
+	 *
+	 * @return the name.
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * Retrieves the kind of enemy spawned.
+	 *
+	 * @return the enemy {@link ActorType}.
+	 */
+	public ActorType getEnemyType() {
+		return enemyType;
+	}
+
+	/**
+	 * Retrieves the maximum number of enemies alive at once.
+	 *
+	 * @return the enemy cap.
+	 */
+	public int getTotalEnemies() {
+		return totalEnemies;
+	}
+
+	/**
+	 * Retrieves the kills needed to win.
+	 *
+	 * @return the kill target.
+	 */
+	public int getKillsToAdvance() {
+		return killsToAdvance;
+	}
+
+	/**
+	 * Retrieves the probability of filling each free enemy slot per tick.
+	 *
+	 * @return the spawn probability.
+	 */
+	public double getEnemySpawnProbability() {
+		return enemySpawnProbability;
+	}
+
+	/**
+	 * Retrieves the player's initial health.
+	 *
+	 * @return the initial health.
+	 */
+	public int getPlayerInitialHealth() {
+		return playerInitialHealth;
+	}
+
+	/**
+	 * Retrieves the name of the following level.
+	 *
+	 * @return the next level's name, or null if this is the last level.
+	 */
+	public String getNextLevel() {
+		return nextLevel;
+	}
+
+	/**
+	 * Retrieves the scripted waves spawned in addition to the continuous spawning.
+	 *
+	 * @return an unmodifiable list of waves, in the order given.
+	 */
+	public List<Wave> getWaves() {
+		return waves;
+	}
+}
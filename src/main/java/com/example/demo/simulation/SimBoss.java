@@ -0,0 +1,88 @@
+package com.example.demo.simulation;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * The {@link SimBoss} class moves, shields and fires the level-two boss in the headless
+ * {@link World} by playing the same {@link BossPattern} as {@code Boss}.
+ */
+final class SimBoss {
+
+	/** Name of the level-two boss in the boss catalogue */
+	static final String PATTERN_NAME = "LevelTwoBoss";
+
+	/** The store holding the boss */
+	private final ActorStore store;
+	/** The boss's slot in the store */
+	private final int slot;
+	/** The boss's position in its pattern */
+	private final BossBrain brain;
+
+	/**
+	 * Constructs a {@link SimBoss} for a boss actor.
+	 *
+	 * @param store the store holding the boss.
+	 * @param slot the boss's slot in the store.
+	 * @param random the random source used to order the movement steps.
+	 */
+	SimBoss(ActorStore store, int slot, RandomGenerator random) {
+		this.store = store;
+		this.slot = slot;
+		this.brain = new BossBrain(BossPatternCatalog.getInstance().get(PATTERN_NAME), random);
+	}
+
+	/**
+	 * Advances the boss's pattern one tick and moves it, staying within the vertical bounds.
+	 */
+	void update() {
+		brain.tick(store.getHealth(slot), ActorType.BOSS.getHealth());
+		double initialY = store.y[slot];
+		double newY = initialY + brain.getVelocity();
+		store.y[slot] = newY < GameRules.BOSS_MIN_Y || newY > GameRules.BOSS_MAX_Y ? initialY : newY;
+	}
+
+	/**
+	 * Retrieves the boss's slot in the store.
+	 *
+	 * @return the slot.
+	 */
+	int getSlot() {
+		return slot;
+	}
+
+	/**
+	 * Checks if the shield is active, in which case the boss ignores damage.
+	 *
+	 * @return true if shielded.
+	 */
+	boolean isShielded() {
+		return brain.isShielded();
+	}
+
+	/**
+	 * Checks if the boss fires this tick.
+	 *
+	 * @return true if the boss fires from each of its emitters.
+	 */
+	boolean isFiring() {
+		return brain.isFiring();
+	}
+
+	/**
+	 * Retrieves the number of the volley the phase's bullet pattern fires this tick.
+	 *
+	 * @return the volley number, or -1 if no pattern fires this tick.
+	 */
+	long getPatternVolley() {
+		return brain.getPatternVolley();
+	}
+
+	/**
+	 * Retrieves the phase being played, for its emitter offsets and bullet pattern.
+	 *
+	 * @return the current {@link BossPhase}.
+	 */
+	BossPhase getPhase() {
+		return brain.getPhase();
+	}
+}
@@ -0,0 +1,278 @@
+package com.example.demo.simulation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.random.RandomGenerator;
+
+/**
+ * The {@link SpawnScheduler} class compiles a level's spawn rules into a queue of spawn events
+ * ordered by tick, so each tick only pops the events that are due instead of rolling a random
+ * number for every free enemy slot.
+ * <p>
+ * Scripted {@link Wave}s are compiled in full when added. The level's continuous spawning is a
+ * stream of events whose gaps are drawn from an exponential distribution at the rate of an empty
+ * level ({@code totalEnemies * spawnProbability} per tick); the stream is compiled a fixed number
+ * of ticks ahead and topped up as time passes. Each due stream event spawns with probability
+ * {@code (cap - alive) / cap}, which thins the stream to the {@code (totalEnemies - alive) *
+ * spawnProbability} mean rate of the per-slot rolls it replaces. Stream events that find the level
+ * full, or are thinned out, are dropped like a failed roll, while wave events wait for a slot
+ * without holding back other due events.
+ */
+public final class SpawnScheduler {
+
+	/** Number of ticks of stream events compiled ahead of the current tick. */
+	private static final int LOOKAHEAD_TICKS = 100;
+
+	/**
+	 * Receives the spawns that are due.
+	 */
+	@FunctionalInterface
+	public interface SpawnHandler {
+
+		/**
+		 * Spawns an enemy.
+		 *
+		 * @param type the kind of enemy.
+		 * @param yFraction the spawn height as a fraction, from 0 to 1, of the lowest spawn position.
+		 */
+		void spawn(ActorType type, double yFraction);
+	}
+
+	/** Pending spawns, earliest first. */
+	private final PriorityQueue<SpawnEvent> queue;
+
+	/** Due wave events held back by their cap during the current tick. */
+	private final List<SpawnEvent> blocked;
+
+	/** Source of spawn heights, stream gaps and thinning. */
+	private final RandomGenerator random;
+
+	/** The kind of enemy spawned. */
+	private final ActorType enemyType;
+
+	/** Mean stream spawns per tick, or 0 for no stream. */
+	private final double streamRate;
+
+	/** Maximum number of enemies alive for a stream event to spawn. */
+	private final int streamCap;
+
+	/** Time of the next stream event, in fractional ticks. */
+	private double nextStreamTime;
+
+	/** The next tick to run, counted from 0. */
+	private long tick;
+
+	/** Order in which events were added, to keep simultaneous events first-in first-out. */
+	private long sequence;
+
+	/** Number of enemies spawned. */
+	private long spawned;
+
+	/** Number of stream events dropped because the level was full or they were thinned out. */
+	private long dropped;
+
+	/**
+	 * Constructs a {@link SpawnScheduler} with no stream.
+	 *
+	 * @param enemyType the kind of enemy spawned.
+	 * @param random the source of spawn heights.
+	 */
+	public SpawnScheduler(ActorType enemyType, RandomGenerator random) {
+		this(enemyType, 0, 0, random);
+	}
+
+	/**
+	 * Constructs a {@link SpawnScheduler} with a continuous stream of spawns.
+	 *
+	 * @param enemyType the kind of enemy spawned.
+	 * @param streamRate the mean stream spawns per tick, or 0 for no stream.
+	 * @param streamCap the maximum number of enemies alive for a stream event to spawn.
+	 * @param random the source of spawn heights, stream gaps and thinning.
+	 */
+	public SpawnScheduler(ActorType enemyType, double streamRate, int streamCap, RandomGenerator random) {
+		if (streamRate < 0) {
+			throw new IllegalArgumentException("Stream rate must not be negative: " + streamRate);
+		}
+		this.queue = new PriorityQueue<>();
+		this.blocked = new ArrayList<>();
+		this.random = random;
+		this.enemyType = enemyType;
+		this.streamRate = streamRate;
+		this.streamCap = streamCap;
+		if (streamRate > 0) {
+			nextStreamTime = nextStreamGap();
+			compileStream(LOOKAHEAD_TICKS);
+		}
+	}
+
+	/**
+	 * Creates the scheduler for a level's rules: its scripted waves plus a stream at the rate of
+	 * its spawn probability.
+	 *
+	 * @param rules the level's rules.
+	 * @param random the source of spawn heights, stream gaps and thinning.
+	 * @return the compiled {@link SpawnScheduler}.
+	 */
+	public static SpawnScheduler forRules(LevelRules rules, RandomGenerator random) {
+		SpawnScheduler scheduler = new SpawnScheduler(rules.getEnemyType(),
+				rules.getTotalEnemies() * rules.getEnemySpawnProbability(), rules.getTotalEnemies(), random);
+		for (Wave wave : rules.getWaves()) {
+			scheduler.addWave(wave);
+		}
+		return scheduler;
+	}
+
+	/**
+	 * Compiles a scripted wave into spawn events.
+	 *
+	 * @param wave the wave to add.
+	 */
+	public void addWave(Wave wave) {
+		for (int i = 0; i < wave.getCount(); i++) {
+			long due = wave.getStartTick() + (long) (i / wave.getBurst()) * wave.getInterval();
+			queue.add(new SpawnEvent(due, sequence++, random.nextDouble(), wave.getCap(), true));
+		}
+	}
+
+	/**
+	 * Runs one tick, spawning every due event that fits under its cap. Wave events held back by
+	 * their cap are put back to wait for a later tick, after the other due events have run.
+	 *
+	 * @param alive the number of enemies currently alive.
+	 * @param handler receives the spawns.
+	 * @return the number of enemies spawned this tick.
+	 */
+	public int tick(int alive, SpawnHandler handler) {
+		long current = tick++;
+		if (streamRate > 0 && nextStreamTime < current + LOOKAHEAD_TICKS / 2.0) {
+			compileStream(current + LOOKAHEAD_TICKS);
+		}
+		int spawnedThisTick = 0;
+		SpawnEvent event;
+		while ((event = queue.peek()) != null && event.due <= current) {
+			queue.poll();
+			if (alive + spawnedThisTick >= event.cap) {
+				if (event.waits) {
+					blocked.add(event);
+				} else {
+					dropped++;
+				}
+				continue;
+			}
+			if (!event.waits && (event.due < current || random.nextDouble() * event.cap >= event.cap - alive)) {
+				dropped++;
+				continue;
+			}
+			handler.spawn(enemyType, event.yFraction);
+			spawnedThisTick++;
+		}
+		if (!blocked.isEmpty()) {
+			queue.addAll(blocked);
+			blocked.clear();
+		}
+		spawned += spawnedThisTick;
+		return spawnedThisTick;
+	}
+
+	/**
+	 * Adds stream events up to a tick.
+	 *
+	 * @param untilTick the last tick to compile.
+	 */
+	private void compileStream(long untilTick) {
+		while (nextStreamTime < untilTick + 1) {
+			queue.add(new SpawnEvent((long) nextStreamTime, sequence++, random.nextDouble(), streamCap, false));
+			nextStreamTime += nextStreamGap();
+		}
+	}
+
+	/**
+	 * Draws the time to the next stream event.
+	 *
+	 * @return the gap in fractional ticks.
+	 */
+	private double nextStreamGap() {
+		return -Math.log(1 - random.nextDouble()) / streamRate;
+	}
+
+	/**
+	 * Retrieves the number of spawn events waiting in the queue.
+	 *
+	 * @return the pending count.
+	 */
+	public int getPendingCount() {
+		return queue.size();
+	}
+
+	/**
+	 * Retrieves the number of enemies spawned.
+	 *
+	 * @return the spawn count.
+	 */
+	public long getSpawnedCount() {
+		return spawned;
+	}
+
+	/**
+	 * Retrieves the number of stream events dropped because the level was full or they were thinned out.
+	 *
+	 * @return the dropped count.
+	 */
+	public long getDroppedCount() {
+		return dropped;
+	}
+
+	/**
+	 * Retrieves the number of ticks run.
+	 *
+	 * @return the tick count.
+	 */
+	public long getTickCount() {
+		return tick;
+	}
+
+	/**
+	 * The {@link SpawnEvent} class is one pending spawn.
+	 */
+	private static final class SpawnEvent implements Comparable<SpawnEvent> {
+
+		/** Tick at which the spawn is due. */
+		final long due;
+
+		/** Order in which the event was added. */
+		final long sequence;
+
+		/** Spawn height as a fraction of the lowest spawn position. */
+		final double yFraction;
+
+		/** Maximum number of enemies alive for the spawn to happen. */
+		final int cap;
+
+		/** Whether a spawn blocked by its cap waits for a slot rather than being dropped. */
+		final boolean waits;
+
+		/**
+		 * Constructs a {@link SpawnEvent}.
+		 *
+		 * @param due the tick at which the spawn is due.
+		 * @param sequence the order in which the event was added.
+		 * @param yFraction the spawn height as a fraction of the lowest spawn position.
+		 * @param cap the maximum number of enemies alive for the spawn to happen.
+		 * @param waits whether a blocked spawn waits for a slot.
+		 */
+		SpawnEvent(long due, long sequence, double yFraction, int cap, boolean waits) {
+			this.due = due;
+			this.sequence = sequence;
+			this.yFraction = yFraction;
+			this.cap = cap;
+			this.waits = waits;
+		}
+
+		@Override
+		public int compareTo(SpawnEvent other) {
+			int byTick = Long.compare(due, other.due);
+			return byTick != 0 ? byTick : Long.compare(sequence, other.sequence);
+		}
+	}
+}
@@ -0,0 +1,111 @@
+package com.example.demo.simulation;
+
+/**
+ * The {@link Wave} class is a scripted group of enemy spawns: {@code count} enemies released
+ * {@code burst} at a time, one burst every {@code interval} ticks from {@code startTick}. A
+ * wave's enemies only spawn while fewer than {@code cap} enemies are alive; spawns held back by
+ * the cap wait for a free slot rather than being skipped.
+ */
+public final class Wave {
+
+	/** Tick of the first burst, counted from the start of the level. */
+	private final long startTick;
+
+	/** Number of enemies in the wave. */
+	private final int count;
+
+	/** Number of enemies released together. */
+	private final int burst;
+
+	/** Ticks between bursts. */
+	private final int interval;
+
+	/** Maximum number of enemies alive for this wave to spawn. */
+	private final int cap;
+
+	/**
+	 * Constructs a {@link Wave}.
+	 *
+	 * @param startTick the tick of the first burst.
+	 * @param count the number of enemies in the wave.
+	 * @param burst the number of enemies released together.
+	 * @param interval the ticks between bursts.
+	 * @param cap the maximum number of enemies alive for this wave to spawn.
+	 * @throws IllegalArgumentException if any value is out of range.
+	 */
+	public Wave(long startTick, int count, int burst, int interval, int cap) {
+		if (startTick < 0 || count <= 0 || burst <= 0 || interval <= 0 || cap <= 0) {
+			throw new IllegalArgumentException("Invalid wave " + startTick + ":" + count + ":" + burst + ":" + interval + ":" + cap);
+		}
+		this.startTick = startTick;
+		this.count = count;
+		this.burst = burst;
+		this.interval = interval;
+		this.cap = cap;
+	}
+
+	/**
+	 * Parses a wave written as {@code start:count:burst:interval:cap}.
+	 *
+	 * @param text the wave.
+	 * @return the parsed {@link Wave}.
+	 * @throws IllegalArgumentException if the text is malformed.
+	 */
+	public static Wave parse(String text) {
+		String[] parts = text.split(":");
+		if (parts.length != 5) {
+			throw new IllegalArgumentException("Expected start:count:burst:interval:cap but found " + text);
+		}
+		try {
+			return new Wave(Long.parseLong(parts[0]), Integer.parseInt(parts[1]), Integer.parseInt(parts[2]),
+					Integer.parseInt(parts[3]), Integer.parseInt(parts[4]));
+		} catch (NumberFormatException e) {
+			throw new IllegalArgumentException("Malformed wave " + text, e);
+		}
+	}
+
+	/**
+	 * Retrieves the tick of the first burst.
+	 *
+	 * @return the start tick.
+	 */
+	public long getStartTick() {
+		return startTick;
+	}
+
+	/**
+	 * Retrieves the number of enemies in the wave.
+	 *
+	 * @return the count.
+	 */
+	public int getCount() {
+		return count;
+	}
+
+	/**
+	 * Retrieves the number of enemies released together.
+	 *
+	 * @return the burst size.
+	 */
+	public int getBurst() {
+		return burst;
+	}
+
+	/**
+	 * Retrieves the ticks between bursts.
+	 *
+	 * @return the interval.
+	 */
+	public int getInterval() {
+		return interval;
+	}
+
+	/**
+	 * Retrieves the maximum number of enemies alive for this wave to spawn.
+	 *
+	 * @return the cap.
+	 */
+	public int getCap() {
+		return cap;
+	}
+}
@@ -0,0 +1,629 @@
+package com.example.demo.simulation;
+
+import com.example.demo.collision.CollisionMask;
+import com.example.demo.collision.SpatialHashGrid;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+
+/**
+ * The {@link World} class is a headless model of one game level. It holds the same actors,
+ * health, projectiles and spawn rules as {@code LevelParent} and its subclasses, but as plain
+ * Java state that advances in fixed 50 ms ticks without touching the JavaFX scene graph. It can
+ * therefore be stepped off the FX thread and far faster than real time.
+ * <p>
+ * Speeds, offsets and limits come from {@link GameRules} and kills are tallied by a
+ * {@link KillCounter}, both shared with {@code LevelParent}. Collisions use the same sprite
+ * {@link CollisionMask}s, and random numbers are split from the seed in the same order as the
+ * game's: the boss or spawn timeline first, then one generator per enemy aircraft created, which
+ * is handed on to later enemies the way the game's actor pool reuses aircraft.
+ * <p>
+ * Actor state lives in an {@link ActorStore} of primitive arrays, and each actor list is an
+ * {@link ActorGroup} of slots into that store, so the per-tick loops run over flat arrays.
+ */
+public class World {
+
+	/** Broad-phase grid cell size. */
+	private static final double COLLISION_CELL_SIZE = 128;
+
+	private final LevelRules rules;
+	private final double screenWidth;
+	private final double screenHeight;
+	private final double enemyMaximumYPosition;
+	private final SplittableRandom levelRandom;
+	private final RandomGenerator bossRandom;
+	private final SpatialHashGrid grid;
+	private final SpawnScheduler spawnScheduler;
+
+	private final ActorStore store;
+	private final int player;
+	private final ActorGroup friendlyUnits;
+	private final ActorGroup enemyUnits;
+	private final ActorGroup userProjectiles;
+	private final ActorGroup enemyProjectiles;
+	private final BulletField enemyBullets;
+	private final KillCounter killCounter;
+	private final CollisionMask[] masks;
+	private final ArrayDeque<RandomGenerator> freeEnemyRandoms;
+	private RandomGenerator[] enemyRandoms;
+
+	private SimBoss boss;
+	private GameStatus status;
+	private long tick;
+	private int horizontalDirection;
+	private int verticalDirection;
+	private int pendingShots;
+	private double accumulatedMillis;
+	private long pairTests;
+	private long culled;
+
+	/**
+	 * Constructs a {@link World} for a level.
+	 *
+	 * @param rules the level's spawn and win rules.
+	 * @param screenWidth the width of the play area.
+	 * @param screenHeight the height of the play area.
+	 * @param seed the seed for every random decision made by the simulation.
+	 */
+	public World(LevelRules rules, double screenWidth, double screenHeight, long seed) {
+		this.rules = rules;
+		this.screenWidth = screenWidth;
+		this.screenHeight = screenHeight;
+		this.enemyMaximumYPosition = screenHeight - GameRules.SCREEN_HEIGHT_ADJUSTMENT;
+		this.levelRandom = new SplittableRandom(seed);
+		this.bossRandom = rules.isBossLevel() ? levelRandom.split() : null;
+		this.grid = new SpatialHashGrid(COLLISION_CELL_SIZE);
+		this.spawnScheduler = SpawnScheduler.forRules(rules, levelRandom.split());
+		this.store = new ActorStore();
+		this.player = store.allocate(ActorType.PLAYER, GameRules.PLAYER_INITIAL_X, GameRules.PLAYER_INITIAL_Y,
+				rules.getPlayerInitialHealth());
+		this.friendlyUnits = new ActorGroup();
+		this.enemyUnits = new ActorGroup();
+		this.userProjectiles = new ActorGroup();
+		this.enemyProjectiles = new ActorGroup();
+		this.enemyBullets = new BulletField(GameRules.BULLET_HIT_RADIUS);
+		this.killCounter = new KillCounter();
+		this.masks = new CollisionMask[ActorType.values().length];
+		for (ActorType type : ActorType.values()) {
+			masks[type.ordinal()] = ActorMasks.get(type);
+		}
+		this.freeEnemyRandoms = new ArrayDeque<>();
+		this.enemyRandoms = new RandomGenerator[store.getCapacity()];
+		this.status = GameStatus.RUNNING;
+		friendlyUnits.add(player);
+	}
+
+	/**
+	 * Advances the simulation by a span of real time, running as many fixed ticks as fit and
+	 * carrying the remainder over to the next call.
+	 *
+	 * @param elapsedMillis the elapsed time in milliseconds.
+	 * @return the number of ticks run.
+	 */
+	public int advance(double elapsedMillis) {
+		accumulatedMillis += elapsedMillis;
+		int ticks = 0;
+		while (accumulatedMillis >= GameRules.TICK_MILLIS) {
+			accumulatedMillis -= GameRules.TICK_MILLIS;
+			step();
+			ticks++;
+		}
+		return ticks;
+	}
+
+	/**
+	 * Runs a number of ticks, stopping early once the level is won or lost.
+	 *
+	 * @param ticks the number of ticks to run.
+	 */
+	public void step(int ticks) {
+		for (int i = 0; i < ticks && status == GameStatus.RUNNING; i++) {
+			step();
+		}
+	}
+
+	/**
+	 * Runs a single tick in the same phase order as {@code LevelParent.updateScene}.
+	 * Does nothing once the level is won or lost.
+	 */
+	public void step() {
+		if (status != GameStatus.RUNNING) {
+			return;
+		}
+		tick++;
+		fireQueuedShots();
+		spawnEnemyUnits();
+		updateActors();
+		updateBullets();
+		cullProjectiles(userProjectiles);
+		cullProjectiles(enemyProjectiles);
+		handleEnemyPenetration();
+		handleCollisions(userProjectiles, enemyUnits);
+		handleCollisions(enemyProjectiles, friendlyUnits);
+		handleCollisions(friendlyUnits, enemyUnits);
+		friendlyUnits.removeDestroyed(store);
+		releaseEnemyRandoms();
+		enemyUnits.removeDestroyed(store);
+		userProjectiles.removeDestroyed(store);
+		enemyProjectiles.removeDestroyed(store);
+		checkIfGameOver();
+	}
+
+	/**
+	 * Fires the player missiles requested since the previous tick.
+	 */
+	private void fireQueuedShots() {
+		for (; pendingShots > 0; pendingShots--) {
+			double translateX = store.x[player] - GameRules.PLAYER_INITIAL_X;
+			spawnProjectile(userProjectiles, ActorType.USER_MISSILE, translateX + GameRules.USER_MISSILE_X_OFFSET,
+					store.y[player] + GameRules.USER_MISSILE_Y_OFFSET, GameRules.USER_MISSILE_VELOCITY);
+		}
+	}
+
+	/**
+	 * Spawns the enemies the level's {@link SpawnScheduler} has due, or the boss on boss levels.
+	 */
+	private void spawnEnemyUnits() {
+		if (rules.isBossLevel()) {
+			if (boss == null) {
+				int bossSlot = store.allocate(ActorType.BOSS, GameRules.BOSS_INITIAL_X, GameRules.BOSS_INITIAL_Y,
+						ActorType.BOSS.getHealth());
+				boss = new SimBoss(store, bossSlot, bossRandom);
+				enemyUnits.add(bossSlot);
+			}
+			return;
+		}
+		spawnScheduler.tick(enemyUnits.size(),
+				(type, yFraction) -> spawnEnemy(type, screenWidth, yFraction * enemyMaximumYPosition));
+	}
+
+	/**
+	 * Adds an enemy aircraft. It reuses the generator of the enemy removed most recently, as the
+	 * game's actor pool hands back the aircraft released last, or splits a new one.
+	 *
+	 * @param type the kind of enemy.
+	 * @param x the initial x-coordinate.
+	 * @param y the initial y-coordinate.
+	 * @return the new enemy's slot.
+	 */
+	int spawnEnemy(ActorType type, double x, double y) {
+		int enemy = store.allocate(type, x, y, type.getHealth());
+		store.velocityX[enemy] = GameRules.ENEMY_VELOCITY;
+		if (enemy >= enemyRandoms.length) {
+			enemyRandoms = Arrays.copyOf(enemyRandoms, store.getCapacity());
+		}
+		RandomGenerator random = freeEnemyRandoms.poll();
+		enemyRandoms[enemy] = random != null ? random : levelRandom.split();
+		enemyUnits.add(enemy);
+		return enemy;
+	}
+
+	/**
+	 * Adds a projectile moving horizontally.
+	 *
+	 * @param projectiles the list the projectile belongs to.
+	 * @param type the kind of projectile.
+	 * @param x the initial x-coordinate.
+	 * @param y the initial y-coordinate.
+	 * @param velocityX the horizontal movement per tick.
+	 * @return the new projectile's slot.
+	 */
+	int spawnProjectile(ActorGroup projectiles, ActorType type, double x, double y, double velocityX) {
+		int projectile = store.allocate(type, x, y, type.getHealth());
+		store.velocityX[projectile] = velocityX;
+		store.spawnTick[projectile] = tick;
+		projectiles.add(projectile);
+		return projectile;
+	}
+
+	/**
+	 * Moves every actor one tick and lets enemies fire.
+	 */
+	private void updateActors() {
+		updatePlayer();
+		for (int i = 0, size = enemyUnits.size(); i < size; i++) {
+			int enemy = enemyUnits.get(i);
+			if (boss != null && enemy == boss.getSlot()) {
+				boss.update();
+				if (boss.isFiring()) {
+					BossPhase phase = boss.getPhase();
+					for (int e = 0; e < phase.getEmitterCount(); e++) {
+						spawnProjectile(enemyProjectiles, ActorType.BOSS_MISSILE, GameRules.BOSS_MISSILE_X,
+								store.y[enemy] + phase.getEmitterOffset(e), GameRules.BOSS_MISSILE_VELOCITY);
+					}
+				}
+				long volley = boss.getPatternVolley();
+				if (volley >= 0) {
+					boss.getPhase().getPattern().fire(enemyBullets, store.x[enemy] + GameRules.BOSS_PATTERN_X_OFFSET,
+							store.y[enemy] + GameRules.BOSS_PATTERN_Y_OFFSET,
+							store.x[player] + store.width[player] / 2, store.y[player] + store.height[player] / 2, volley);
+				}
+			} else {
+				store.x[enemy] += store.velocityX[enemy];
+				if (enemyRandoms[enemy].nextDouble() < GameRules.ENEMY_FIRE_RATE) {
+					spawnProjectile(enemyProjectiles, ActorType.ENEMY_MISSILE, store.x[enemy] + GameRules.ENEMY_MISSILE_X_OFFSET,
+							store.y[enemy] + GameRules.ENEMY_MISSILE_Y_OFFSET, GameRules.ENEMY_MISSILE_VELOCITY);
+				}
+			}
+		}
+		moveAll(userProjectiles);
+		moveAll(enemyProjectiles);
+	}
+
+	/**
+	 * Moves the enemy bullets, retiring those that left the screen by more than the cull margin,
+	 * and damages the player once for every bullet that hits it.
+	 */
+	private void updateBullets() {
+		if (enemyBullets.size() == 0) {
+			return;
+		}
+		enemyBullets.update(-GameRules.PROJECTILE_CULL_MARGIN, -GameRules.PROJECTILE_CULL_MARGIN,
+				screenWidth + GameRules.PROJECTILE_CULL_MARGIN, screenHeight + GameRules.PROJECTILE_CULL_MARGIN);
+		CollisionMask mask = masks[ActorType.PLAYER.ordinal()];
+		int hits = mask != null
+				? enemyBullets.collide(store.x[player], store.y[player], mask)
+				: enemyBullets.collide(store.x[player], store.y[player],
+						store.x[player] + store.width[player], store.y[player] + store.height[player]);
+		for (int i = 0; i < hits && !store.isDestroyed(player); i++) {
+			damage(player);
+		}
+	}
+
+	/**
+	 * Moves the player according to the current input, undoing moves that leave the allowed area.
+	 */
+	private void updatePlayer() {
+		if (horizontalDirection != 0) {
+			double newX = store.x[player] + GameRules.PLAYER_VELOCITY * horizontalDirection;
+			if (newX >= GameRules.PLAYER_MIN_X && newX <= GameRules.PLAYER_MAX_X) {
+				store.x[player] = newX;
+			}
+		}
+		if (verticalDirection != 0) {
+			double newY = store.y[player] + GameRules.PLAYER_VELOCITY * verticalDirection;
+			if (newY >= GameRules.PLAYER_MIN_Y && newY <= GameRules.PLAYER_MAX_Y) {
+				store.y[player] = newY;
+			}
+		}
+	}
+
+	/**
+	 * Moves every actor in a list by its velocity.
+	 *
+	 * @param actors the actors to move.
+	 */
+	private void moveAll(ActorGroup actors) {
+		double[] x = store.x;
+		double[] y = store.y;
+		double[] velocityX = store.velocityX;
+		double[] velocityY = store.velocityY;
+		for (int i = 0, size = actors.size(); i < size; i++) {
+			int actor = actors.get(i);
+			x[actor] += velocityX[actor];
+			y[actor] += velocityY[actor];
+		}
+	}
+
+	/**
+	 * Destroys the projectiles that have left the screen by more than the cull margin or
+	 * outlived their maximum age, as {@code LevelParent} does.
+	 *
+	 * @param projectiles the projectiles to check.
+	 */
+	private void cullProjectiles(ActorGroup projectiles) {
+		double[] x = store.x;
+		double[] y = store.y;
+		double[] width = store.width;
+		double[] height = store.height;
+		for (int i = 0, size = projectiles.size(); i < size; i++) {
+			int projectile = projectiles.get(i);
+			if (x[projectile] + width[projectile] < -GameRules.PROJECTILE_CULL_MARGIN
+					|| x[projectile] > screenWidth + GameRules.PROJECTILE_CULL_MARGIN
+					|| y[projectile] + height[projectile] < -GameRules.PROJECTILE_CULL_MARGIN
+					|| y[projectile] > screenHeight + GameRules.PROJECTILE_CULL_MARGIN
+					|| tick - store.spawnTick[projectile] >= GameRules.PROJECTILE_MAX_AGE_TICKS) {
+				store.destroy(projectile);
+				culled++;
+			}
+		}
+	}
+
+	/**
+	 * Damages the player for every enemy that crossed the screen, without counting it as a kill.
+	 */
+	private void handleEnemyPenetration() {
+		for (int i = 0, size = enemyUnits.size(); i < size; i++) {
+			int enemy = enemyUnits.get(i);
+			if (!store.isDestroyed(enemy) && Math.abs(store.x[enemy] - store.spawnX[enemy]) > screenWidth) {
+				damage(player);
+				store.destroy(enemy);
+				killCounter.recordDestroyed(true, false);
+			}
+		}
+	}
+
+	/**
+	 * Damages both actors of every colliding pair between two groups, using a grid broad phase and
+	 * then the actors' masks, as {@code CollisionDetector} does.
+	 *
+	 * @param actors1 the first group of actors.
+	 * @param actors2 the second group of actors.
+	 */
+	private void handleCollisions(ActorGroup actors1, ActorGroup actors2) {
+		if (actors1.isEmpty() || actors2.isEmpty()) {
+			return;
+		}
+		double[] x = store.x;
+		double[] y = store.y;
+		double[] width = store.width;
+		double[] height = store.height;
+		grid.clear();
+		for (int j = 0, size = actors2.size(); j < size; j++) {
+			int actor = actors2.get(j);
+			grid.insert(actor, x[actor], y[actor], x[actor] + width[actor], y[actor] + height[actor]);
+		}
+		for (int i = 0, size = actors1.size(); i < size; i++) {
+			int otherActor = actors1.get(i);
+			double minX = x[otherActor];
+			double minY = y[otherActor];
+			double maxX = minX + width[otherActor];
+			double maxY = minY + height[otherActor];
+			int candidates = grid.query(minX, minY, maxX, maxY);
+			for (int c = 0; c < candidates; c++) {
+				int actor = grid.getCandidate(c);
+				pairTests++;
+				if (minX <= x[actor] + width[actor] && maxX >= x[actor]
+						&& minY <= y[actor] + height[actor] && maxY >= y[actor]
+						&& masksOverlap(otherActor, actor)) {
+					damage(actor);
+					damage(otherActor);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Compares the masks of a pair whose bounds overlap.
+	 *
+	 * @param a the slot of the first actor.
+	 * @param b the slot of the second actor.
+	 * @return true if the pair collides: their solid pixels overlap, or either has no mask.
+	 */
+	private boolean masksOverlap(int a, int b) {
+		CollisionMask maskA = masks[store.getType(a).ordinal()];
+		CollisionMask maskB = masks[store.getType(b).ordinal()];
+		if (maskA == null || maskB == null) {
+			return true;
+		}
+		return maskA.overlaps(maskB, (int) Math.round(store.x[b] - store.x[a]), (int) Math.round(store.y[b] - store.y[a]));
+	}
+
+	/**
+	 * Applies one hit to an actor, counting a kill when it shoots down an enemy; a shielded boss
+	 * ignores hits.
+	 *
+	 * @param actor the slot of the actor hit.
+	 */
+	private void damage(int actor) {
+		if (boss != null && actor == boss.getSlot() && boss.isShielded()) {
+			return;
+		}
+		if (store.takeDamage(actor)) {
+			killCounter.recordDestroyed(actor != player, true);
+		}
+	}
+
+	/**
+	 * Returns the generators of the enemies about to be removed, in the order the game releases
+	 * them to its actor pool.
+	 */
+	private void releaseEnemyRandoms() {
+		for (int i = 0, size = enemyUnits.size(); i < size; i++) {
+			int enemy = enemyUnits.get(i);
+			if (store.isDestroyed(enemy) && enemyRandoms[enemy] != null) {
+				freeEnemyRandoms.push(enemyRandoms[enemy]);
+				enemyRandoms[enemy] = null;
+			}
+		}
+	}
+
+	/**
+	 * Updates the status once the player is destroyed or the level's win condition is met.
+	 */
+	private void checkIfGameOver() {
+		if (store.isDestroyed(player)) {
+			status = GameStatus.LOST;
+		} else if (rules.isBossLevel() ? boss != null && store.isDestroyed(boss.getSlot()) : killCounter.hasReached(rules.getKillsToAdvance())) {
+			status = GameStatus.WON;
+		}
+	}
+
+	/**
+	 * Starts moving the player up.
+	 */
+	public void moveUp() {
+		verticalDirection = -1;
+	}
+
+	/**
+	 * Starts moving the player down.
+	 */
+	public void moveDown() {
+		verticalDirection = 1;
+	}
+
+	/**
+	 * Starts moving the player left.
+	 */
+	public void moveLeft() {
+		horizontalDirection = -1;
+	}
+
+	/**
+	 * Starts moving the player right.
+	 */
+	public void moveRight() {
+		horizontalDirection = 1;
+	}
+
+	/**
+	 * Stops the player's horizontal movement.
+	 */
+	public void stopHorizontal() {
+		horizontalDirection = 0;
+	}
+
+	/**
+	 * Stops the player's vertical movement.
+	 */
+	public void stopVertical() {
+		verticalDirection = 0;
+	}
+
+	/**
+	 * Requests a player missile, fired at the start of the next tick.
+	 */
+	public void fire() {
+		if (status == GameStatus.RUNNING) {
+			pendingShots++;
+		}
+	}
+
+	/**
+	 * Retrieves the level's rules.
+	 *
+	 * @return the {@link LevelRules}.
+	 */
+	public LevelRules getRules() {
+		return rules;
+	}
+
+	/**
+	 * Retrieves the current status of the level.
+	 *
+	 * @return the {@link GameStatus}.
+	 */
+	public GameStatus getStatus() {
+		return status;
+	}
+
+	/**
+	 * Retrieves the number of ticks run.
+	 *
+	 * @return the tick count.
+	 */
+	public long getTick() {
+		return tick;
+	}
+
+	/**
+	 * Retrieves the player's kill count.
+	 *
+	 * @return the number of kills.
+	 */
+	public int getKills() {
+		return killCounter.getKills();
+	}
+
+	/**
+	 * Retrieves the number of narrow-phase collision pair tests performed so far.
+	 *
+	 * @return the pair-test count.
+	 */
+	public long getPairTests() {
+		return pairTests;
+	}
+
+	/**
+	 * Retrieves the number of projectiles retired for leaving the screen or exceeding their age.
+	 *
+	 * @return the culled count.
+	 */
+	public long getCulled() {
+		return culled;
+	}
+
+	/**
+	 * Retrieves the store holding the state of every actor.
+	 *
+	 * @return the {@link ActorStore}.
+	 */
+	public ActorStore getStore() {
+		return store;
+	}
+
+	/**
+	 * Retrieves the player's aircraft.
+	 *
+	 * @return the player's slot in the store.
+	 */
+	public int getPlayer() {
+		return player;
+	}
+
+	/**
+	 * Checks whether the level's boss currently has its shield up.
+	 *
+	 * @return true if a boss is present and shielded.
+	 */
+	public boolean isBossShielded() {
+		return boss != null && boss.isShielded();
+	}
+
+	/**
+	 * Retrieves the friendly aircraft.
+	 *
+	 * @return the slots of the friendly units.
+	 */
+	public ActorGroup getFriendlyUnits() {
+		return friendlyUnits;
+	}
+
+	/**
+	 * Retrieves the enemy aircraft.
+	 *
+	 * @return the slots of the enemy units.
+	 */
+	public ActorGroup getEnemyUnits() {
+		return enemyUnits;
+	}
+
+	/**
+	 * Retrieves the missiles fired by the player.
+	 *
+	 * @return the slots of the player's projectiles.
+	 */
+	public ActorGroup getUserProjectiles() {
+		return userProjectiles;
+	}
+
+	/**
+	 * Retrieves the missiles fired by enemies.
+	 *
+	 * @return the slots of the enemy projectiles.
+	 */
+	public ActorGroup getEnemyProjectiles() {
+		return enemyProjectiles;
+	}
+
+	/**
+	 * Retrieves the bullets fired by enemy bullet patterns.
+	 *
+	 * @return the {@link BulletField}.
+	 */
+	public BulletField getEnemyBullets() {
+		return enemyBullets;
+	}
+
+	/**
+	 * Retrieves the total number of actors alive.
+	 *
+	 * @return the actor count.
+	 */
+	public int getActorCount() {
+		return friendlyUnits.size() + enemyUnits.size() + userProjectiles.size() + enemyProjectiles.size();
+	}
+}
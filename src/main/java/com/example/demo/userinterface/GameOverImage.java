@@ -1,6 +1,6 @@
 package com.example.demo.userinterface;
 
-import javafx.scene.image.Image;
+import com.example.demo.graphics.SpriteCache;
 import javafx.scene.image.ImageView;
 
 /**
@@ -12,6 +12,12 @@ public class GameOverImage extends ImageView {
 	/** The relative path to the "{@link GameOverImage}" image resource. */
 	private static final String IMAGE_NAME = "/com/example/demo/images/gameover.jpg";
 
+	/** The width of the "{@link GameOverImage}". */
+	private static final int WIDTH = 1300;
+
+	/** The height of the "{@link GameOverImage}". */
+	private static final int HEIGHT = 750;
+
 	/**
 	 * Constructs a new {@link GameOverImage} instance and initializes it with the specified
 	 * position on the screen.
@@ -20,9 +26,9 @@ public class GameOverImage extends ImageView {
 	 * @param yPosition the y-coordinate where the image will be displayed.
 	 */
 	public GameOverImage(double xPosition, double yPosition) {
-		setImage(new Image(getClass().getResource(IMAGE_NAME).toExternalForm()));
-		setFitWidth(1300); // Set the width of the image.
-		setFitHeight(750); // Set the height of the image.
+		setImage(SpriteCache.getInstance().getImage(IMAGE_NAME, WIDTH, HEIGHT));
+		setFitWidth(WIDTH); // Set the width of the image.
+		setFitHeight(HEIGHT); // Set the height of the image.
 		setLayoutX(xPosition); // Set the x-coordinate of the image.
 		setLayoutY(yPosition); // Set the y-coordinate of the image.
 	}
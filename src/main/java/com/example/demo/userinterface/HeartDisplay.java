@@ -1,11 +1,9 @@
 package com.example.demo.userinterface;
 
-import javafx.scene.image.Image;
+import com.example.demo.graphics.SpriteAtlas;
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.HBox;
 
-import java.util.Objects;
-
 /**
  * The {@link HeartDisplay} class is responsible for displaying a specified number
  * of heart icons within an {@link HBox} layout. The hearts represent a visual
@@ -63,7 +61,8 @@ public class HeartDisplay {
 	 */
 	private void initializeHearts() {
 		for (int i = 0; i < numberOfHeartsToDisplay; i++) {
-			ImageView heart = new ImageView(new Image(Objects.requireNonNull(getClass().getResource(HEART_IMAGE_NAME)).toExternalForm()));
+			ImageView heart = new ImageView();
+			SpriteAtlas.getInstance().apply(heart, HEART_IMAGE_NAME, HEART_HEIGHT);
 			heart.setFitHeight(HEART_HEIGHT);
 			heart.setPreserveRatio(true);
 			container.getChildren().add(heart);
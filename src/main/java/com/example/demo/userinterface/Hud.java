@@ -0,0 +1,209 @@
+package com.example.demo.userinterface;
+
+import javafx.scene.Group;
+import javafx.scene.paint.Color;
+import javafx.scene.shape.Rectangle;
+import javafx.scene.text.Font;
+import javafx.scene.text.Text;
+
+/**
+ * The {@link Hud} class shows the player's hearts, a score and kill counter, and a boss health
+ * bar. Game events only record new values and mark the affected element dirty; the scene graph
+ * is touched once per frame in {@link #render()}, and only for the elements that changed, so a
+ * frame in which nothing changed costs a single comparison.
+ */
+public class Hud {
+
+	/** Dirty flag for the hearts. */
+	private static final int HEALTH = 1;
+
+	/** Dirty flag for the score and kill counter. */
+	private static final int SCORE = 2;
+
+	/** Dirty flag for the boss health bar. */
+	private static final int BOSS = 4;
+
+	/** X-coordinate of the score and kill counter. */
+	private static final double COUNTER_X_POSITION = 10;
+
+	/** Y-coordinate of the score and kill counter's baseline. */
+	private static final double COUNTER_Y_POSITION = 105;
+
+	/** X-coordinate of the boss health bar. */
+	private static final double BOSS_BAR_X_POSITION = 450;
+
+	/** Y-coordinate of the boss health bar. */
+	private static final double BOSS_BAR_Y_POSITION = 85;
+
+	/** Width of the boss health bar at full health. */
+	private static final double BOSS_BAR_WIDTH = 400;
+
+	/** Height of the boss health bar. */
+	private static final double BOSS_BAR_HEIGHT = 14;
+
+	/** The player's hearts. */
+	private final HeartDisplay heartDisplay;
+
+	/** The score and kill counter. */
+	private final Text counter;
+
+	/** Background of the boss health bar. */
+	private final Rectangle bossBarBackground;
+
+	/** Remaining part of the boss health bar. */
+	private final Rectangle bossBar;
+
+	/** Elements changed since the last render. */
+	private int dirty;
+
+	/** Hearts to show. */
+	private int health;
+
+	/** Score to show. */
+	private int score;
+
+	/** Kills to show. */
+	private int kills;
+
+	/** Kills needed to finish the level, or 0 if the level has no kill target. */
+	private int killTarget;
+
+	/** Boss health to show, or 0 to hide the bar. */
+	private int bossHealth;
+
+	/** Boss health at which the bar is full. */
+	private int bossMaxHealth;
+
+	/**
+	 * Constructs a {@link Hud}.
+	 *
+	 * @param heartDisplay the player's hearts.
+	 * @param initialHealth the player's initial health.
+	 */
+	public Hud(HeartDisplay heartDisplay, int initialHealth) {
+		this.heartDisplay = heartDisplay;
+		this.health = initialHealth;
+		this.counter = new Text();
+		counter.setFill(Color.WHITE);
+		counter.setFont(new Font("Arial", 24));
+		counter.setX(COUNTER_X_POSITION);
+		counter.setY(COUNTER_Y_POSITION);
+		this.bossBarBackground = new Rectangle(BOSS_BAR_X_POSITION, BOSS_BAR_Y_POSITION, BOSS_BAR_WIDTH, BOSS_BAR_HEIGHT);
+		bossBarBackground.setFill(Color.rgb(40, 40, 40, 0.7));
+		bossBarBackground.setStroke(Color.WHITE);
+		this.bossBar = new Rectangle(BOSS_BAR_X_POSITION, BOSS_BAR_Y_POSITION, BOSS_BAR_WIDTH, BOSS_BAR_HEIGHT);
+		bossBar.setFill(Color.CRIMSON);
+		bossBarBackground.setVisible(false);
+		bossBar.setVisible(false);
+		this.dirty = HEALTH | SCORE;
+	}
+
+	/**
+	 * Adds the HUD's elements to a group and draws their initial state.
+	 *
+	 * @param root the group to add the elements to.
+	 */
+	public void show(Group root) {
+		root.getChildren().addAll(heartDisplay.getContainer(), counter, bossBarBackground, bossBar);
+		render();
+	}
+
+	/**
+	 * Records the player's health.
+	 *
+	 * @param health the remaining health.
+	 */
+	public void setHealth(int health) {
+		if (health != this.health) {
+			this.health = health;
+			dirty |= HEALTH;
+		}
+	}
+
+	/**
+	 * Records the score and kill count.
+	 *
+	 * @param score the score.
+	 * @param kills the number of kills.
+	 */
+	public void setScore(int score, int kills) {
+		if (score != this.score || kills != this.kills) {
+			this.score = score;
+			this.kills = kills;
+			dirty |= SCORE;
+		}
+	}
+
+	/**
+	 * Records the number of kills needed to finish the level.
+	 *
+	 * @param killTarget the kill target, or 0 if the level has none.
+	 */
+	public void setKillTarget(int killTarget) {
+		if (killTarget != this.killTarget) {
+			this.killTarget = killTarget;
+			dirty |= SCORE;
+		}
+	}
+
+	/**
+	 * Records the boss's health. The bar is shown while the boss has health left.
+	 *
+	 * @param health the boss's remaining health, or 0 to hide the bar.
+	 * @param maxHealth the boss's full health.
+	 */
+	public void setBossHealth(int health, int maxHealth) {
+		if (health != bossHealth || maxHealth != bossMaxHealth) {
+			this.bossHealth = health;
+			this.bossMaxHealth = maxHealth;
+			dirty |= BOSS;
+		}
+	}
+
+	/**
+	 * Applies the values recorded since the last render to the scene graph. Called once per frame.
+	 */
+	public void render() {
+		if (dirty == 0) {
+			return;
+		}
+		if ((dirty & HEALTH) != 0) {
+			int hearts = heartDisplay.getContainer().getChildren().size();
+			for (int i = health; i < hearts; i++) {
+				heartDisplay.removeHeart();
+			}
+		}
+		if ((dirty & SCORE) != 0) {
+			counter.setText(killTarget > 0
+					? "Score " + score + "   Kills " + kills + " / " + killTarget
+					: "Score " + score + "   Kills " + kills);
+		}
+		if ((dirty & BOSS) != 0) {
+			boolean visible = bossHealth > 0 && bossMaxHealth > 0;
+			bossBarBackground.setVisible(visible);
+			bossBar.setVisible(visible);
+			if (visible) {
+				bossBar.setWidth(BOSS_BAR_WIDTH * Math.min(bossHealth, bossMaxHealth) / bossMaxHealth);
+			}
+		}
+		dirty = 0;
+	}
+
+	/**
+	 * Checks if any element is waiting to be redrawn.
+	 *
+	 * @return true if a value changed since the last render.
+	 */
+	public boolean isDirty() {
+		return dirty != 0;
+	}
+
+	/**
+	 * Retrieves the score and kill counter's current text.
+	 *
+	 * @return the counter text.
+	 */
+	public String getCounterText() {
+		return counter.getText();
+	}
+}
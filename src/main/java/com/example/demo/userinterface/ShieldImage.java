@@ -1,6 +1,6 @@
 package com.example.demo.userinterface;
 
-import javafx.scene.image.Image;
+import com.example.demo.graphics.SpriteAtlas;
 import javafx.scene.image.ImageView;
 
 /**
@@ -24,12 +24,19 @@ public class ShieldImage extends ImageView {
 	public ShieldImage(double xPosition, double yPosition) {
 		this.setLayoutX(xPosition); // Set the x-coordinate of the shield.
 		this.setLayoutY(yPosition); // Set the y-coordinate of the shield.
-		this.setImage(new Image(getClass().getResource(IMAGE_NAME).toExternalForm())); // Load the shield image.
+		SpriteAtlas.getInstance().apply(this, IMAGE_NAME, SHIELD_SIZE, SHIELD_SIZE); // Show the shield's region of the sprite atlas.
 		this.setVisible(false); // Initially set the shield to be invisible.
 		this.setFitHeight(SHIELD_SIZE); // Set the height of the shield.
 		this.setFitWidth(SHIELD_SIZE); // Set the width of the shield.
 	}
 
+	/**
+	 * Packs the {@link ShieldImage} image into the shared {@link SpriteAtlas}.
+	 */
+	public static void preloadSprites() {
+		SpriteAtlas.getInstance().preload(IMAGE_NAME, SHIELD_SIZE, SHIELD_SIZE);
+	}
+
 	/**
 	 * Makes the {@link ShieldImage} visible on the screen.
 	 */
@@ -1,7 +1,7 @@
 package com.example.demo.userinterface;
 
 import com.example.demo.activeactor.PlayerAircraft;
-import javafx.scene.image.Image;
+import com.example.demo.graphics.SpriteCache;
 import javafx.scene.image.ImageView;
 
 /**
@@ -27,7 +27,7 @@ public class WinImage extends ImageView {
 	 * @param yPosition the y-coordinate .
 	 */
 	public WinImage(double xPosition, double yPosition) {
-		this.setImage(new Image(getClass().getResource(IMAGE_NAME).toExternalForm())); // Load the "You Win" image.
+		this.setImage(SpriteCache.getInstance().getImage(IMAGE_NAME, WIDTH, HEIGHT)); // Load the "You Win" image.
 		this.setVisible(false); // Initially set the image to be invisible.
 		this.setFitHeight(HEIGHT); // Set the height of the image.
 		this.setFitWidth(WIDTH); // Set the width of the image.
@@ -2,6 +2,8 @@ module com.example.demo {
     requires javafx.controls;
     requires javafx.fxml;
     requires javafx.media;
+    requires java.desktop;
+    requires jdk.jfr;
 
 
     opens com.example.demo to javafx.fxml;
@@ -31,15 +31,4 @@ class PlayerAircraftTest {
         assertEquals(300.0, playerAircraft.getLayoutY(), "Initial Y position should be 300.0");
     }
 
-    @Test
-    void testKillCount() {
-        assertEquals(0, playerAircraft.getNumberOfKills(), "Initial kill count should be 0");
-
-        playerAircraft.incrementKillCount();
-        assertEquals(1, playerAircraft.getNumberOfKills(), "Kill count should increment");
-
-        playerAircraft.decrementKillCount();
-        assertEquals(0, playerAircraft.getNumberOfKills(), "Kill count should decrement");
-    }
-
 }
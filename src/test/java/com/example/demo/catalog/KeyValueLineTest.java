@@ -0,0 +1,63 @@
+package com.example.demo.catalog;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JUnit tests for {@link KeyValueLine} and {@link CatalogResource}.
+ */
+class KeyValueLineTest {
+
+    @Test
+    void testFieldsAreConsumedAsTheyAreRead() {
+        KeyValueLine line = KeyValueLine.parse("  spiral count=6 speed=2.5 spin=17 ", 3);
+
+        assertEquals("spiral", line.getName());
+        assertEquals(6, line.requireInt("count"));
+        assertEquals(2.5, line.requireDouble("speed"), 1e-9);
+        assertEquals(0, line.optionalDouble("accel", 0), 1e-9, "An absent optional field should take its default");
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, line::checkConsumed);
+        assertTrue(e.getMessage().contains("spin"), "Unread fields should be reported");
+        assertEquals("17", line.optional("spin"));
+        assertDoesNotThrow(line::checkConsumed);
+    }
+
+    @Test
+    void testErrorsNameTheLine() {
+        KeyValueLine line = KeyValueLine.parse("bad count=x", 9);
+
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> line.requireInt("count"));
+        assertTrue(e.getMessage().startsWith("Line 9"), "Malformed numbers should name the line");
+        assertThrows(IllegalArgumentException.class, () -> line.require("speed"), "A missing field should be rejected");
+        assertThrows(IllegalArgumentException.class, () -> KeyValueLine.parse("bad count=1 count=2", 1),
+                "A repeated key should be rejected");
+        assertThrows(IllegalArgumentException.class, () -> KeyValueLine.parse("bad count", 1),
+                "A field without a value should be rejected");
+    }
+
+    @Test
+    void testNameOfSkipsBlankAndCommentLines() {
+        assertNull(KeyValueLine.nameOf("   "));
+        assertNull(KeyValueLine.nameOf("# LevelOne enemies=5"));
+        assertEquals("LevelOne", KeyValueLine.nameOf("  LevelOne\tenemies=5"));
+    }
+
+    @Test
+    void testCatalogResourceFindsLinesByName() {
+        CatalogResource catalog = new CatalogResource("/com/example/demo/bosses/bosses.txt", "boss");
+
+        List<KeyValueLine> phases = catalog.findAll("LevelTwoBoss");
+        assertEquals(3, phases.size(), "Every line with the name should be found");
+        assertTrue(phases.get(0).getLineNumber() < phases.get(1).getLineNumber(), "Lines should keep catalogue order");
+        try (Stream<KeyValueLine> lines = catalog.stream()) {
+            assertEquals(3, lines.count(), "Comment lines should be skipped");
+        }
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> catalog.find("Nobody"));
+        assertEquals("Boss Nobody is not in /com/example/demo/bosses/bosses.txt", e.getMessage());
+        assertThrows(IllegalArgumentException.class, () -> new CatalogResource("/missing.txt", "boss").find("x"));
+    }
+}
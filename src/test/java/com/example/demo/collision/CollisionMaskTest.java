@@ -0,0 +1,76 @@
+package com.example.demo.collision;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JUnit tests for {@link CollisionMask}.
+ */
+class CollisionMaskTest {
+
+    private static final int SOLID = 0xFF000000;
+
+    /**
+     * Builds a mask with one solid rectangle.
+     */
+    private static CollisionMask rectangle(int width, int height, int minX, int minY, int maxX, int maxY) {
+        int[] argb = new int[width * height];
+        for (int y = minY; y < maxY; y++) {
+            for (int x = minX; x < maxX; x++) {
+                argb[y * width + x] = SOLID;
+            }
+        }
+        return CollisionMask.fromArgb(argb, width, height);
+    }
+
+    @Test
+    void testFromArgbUsesTheAlphaThreshold() {
+        int[] argb = {0x7F123456, 0x80FFFFFF, 0x00FFFFFF, SOLID};
+        CollisionMask mask = CollisionMask.fromArgb(argb, 2, 2);
+
+        assertFalse(mask.get(0, 0), "Alpha below the threshold should be empty");
+        assertTrue(mask.get(1, 0), "Alpha at the threshold should be solid");
+        assertFalse(mask.get(0, 1), "Transparent pixels should be empty");
+        assertTrue(mask.get(1, 1), "Opaque pixels should be solid");
+        assertFalse(mask.get(2, 0), "Pixels outside the mask should be empty");
+        assertEquals(2, mask.getSolidCount());
+        assertThrows(IllegalArgumentException.class, () -> CollisionMask.fromArgb(argb, 3, 2));
+    }
+
+    @Test
+    void testOverlapsAcrossWordBoundaries() {
+        CollisionMask wide = rectangle(150, 4, 70, 1, 71, 2);
+        CollisionMask dot = rectangle(1, 1, 0, 0, 1, 1);
+
+        assertTrue(wide.overlaps(dot, 70, 1), "A pixel in the second word should be found");
+        assertFalse(wide.overlaps(dot, 69, 1), "Neighbouring empty pixels should not overlap");
+        assertTrue(dot.overlaps(wide, -70, -1), "The test should be symmetric");
+        assertFalse(dot.overlaps(wide, -69, -1), "Negative offsets should shift the other mask correctly");
+
+        CollisionMask other = rectangle(100, 4, 3, 0, 4, 4);
+        assertTrue(wide.overlaps(other, 67, 0), "A shifted window spanning two words should line up");
+        assertFalse(wide.overlaps(other, 66, 0));
+    }
+
+    @Test
+    void testTransparentCornersDoNotOverlap() {
+        CollisionMask a = rectangle(10, 10, 0, 0, 5, 5);
+        CollisionMask b = rectangle(10, 10, 5, 5, 10, 10);
+
+        assertFalse(a.overlaps(b, 0, 0), "Boxes overlapping only on empty pixels should not collide");
+        assertTrue(a.overlaps(b, -1, -1), "Moving the solid parts together should collide");
+        assertFalse(a.overlaps(b, 20, 0), "Masks that do not meet should not collide");
+    }
+
+    @Test
+    void testIntersectsChecksOnlyTheBox() {
+        CollisionMask mask = rectangle(130, 3, 64, 1, 65, 2);
+
+        assertTrue(mask.intersects(60, 0, 70, 3));
+        assertTrue(mask.intersects(64, 1, 65, 2), "A one-pixel box on the solid pixel should hit");
+        assertFalse(mask.intersects(0, 0, 64, 3), "The box's right edge should be exclusive");
+        assertFalse(mask.intersects(65, 0, 130, 3), "Pixels left of the box should be ignored");
+        assertFalse(mask.intersects(-10, -10, 200, 1), "Rows outside the box should be ignored");
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.demo.collision;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JUnit tests for {@link SpatialHashGrid}.
+ */
+class SpatialHashGridTest {
+
+    private SpatialHashGrid grid;
+
+    @BeforeEach
+    void setUp() {
+        grid = new SpatialHashGrid(100);
+    }
+
+    private Set<Integer> query(double minX, double minY, double maxX, double maxY) {
+        Set<Integer> found = new HashSet<>();
+        int count = grid.query(minX, minY, maxX, maxY);
+        for (int i = 0; i < count; i++) {
+            assertTrue(found.add(grid.getCandidate(i)), "Each id should be reported once per query");
+        }
+        return found;
+    }
+
+    @Test
+    void testQueryFindsBoxesInSameCell() {
+        grid.insert(0, 10, 10, 40, 40);
+        grid.insert(1, 510, 510, 540, 540);
+
+        Set<Integer> found = query(20, 20, 30, 30);
+        assertTrue(found.contains(0), "Box sharing the cell should be a candidate");
+        assertFalse(found.contains(1), "Distant box should not be a candidate");
+    }
+
+    @Test
+    void testBoxSpanningCellsIsReportedOnce() {
+        grid.insert(7, 50, 50, 250, 250);
+
+        Set<Integer> found = query(0, 0, 300, 300);
+        assertEquals(Set.of(7), found, "Spanning box should be reported once");
+    }
+
+    @Test
+    void testNegativeCoordinates() {
+        grid.insert(3, -150, -20, -120, 10);
+
+        assertTrue(query(-140, -10, -130, 0).contains(3), "Boxes left of the origin should be found");
+    }
+
+    @Test
+    void testClearRemovesEntries() {
+        grid.insert(0, 10, 10, 40, 40);
+        grid.clear();
+
+        assertEquals(0, grid.getEntryCount(), "Clear should remove all entries");
+        assertTrue(query(0, 0, 50, 50).isEmpty(), "Cleared grid should return no candidates");
+    }
+
+    @Test
+    void testGrowsBeyondInitialCapacity() {
+        for (int id = 0; id < 500; id++) {
+            grid.insert(id, id * 10, 0, id * 10 + 5, 5);
+        }
+
+        assertEquals(500, query(0, 0, 5000, 5).size(), "All inserted boxes should be found");
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.demo.engine;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JUnit tests for {@link RandomService}.
+ */
+class RandomServiceTest {
+
+    @Test
+    void testLevelSeedsAreReproducibleAndDistinct() {
+        RandomService first = new RandomService(42);
+        RandomService second = new RandomService(42);
+
+        assertEquals(first.seedFor("LevelOne"), second.seedFor("LevelOne"), "The same session seed should give the same level seed");
+        assertNotEquals(first.seedFor("LevelOne"), first.seedFor("LevelTwo"), "Levels should get different seeds");
+        assertNotEquals(first.seedFor("LevelOne"), new RandomService(43).seedFor("LevelOne"), "Sessions should get different seeds");
+    }
+
+    @Test
+    void testShuffleIsReproducibleFromSeed() {
+        List<Integer> first = range(15);
+        List<Integer> second = range(15);
+
+        RandomService.shuffle(first, new SplittableRandom(7));
+        RandomService.shuffle(second, new SplittableRandom(7));
+
+        assertEquals(first, second, "The same seed should give the same order");
+        assertEquals(range(15), first.stream().sorted().toList(), "A shuffle should keep every element");
+    }
+
+    @Test
+    void testSeedPropertyIsParsed() {
+        System.setProperty(RandomService.SEED_PROPERTY, "0x2A");
+        try {
+            assertEquals(42, RandomService.fromSystemProperty().getSeed(), "Hex seeds should be accepted");
+            System.setProperty(RandomService.SEED_PROPERTY, "abc");
+            assertThrows(IllegalArgumentException.class, RandomService::fromSystemProperty);
+        } finally {
+            System.clearProperty(RandomService.SEED_PROPERTY);
+        }
+    }
+
+    private static List<Integer> range(int size) {
+        List<Integer> list = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            list.add(i);
+        }
+        return list;
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.demo.engine;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JUnit tests for {@link TickProfiler}.
+ */
+class TickProfilerTest {
+
+    /**
+     * Spins until at least the given time has passed, so a phase has a measurable duration.
+     */
+    private static void busyWait(long nanos) {
+        long end = System.nanoTime() + nanos;
+        while (System.nanoTime() < end) {
+            Thread.onSpinWait();
+        }
+    }
+
+    /**
+     * Runs a tick in which only the spawn phase takes any noticeable time.
+     */
+    private static void runTick(TickProfiler profiler, long spawnNanos) {
+        profiler.beginTick();
+        profiler.mark(TickPhase.FIRE);
+        busyWait(spawnNanos);
+        profiler.mark(TickPhase.SPAWN);
+        profiler.endTick("LevelOne", 1);
+    }
+
+    @Test
+    void testEmptyProfilerReportsZero() {
+        TickProfiler profiler = new TickProfiler(8);
+        assertEquals(0, profiler.getSampleCount());
+        assertEquals(0, profiler.getTickPercentileNanos(99));
+        assertEquals(0, profiler.getLastNanos(TickPhase.SPAWN));
+    }
+
+    @Test
+    void testPhaseTimesAreAttributedAndBoundedByTick() {
+        TickProfiler profiler = new TickProfiler(8);
+        runTick(profiler, 2_000_000);
+        assertTrue(profiler.getLastNanos(TickPhase.SPAWN) >= 2_000_000);
+        assertTrue(profiler.getLastNanos(TickPhase.FIRE) < profiler.getLastNanos(TickPhase.SPAWN));
+        assertTrue(profiler.getTickPercentileNanos(100) >= profiler.getLastNanos(TickPhase.SPAWN));
+    }
+
+    @Test
+    void testPercentilesCoverOnlyTheWindow() {
+        TickProfiler profiler = new TickProfiler(4);
+        runTick(profiler, 20_000_000);
+        for (int i = 0; i < 4; i++) {
+            runTick(profiler, 0);
+        }
+        assertEquals(5, profiler.getTickCount());
+        assertEquals(4, profiler.getSampleCount());
+        assertTrue(profiler.getPercentileNanos(TickPhase.SPAWN, 100) < 20_000_000);
+        assertTrue(profiler.getPercentileNanos(TickPhase.SPAWN, 50) <= profiler.getPercentileNanos(TickPhase.SPAWN, 100));
+        assertThrows(IllegalArgumentException.class, () -> profiler.getTickPercentileNanos(101));
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.demo.event;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JUnit tests for {@link EventBus} and {@link GameStats}.
+ */
+class EventBusTest {
+
+    @Test
+    void testEventsReachOnlyListenersOfTheirClass() {
+        EventBus bus = new EventBus();
+        List<String> received = new ArrayList<>();
+        bus.subscribe(LevelWon.class, event -> received.add("won " + event.getLevelName()));
+        bus.subscribe(LevelLost.class, event -> received.add("lost " + event.getLevelName()));
+        bus.publish(new LevelWon("LevelOne", "LevelTwo"));
+        bus.publish(new DamageTaken(null, 3));
+        assertEquals(List.of("won LevelOne"), received);
+        assertEquals(2, bus.getPublishedCount());
+        assertTrue(bus.hasListeners(LevelLost.class));
+        assertFalse(bus.hasListeners(DamageTaken.class));
+    }
+
+    @Test
+    void testListenersRunInSubscriptionOrder() {
+        EventBus bus = new EventBus();
+        List<Integer> order = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            int id = i;
+            bus.subscribe(LevelLost.class, event -> order.add(id));
+        }
+        bus.publish(new LevelLost("LevelOne"));
+        assertEquals(List.of(0, 1, 2), order);
+    }
+
+    @Test
+    void testUnsubscribeDuringDeliveryTakesEffectOnNextEvent() {
+        EventBus bus = new EventBus();
+        List<String> received = new ArrayList<>();
+        Runnable[] cancel = new Runnable[1];
+        cancel[0] = bus.subscribe(LevelLost.class, event -> {
+            received.add("first");
+            cancel[0].run();
+        });
+        bus.subscribe(LevelLost.class, event -> received.add("second"));
+        bus.publish(new LevelLost("LevelOne"));
+        bus.publish(new LevelLost("LevelOne"));
+        assertEquals(List.of("first", "second", "second"), received);
+    }
+
+    @Test
+    void testStatsCountEnemyEvents() {
+        EventBus bus = new EventBus();
+        GameStats stats = new GameStats(bus);
+        bus.publish(new ProjectileFired(null, null));
+        bus.publish(new ActorDestroyed(null, ActorDestroyed.Cause.SHOT_DOWN));
+        bus.publish(new ActorDestroyed(null, ActorDestroyed.Cause.SHOT_DOWN));
+        bus.publish(new ActorDestroyed(null, ActorDestroyed.Cause.ESCAPED));
+        assertEquals(1, stats.getEnemyShots());
+        assertEquals(0, stats.getPlayerShots());
+        assertEquals(2, stats.getEnemiesShotDown());
+        assertEquals(1, stats.getEnemiesEscaped());
+        assertEquals(0, stats.getDamageTaken());
+        assertEquals(2 * GameStats.POINTS_PER_HEALTH, stats.getScore());
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.demo.headless;
+
+import com.example.demo.level.LevelSpecCatalog;
+import com.example.demo.simulation.GameStatus;
+import com.example.demo.simulation.LevelRules;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JUnit tests for {@link BatchRunner} and {@link BatchReport}.
+ */
+class BatchRunnerTest {
+
+    @Test
+    void testBatchIsRepeatableAcrossThreadCounts() {
+        BatchRunner runner = new BatchRunner(LevelSpecCatalog.rulesFor("LevelOne"), AimBot::new, 42, 2_000);
+        BatchReport single = runner.run(12, 1);
+        BatchReport parallel = runner.run(12, 4);
+        assertEquals(single.getWins(), parallel.getWins());
+        assertEquals(single.getLosses(), parallel.getLosses());
+        assertEquals(single.getTotalTicks(), parallel.getTotalTicks());
+        assertEquals(single.getAverageKills(), parallel.getAverageKills());
+    }
+
+    @Test
+    void testSessionStopsAtTickLimit() {
+        LevelRules endless = new LevelRules("Endless", LevelSpecCatalog.rulesFor("LevelOne").getEnemyType(), 5, 1_000_000, .2,
+                1_000_000, null);
+        SessionResult result = new BatchRunner(endless, RandomBot::new, 7, 300).runSession(7);
+        assertEquals(GameStatus.RUNNING, result.getStatus());
+        assertEquals(300, result.getTicks());
+    }
+
+    @Test
+    void testReportAggregatesResults() {
+        BatchReport report = new BatchReport(List.of(
+                new SessionResult(GameStatus.WON, 10, 200),
+                new SessionResult(GameStatus.WON, 10, 400),
+                new SessionResult(GameStatus.LOST, 4, 100),
+                new SessionResult(GameStatus.RUNNING, 0, 500)), 1_000_000_000L);
+        assertEquals(2, report.getWins());
+        assertEquals(1, report.getLosses());
+        assertEquals(1, report.getTimeouts());
+        assertEquals(.5, report.getWinRate());
+        assertEquals(6, report.getAverageKills());
+        assertEquals(300, report.getAverageTicksToWin());
+        assertEquals(1200, report.getTicksPerSecond());
+    }
+
+    @Test
+    void testOverridesReplaceOnlyGivenRules() {
+        LevelRules rules = BatchRunner.applyOverrides(LevelSpecCatalog.rulesFor("LevelOne"),
+                BatchRunner.parseOptions(new String[] {"--kills", "25", "--spawn", "0.5"}));
+        assertEquals(25, rules.getKillsToAdvance());
+        assertEquals(.5, rules.getEnemySpawnProbability());
+        assertEquals(LevelSpecCatalog.rulesFor("LevelOne").getTotalEnemies(), rules.getTotalEnemies());
+        assertThrows(IllegalArgumentException.class, () -> BatchRunner.parseOptions(new String[] {"--kills"}));
+        assertEquals(Map.of(), BatchRunner.parseOptions(new String[0]));
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.demo.level;
+
+import com.example.demo.simulation.ActorType;
+import com.example.demo.simulation.LevelRules;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JUnit tests for {@link LevelRegistry}.
+ */
+class LevelRegistryTest {
+
+    private static final LevelRegistry.LevelFactory NO_LEVEL = (screenHeight, screenWidth, seed) -> null;
+
+    @Test
+    void testDefaultRegistryReadsOnlyTheStartLevel() {
+        LevelSpecCatalog catalog = new LevelSpecCatalog(LevelSpecCatalog.DEFAULT_CATALOG);
+        LevelRegistry registry = LevelRegistry.createDefault(catalog);
+
+        assertEquals("LevelOne", registry.getStartLevel(), "The catalogue's first level should start the game");
+        assertEquals(1, catalog.getCachedCount(), "Only the catalogue's first line should be read");
+        assertEquals(1, registry.getEntries().size(), "Only the boss level should be registered up front");
+
+        assertEquals("LevelFour", registry.get("LevelThree").getNextLevel(), "LevelThree should be read on lookup");
+        assertEquals(2, registry.getEntries().size(), "A looked-up level should stay registered");
+        assertThrows(IllegalArgumentException.class, () -> registry.get("LevelNine"),
+                "Looking up a level missing from the catalogue should fail");
+    }
+
+    @Test
+    void testBuiltInLevelGraphIsValid() {
+        LevelSpecCatalog catalog = new LevelSpecCatalog(LevelSpecCatalog.DEFAULT_CATALOG);
+        LevelRegistry registry = LevelRegistry.createDefault(catalog);
+        try (Stream<LevelSpec> specs = catalog.stream()) {
+            specs.forEach(spec -> registry.get(spec.getName()));
+        }
+
+        assertDoesNotThrow(registry::validate, "The built-in levels should form a valid graph");
+        assertEquals(4, registry.getEntries().size(), "Every built-in level should be registered");
+        assertEquals("LevelTwo", registry.get("LevelOne").getNextLevel(), "LevelOne should lead to LevelTwo");
+        assertNull(registry.get("LevelFour").getNextLevel(), "LevelFour should be the last level");
+    }
+
+    @Test
+    void testValidateResolvesTheGraphFromTheCatalogue() {
+        LevelRegistry registry = LevelRegistry.createDefault(new LevelSpecCatalog(LevelSpecCatalog.DEFAULT_CATALOG));
+
+        registry.validate();
+
+        assertEquals(4, registry.getEntries().size(), "Every level reachable from the start should be resolved");
+    }
+
+    @Test
+    void testValidateRejectsUnregisteredNextLevel() {
+        LevelRegistry registry = new LevelRegistry("Start")
+                .register(new LevelRules("Start", ActorType.ENEMY, 1, 1, 1, 1, "Missing"), NO_LEVEL);
+
+        IllegalStateException e = assertThrows(IllegalStateException.class, registry::validate);
+        assertTrue(e.getMessage().contains("Missing"), "The problem should name the missing level");
+    }
+
+    @Test
+    void testValidateRejectsUnregisteredStartLevel() {
+        LevelRegistry registry = new LevelRegistry("Start");
+
+        assertThrows(IllegalStateException.class, registry::validate, "An empty registry has no start level");
+    }
+
+    @Test
+    void testDuplicateAndUnknownLevelsAreRejected() {
+        LevelRegistry registry = new LevelRegistry("LevelTwo").register(LevelRules.LEVEL_TWO, NO_LEVEL);
+
+        assertThrows(IllegalArgumentException.class, () -> registry.register(LevelRules.LEVEL_TWO, NO_LEVEL),
+                "A level name may only be registered once");
+        assertThrows(IllegalArgumentException.class, () -> registry.get("LevelNine"),
+                "Looking up an unknown level should fail");
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.demo.level;
+
+import com.example.demo.simulation.ActorType;
+import com.example.demo.simulation.LevelRules;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JUnit tests for {@link LevelSpecCatalog}.
+ */
+class LevelSpecCatalogTest {
+
+    @Test
+    void testParseReadsEveryField() {
+        LevelSpec spec = LevelSpecCatalog.parse(
+                "Nebula enemy=MOVING_BOSS enemies=3 kills=7 spawn=0.5 health=2 background=/bg.png next=Void", 1);
+        LevelRules rules = spec.getRules();
+
+        assertEquals("Nebula", spec.getName(), "Name should be the first token");
+        assertEquals(ActorType.MOVING_BOSS, rules.getEnemyType(), "Enemy type should be parsed");
+        assertEquals(3, rules.getTotalEnemies(), "Enemy limit should be parsed");
+        assertEquals(7, rules.getKillsToAdvance(), "Kill target should be parsed");
+        assertEquals(0.5, rules.getEnemySpawnProbability(), "Spawn probability should be parsed");
+        assertEquals(2, rules.getPlayerInitialHealth(), "Player health should be parsed");
+        assertEquals("/bg.png", spec.getBackgroundImageName(), "Background should be parsed");
+        assertEquals("Void", rules.getNextLevel(), "Next level should be parsed");
+    }
+
+    @Test
+    void testParseReadsScriptedWaves() {
+        LevelSpec spec = LevelSpecCatalog.parse(
+                "Nebula enemy=ENEMY enemies=3 kills=7 spawn=0 health=2 background=/bg.png waves=0:4:2:10:3,100:8:8:1:8", 1);
+
+        assertEquals(2, spec.getRules().getWaves().size(), "Both waves should be parsed");
+        assertEquals(100, spec.getRules().getWaves().get(1).getStartTick(), "Waves should keep their order");
+        assertThrows(IllegalArgumentException.class, () -> LevelSpecCatalog.parse(
+                "Nebula enemy=ENEMY enemies=3 kills=7 spawn=0 health=2 background=/bg.png waves=0:4", 1));
+    }
+
+    @Test
+    void testParseRejectsMalformedLines() {
+        assertThrows(IllegalArgumentException.class,
+                () -> LevelSpecCatalog.parse("Nebula enemy=ENEMY enemies=3 kills=7 spawn=0.5 background=/bg.png", 4),
+                "A missing field should be rejected");
+        assertThrows(IllegalArgumentException.class,
+                () -> LevelSpecCatalog.parse("Nebula enemy=ENEMY enemies=x kills=7 spawn=0.5 health=2 background=/bg.png", 4),
+                "A malformed number should be rejected");
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> LevelSpecCatalog.parse("Nebula enemy=ENEMY enemies=3 kills=7 spawn=0.5 health=2 background=/bg.png speed=9", 4));
+        assertTrue(e.getMessage().startsWith("Line 4"), "Errors should name the line");
+    }
+
+    @Test
+    void testBuiltInCatalogueIsReadLazily() {
+        LevelSpecCatalog catalog = new LevelSpecCatalog(LevelSpecCatalog.DEFAULT_CATALOG);
+
+        LevelRules levelThree = catalog.get("LevelThree").getRules();
+
+        assertEquals(1, catalog.getCachedCount(), "Only the requested level should be parsed");
+        assertEquals(10, levelThree.getTotalEnemies());
+        assertEquals(15, levelThree.getKillsToAdvance());
+        assertEquals("LevelFour", levelThree.getNextLevel());
+        assertSame(catalog.get("LevelThree"), catalog.get("LevelThree"), "Parsed specs should be cached");
+        assertThrows(IllegalArgumentException.class, () -> catalog.get("LevelNine"));
+    }
+
+    @Test
+    void testStreamListsLevelsInOrder() {
+        LevelSpecCatalog catalog = new LevelSpecCatalog(LevelSpecCatalog.DEFAULT_CATALOG);
+
+        List<String> names;
+        try (Stream<LevelSpec> specs = catalog.stream()) {
+            names = specs.map(LevelSpec::getName).collect(Collectors.toList());
+        }
+
+        assertEquals(List.of("LevelOne", "LevelThree", "LevelFour"), names);
+    }
+}
@@ -0,0 +1,107 @@
+package com.example.demo.level;
+
+import com.example.demo.activeactor.EnemyMissile;
+import com.example.demo.activeactor.MovingBossAircraft;
+import com.example.demo.pool.ActorPool;
+import com.example.demo.pool.ActorPools;
+import javafx.application.Platform;
+import javafx.stage.Stage;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JUnit tests for {@link SpecLevel}.
+ */
+class SpecLevelTest {
+
+    @BeforeAll
+    static void initJavaFX() {
+        Platform.startup(() -> {});
+    }
+
+    @Test
+    void testWinningReleasesPooledActorsAndUnregistersThePool() throws Exception {
+        LevelSpec spec = LevelSpecCatalog.getInstance().get("LevelFour");
+        AtomicReference<SpecLevel> level = new AtomicReference<>();
+        AtomicReference<ActorPool<?>> enemyPool = new AtomicReference<>();
+        AtomicReference<ActorPool<?>> missilePool = new AtomicReference<>();
+        int[] missilesInUseBefore = new int[1];
+
+        runOnFxThread(() -> {
+            SpecLevel specLevel = new SpecLevel(spec, 750, 1300, 1L);
+            specLevel.setLevelGraph(spec.getName(), null);
+            specLevel.setStage(new Stage());
+            specLevel.initializeScene();
+            enemyPool.set(ActorPools.getInstance().getPool(spec.getName(), MovingBossAircraft.class));
+            missilePool.set(ActorPools.getInstance().getPool(ActorPools.SHARED, EnemyMissile.class));
+            missilesInUseBefore[0] = missilePool.get().getInUse();
+
+            int kills = spec.getRules().getKillsToAdvance();
+            List<MovingBossAircraft> enemies = new ArrayList<>();
+            for (int i = 0; i <= kills; i++) {
+                MovingBossAircraft enemy = (MovingBossAircraft) enemyPool.get().acquire(1000, 100 + 100 * i);
+                specLevel.addEnemyUnit(enemy);
+                enemies.add(enemy);
+            }
+            specLevel.spawnEnemyProjectile(EnemyMissile.obtain(900, 150));
+            for (MovingBossAircraft enemy : enemies.subList(0, kills)) {
+                while (!enemy.isDestroyed()) {
+                    enemy.takeDamage();
+                }
+            }
+            assertEquals(kills, specLevel.getKillCounter().getKills(), "Each enemy shot down should count as a kill");
+            specLevel.checkIfGameOver();
+            level.set(specLevel);
+        });
+
+        assertNotNull(enemyPool.get(), "The level should register its enemy pool under its name");
+        assertEquals(spec.getRules().getKillsToAdvance() + 1, enemyPool.get().getInUse(),
+                "The spawned enemies should be in use while the level runs");
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (ActorPools.getInstance().getPool(spec.getName(), MovingBossAircraft.class) != null
+                && System.nanoTime() < deadline) {
+            Thread.sleep(100);
+        }
+        runOnFxThread(() -> {});
+
+        assertNull(ActorPools.getInstance().getPool(spec.getName(), MovingBossAircraft.class),
+                "Winning should unregister the level's enemy pool");
+        assertEquals(0, enemyPool.get().getInUse(), "Winning should return every enemy to its pool");
+        assertEquals(missilesInUseBefore[0], missilePool.get().getInUse(),
+                "Winning should return every enemy missile to the shared pool");
+        assertEquals(0, level.get().getEnemyUnitCount(), "No enemies should remain in the level");
+    }
+
+    /**
+     * Runs a task on the JavaFX application thread and waits for it to finish.
+     *
+     * @param task the task to run
+     * @throws Exception if the task fails or does not finish in time
+     */
+    private static void runOnFxThread(Runnable task) throws Exception {
+        CountDownLatch done = new CountDownLatch(1);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        Platform.runLater(() -> {
+            try {
+                task.run();
+            } catch (Throwable t) {
+                failure.set(t);
+            } finally {
+                done.countDown();
+            }
+        });
+        assertTrue(done.await(10, TimeUnit.SECONDS), "The JavaFX task should finish");
+        if (failure.get() != null) {
+            throw new AssertionError(failure.get());
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package com.example.demo.replay;
+
+import com.example.demo.simulation.GameStatus;
+import com.example.demo.simulation.World;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JUnit tests for {@link ReplayDriver}, {@link InputRecorder} and {@link InputLog}.
+ */
+class ReplayDriverTest {
+
+    /**
+     * Records a fixed script: fire every fifth tick while weaving up and down.
+     */
+    private static InputLog recordScript(long seed) {
+        return recordScript(seed, new long[1]).toLog();
+    }
+
+    /**
+     * Records the fixed script into a recorder whose tick source is the given counter.
+     */
+    private static InputRecorder recordScript(long seed, long[] tick) {
+        InputRecorder recorder = new InputRecorder("LevelOne", seed, () -> tick[0]);
+        for (; tick[0] < 600; tick[0]++) {
+            if (tick[0] % 5 == 0) {
+                recorder.record(InputAction.FIRE);
+            }
+            if (tick[0] % 40 == 0) {
+                recorder.record(tick[0] % 80 == 0 ? InputAction.MOVE_UP : InputAction.MOVE_DOWN);
+            }
+            if (tick[0] % 40 == 20) {
+                recorder.record(InputAction.STOP_VERTICAL);
+            }
+        }
+        return recorder;
+    }
+
+    @Test
+    void testLogSurvivesBinaryRoundTrip() throws IOException {
+        InputLog log = recordScript(99);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        log.write(out);
+
+        InputLog read = InputLog.read(new ByteArrayInputStream(out.toByteArray()));
+
+        assertEquals("LevelOne", read.getLevelName());
+        assertEquals(99, read.getSeed());
+        assertEquals(GameStatus.RUNNING, read.getOutcome(), "An unfinished level should be logged as running");
+        assertEquals(600, read.getEndTick(), "An unfinished level should be logged after the ticks run so far");
+        assertEquals(log.size(), read.size(), "Every event should be read back");
+        for (int i = 0; i < log.size(); i++) {
+            assertEquals(log.getTick(i), read.getTick(i));
+            assertEquals(log.getAction(i), read.getAction(i));
+        }
+        assertTrue(out.size() < 40 + log.size() * 2 + 1, "Events a few ticks apart should take two bytes each");
+    }
+
+    @Test
+    void testReadRejectsCorruptEvents() throws IOException {
+        InputRecorder recorder = new InputRecorder("LevelOne", 1, () -> 0);
+        recorder.record(InputAction.FIRE);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        recorder.toLog().write(out);
+        byte[] bytes = out.toByteArray();
+
+        byte[] badAction = bytes.clone();
+        badAction[badAction.length - 1] = 99;
+        assertThrows(IOException.class, () -> InputLog.read(new ByteArrayInputStream(badAction)),
+                "An unknown action code should be reported as a bad log");
+
+        byte[] hugeCount = bytes.clone();
+        int countOffset = bytes.length - 2 - Integer.BYTES;
+        hugeCount[countOffset] = 0x7F;
+        assertThrows(IOException.class, () -> InputLog.read(new ByteArrayInputStream(hugeCount)),
+                "A count beyond the data should fail without allocating for it");
+    }
+
+    @Test
+    void testReadsVersionOneLogs() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        DataOutputStream data = new DataOutputStream(out);
+        data.writeInt(0x43574952);
+        data.writeByte(1);
+        data.writeUTF("LevelOne");
+        data.writeLong(7);
+        data.writeInt(1);
+        data.writeByte(3);
+        data.writeByte(InputAction.FIRE.ordinal());
+
+        InputLog read = InputLog.read(new ByteArrayInputStream(out.toByteArray()));
+
+        assertEquals(7, read.getSeed());
+        assertEquals(3, read.getTick(0));
+        assertEquals(GameStatus.RUNNING, read.getOutcome(), "A version 1 log has no recorded outcome");
+        ReplayDriver driver = ReplayDriver.forLog(read);
+        driver.run();
+        assertTrue(driver.matchesRecording(), "A log without an outcome has nothing to mismatch");
+    }
+
+    @Test
+    void testReadRejectsOtherFiles() {
+        byte[] notALog = {1, 2, 3, 4, 5, 6, 7, 8};
+
+        assertThrows(IOException.class, () -> InputLog.read(new ByteArrayInputStream(notALog)));
+    }
+
+    @Test
+    void testReplayIsReproducible() {
+        InputLog log = recordScript(5);
+
+        ReplayDriver first = ReplayDriver.forLog(log);
+        ReplayDriver second = ReplayDriver.forLog(log);
+        first.run();
+        second.run();
+
+        World a = first.getWorld();
+        World b = second.getWorld();
+        assertEquals(a.getTick(), b.getTick(), "Replays of one log should last equally long");
+        assertEquals(a.getKills(), b.getKills(), "Replays of one log should score the same");
+        assertEquals(a.getStatus(), b.getStatus(), "Replays of one log should end the same way");
+        assertTrue(first.isFinished(), "The replay should stop once the log is exhausted or the level ends");
+    }
+
+    @Test
+    void testReplayMatchesTheRecordedOutcome() throws IOException {
+        ReplayDriver original = ReplayDriver.forLog(recordScript(5));
+        original.run();
+        World world = original.getWorld();
+        assertNotEquals(GameStatus.RUNNING, world.getStatus(), "The script should play the level to its end");
+
+        long[] tick = {0};
+        InputRecorder recorder = recordScript(5, tick);
+        tick[0] = world.getTick() - 1;
+        recorder.recordOutcome(world.getStatus());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        recorder.toLog().write(out);
+        InputLog log = InputLog.read(new ByteArrayInputStream(out.toByteArray()));
+
+        assertEquals(world.getStatus(), log.getOutcome(), "The outcome should survive the binary round trip");
+        assertEquals(world.getTick(), log.getEndTick(), "The end tick should survive the binary round trip");
+        ReplayDriver replay = ReplayDriver.forLog(log);
+        replay.run();
+        assertTrue(replay.matchesRecording(), "A faithful replay should match: " + replay.getMismatch());
+    }
+
+    @Test
+    void testReplayReportsADifferentOutcome() {
+        long[] tick = {0};
+        InputRecorder recorder = new InputRecorder("LevelOne", 5, () -> tick[0]);
+        recorder.record(InputAction.FIRE);
+        tick[0] = 9;
+        recorder.recordOutcome(GameStatus.WON);
+
+        ReplayDriver driver = ReplayDriver.forLog(recorder.toLog());
+        driver.run();
+
+        assertEquals(10, driver.getWorld().getTick(), "The replay should run up to the recorded end tick");
+        assertFalse(driver.matchesRecording(), "A level still running cannot match a recorded win");
+        assertEquals("recorded WON at tick 10, replayed RUNNING at tick 10", driver.getMismatch());
+    }
+
+    @Test
+    void testReplayAppliesActionsBeforeTheirTick() {
+        long[] tick = {3};
+        InputRecorder recorder = new InputRecorder("LevelOne", 1, () -> tick[0]);
+        recorder.record(InputAction.FIRE);
+        ReplayDriver driver = ReplayDriver.forLog(recorder.toLog());
+
+        for (int i = 0; i < 3; i++) {
+            driver.step();
+            assertTrue(driver.getWorld().getUserProjectiles().isEmpty(), "Nothing should fire before tick 3");
+        }
+        driver.step();
+
+        assertEquals(1, driver.getWorld().getUserProjectiles().size(), "The recorded shot should fire on tick 3");
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.demo.simulation;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JUnit tests for {@link ActorStore} and {@link ActorGroup}.
+ */
+class ActorStoreTest {
+
+    @Test
+    void testAllocateInitialisesSlot() {
+        ActorStore store = new ActorStore();
+        int slot = store.allocate(ActorType.ENEMY, 100, 200, 3);
+
+        assertEquals(ActorType.ENEMY, store.getType(slot), "Type should be stored");
+        assertEquals(100, store.getX(slot), "X position should be stored");
+        assertEquals(200, store.getY(slot), "Y position should be stored");
+        assertEquals(3, store.getHealth(slot), "Health should be stored");
+        assertFalse(store.isDestroyed(slot), "A new actor should not be destroyed");
+        assertEquals(1, store.getLiveCount(), "One slot should be live");
+    }
+
+    @Test
+    void testReleasedSlotIsReusedWithNewGeneration() {
+        ActorStore store = new ActorStore();
+        int first = store.allocate(ActorType.USER_MISSILE, 0, 0, 1);
+        int generation = store.getGeneration(first);
+
+        store.release(first);
+        int second = store.allocate(ActorType.ENEMY_MISSILE, 10, 10, 1);
+
+        assertEquals(first, second, "A released slot should be reused before growing");
+        assertNotEquals(generation, store.getGeneration(second), "Reuse should bump the generation");
+        assertEquals(1, store.getHighWaterMark(), "No new slot should have been handed out");
+    }
+
+    @Test
+    void testStoreGrowsBeyondInitialCapacity() {
+        ActorStore store = new ActorStore(2);
+        for (int i = 0; i < 10; i++) {
+            store.allocate(ActorType.USER_MISSILE, i, i, 1);
+        }
+
+        assertTrue(store.getCapacity() >= 10, "Capacity should grow to fit every actor");
+        assertEquals(9, store.getX(9), "Data should survive growth");
+    }
+
+    @Test
+    void testGroupRemovesDestroyedInOrder() {
+        ActorStore store = new ActorStore();
+        ActorGroup group = new ActorGroup();
+        int a = store.allocate(ActorType.USER_MISSILE, 0, 0, 1);
+        int b = store.allocate(ActorType.USER_MISSILE, 0, 0, 1);
+        int c = store.allocate(ActorType.USER_MISSILE, 0, 0, 1);
+        group.add(a);
+        group.add(b);
+        group.add(c);
+
+        store.takeDamage(b);
+        int removed = group.removeDestroyed(store);
+
+        assertEquals(1, removed, "Only the destroyed actor should be removed");
+        assertEquals(a, group.get(0), "Survivors should keep their order");
+        assertEquals(c, group.get(1), "Survivors should keep their order");
+        assertEquals(1, store.getFreeCount(), "The removed slot should be released");
+    }
+}
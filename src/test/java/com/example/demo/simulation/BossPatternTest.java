@@ -0,0 +1,93 @@
+package com.example.demo.simulation;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JUnit tests for {@link BossPattern}, {@link BossBrain} and {@link BossPatternCatalog}.
+ */
+class BossPatternTest {
+
+    @Test
+    void testParseCompilesTables() {
+        BossPhase phase = BossPatternCatalog.parse(
+                "Test from=0.5 move=4:2,-4:3 fire=10:3:2 emitters=10,20 shield=8:2:3", 1);
+
+        assertEquals(0.5, phase.getFromHealth(), "Threshold should be parsed");
+        assertEquals(2, phase.getStepCount(), "Both steps should be parsed");
+        assertEquals(-4, phase.getStepVelocity(1), "Step velocity should be parsed");
+        assertEquals(3, phase.getStepTicks(1), "Step length should be parsed");
+        assertFalse(phase.isShuffled(), "Steps should not be shuffled by default");
+        assertTrue(phase.firesAt(0) && phase.firesAt(2) && phase.firesAt(4), "A burst should fire gap ticks apart");
+        assertFalse(phase.firesAt(1) || phase.firesAt(6), "Only burst ticks should fire");
+        assertTrue(phase.firesAt(10), "The firing cycle should repeat");
+        assertEquals(20, phase.getEmitterOffset(1), "Emitter offsets should be parsed");
+        assertFalse(phase.shieldedAt(1), "The shield should be down before its window");
+        assertTrue(phase.shieldedAt(2) && phase.shieldedAt(4), "The shield should be up in its window");
+        assertFalse(phase.shieldedAt(5), "The shield should be down after its window");
+    }
+
+    @Test
+    void testParseRejectsMalformedLines() {
+        assertThrows(IllegalArgumentException.class,
+                () -> BossPatternCatalog.parse("Test from=1 move=4:2 emitters=10", 2), "A missing field should be rejected");
+        assertThrows(IllegalArgumentException.class,
+                () -> BossPatternCatalog.parse("Test from=1 move=4 fire=10:1:0 emitters=10", 2), "A malformed step should be rejected");
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> BossPatternCatalog.parse("Test from=1 move=4:2 fire=10:4:5 emitters=10", 7));
+        assertTrue(e.getMessage().startsWith("Line 7"), "Errors should name the line");
+    }
+
+    @Test
+    void testPhasesMustStartAtFullHealthAndDescend() {
+        BossPhase full = BossPatternCatalog.parse("Test from=1 move=1:1 fire=1:1:0 emitters=0", 1);
+        BossPhase half = BossPatternCatalog.parse("Test from=0.5 move=1:1 fire=1:1:0 emitters=0", 2);
+
+        assertThrows(IllegalArgumentException.class, () -> new BossPattern("Test", List.of(half)));
+        assertThrows(IllegalArgumentException.class, () -> new BossPattern("Test", List.of(full, half, half)));
+    }
+
+    @Test
+    void testBrainFollowsStepsAndSwitchesPhaseOnHealth() {
+        BossPattern pattern = new BossPattern("Test", List.of(
+                BossPatternCatalog.parse("Test from=1 move=3:2,-3:1 fire=4:1:0 emitters=0", 1),
+                BossPatternCatalog.parse("Test from=0.5 move=7:1 fire=1:1:0 emitters=0,5", 2)));
+        BossBrain brain = new BossBrain(pattern, new SplittableRandom(1));
+
+        int[] velocities = new int[4];
+        for (int i = 0; i < velocities.length; i++) {
+            brain.tick(10, 10);
+            velocities[i] = brain.getVelocity();
+        }
+        assertArrayEquals(new int[] {3, 3, -3, 3}, velocities, "Unshuffled steps should play in order and repeat");
+
+        brain.tick(6, 10);
+        assertEquals(0, brain.getPhaseIndex(), "The phase should hold above its successor's threshold");
+        brain.tick(5, 10);
+        assertEquals(1, brain.getPhaseIndex(), "The next phase should begin at its threshold");
+        assertEquals(7, brain.getVelocity(), "The new phase's steps should apply at once");
+        assertTrue(brain.isFiring(), "The new phase's firing table should start from its first tick");
+        assertEquals(2, brain.getPhase().getEmitterCount(), "The new phase's emitters should apply");
+    }
+
+    @Test
+    void testShuffledStepsAreDeterministicForASeed() {
+        BossPattern pattern = BossPatternCatalog.getInstance().get("LevelTwoBoss");
+        BossBrain first = new BossBrain(pattern, new SplittableRandom(42));
+        BossBrain second = new BossBrain(pattern, new SplittableRandom(42));
+
+        for (int tick = 0; tick < 2000; tick++) {
+            int health = 20 - tick / 100;
+            first.tick(health, 20);
+            second.tick(health, 20);
+            assertEquals(first.getVelocity(), second.getVelocity(), "Tick " + tick + " should move the same way");
+            assertEquals(first.isFiring(), second.isFiring(), "Tick " + tick + " should fire the same way");
+            assertEquals(first.isShielded(), second.isShielded(), "Tick " + tick + " should shield the same way");
+        }
+        assertEquals(pattern.getPhaseCount() - 1, first.getPhaseIndex(), "Losing health should reach the last phase");
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.demo.simulation;
+
+import com.example.demo.collision.CollisionMask;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JUnit tests for {@link BulletField}.
+ */
+class BulletFieldTest {
+
+    @Test
+    void testUpdateAppliesAccelerationThenVelocity() {
+        BulletField field = new BulletField(2);
+        field.spawn(10, 20, 1, -2, 0.5, 0, 100);
+
+        field.update(0, 0, 1000, 1000);
+        assertEquals(11.5, field.getX(0), 1e-9, "Velocity should gain the acceleration before moving");
+        assertEquals(18, field.getY(0), 1e-9, "Vertical velocity should be applied");
+        assertEquals(10.75, field.getX(0, 0.5), 1e-9, "Interpolation should run from the previous position");
+    }
+
+    @Test
+    void testExpiredAndEscapedBulletsAreRemovedAndTheRestKept() {
+        BulletField field = new BulletField(2);
+        field.spawn(50, 50, 0, 0, 0, 0, 1);
+        field.spawn(50, 50, 100, 0, 0, 0, 100);
+        field.spawn(60, 70, 0, 1, 0, 0, 100);
+
+        field.update(0, 0, 100, 100);
+        assertEquals(1, field.size(), "The expired and escaped bullets should be removed");
+        assertEquals(60, field.getX(0), 1e-9, "The surviving bullet should be moved to the front");
+        assertEquals(71, field.getY(0), 1e-9, "The surviving bullet should keep its own state");
+    }
+
+    @Test
+    void testCollideRemovesBulletsTouchingTheBox() {
+        BulletField field = new BulletField(5);
+        field.spawn(96, 50, 0, 0, 0, 0, 100);
+        field.spawn(50, 50, 0, 0, 0, 0, 100);
+        field.spawn(300, 300, 0, 0, 0, 0, 100);
+
+        assertEquals(2, field.collide(0, 0, 91, 100), "Bullets within their radius of the box should hit");
+        assertEquals(1, field.size(), "Hits should be removed");
+        assertEquals(300, field.getX(0), 1e-9, "The bullet that missed should remain");
+    }
+
+    @Test
+    void testCollideWithMaskIgnoresTransparentPixels() {
+        int[] argb = new int[20 * 20];
+        for (int i = 0; i < 20; i++) {
+            argb[i * 20 + i] = 0xFF000000;
+        }
+        CollisionMask diagonal = CollisionMask.fromArgb(argb, 20, 20);
+        BulletField field = new BulletField(1);
+        field.spawn(115, 115, 0, 0, 0, 0, 100);
+        field.spawn(118, 102, 0, 0, 0, 0, 100);
+        field.spawn(105, 106, 0, 0, 0, 0, 100);
+
+        assertEquals(2, field.collide(100, 100, diagonal), "Bullets touching the diagonal should hit");
+        assertEquals(1, field.size(), "Hits should be removed");
+        assertEquals(118, field.getX(0), 1e-9, "The bullet over the transparent corner should remain");
+    }
+
+    @Test
+    void testFieldGrowsUpToItsMaximumThenDrops() {
+        BulletField field = new BulletField(1, 2, 5);
+        for (int i = 0; i < 7; i++) {
+            field.spawn(i, 0, 0, 0, 0, 0, 10);
+        }
+        assertEquals(5, field.size(), "The field should grow up to its maximum");
+        assertEquals(2, field.getDroppedCount(), "Bullets beyond the maximum should be dropped");
+        assertEquals(4, field.getX(4), 1e-9, "Growing should keep existing bullets");
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.demo.simulation;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JUnit tests for {@link Emitter} and {@link EmitterCatalog}.
+ */
+class EmitterTest {
+
+    @Test
+    void testRadialVolleyIsEvenlySpaced() {
+        Emitter emitter = new Emitter("ring", EmitterShape.RADIAL, 4, 2, 0, 0, 0, 0, 1, 10);
+        BulletField field = new BulletField(1);
+
+        assertEquals(4, emitter.fire(field, 0, 0, 0, 0, 0), "Every bullet of the volley should be added");
+        assertEquals(2, field.getVelocityX(0), 1e-9, "The first bullet should go in the base direction");
+        assertEquals(2, field.getVelocityY(1), 1e-9, "The second bullet should be a quarter turn round");
+        assertEquals(-2, field.getVelocityX(2), 1e-9, "The third bullet should be half a turn round");
+    }
+
+    @Test
+    void testAimedFanIsCentredOnTheTarget() {
+        Emitter emitter = new Emitter("fan", EmitterShape.AIMED, 3, 5, 0, 0, 60, 0, 1, 10);
+        BulletField field = new BulletField(1);
+
+        emitter.fire(field, 100, 100, 100, 300, 0);
+        assertEquals(0, field.getVelocityX(1), 1e-9, "The middle bullet should head straight at the target");
+        assertEquals(5, field.getVelocityY(1), 1e-9, "The middle bullet should keep the full speed");
+        assertEquals(-field.getVelocityX(0), field.getVelocityX(2), 1e-9, "The fan should be symmetric");
+    }
+
+    @Test
+    void testSpiralTurnsWithEachVolley() {
+        Emitter emitter = new Emitter("spiral", EmitterShape.SPIRAL, 1, 1, 0, 0, 0, 90, 1, 10);
+        BulletField field = new BulletField(1);
+
+        emitter.fire(field, 0, 0, 0, 0, 0);
+        emitter.fire(field, 0, 0, 0, 0, 1);
+        assertEquals(1, field.getVelocityX(0), 1e-9, "The first volley should go in the base direction");
+        assertEquals(1, field.getVelocityY(1), 1e-9, "The next volley should be turned by the spin");
+    }
+
+    @Test
+    void testAccelerationFollowsTheDirectionOfTravel() {
+        Emitter emitter = new Emitter("spread", EmitterShape.SPREAD, 1, 1, 0.5, 90, 0, 0, 1, 10);
+        BulletField field = new BulletField(1);
+
+        emitter.fire(field, 0, 0, 0, 0, 0);
+        field.update(-100, -100, 100, 100);
+        assertEquals(1.5, field.getY(0), 1e-9, "Speed should grow along the direction of travel");
+        assertEquals(0, field.getX(0), 1e-9, "Nothing should move across the direction of travel");
+    }
+
+    @Test
+    void testFiringSchedule() {
+        Emitter emitter = new Emitter("slow", EmitterShape.RADIAL, 1, 1, 0, 0, 0, 0, 4, 10);
+
+        assertTrue(emitter.firesAt(0) && emitter.firesAt(8), "Volleys should start on the first tick and repeat");
+        assertFalse(emitter.firesAt(3), "No volley should fire between periods");
+        assertEquals(2, emitter.volleyAt(8), "Volleys should be numbered by period");
+    }
+
+    @Test
+    void testCatalogueParsesAndRejects() {
+        Emitter emitter = EmitterCatalog.parse("fan shape=aimed count=5 spread=40 speed=7 period=20 lifetime=200", 1);
+        assertEquals(EmitterShape.AIMED, emitter.getShape(), "Shape should be parsed");
+        assertEquals(5, emitter.getCount(), "Count should be parsed");
+        assertEquals(20, emitter.getPeriod(), "Period should be parsed");
+
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> EmitterCatalog.parse("bad shape=CIRCLE count=5 speed=7 period=20 lifetime=200", 3));
+        assertTrue(e.getMessage().startsWith("Line 3"), "Errors should name the line");
+        assertThrows(IllegalArgumentException.class,
+                () -> EmitterCatalog.parse("bad shape=RADIAL count=0 speed=7 period=20 lifetime=200", 3),
+                "An empty volley should be rejected");
+        assertThrows(IllegalArgumentException.class,
+                () -> EmitterCatalog.parse("bad shape=RADIAL count=4 speed=7 period=20 lifetime=200 colour=red", 3),
+                "Unknown fields should be rejected");
+    }
+
+    @Test
+    void testBuiltInCatalogueFeedsTheBossPatterns() {
+        BossPattern boss = BossPatternCatalog.getInstance().get("LevelTwoBoss");
+
+        assertNull(boss.getPhase(0).getPattern(), "The opening phase should fire no bullet pattern");
+        assertSame(EmitterCatalog.getInstance().get("bossSpiral"), boss.getPhase(boss.getPhaseCount() - 1).getPattern(),
+                "The final phase should fire the shared spiral");
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.demo.simulation;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JUnit tests for {@link KillCounter}.
+ */
+class KillCounterTest {
+
+    @Test
+    void testOnlyEnemiesShotDownCount() {
+        KillCounter counter = new KillCounter();
+        assertEquals(0, counter.getKills(), "Initial kill count should be 0");
+
+        assertTrue(counter.recordDestroyed(true, true), "An enemy shot down should count");
+        assertFalse(counter.recordDestroyed(true, false), "An enemy that escaped should not count");
+        assertFalse(counter.recordDestroyed(false, true), "The player's own aircraft should not count");
+        assertEquals(1, counter.getKills(), "Only the enemy shot down should be tallied");
+    }
+
+    @Test
+    void testHasReached() {
+        KillCounter counter = new KillCounter();
+        counter.recordDestroyed(true, true);
+        counter.recordDestroyed(true, true);
+        assertFalse(counter.hasReached(3), "Two kills should not reach a target of three");
+        counter.recordDestroyed(true, true);
+        assertTrue(counter.hasReached(3), "Three kills should reach a target of three");
+    }
+}
@@ -0,0 +1,106 @@
+package com.example.demo.simulation;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JUnit tests for {@link SpawnScheduler} and {@link Wave}.
+ */
+class SpawnSchedulerTest {
+
+    private static final SpawnScheduler.SpawnHandler IGNORE = (type, yFraction) -> { };
+
+    @Test
+    void testWaveReleasesBurstsAtIntervals() {
+        SpawnScheduler scheduler = new SpawnScheduler(ActorType.ENEMY, new Random(1));
+        scheduler.addWave(new Wave(0, 5, 2, 3, 10));
+
+        int[] spawnedPerTick = new int[8];
+        for (int i = 0; i < spawnedPerTick.length; i++) {
+            spawnedPerTick[i] = scheduler.tick(0, IGNORE);
+        }
+
+        assertArrayEquals(new int[] {2, 0, 0, 2, 0, 0, 1, 0}, spawnedPerTick,
+                "Bursts of two should be released every three ticks");
+        assertEquals(0, scheduler.getPendingCount(), "The wave should be exhausted");
+    }
+
+    @Test
+    void testWaveWaitsForFreeSlotUnderCap() {
+        SpawnScheduler scheduler = new SpawnScheduler(ActorType.ENEMY, new Random(1));
+        scheduler.addWave(new Wave(0, 3, 3, 1, 2));
+
+        assertEquals(2, scheduler.tick(0, IGNORE), "Only two enemies fit under the cap");
+        assertEquals(0, scheduler.tick(2, IGNORE), "A full level should hold the spawn back");
+        assertEquals(1, scheduler.tick(1, IGNORE), "The held spawn should fire once a slot frees");
+    }
+
+    @Test
+    void testStreamMatchesRateAndRespectsCap() {
+        SpawnScheduler scheduler = new SpawnScheduler(ActorType.ENEMY, 0.5, 4, new Random(7));
+        int[] alive = {0};
+        int ticks = 10_000;
+        for (int i = 0; i < ticks; i++) {
+            scheduler.tick(alive[0], (type, yFraction) -> {
+                assertTrue(yFraction >= 0 && yFraction < 1, "Spawn height should be a fraction");
+                alive[0]++;
+            });
+            assertTrue(alive[0] <= 4, "The stream should never exceed its cap");
+            alive[0] = 0;
+        }
+
+        assertEquals(ticks * 0.5, scheduler.getSpawnedCount(), ticks * 0.05, "Spawns should follow the mean rate");
+        assertTrue(scheduler.getPendingCount() < 200, "The stream should only be compiled a short way ahead");
+    }
+
+    @Test
+    void testBlockedWaveDoesNotHoldBackOtherEvents() {
+        SpawnScheduler scheduler = new SpawnScheduler(ActorType.ENEMY, new Random(1));
+        scheduler.addWave(new Wave(0, 2, 2, 1, 1));
+        scheduler.addWave(new Wave(0, 2, 2, 1, 10));
+
+        assertEquals(2, scheduler.tick(3, IGNORE), "The wave with room should spawn past the full one");
+        assertEquals(2, scheduler.getPendingCount(), "The blocked wave should keep waiting");
+        assertEquals(1, scheduler.tick(0, IGNORE), "The blocked wave should spawn once under its cap");
+    }
+
+    @Test
+    void testStreamIsThinnedByEnemiesAlive() {
+        SpawnScheduler scheduler = new SpawnScheduler(ActorType.ENEMY, 0.4, 4, new Random(11));
+        int ticks = 20_000;
+        for (int i = 0; i < ticks; i++) {
+            scheduler.tick(3, IGNORE);
+        }
+
+        assertEquals(ticks * 0.1, scheduler.getSpawnedCount(), ticks * 0.01,
+                "Spawns should follow the rate of one free slot");
+    }
+
+    @Test
+    void testStreamDropsSpawnsWhileFull() {
+        SpawnScheduler scheduler = new SpawnScheduler(ActorType.ENEMY, 1, 1, new Random(3));
+        for (int i = 0; i < 100; i++) {
+            scheduler.tick(1, IGNORE);
+        }
+
+        assertEquals(0, scheduler.getSpawnedCount(), "A full level should not spawn");
+        assertTrue(scheduler.getDroppedCount() > 0, "Blocked stream events should be dropped");
+        assertTrue(scheduler.getPendingCount() < 200, "Dropped events should not pile up");
+    }
+
+    @Test
+    void testWaveParse() {
+        Wave wave = Wave.parse("20:6:3:10:5");
+
+        assertEquals(20, wave.getStartTick());
+        assertEquals(6, wave.getCount());
+        assertEquals(3, wave.getBurst());
+        assertEquals(10, wave.getInterval());
+        assertEquals(5, wave.getCap());
+        assertThrows(IllegalArgumentException.class, () -> Wave.parse("20:6:3"));
+        assertThrows(IllegalArgumentException.class, () -> Wave.parse("20:0:3:10:5"));
+    }
+}
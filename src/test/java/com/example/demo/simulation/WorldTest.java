@@ -0,0 +1,105 @@
+package com.example.demo.simulation;
+
+import com.example.demo.level.LevelSpecCatalog;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JUnit tests for {@link World}.
+ */
+class WorldTest {
+
+    private static final double SCREEN_WIDTH = 1300;
+    private static final double SCREEN_HEIGHT = 750;
+
+    @Test
+    void testInitialState() {
+        World world = new World(LevelSpecCatalog.rulesFor("LevelOne"), SCREEN_WIDTH, SCREEN_HEIGHT, 1);
+
+        assertEquals(GameStatus.RUNNING, world.getStatus(), "A new level should be running");
+        assertEquals(5, world.getStore().getHealth(world.getPlayer()), "Player health should come from the level rules");
+        assertEquals(1, world.getActorCount(), "Only the player should exist before the first tick");
+    }
+
+    @Test
+    void testPlayerMissileDestroysEnemy() {
+        World world = new World(LevelSpecCatalog.rulesFor("LevelFour"), SCREEN_WIDTH, SCREEN_HEIGHT, 1);
+        int enemy = world.spawnEnemy(ActorType.ENEMY, 150, 300);
+
+        world.fire();
+        world.step();
+
+        assertTrue(world.getStore().isDestroyed(enemy), "A missile fired into an enemy should destroy it");
+        assertFalse(world.getEnemyUnits().contains(enemy), "Destroyed enemies should be removed");
+        assertTrue(world.getKills() >= 1, "Destroying an enemy should count as a kill");
+    }
+
+    @Test
+    void testTransparentCornersDoNotCollide() {
+        World world = new World(LevelSpecCatalog.rulesFor("LevelFour"), SCREEN_WIDTH, SCREEN_HEIGHT, 1);
+        int enemy = world.spawnEnemy(ActorType.ENEMY, 180, 300);
+
+        world.fire();
+        world.step();
+
+        assertFalse(world.getStore().isDestroyed(enemy),
+                "A missile overlapping only the transparent nose of an enemy's sprite should miss it");
+        assertEquals(0, world.getKills(), "A miss should not count as a kill");
+    }
+
+    @Test
+    void testPlayerStaysWithinBounds() {
+        World world = new World(LevelSpecCatalog.rulesFor("LevelOne"), SCREEN_WIDTH, SCREEN_HEIGHT, 1);
+
+        world.moveUp();
+        world.moveLeft();
+        for (int i = 0; i < 200; i++) {
+            world.step();
+        }
+
+        assertTrue(world.getStore().getX(world.getPlayer()) >= 0, "Player should not leave the left edge");
+        assertTrue(world.getStore().getY(world.getPlayer()) >= -40, "Player should not leave the top edge");
+    }
+
+    @Test
+    void testSameSeedGivesSameResult() {
+        World first = new World(LevelSpecCatalog.rulesFor("LevelThree"), SCREEN_WIDTH, SCREEN_HEIGHT, 42);
+        World second = new World(LevelSpecCatalog.rulesFor("LevelThree"), SCREEN_WIDTH, SCREEN_HEIGHT, 42);
+
+        first.step(2000);
+        second.step(2000);
+
+        assertEquals(first.getTick(), second.getTick(), "Runs with the same seed should last equally long");
+        assertEquals(first.getStatus(), second.getStatus(), "Runs with the same seed should end the same way");
+        assertEquals(first.getKills(), second.getKills(), "Runs with the same seed should score the same");
+    }
+
+    @Test
+    void testIdlePlayerEventuallyLoses() {
+        World world = new World(LevelSpecCatalog.rulesFor("LevelOne"), SCREEN_WIDTH, SCREEN_HEIGHT, 7);
+
+        world.step(100_000);
+
+        assertEquals(GameStatus.LOST, world.getStatus(), "A player that never fires should be destroyed");
+    }
+
+    @Test
+    void testOffScreenProjectilesAreCulled() {
+        World world = new World(LevelRules.LEVEL_TWO, SCREEN_WIDTH, SCREEN_HEIGHT, 1);
+        world.spawnProjectile(world.getUserProjectiles(), ActorType.USER_MISSILE, SCREEN_WIDTH, 0, 15);
+
+        world.step(20);
+
+        assertTrue(world.getCulled() >= 1, "A missile past the right edge should be retired");
+    }
+
+    @Test
+    void testAdvanceRunsFixedTicks() {
+        World world = new World(LevelRules.LEVEL_TWO, SCREEN_WIDTH, SCREEN_HEIGHT, 1);
+
+        assertEquals(0, world.advance(30), "Less than one tick of time should not step the world");
+        assertEquals(1, world.advance(30), "Accumulated time should run a full tick");
+        assertEquals(2, world.advance(100), "Remaining time should carry over");
+    }
+}